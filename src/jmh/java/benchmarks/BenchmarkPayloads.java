@@ -0,0 +1,97 @@
+package benchmarks;
+
+import jLibrary.JObject;
+
+/**
+ * Builds the deterministic inputs shared by the benchmarks, so every run measures the same payloads.
+ */
+final class BenchmarkPayloads {
+
+    private BenchmarkPayloads(){
+    }
+
+    /**
+     * Builds a dictionary nested nestingDepth levels deep, where every level holds a list of payloadSize
+     * numbers, strings and booleans.
+     */
+    static JObject createJObject(int payloadSize, int nestingDepth){
+        JObject output = JObject.createEmptyDictionary();
+        output.setValue("name", "level" + nestingDepth);
+        output.setValue("depth", nestingDepth);
+        output.setValue("values", createValueList(payloadSize, nestingDepth));
+        if(nestingDepth > 0){
+            output.setValue("child", createJObject(payloadSize, nestingDepth - 1));
+        }
+        return output;
+    }
+
+    private static JObject createValueList(int payloadSize, int seed){
+        JObject output = JObject.createEmptyList();
+        for(int x = 0; x < payloadSize; x += 1){
+            switch ((x + seed) % 4) {
+                case 0 -> output.append(x * 31 + seed);
+                case 1 -> output.append((x + seed) / 8.0);
+                case 2 -> output.append("item" + x);
+                default -> output.append(x % 2 == 0);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Builds text with payloadSize comma separated words, followed by a word that appears nowhere else.
+     */
+    static String createText(int payloadSize){
+        String[] words = {"alpha", "beta", "gamma", "delta", "epsilon"};
+        StringBuilder output = new StringBuilder();
+        for(int x = 0; x < payloadSize; x += 1){
+            output.append(words[x % words.length]).append(", ");
+        }
+        output.append("needle");
+        return output.toString();
+    }
+
+    /**
+     * Builds payloadSize comma separated values, each followed by brackets nested nestingDepth levels deep.
+     */
+    static String createBracketedText(int payloadSize, int nestingDepth){
+        StringBuilder output = new StringBuilder();
+        for(int x = 0; x < payloadSize; x += 1){
+            if(x > 0){
+                output.append(", ");
+            }
+            output.append("value").append(x);
+            for(int y = 0; y < nestingDepth; y += 1){
+                output.append(" (inner").append(y);
+            }
+            output.append(")".repeat(nestingDepth));
+        }
+        return output.toString();
+    }
+
+    /**
+     * Builds an arithmetic expression over payloadSize variables, named by {@link #createVariableName(int)},
+     * with brackets nested nestingDepth levels deep.
+     */
+    static String createExpression(int payloadSize, int nestingDepth){
+        StringBuilder output = new StringBuilder();
+        for(int x = 0; x < payloadSize; x += 1){
+            if(x > 0){
+                output.append(x % 2 == 0 ? " + " : " * ");
+            }
+            int depth = x % (nestingDepth + 1);
+            output.append("(".repeat(depth));
+            output.append(createVariableName(x)).append(" - ").append(x % 7 + 1);
+            output.append(")".repeat(depth));
+        }
+        return output.toString();
+    }
+
+    /**
+     * Returns a fixed width, letters only variable name (vaa, vab, vac and so on) for the given index,
+     * so that no variable name contains another.
+     */
+    static String createVariableName(int index){
+        return "v" + (char)('a' + index / 26 % 26) + (char)('a' + index % 26);
+    }
+}
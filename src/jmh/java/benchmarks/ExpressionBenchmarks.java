@@ -0,0 +1,47 @@
+package benchmarks;
+
+import jLibrary.JObject;
+import jLibrary.expressionManipulation.ExpressionObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluating expressions with all of their variables assigned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExpressionBenchmarks {
+
+    @Param({"4", "32"})
+    public int payloadSize;
+
+    @Param({"0", "3"})
+    public int nestingDepth;
+
+    private ExpressionObject expressionObject;
+
+    @Setup
+    public void setup(){
+        JObject expression = new JObject().constructExpressionObject(
+                BenchmarkPayloads.createExpression(payloadSize, nestingDepth));
+        expressionObject = expression.getExpressionObject();
+        for(int x = 0; x < payloadSize; x += 1){
+            expressionObject.setExpressionVariableValue(BenchmarkPayloads.createVariableName(x), new JObject(x + 2));
+        }
+    }
+
+    @Benchmark
+    public JObject evaluateExpression(){
+        return expressionObject.evaluateExpression();
+    }
+
+    @Benchmark
+    public double evaluateNumericExpression(){
+        return expressionObject.evaluateNumericExpression();
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import jLibrary.JNumber;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JNumber arithmetic and parsing over a mix of number types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JNumberBenchmarks {
+
+    @Param({"100", "10000"})
+    public int payloadSize;
+
+    private JNumber[] numbers;
+    private String[] numberStrings;
+    private final JNumber divisor = new JNumber(7);
+
+    @Setup
+    public void setup(){
+        numbers = new JNumber[payloadSize];
+        numberStrings = new String[payloadSize];
+        for(int x = 0; x < payloadSize; x += 1){
+            switch (x % 4) {
+                case 0 -> numbers[x] = new JNumber((byte) (x % 100));
+                case 1 -> numbers[x] = new JNumber(x * 1000);
+                case 2 -> numbers[x] = new JNumber(x * 10_000_000_000L);
+                default -> numbers[x] = new JNumber(x / 3.0);
+            }
+            numberStrings[x] = numbers[x].toString();
+        }
+    }
+
+    @Benchmark
+    public JNumber add(){
+        JNumber output = new JNumber();
+        for(JNumber number : numbers){
+            output = JNumber.add(output, number);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public JNumber addInPlace(){
+        JNumber output = new JNumber();
+        for(JNumber number : numbers){
+            output.addInPlace(number);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public void multiply(Blackhole blackhole){
+        for(int x = 1; x < payloadSize; x += 1){
+            blackhole.consume(JNumber.multiply(numbers[x - 1], numbers[x]));
+        }
+    }
+
+    @Benchmark
+    public void divide(Blackhole blackhole){
+        for(JNumber number : numbers){
+            blackhole.consume(JNumber.divide(number, divisor));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole){
+        for(String numberString : numberStrings){
+            blackhole.consume(JNumber.createFromString(numberString));
+        }
+    }
+}
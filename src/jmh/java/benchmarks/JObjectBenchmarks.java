@@ -0,0 +1,187 @@
+package benchmarks;
+
+import jLibrary.ImmutableJObject;
+import jLibrary.JObject;
+import jLibrary.MappedJObject;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing, printing, copying and comparing JObject trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JObjectBenchmarks {
+
+    @Param({"10", "1000"})
+    public int payloadSize;
+
+    @Param({"1", "4"})
+    public int nestingDepth;
+
+    private JObject source;
+    private JObject sourceCopy;
+    private String sourceString;
+    private String sourceJSON;
+    private byte[] sourceBinary;
+    private JObject parsedSource;
+    private ImmutableJObject immutableSource;
+    private JObject concurrentDictionary;
+    private JObject concurrentList;
+    private double[] seriesValues;
+    private JObject packedSeries;
+
+    @Setup
+    public void setup(){
+        source = BenchmarkPayloads.createJObject(payloadSize, nestingDepth);
+        sourceCopy = source.clone();
+        // the JSON form is used because it parses back into the same tree
+        sourceString = source.toJSONObject().toString();
+        sourceJSON = source.toJSONString(true);
+        sourceBinary = source.toBinary();
+        parsedSource = JObject.fromBinary(sourceBinary);
+        immutableSource = source.toImmutableJObject();
+        concurrentDictionary = JObject.createConcurrentDictionary();
+        concurrentList = JObject.createConcurrentList();
+        seriesValues = new double[payloadSize * 100];
+        for(int x = 0; x < seriesValues.length; x += 1){
+            seriesValues[x] = x * 0.5;
+        }
+        packedSeries = new JObject(seriesValues);
+    }
+
+    @Benchmark
+    public JObject fromString(){
+        return new JObject().fromString(sourceString);
+    }
+
+    @Benchmark
+    public String toStringBenchmark(){
+        return source.toString();
+    }
+
+    @Benchmark
+    public String toIndentedString(){
+        return source.toIndentedString();
+    }
+
+    @Benchmark
+    public JObject cloneBenchmark(){
+        return source.clone();
+    }
+
+    @Benchmark
+    public JObject cloneAndReadParsed(){
+        // none of the parsed sub objects have been handed out, so the clone shares them until it's read
+        return parsedSource.clone().getValue("values").getValue(0);
+    }
+
+    @Benchmark
+    public ImmutableJObject immutableRead(){
+        return immutableSource.getValue("values").getValue(0);
+    }
+
+    @Benchmark
+    public ImmutableJObject immutableSetValue(){
+        // only the root is copied, the rest of the tree is shared with the old version
+        return immutableSource.setValue("name", "renamed");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public JObject concurrentDictionaryMerge(){
+        return concurrentDictionary.merge("counter", new JObject(1),
+                (a, b) -> new JObject(a.intValue() + b.intValue()));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public JObject concurrentListAppendAndPop(){
+        concurrentList.append(payloadSize);
+        return concurrentList.popFromEnd();
+    }
+
+    @Benchmark
+    public JObject buildSameShapedRecords(){
+        // the records all get the same keys in the same order, so they share one key shape
+        JObject output = JObject.createEmptyList();
+        for(int x = 0; x < payloadSize; x += 1){
+            JObject record = JObject.createEmptyDictionary();
+            record.setValue("num", x);
+            record.setValue("string", "value");
+            record.setValue("flag", true);
+            output.setValue(x, record);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public JObject packedSeriesFromArray(){
+        // the numbers are copied into one double[] rather than one JObject each
+        return new JObject(seriesValues);
+    }
+
+    @Benchmark
+    public double[] packedSeriesToArray(){
+        return packedSeries.toDoubleArray();
+    }
+
+    @Benchmark
+    public boolean equalsBenchmark(){
+        return source.equals(sourceCopy);
+    }
+
+    @Benchmark
+    public int hashCodeBenchmark(){
+        return source.hashCode();
+    }
+
+    @Benchmark
+    public JSONObject toJSONObject(){
+        return source.toJSONObject();
+    }
+
+    @Benchmark
+    public String toJSONObjectString(){
+        return source.toJSONObject().toString();
+    }
+
+    @Benchmark
+    public String toJSONString(){
+        return source.toJSONString(true);
+    }
+
+    @Benchmark
+    public JObject fromJSONObject(){
+        return new JObject(new JSONObject(sourceJSON));
+    }
+
+    @Benchmark
+    public JObject parseJSON(){
+        return JObject.parseJSON(sourceJSON);
+    }
+
+    @Benchmark
+    public byte[] toBinary(){
+        return source.toBinary();
+    }
+
+    @Benchmark
+    public JObject fromBinary(){
+        return JObject.fromBinary(sourceBinary);
+    }
+
+    @Benchmark
+    public JObject mappedLookup(){
+        // opens the frame and decodes only the path down to one value
+        MappedJObject values = MappedJObject.wrap(ByteBuffer.wrap(sourceBinary)).getValue("values");
+        return values.getValue(values.size() - 1).toJObject();
+    }
+}
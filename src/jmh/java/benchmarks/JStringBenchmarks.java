@@ -0,0 +1,43 @@
+package benchmarks;
+
+import jLibrary.JString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures searching and splitting JStrings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JStringBenchmarks {
+
+    @Param({"100", "10000"})
+    public int payloadSize;
+
+    private JString text;
+
+    @Setup
+    public void setup(){
+        text = new JString(BenchmarkPayloads.createText(payloadSize));
+    }
+
+    @Benchmark
+    public int indexOf(){
+        return text.indexOf("needle");
+    }
+
+    @Benchmark
+    public int indexOfChar(){
+        return text.indexOf('n');
+    }
+
+    @Benchmark
+    public JString[] splitString(){
+        return text.splitString(", ", false);
+    }
+}
@@ -0,0 +1,38 @@
+package benchmarks;
+
+import jLibrary.nestedStringTree.NestedStringTree_Brackets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building bracket trees from nested text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class NestedStringTreeBenchmarks {
+
+    @Param({"10", "100"})
+    public int payloadSize;
+
+    @Param({"1", "4"})
+    public int nestingDepth;
+
+    private String bracketedText;
+
+    @Setup
+    public void setup(){
+        bracketedText = BenchmarkPayloads.createBracketedText(payloadSize, nestingDepth);
+    }
+
+    @Benchmark
+    public NestedStringTree_Brackets buildTree(){
+        NestedStringTree_Brackets tree = new NestedStringTree_Brackets();
+        tree.buildTree(bracketedText);
+        return tree;
+    }
+}
@@ -0,0 +1,402 @@
+package jLibrary;
+
+import jLibrary.exceptions.WrongExecutionTypeException;
+import jLibrary.persistentCollections.PersistentHashMap;
+import jLibrary.persistentCollections.PersistentVector;
+import jLibrary.typeEnumerable.ObjectTypes;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable JObject tree, for data that many threads read at once, such as configuration.
+ * <br>
+ * Dictionaries are stored as {@link PersistentHashMap}s and lists and sets as {@link PersistentVector}s. Reads never
+ * copy or lock anything; {@link #getValue(String)} and {@link #getValue(int)} hand out the stored sub objects
+ * directly, since they can't be changed either.
+ * <br>
+ * The modifying methods ({@link #setValue(String, Object)}, {@link #append(Object)}, {@link #remove(String)} and so
+ * on) return a new version and leave this one unchanged. The new version shares everything except the path to the
+ * change with the old one, so both can be kept cheaply, and readers holding the old version never see the new one.
+ * <br>
+ * Use {@link JObject#toImmutableJObject()} or {@link #of(Object)} to create one, and {@link #toJObject()} to get a
+ * regular, mutable JObject back. Null sub objects are stored and returned as null.
+ */
+public final class ImmutableJObject implements Iterable<ImmutableJObject> {
+
+    static final ImmutableJObject nullObject = new ImmutableJObject(ObjectTypes.Null.name(), ObjectTypes.Null, null);
+
+    private final String typeName;
+    private final ObjectTypes type;
+    // a Boolean, Number or String for primitives, a PersistentVector for lists and sets, a PersistentHashMap otherwise
+    private final Object contents;
+    // computed on first use, the same way String caches its hash
+    private int hash;
+
+    ImmutableJObject(String typeName, ObjectTypes type, Object contents){
+        this.typeName = typeName;
+        this.type = type;
+        this.contents = contents;
+    }
+
+    // region create
+
+    /**
+     * Returns an ImmutableJObject representing the given value. ImmutableJObjects are returned unchanged, JObjects
+     * are copied, and anything else is converted the same way as by {@link JObject#JObject(Object)}.
+     */
+    public static ImmutableJObject of(Object value){
+        ImmutableJObject output = toImmutable(value);
+        return output == null ? nullObject : output;
+    }
+
+    public static ImmutableJObject createEmptyList(){
+        return new ImmutableJObject(ObjectTypes.List.name(), ObjectTypes.List, PersistentVector.empty());
+    }
+
+    public static ImmutableJObject createEmptyDictionary(){
+        return new ImmutableJObject(ObjectTypes.Dictionary.name(), ObjectTypes.Dictionary, PersistentHashMap.empty());
+    }
+
+    // null for anything that represents null, the way sub objects are stored
+    private static ImmutableJObject toImmutable(Object value){
+        ImmutableJObject output;
+        if(value == null){
+            return null;
+        }
+        else if(value instanceof ImmutableJObject iv){
+            output = iv;
+        }
+        else if(value instanceof JObject iv){
+            output = iv.toImmutableJObject();
+        }
+        else{
+            output = new JObject(value).toImmutableJObject();
+        }
+        return output.isNull() ? null : output;
+    }
+
+    /**
+     * Creates a regular JObject holding a deep copy of this ImmutableJObject.
+     */
+    public JObject toJObject(){
+        return JObject.fromImmutableJObject(this);
+    }
+
+    // endregion
+
+    // region type
+
+    public String getTypeName(){
+        return typeName;
+    }
+
+    public ObjectTypes getType(){
+        return type;
+    }
+
+    public boolean isNull(){
+        return type.isNull();
+    }
+
+    public boolean isPrimitive(){
+        return type.isPrimitive();
+    }
+
+    public boolean isList(){
+        return type.isList();
+    }
+
+    public boolean isSet(){
+        return type.isSet();
+    }
+
+    /**
+     * Returns a copy of this ImmutableJObject with the given type name. Only objects that aren't primitives or null
+     * can be renamed.
+     */
+    public ImmutableJObject setTypeName(String newTypeName){
+        if(isPrimitive() || isNull()){
+            throw new WrongExecutionTypeException(typeName, "Any non primitive");
+        }
+
+        ObjectTypes newType = ObjectTypes.fromString(newTypeName);
+        if((newType.isList() || newType.isSet()) != (contents instanceof PersistentVector)){
+            throw new WrongExecutionTypeException(typeName, newTypeName);
+        }
+        return new ImmutableJObject(newTypeName, newType, contents);
+    }
+
+    // endregion
+
+    // region primitive values
+
+    /**
+     * Returns the Boolean, Number or String this ImmutableJObject represents, or null if it isn't a primitive.
+     */
+    public Object getBaseValue(){
+        return isPrimitive() ? contents : null;
+    }
+
+    public boolean booleanValue(){
+        if(!type.isBoolean()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.Boolean.name());
+        }
+        return (Boolean) contents;
+    }
+
+    public Number numberValue(){
+        if(!type.isNumber()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.Number.name());
+        }
+        return (Number) contents;
+    }
+
+    // endregion
+
+    // region sub objects
+
+    public int size(){
+        if(contents instanceof PersistentVector<?> list){
+            return list.size();
+        }
+        if(contents instanceof PersistentHashMap<?, ?> map){
+            return map.size();
+        }
+        return 0;
+    }
+
+    public String[] getKeys(){
+        return keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Returns the keys as a read only set. Dictionary keys are returned as a view, without copying anything. List and
+     * set keys are their indexes.
+     */
+    public Set<String> keySet(){
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map != null){
+            return map.keySet();
+        }
+
+        int size = size();
+        Set<String> output = new LinkedHashSet<>();
+        for(int x = 0; x < size; x += 1){
+            output.add(Integer.toString(x));
+        }
+        return Collections.unmodifiableSet(output);
+    }
+
+    public boolean containsKey(String key){
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map != null){
+            return map.containsKey(key);
+        }
+
+        int index = parseIndex(key);
+        return index >= 0 && index < size();
+    }
+
+    /**
+     * Returns the sub object stored under the given key, or null if there isn't one. List and set keys are their
+     * indexes.
+     */
+    public ImmutableJObject getValue(String key){
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map != null){
+            return map.get(key);
+        }
+
+        PersistentVector<ImmutableJObject> list = getList();
+        int index = parseIndex(key);
+        return list != null && index >= 0 && index < list.size() ? list.get(index) : null;
+    }
+
+    /**
+     * Returns the sub object at the given index, or null if there isn't one. Dictionaries are looked up by the index
+     * as a string.
+     */
+    public ImmutableJObject getValue(int index){
+        PersistentVector<ImmutableJObject> list = getList();
+        if(list != null){
+            return index >= 0 && index < list.size() ? list.get(index) : null;
+        }
+
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        return map != null ? map.get(Integer.toString(index)) : null;
+    }
+
+    /**
+     * Iterates over the sub objects. Dictionary order depends on the hashes of the keys.
+     */
+    @Override
+    public Iterator<ImmutableJObject> iterator(){
+        PersistentVector<ImmutableJObject> list = getList();
+        if(list != null){
+            return list.iterator();
+        }
+
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map != null){
+            Iterator<Map.Entry<String, ImmutableJObject>> entries = map.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public ImmutableJObject next() {
+                    return entries.next().getValue();
+                }
+            };
+        }
+        return Collections.emptyIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PersistentVector<ImmutableJObject> getList(){
+        return contents instanceof PersistentVector<?> list ? (PersistentVector<ImmutableJObject>) list : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PersistentHashMap<String, ImmutableJObject> getMap(){
+        return contents instanceof PersistentHashMap<?, ?> map ? (PersistentHashMap<String, ImmutableJObject>) map : null;
+    }
+
+    private static int parseIndex(String key){
+        try{
+            return Integer.parseInt(key);
+        }
+        catch (NumberFormatException e){
+            return -1;
+        }
+    }
+
+    Object getContents(){
+        return contents;
+    }
+
+    // endregion
+
+    // region new versions
+
+    /**
+     * Returns a copy of this dictionary with the given value stored under the given key. Lists are changed at the
+     * index given by the key.
+     */
+    public ImmutableJObject setValue(String key, Object newValue){
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map == null){
+            return setValue(parseIndex(key), newValue);
+        }
+        return withContents(map.put(key, toImmutable(newValue)));
+    }
+
+    /**
+     * Returns a copy of this list with the given value at the given index.
+     * @throws IndexOutOfBoundsException if the index is outside of the list.
+     */
+    public ImmutableJObject setValue(int index, Object newValue){
+        return withContents(getModifiableList().set(index, toImmutable(newValue)));
+    }
+
+    /**
+     * Returns a copy of this list with the given value added to the end.
+     */
+    public ImmutableJObject append(Object newValue){
+        return withContents(getModifiableList().append(toImmutable(newValue)));
+    }
+
+    /**
+     * Returns a copy of this list with the given value added to the beginning. This copies the whole list.
+     */
+    public ImmutableJObject prepend(Object newValue){
+        return withContents(getModifiableList().insert(0, toImmutable(newValue)));
+    }
+
+    /**
+     * Returns a copy of this dictionary without the given key. Lists remove the index given by the key.
+     */
+    public ImmutableJObject remove(String key){
+        PersistentHashMap<String, ImmutableJObject> map = getMap();
+        if(map == null){
+            return remove(parseIndex(key));
+        }
+        return withContents(map.remove(key));
+    }
+
+    /**
+     * Returns a copy of this list without the element at the given index. Removing anything other than the last
+     * element copies the whole list.
+     * @throws IndexOutOfBoundsException if the index is outside of the list.
+     */
+    public ImmutableJObject remove(int index){
+        return withContents(getModifiableList().remove(index));
+    }
+
+    private PersistentVector<ImmutableJObject> getModifiableList(){
+        if(type.isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+
+        PersistentVector<ImmutableJObject> list = getList();
+        if(list == null){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+        return list;
+    }
+
+    private ImmutableJObject withContents(Object newContents){
+        if(isPrimitive() || isNull()){
+            throw new WrongExecutionTypeException(typeName, "Any non primitive excluding sets");
+        }
+        if(type.isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+        return newContents == contents ? this : new ImmutableJObject(typeName, type, newContents);
+    }
+
+    // endregion
+
+    // region object methods
+
+    @Override
+    public boolean equals(Object other){
+        if(other == this){
+            return true;
+        }
+        if(!(other instanceof ImmutableJObject io)){
+            return false;
+        }
+        if(hash != 0 && io.hash != 0 && hash != io.hash){
+            return false;
+        }
+        return typeName.equals(io.typeName) && Objects.equals(contents, io.contents);
+    }
+
+    @Override
+    public int hashCode(){
+        int output = hash;
+        if(output == 0){
+            output = 31 * typeName.hashCode() + (contents == null ? 0 : contents.hashCode());
+            hash = output;
+        }
+        return output;
+    }
+
+    /**
+     * Returns the same string as {@link JObject#toString()} would for the equivalent JObject.
+     */
+    @Override
+    public String toString(){
+        return toJObject().toString();
+    }
+
+    // endregion
+}
@@ -2,11 +2,14 @@ package jLibrary;
 
 import jLibrary.exceptions.FailedNumericParseException;
 import jLibrary.exceptions.WrongExecutionTypeException;
+import jLibrary.exceptions.WrongInputTypeException;
 import jLibrary.interfaces.NumberInterface;
 import jLibrary.interfaces.JObjectBaseInterface;
 import jLibrary.miscFunctions.MiscFunctions;
 import jLibrary.typeEnumerable.ObjectTypes;
 
+import java.util.Objects;
+
 import static jLibrary.miscFunctions.MiscFunctions.endsWith;
 import static jLibrary.miscFunctions.MiscFunctions.print;
 
@@ -30,8 +33,12 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     // float 32 bit
     // double 64 bit
 
+    // the value is stored unboxed so that operations can write their results in place,
+    // integral types use integralVal and floating point types use floatingPointVal
+
     private ObjectTypes type;
-    private java.lang.Number numberVal;
+    private long integralVal;
+    private double floatingPointVal;
 
     // region static conversion functions
 
@@ -129,7 +136,26 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     // region get Number
 
     public Number numberValue(){
-        return numberVal;
+        switch (type){
+            case Byte -> {
+                return byteValue();
+            }
+            case Short -> {
+                return shortValue();
+            }
+            case Integer -> {
+                return intValue();
+            }
+            case Long -> {
+                return longValue();
+            }
+            case Float -> {
+                return floatValue();
+            }
+            default -> {
+                return doubleValue();
+            }
+        }
     }
 
     public JNumber jNumberValue(){
@@ -162,7 +188,8 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     public void clear() {
         type = ObjectTypes.Byte;
-        numberVal = (byte) 0;
+        integralVal = 0L;
+        floatingPointVal = 0.0d;
     }
 
     // endregion
@@ -202,8 +229,8 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
         JNumber output = new JNumber();
 
         output.type = this.type;
-
-        output.numberVal = getClonedNumber();
+        output.integralVal = this.integralVal;
+        output.floatingPointVal = this.floatingPointVal;
 
         return output;
     }
@@ -215,42 +242,42 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     public JNumber setTo(byte newValue) {
 
         type = ObjectTypes.Byte;
-        numberVal = newValue;
+        integralVal = newValue;
         return this;
     }
 
     public JNumber setTo(short newValue) {
 
         type = ObjectTypes.Short;
-        numberVal = newValue;
+        integralVal = newValue;
         return this;
     }
 
     public JNumber setTo(int newValue) {
 
         type = ObjectTypes.Integer;
-        numberVal = newValue;
+        integralVal = newValue;
         return this;
     }
 
     public JNumber setTo(long newValue) {
 
         type = ObjectTypes.Long;
-        numberVal = newValue;
+        integralVal = newValue;
         return this;
     }
 
     public JNumber setTo(float newValue) {
 
         type = ObjectTypes.Float;
-        numberVal = newValue;
+        floatingPointVal = newValue;
         return this;
     }
 
     public JNumber setTo(double newValue) {
 
         type = ObjectTypes.Double;
-        numberVal = newValue;
+        floatingPointVal = newValue;
         return this;
     }
 
@@ -266,7 +293,8 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
         if(newValue instanceof JNumber nv){
 
             type = nv.type;
-            numberVal = nv.getClonedNumber();
+            integralVal = nv.integralVal;
+            floatingPointVal = nv.floatingPointVal;
         }
         else if(newValue instanceof Number nv){
             if(nv instanceof Byte nv2){
@@ -390,7 +418,26 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     @Override
     public int hashCode() {
 
-        return numberVal.hashCode();
+        switch (type){
+            case Byte -> {
+                return Byte.hashCode(byteValue());
+            }
+            case Short -> {
+                return Short.hashCode(shortValue());
+            }
+            case Integer -> {
+                return Integer.hashCode(intValue());
+            }
+            case Long -> {
+                return Long.hashCode(longValue());
+            }
+            case Float -> {
+                return Float.hashCode(floatValue());
+            }
+            default -> {
+                return Double.hashCode(doubleValue());
+            }
+        }
     }
 
     // endregion
@@ -714,9 +761,78 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     // region shrinking to smaller types
 
+    /**
+     * Shrinks this number to the smallest type that can hold its value.
+     * Applies the same rules as NumberInterface.shrinkToSmallestDataType without boxing the value.
+     * @return JNumber : returns this number
+     */
     public JNumber shrinkToSmallestDataType(){
 
-        return NumberInterface.super.shrinkToSmallestDataType().jNumberValue();
+        ObjectTypes smallestType;
+        switch (type){
+            case Double -> {
+                smallestType = getSmallestDataType(floatingPointVal);
+            }
+            case Float -> {
+                smallestType = getSmallestDataType((float) floatingPointVal);
+            }
+            default -> {
+                smallestType = getSmallestDataType(integralVal);
+            }
+        }
+
+        if(smallestType != type){
+            if(type.isFloatingPointNumber() && smallestType.isIntegralNumber()){
+                integralVal = (long) floatingPointVal;
+            }
+            type = smallestType;
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns the smallest integral type that can hold the given value.
+     * @param value long : value to test
+     * @return ObjectTypes : returns Byte, Short, Integer or Long
+     */
+    public static ObjectTypes getSmallestDataType(long value){
+        if(value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE){
+            return ObjectTypes.Byte;
+        }
+        else if(value >= Short.MIN_VALUE && value <= Short.MAX_VALUE){
+            return ObjectTypes.Short;
+        }
+        else if(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE){
+            return ObjectTypes.Integer;
+        }
+        return ObjectTypes.Long;
+    }
+
+    /**
+     * Returns the type a float value shrinks to.
+     * Whole numbers within the range of a short shrink to an integral type, all other values stay floats.
+     * @param value float : value to test
+     * @return ObjectTypes : returns Byte, Short or Float
+     */
+    public static ObjectTypes getSmallestDataType(float value){
+        if((value % 1.0f) == 0 && value >= (float) Short.MIN_VALUE && value <= (float) Short.MAX_VALUE){
+            return getSmallestDataType((long) value);
+        }
+        return ObjectTypes.Float;
+    }
+
+    /**
+     * Returns the type a double value shrinks to.
+     * Whole numbers within the range of an int shrink to an integral type, all other values stay doubles.
+     * @param value double : value to test
+     * @return ObjectTypes : returns Byte, Short, Integer or Double
+     */
+    public static ObjectTypes getSmallestDataType(double value){
+        if((value % 1.0d) == 0 && value >= (double) Integer.MIN_VALUE && value <= (double) Integer.MAX_VALUE){
+            return getSmallestDataType((long) value);
+        }
+        return ObjectTypes.Double;
     }
 
     public static JNumber shrinkToSmallestDataType(Number input){
@@ -727,48 +843,49 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     // region Comparable implementation
 
+    /**
+     * Compares two numbers by value, in the smallest type both can be cast to.
+     * Neither number is converted into a JNumber, so no objects are allocated.
+     * @return int : returns a negative value if num1 is smaller, zero if they're equal, and a positive value if num1 is larger
+     */
+    public static int compare(NumberInterface num1, NumberInterface num2){
+        nullExceptionCheck(num1, "num1");
+        nullExceptionCheck(num2, "num2");
+
+        ObjectTypes commonType = getSmallestCommonCastType(num1.getType(), num2.getType());
+
+        switch (commonType){
+            case Double -> {
+                return Double.compare(num1.doubleValue(), num2.doubleValue());
+            }
+            case Float -> {
+                return Float.compare(num1.floatValue(), num2.floatValue());
+            }
+            case Long -> {
+                return Long.compare(num1.longValue(), num2.longValue());
+            }
+            case Integer -> {
+                return Integer.compare(num1.intValue(), num2.intValue());
+            }
+            case Short -> {
+                return Short.compare(num1.shortValue(), num2.shortValue());
+            }
+            case Byte -> {
+                return Byte.compare(num1.byteValue(), num2.byteValue());
+            }
+        }
+        throw getException_IllegalArgument("num1");
+    }
+
     @Override
     public int compareTo(Number o) {
         if(o instanceof JNumber no){
-            ObjectTypes commonType = getSmallestCommonCastType(this.getType(), no.getType());
-
-            switch (commonType){
-                case Double -> {
-                    double val1 = this.doubleValue();
-                    double val2 = no.doubleValue();
-                    return Double.compare(val2, val1);
-                }
-                case Float -> {
-                    float val1 = this.floatValue();
-                    float val2 = no.floatValue();
-                    return Float.compare(val2, val1);
-                }
-                case Long -> {
-                    long val1 = this.longValue();
-                    long val2 = no.longValue();
-                    return Long.compare(val2, val1);
-                }
-                case Integer -> {
-                    int val1 = this.intValue();
-                    int val2 = no.intValue();
-                    return Integer.compare(val2, val1);
-                }
-                case Short -> {
-                    short val1 = this.shortValue();
-                    short val2 = no.shortValue();
-                    return Short.compare(val2, val1);
-                }
-                case Byte -> {
-                    byte val1 = this.byteValue();
-                    byte val2 = no.byteValue();
-                    return Byte.compare(val2, val1);
-                }
-            }
+            // the order is inverted, a larger number compares as smaller
+            return compare(no, this);
         }
         else{
             return compareTo(new JNumber(o));
         }
-        throw getException_IllegalArgument("o");
     }
 
     // endregion
@@ -777,32 +894,50 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     @Override
     public byte byteValue(){
-        return numberVal.byteValue();
+        if(type.isFloatingPointNumber()){
+            return (byte) floatingPointVal;
+        }
+        return (byte) integralVal;
     }
 
     @Override
     public short shortValue(){
-        return numberVal.shortValue();
+        if(type.isFloatingPointNumber()){
+            return (short) floatingPointVal;
+        }
+        return (short) integralVal;
     }
 
     @Override
     public int intValue() {
-        return numberVal.intValue();
+        if(type.isFloatingPointNumber()){
+            return (int) floatingPointVal;
+        }
+        return (int) integralVal;
     }
 
     @Override
     public long longValue() {
-        return numberVal.longValue();
+        if(type.isFloatingPointNumber()){
+            return (long) floatingPointVal;
+        }
+        return integralVal;
     }
 
     @Override
     public float floatValue() {
-        return numberVal.floatValue();
+        if(type.isFloatingPointNumber()){
+            return (float) floatingPointVal;
+        }
+        return (float) integralVal;
     }
 
     @Override
     public double doubleValue() {
-        return numberVal.doubleValue();
+        if(type.isFloatingPointNumber()){
+            return floatingPointVal;
+        }
+        return (double) integralVal;
     }
 
     // endregion
@@ -811,131 +946,98 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     // this is the core of all numeric operations
     // all number interface operations lead back to here
 
-    private JNumber add_JNumber(JNumber num2){
+    // the arithmetic operations write their result into output, which may be num1 or num2,
+    // the operands are read through their primitive values so neither is converted into a JNumber
+
+    public static <T extends NumberInterface> T add(T output, NumberInterface num1, NumberInterface num2){
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        ObjectTypes commonType = getSmallestCommonCastType(this.getType(), num2.getType());
-        JNumber output = new JNumber();
+        ObjectTypes commonType = getSmallestCommonCastType(num1.getType(), num2.getType());
         switch (commonType){
-            case Byte ->{
-                output.setTo(this.shortValue() + num2.shortValue());
-            }
-            case Short ->{
-                output.setTo(this.intValue() + num2.intValue());
-            }
-            case Integer, Long ->{
-                output.setTo(this.longValue() + num2.longValue());
+            case Byte, Short, Integer, Long ->{
+                return add(output, num1.longValue(), num2.longValue());
             }
             default ->{
-                output.setTo(this.doubleValue() + num2.doubleValue());
+                return add(output, num1.doubleValue(), num2.doubleValue());
             }
         }
-        output.shrinkToSmallestDataType();
-        return output;
     }
 
-    private JNumber subtract_JNumber(JNumber num2){
+    public static <T extends NumberInterface> T subtract(T output, NumberInterface num1, NumberInterface num2){
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        ObjectTypes type = JNumber.getSmallestCommonCastType(this.getType(), num2.getType());
-        JNumber output = new JNumber();
+        ObjectTypes type = JNumber.getSmallestCommonCastType(num1.getType(), num2.getType());
         switch (type){
-            case Byte->{
-                output.setTo(this.byteValue() - num2.byteValue());
-            }
-            case Short->{
-                output.setTo(this.shortValue() - num2.shortValue());
-            }
-            case Integer->{
-                output.setTo(this.intValue() - num2.intValue());
+            case Byte, Short, Integer->{
+                return subtract(output, num1.intValue(), num2.intValue());
             }
             case Long->{
-                output.setTo(this.longValue() - num2.longValue());
+                return subtract(output, num1.longValue(), num2.longValue());
             }
             case Float->{
-                output.setTo(this.floatValue() - num2.floatValue());
+                return subtract(output, num1.floatValue(), num2.floatValue());
             }
             default->{
-                output.setTo(this.doubleValue() - num2.doubleValue());
+                return subtract(output, num1.doubleValue(), num2.doubleValue());
             }
         }
-
-        output.shrinkToSmallestDataType();
-
-        return output;
     }
 
-    private JNumber multiply_JNumber(JNumber num2){
+    public static <T extends NumberInterface> T multiply(T output, NumberInterface num1, NumberInterface num2){
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        ObjectTypes type = JNumber.getSmallestCommonCastType(this.getType(), num2.getType());
-        JNumber output = new JNumber();
-
+        ObjectTypes type = JNumber.getSmallestCommonCastType(num1.getType(), num2.getType());
         switch (type){
             case Byte,Short,Integer,Long->{
-                output.setTo(this.longValue() * num2.longValue());
+                return multiply(output, num1.longValue(), num2.longValue());
             }
             default->{
-                output.setTo(this.doubleValue() * num2.doubleValue());
+                return multiply(output, num1.doubleValue(), num2.doubleValue());
             }
         }
-
-        output.shrinkToSmallestDataType();
-
-        return output;
     }
 
-    private JNumber divide_JNumber(JNumber num2) throws IllegalArgumentException {
+    public static <T extends NumberInterface> T divide(T output, NumberInterface num1, NumberInterface num2)
+            throws IllegalArgumentException {
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        if(num2.doubleValue() == 0.0){
-            throw new IllegalArgumentException("Cannot divide by zero.");
-        }
-
-        ObjectTypes type = JNumber.getSmallestCommonCastType(this.getType(), num2.getType());
-        JNumber output = new JNumber();
-
+        ObjectTypes type = JNumber.getSmallestCommonCastType(num1.getType(), num2.getType());
         switch (type){
             case Byte, Short, Integer, Float ->{
-                output.setTo(this.floatValue() / num2.floatValue());
+                return divide(output, num1.floatValue(), num2.floatValue());
             }
             default->{
-                output.setTo(this.doubleValue() / num2.doubleValue());
+                return divide(output, num1.doubleValue(), num2.doubleValue());
             }
         }
-
-        output.shrinkToSmallestDataType();
-
-        return output;
     }
 
-    private JNumber power_JNumber(JNumber num2){
+    public static <T extends NumberInterface> T power(T output, NumberInterface num1, NumberInterface num2){
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        JNumber output = new JNumber(Math.pow(this.doubleValue(), num2.doubleValue()));
-
-        output.shrinkToSmallestDataType();
-
-        return output;
+        return power(output, num1.doubleValue(), num2.doubleValue());
     }
 
-    private JNumber modulo_JNumber(JNumber num2) {
+    public static <T extends NumberInterface> T modulo(T output, NumberInterface num1, NumberInterface num2) {
+        nullExceptionCheck(num1, "num1");
         nullExceptionCheck(num2, "num2");
 
-        ObjectTypes type = JNumber.getSmallestCommonCastType(this.getType(), num2.getType());
-        JNumber output = new JNumber();
+        ObjectTypes type = JNumber.getSmallestCommonCastType(num1.getType(), num2.getType());
         switch (type){
             case Byte,Short->{
-                output.setTo(this.floatValue() % num2.floatValue());
+                nullExceptionCheck(output, "output");
+
+                return setToSmallestType(output, num1.floatValue() % num2.floatValue());
             }
             default -> {
-                output.setTo(this.doubleValue() % num2.doubleValue());
+                return modulo(output, num1.doubleValue(), num2.doubleValue());
             }
         }
-
-        output.shrinkToSmallestDataType();
-
-        return output;
     }
 
     private  boolean equalTo_JNumber(JNumber num2){
@@ -1063,37 +1165,37 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
     public static JNumber add(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).add_JNumber(convertToJNumber(num2));
+        return add(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static JNumber subtract(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).subtract_JNumber(convertToJNumber(num2));
+        return subtract(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static JNumber multiply(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).multiply_JNumber(convertToJNumber(num2));
+        return multiply(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static JNumber divide(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).divide_JNumber(convertToJNumber(num2));
+        return divide(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static JNumber power(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).power_JNumber(convertToJNumber(num2));
+        return power(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static JNumber modulo(Number num1, Number num2){
         nullExceptionCheck(num1, "num1");
 
-        return convertToJNumber(num1).modulo_JNumber(convertToJNumber(num2));
+        return modulo(new JNumber(), convertToJNumber(num1), convertToJNumber(num2));
     }
 
     public static boolean equalTo(Number num1, Number num2){
@@ -1134,57 +1236,529 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     // endregion
 
+    // region static primitive operations
+
+    // these write their result into output instead of allocating a new JNumber, output can be any number, such as
+    // a JPrimitive or JObject, each overload follows the same widening and shrinking rules as two JNumbers of that type
+
+    public static <T extends NumberInterface> T add(T output, int num1, int num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (long) num1 + num2);
+    }
+
+    public static <T extends NumberInterface> T add(T output, long num1, long num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 + num2);
+    }
+
+    public static <T extends NumberInterface> T add(T output, float num1, float num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (double) num1 + num2);
+    }
+
+    public static <T extends NumberInterface> T add(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 + num2);
+    }
+
+    public static <T extends NumberInterface> T subtract(T output, int num1, int num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 - num2);
+    }
+
+    public static <T extends NumberInterface> T subtract(T output, long num1, long num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 - num2);
+    }
+
+    public static <T extends NumberInterface> T subtract(T output, float num1, float num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 - num2);
+    }
+
+    public static <T extends NumberInterface> T subtract(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 - num2);
+    }
+
+    public static <T extends NumberInterface> T multiply(T output, int num1, int num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (long) num1 * num2);
+    }
+
+    public static <T extends NumberInterface> T multiply(T output, long num1, long num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 * num2);
+    }
+
+    public static <T extends NumberInterface> T multiply(T output, float num1, float num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (double) num1 * num2);
+    }
+
+    public static <T extends NumberInterface> T multiply(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 * num2);
+    }
+
+    public static <T extends NumberInterface> T divide(T output, int num1, int num2){
+        nullExceptionCheck(output, "output");
+
+        if(num2 == 0){
+            throw new IllegalArgumentException("Cannot divide by zero.");
+        }
+
+        return setToSmallestType(output, (float) num1 / (float) num2);
+    }
+
+    public static <T extends NumberInterface> T divide(T output, long num1, long num2){
+        nullExceptionCheck(output, "output");
+
+        if(num2 == 0){
+            throw new IllegalArgumentException("Cannot divide by zero.");
+        }
+
+        return setToSmallestType(output, (double) num1 / (double) num2);
+    }
+
+    public static <T extends NumberInterface> T divide(T output, float num1, float num2){
+        nullExceptionCheck(output, "output");
+
+        if(num2 == 0){
+            throw new IllegalArgumentException("Cannot divide by zero.");
+        }
+
+        return setToSmallestType(output, num1 / num2);
+    }
+
+    public static <T extends NumberInterface> T divide(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        if(num2 == 0){
+            throw new IllegalArgumentException("Cannot divide by zero.");
+        }
+
+        return setToSmallestType(output, num1 / num2);
+    }
+
+    public static <T extends NumberInterface> T modulo(T output, int num1, int num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (double) num1 % num2);
+    }
+
+    public static <T extends NumberInterface> T modulo(T output, long num1, long num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (double) num1 % (double) num2);
+    }
+
+    public static <T extends NumberInterface> T modulo(T output, float num1, float num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, (double) num1 % num2);
+    }
+
+    public static <T extends NumberInterface> T modulo(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, num1 % num2);
+    }
+
+    public static <T extends NumberInterface> T power(T output, double num1, double num2){
+        nullExceptionCheck(output, "output");
+
+        return setToSmallestType(output, Math.pow(num1, num2));
+    }
+
+    // sets output to value, in the smallest type shrinkToSmallestDataType would give it
+
+    private static <T extends NumberInterface> T setToSmallestType(T output, long value){
+        switch (getSmallestDataType(value)){
+            case Byte -> output.setTo((byte) value);
+            case Short -> output.setTo((short) value);
+            case Integer -> output.setTo((int) value);
+            default -> output.setTo(value);
+        }
+        return output;
+    }
+
+    private static <T extends NumberInterface> T setToSmallestType(T output, float value){
+        if(getSmallestDataType(value) == ObjectTypes.Float){
+            output.setTo(value);
+            return output;
+        }
+        return setToSmallestType(output, (long) value);
+    }
+
+    private static <T extends NumberInterface> T setToSmallestType(T output, double value){
+        if(getSmallestDataType(value) == ObjectTypes.Double){
+            output.setTo(value);
+            return output;
+        }
+        return setToSmallestType(output, (long) value);
+    }
+
+    // endregion
+
+    // region in place operations
+
+    // the result of the operation replaces the value of this number
+
+    @Override
+    public JNumber addInPlace(NumberInterface num2){
+        return add(this, this, getNumericOperand(num2));
+    }
+
+    public JNumber addInPlace(long num2){
+        if(type.isFloatingPointNumber()){
+            return add(this, this.doubleValue(), (double) num2);
+        }
+        return add(this, this.longValue(), num2);
+    }
+
+    public JNumber addInPlace(double num2){
+        return add(this, this.doubleValue(), num2);
+    }
+
+    @Override
+    public JNumber subtractInPlace(NumberInterface num2){
+        return subtract(this, this, getNumericOperand(num2));
+    }
+
+    @Override
+    public JNumber multiplyInPlace(NumberInterface num2){
+        return multiply(this, this, getNumericOperand(num2));
+    }
+
+    @Override
+    public JNumber divideInPlace(NumberInterface num2){
+        return divide(this, this, getNumericOperand(num2));
+    }
+
+    @Override
+    public JNumber powerInPlace(NumberInterface num2){
+        return power(this, this, getNumericOperand(num2));
+    }
+
+    @Override
+    public JNumber moduloInPlace(NumberInterface num2){
+        return modulo(this, this, getNumericOperand(num2));
+    }
+
+    // the operand is read through its primitive values, so JObjects and JPrimitives aren't converted into JNumbers
+    private static NumberInterface getNumericOperand(NumberInterface num2){
+        nullExceptionCheck(num2, "num2");
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+        return num2;
+    }
+
+    // endregion
+
     // region to / from string
 
     public boolean tryParse(CharSequence inputString){
-        try {
-            byte val = Byte.parseByte(inputString.toString());
-            setTo(val);
-            return true;
-        } catch (Exception e) {
-            // do nothing
+        if(inputString == null){
+            return false;
         }
+        return tryParse(inputString, 0, inputString.length());
+    }
 
-        try {
-            short val = Short.parseShort(inputString.toString());
-            setTo(val);
-            return true;
-        } catch (Exception e) {
-            // do nothing
+    /**
+     * Parses the characters between start and end in a single scan, without throwing on malformed input.
+     * Gives the same result as trying Byte, Short, Integer, Long, Float and Double parsing in turn,
+     * so literals accepted by Integer.parseInt become the smallest integral type that holds them and
+     * every other literal accepted by Float.parseFloat becomes a Float.
+     * @param inputString CharSequence : characters to parse
+     * @param start int : index of the first character, inclusive
+     * @param end int : index of the last character, exclusive
+     * @return boolean : returns true if a number was parsed, false leaves this number unchanged
+     */
+    public boolean tryParse(CharSequence inputString, int start, int end){
+        if(inputString == null){
+            return false;
         }
+        Objects.checkFromToIndex(start, end, inputString.length());
 
-        try {
-            int val = Integer.parseInt(inputString.toString());
-            setTo(val);
+        if(tryParseIntegral(inputString, start, end)){
             return true;
-        } catch (Exception e) {
-            // do nothing
         }
+        return tryParseFloatingPoint(inputString, start, end);
+    }
 
-        try {
-            long val = Long.parseLong(inputString.toString());
-            setTo(val);
+    /**
+     * Parses the characters between start and end without allocating a substring.
+     * @param inputString CharSequence : characters to parse
+     * @param start int : index of the first character, inclusive
+     * @param end int : index of the last character, exclusive
+     * @return JNumber : returns the parsed number, or null if the characters are not a number
+     */
+    public static JNumber parse(CharSequence inputString, int start, int end){
+        JNumber output = new JNumber();
+        if(output.tryParse(inputString, start, end)){
+            return output;
+        }
+        return null;
+    }
+
+    // accepts what Long.parseLong accepts, values outside the range of a long are left to the floating point scan
+    private boolean tryParseIntegral(CharSequence inputString, int start, int end){
+        int x = start;
+        if(x == end){
+            return false;
+        }
+
+        char firstChar = inputString.charAt(x);
+        boolean negative = firstChar == '-';
+        if(negative || firstChar == '+'){
+            x += 1;
+            if(x == end){
+                return false;
+            }
+        }
+
+        // accumulated negatively so that Long.MIN_VALUE can be reached
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long value = 0;
+        for(; x < end; x++){
+            int digit = Character.digit(inputString.charAt(x), 10);
+            if(digit < 0 || value < multiplyLimit){
+                return false;
+            }
+            value *= 10;
+            if(value < limit + digit){
+                return false;
+            }
+            value -= digit;
+        }
+        if(!negative){
+            value = -value;
+        }
+
+        switch (getSmallestDataType(value)){
+            case Byte -> setTo((byte) value);
+            case Short -> setTo((short) value);
+            case Integer -> setTo((int) value);
+            default -> setTo(value);
+        }
+        return true;
+    }
+
+    private static final float[] floatPowersOfTen = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    // accepts what Float.parseFloat accepts
+    private boolean tryParseFloatingPoint(CharSequence inputString, int start, int end){
+        // Float.parseFloat trims the string first
+        while(start < end && inputString.charAt(start) <= ' '){
+            start += 1;
+        }
+        while(end > start && inputString.charAt(end - 1) <= ' '){
+            end -= 1;
+        }
+        if(start == end){
+            return false;
+        }
+
+        int x = start;
+        char c = inputString.charAt(x);
+        boolean negative = c == '-';
+        if(negative || c == '+'){
+            x += 1;
+            if(x == end){
+                return false;
+            }
+            c = inputString.charAt(x);
+        }
+
+        if(c == 'N'){
+            if(!regionEquals(inputString, x, end, "NaN")){
+                return false;
+            }
+            setTo(Float.NaN);
             return true;
-        } catch (Exception e) {
-            // do nothing
         }
+        if(c == 'I'){
+            if(!regionEquals(inputString, x, end, "Infinity")){
+                return false;
+            }
+            setTo(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY);
+            return true;
+        }
+        if(c == '0' && x + 1 < end && (inputString.charAt(x + 1) == 'x' || inputString.charAt(x + 1) == 'X')){
+            if(!isHexadecimalFloatingPoint(inputString, x + 2, end)){
+                return false;
+            }
+            return setToParsedFloat(inputString, start, end);
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean pastDecimalPoint = false;
+        for(; x < end; x++){
+            c = inputString.charAt(x);
+            if(c == '.'){
+                if(pastDecimalPoint){
+                    return false;
+                }
+                pastDecimalPoint = true;
+                continue;
+            }
+            if(c < '0' || c > '9'){
+                break;
+            }
+            hasDigits = true;
+            if(mantissa == 0 && c == '0'){
+                // leading zeros only move the decimal point
+                if(pastDecimalPoint){
+                    fractionDigits += 1;
+                }
+                continue;
+            }
+            if(significantDigits < 18){
+                mantissa = mantissa * 10 + (c - '0');
+                if(pastDecimalPoint){
+                    fractionDigits += 1;
+                }
+            }
+            else if(!pastDecimalPoint){
+                fractionDigits -= 1;
+            }
+            significantDigits += 1;
+        }
+        if(!hasDigits){
+            return false;
+        }
+
+        int exponent = 0;
+        if(x < end && (c == 'e' || c == 'E')){
+            x += 1;
+            boolean negativeExponent = false;
+            if(x < end && (inputString.charAt(x) == '-' || inputString.charAt(x) == '+')){
+                negativeExponent = inputString.charAt(x) == '-';
+                x += 1;
+            }
+            int exponentStart = x;
+            while(x < end && inputString.charAt(x) >= '0' && inputString.charAt(x) <= '9'){
+                // saturates well past the range of a float
+                exponent = Math.min(exponent * 10 + (inputString.charAt(x) - '0'), 100000);
+                x += 1;
+            }
+            if(x == exponentStart){
+                return false;
+            }
+            if(negativeExponent){
+                exponent = -exponent;
+            }
+        }
+
+        if(x < end){
+            c = inputString.charAt(x);
+            if(x != end - 1 || (c != 'f' && c != 'F' && c != 'd' && c != 'D')){
+                return false;
+            }
+        }
+
+        int decimalExponent = exponent - fractionDigits;
+        float value;
+        if(mantissa == 0){
+            value = 0.0f;
+        }
+        else if(significantDigits <= 18 && mantissa <= (1L << 24)
+                && decimalExponent >= -10 && decimalExponent <= 10){
+            // both operands are exact floats, so the single rounding below matches Float.parseFloat
+            value = (float) mantissa;
+            if(decimalExponent >= 0){
+                value *= floatPowersOfTen[decimalExponent];
+            }
+            else {
+                value /= floatPowersOfTen[-decimalExponent];
+            }
+        }
+        else {
+            return setToParsedFloat(inputString, start, end);
+        }
+
+        setTo(negative ? -value : value);
+        return true;
+    }
 
+    // only reached for literals that were already validated
+    private boolean setToParsedFloat(CharSequence inputString, int start, int end){
         try {
-            float val = Float.parseFloat(inputString.toString());
-            setTo(val);
+            setTo(Float.parseFloat(inputString.subSequence(start, end).toString()));
             return true;
-        } catch (Exception e) {
-            // do nothing
+        } catch (NumberFormatException e) {
+            return false;
         }
+    }
 
-        try {
-            double val = Double.parseDouble(inputString.toString());
-            setTo(val);
+    // hex digits with an optional point, then a binary exponent and an optional suffix
+    private static boolean isHexadecimalFloatingPoint(CharSequence inputString, int x, int end){
+        boolean hasDigits = false;
+        boolean pastPoint = false;
+        for(; x < end; x++){
+            char c = inputString.charAt(x);
+            if(c == '.' && !pastPoint){
+                pastPoint = true;
+            }
+            else if((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')){
+                hasDigits = true;
+            }
+            else {
+                break;
+            }
+        }
+        if(!hasDigits || x == end || (inputString.charAt(x) != 'p' && inputString.charAt(x) != 'P')){
+            return false;
+        }
+        x += 1;
+        if(x < end && (inputString.charAt(x) == '-' || inputString.charAt(x) == '+')){
+            x += 1;
+        }
+        int exponentStart = x;
+        while(x < end && inputString.charAt(x) >= '0' && inputString.charAt(x) <= '9'){
+            x += 1;
+        }
+        if(x == exponentStart){
+            return false;
+        }
+        if(x == end){
             return true;
-        } catch (Exception e) {
-            // do nothing
         }
-        return false;
+        char c = inputString.charAt(x);
+        return x == end - 1 && (c == 'f' || c == 'F' || c == 'd' || c == 'D');
+    }
+
+    private static boolean regionEquals(CharSequence inputString, int start, int end, String word){
+        if(end - start != word.length()){
+            return false;
+        }
+        for(int x = 0; x < word.length(); x++){
+            if(inputString.charAt(start + x) != word.charAt(x)){
+                return false;
+            }
+        }
+        return true;
     }
 
     public static JNumber createFromString(CharSequence inputString){
@@ -1204,7 +1778,7 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
     @Override
     public String toString() {
-        return String.valueOf(numberVal);
+        return String.valueOf(numberValue());
     }
 
     public String toBinaryString(){
@@ -1227,7 +1801,7 @@ public class JNumber extends Number implements Comparable<Number>, NumberInterfa
 
         s.append(JString.getQuotedJString("type")).append(" : ").append(JString.getQuotedJString(type)).append(", ");
 
-        s.append(JString.getQuotedJString("numberVal")).append(" : ").append(numberVal);
+        s.append(JString.getQuotedJString("numberVal")).append(" : ").append(numberValue());
 
         s.append("}");
 
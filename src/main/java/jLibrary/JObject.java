@@ -1,12 +1,16 @@
 package jLibrary;
 
+import jLibrary.exceptions.FailedParseException;
 import jLibrary.exceptions.WrongInputTypeException;
+import jLibrary.expressionManipulation.CompiledExpression;
 import jLibrary.expressionManipulation.ExpressionObject;
 import jLibrary.expressionManipulation.ExpressionVariableContainer;
 import jLibrary.expressionManipulation.ExpressionVariableObject;
 import jLibrary.interfaces.*;
 import jLibrary.miscFunctions.MiscFunctions;
 import jLibrary.nestedStringTree.NestedStringTree_Brackets;
+import jLibrary.persistentCollections.PersistentHashMap;
+import jLibrary.persistentCollections.PersistentVector;
 import jLibrary.exceptions.UnrecognizedSymbolsException;
 import jLibrary.exceptions.WrongExecutionTypeException;
 import jLibrary.interfaces.functional.JObjectExecutionPredicate;
@@ -14,8 +18,36 @@ import jLibrary.typeEnumerable.ObjectTypes;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static jLibrary.miscFunctions.MiscFunctions.*;
@@ -85,19 +117,114 @@ public class JObject
         implements Iterable<JObject>, Comparable<JObject>, JObjectConvertible,
         NumberInterface, BooleanInterface, StringInterface, java.util.Map<String, JObject> {
 
-    private static class JObjectHashMap {
+    /**
+     * Common base for the containers that hold the sub objects of non-primitive JObjects.
+     * <br>
+     * A container can be shared by several JObjects after a clone. Each JObject that shares it counts as an owner, and
+     * a JObject that owns a shared container copies it before changing it or handing out its sub objects, so the other
+     * owners never see the change. A container is only shared if none of its sub objects have been handed out, since
+     * a sub object that is referenced from outside could be changed without going through its parent.
+     */
+    private abstract static class JObjectContainer {
+
+        private static final AtomicIntegerFieldUpdater<JObjectContainer> ownerCounter =
+                AtomicIntegerFieldUpdater.newUpdater(JObjectContainer.class, "owners");
+
+        private volatile int owners = 1;
+        // true once a sub object may have been referenced from outside of this container
+        private boolean exposed = false;
+
+        public abstract JObjectContainer clone();
+
+        public abstract void clear();
+
+        public abstract int size();
+
+        public abstract Map<String, JObject> getMap();
+
+        /**
+         * Returns a container that won't change while it's read. Concurrent containers return a shallow copy of
+         * their current contents, every other container returns itself.
+         */
+        public JObjectContainer snapshot(){
+            return this;
+        }
+
+        // region sharing
+
+        public boolean isShared(){
+            return owners > 1;
+        }
+
+        public boolean isExposed(){
+            return exposed;
+        }
+
+        public void expose(){
+            // checked first so concurrent readers don't keep writing to the same field
+            if(!exposed){
+                exposed = true;
+            }
+        }
+
+        /**
+         * Adds an owner to this container.
+         * @return Returns this container.
+         */
+        public JObjectContainer share(){
+            ownerCounter.incrementAndGet(this);
+            return this;
+        }
+
+        /**
+         * Gives one of the owners a container of its own. The copy is made before the owner is removed, so the
+         * remaining owners can't change this container while it's being copied.
+         * @return Returns a copy of this container, with lazily copied sub objects.
+         */
+        public JObjectContainer unshare(){
+            JObjectContainer output = clone();
+            ownerCounter.decrementAndGet(this);
+            return output;
+        }
+
+        // endregion
+    }
+
+    private static class JObjectHashMap extends JObjectContainer {
 
-        private HashMap<String, JObject> subObjects;
+        private Map<String, JObject> subObjects;
 
         public JObjectHashMap(){
-            subObjects = new HashMap<>();
+            subObjects = new ShapedSubObjectMap();
+        }
+
+        public JObjectHashMap(Map<String, JObject> initialValues){
+            subObjects = new HashMap<>(initialValues);
+        }
+
+        private JObjectHashMap(ConcurrentSubObjectMap subObjects){
+            this.subObjects = subObjects;
+        }
+
+        public int size(){
+            return subObjects.size();
+        }
+
+        public Map<String, JObject> getMap(){
+            return subObjects;
         }
 
         public JObjectHashMap clone(){
             JObjectHashMap output = new JObjectHashMap();
 
+            if(subObjects instanceof ShapedSubObjectMap map && map.entries == null){
+                output.subObjects = map.cloneValues();
+                return output;
+            }
+
             for(Map.Entry<String, JObject> entry : subObjects.entrySet()){
-                output.subObjects.put(entry.getKey(), entry.getValue().clone());
+                JObject subObject = entry.getValue();
+                output.subObjects.put(entry.getKey(), subObject == null ? null : subObject.clone());
             }
 
             return output;
@@ -107,7 +234,7 @@ public class JObject
             subObjects.clear();
         }
 
-        public HashMap<String, JObject> getHashMap(){
+        public Map<String, JObject> getHashMap(){
             return subObjects;
         }
 
@@ -138,3061 +265,6860 @@ public class JObject
         }
     }
 
-    public static final String ParameterName_ClassName = "ClassName";
-    public static final String ParameterName_value = "Value";
+    /**
+     * The set of keys of a dictionary, in the order they were added, shared by every dictionary that was given the same
+     * keys in the same order. Dictionaries read from the same schema, or built by the same code, end up with the same
+     * shape, so each of them only has to store its values.
+     * <br>
+     * Shapes form a tree: adding a key to a dictionary moves it to the child shape for that key, which is created the
+     * first time it's needed and reused afterwards. Each first key starts its own branch of the tree. A shape is only
+     * held while a dictionary, or one of its child shapes, uses it, so branches for schemas that are no longer in use
+     * are released by the garbage collector and don't count towards the limits.
+     * <br>
+     * The tree is bounded in depth, in the number of children per shape below the first key, and in the number of
+     * shapes in use at once. Dictionaries that would go past those limits store their entries in a HashMap instead,
+     * which works the same but doesn't share its keys.
+     */
+    private static final class Shape {
 
-    protected String typeName;
-    protected Object value;
+        private static final int maxKeys = 64;
+        private static final int maxTransitions = 32;
+        private static final int maxShapes = 1 << 16;
+        // the number of shapes that haven't been released yet
+        private static final AtomicInteger shapeCount = new AtomicInteger();
+        private static final ReferenceQueue<Shape> releasedShapes = new ReferenceQueue<>();
 
-    //region constructors
+        private static final Shape empty = new Shape(null, new String[0]);
 
-    /**
-     * Default constructor : creates an empty JObject with a class name of Null
-     */
-    public JObject() {
-        clear();
-    }
+        // keeps the shapes on the way from the root reachable while this one is in use
+        private final Shape parent;
+        private final String[] keys;
+        // the slot of each key, filled by adding the keys in order, so it iterates the way a HashMap built the same
+        // way would
+        private final HashMap<String, Integer> slotIndexes;
+        private final int[] iterationOrder;
+        private final ConcurrentHashMap<String, ShapeReference> transitions = new ConcurrentHashMap<>();
 
-    /**
-     * Constructor overload : creates JObject to store a boolean value
-     */
-    public JObject(boolean inputValue){
-        setTo(inputValue);
-    }
+        private Shape(Shape parent, String[] keys){
+            this.parent = parent;
+            this.keys = keys;
+            slotIndexes = new HashMap<>();
+            for(int x = 0; x < keys.length; x += 1){
+                slotIndexes.put(keys[x], x);
+            }
 
-    /**
-     * Constructor overload : creates JObject to store a boolean value
-     */
-    public JObject(char inputValue){
-        setTo(inputValue);
-    }
+            iterationOrder = new int[keys.length];
+            int position = 0;
+            for(Integer slot : slotIndexes.values()){
+                iterationOrder[position] = slot;
+                position += 1;
+            }
+        }
 
-    /**
-     * Constructor overload : creates JObject to store a byte value
-     */
-    public JObject(byte inputValue){
-        setTo(inputValue);
-    }
+        public int size(){
+            return keys.length;
+        }
 
-    /**
-     * Constructor overload : creates JObject to store a short value
-     */
-    public JObject(short inputValue){
-        setTo(inputValue);
-    }
+        public int indexOf(Object key){
+            Integer output = slotIndexes.get(key);
+            return output == null ? -1 : output;
+        }
 
-    /**
-     * Constructor overload : creates JObject to store an integer value
-     */
-    public JObject(int inputValue){
-        setTo(inputValue);
-    }
+        /**
+         * Returns the shape with the given key added after this shape's keys, or null if the shape tree is full.
+         */
+        public Shape withKey(String key){
+            Shape output = getTransition(key);
+            if(output != null){
+                return output;
+            }
 
-    /**
-     * Constructor overload : creates JObject to store a long value
-     */
-    public JObject(long inputValue){
-        setTo(inputValue);
-    }
+            removeReleasedShapes();
+            if(keys.length >= maxKeys || (parent != null && transitions.size() >= maxTransitions) ||
+                    shapeCount.get() >= maxShapes){
+                return null;
+            }
 
-    /**
-     * Constructor overload : creates JObject to store a float value
-     */
-    public JObject(float inputValue){
-        setTo(inputValue);
-    }
+            synchronized (this){
+                output = getTransition(key);
+                if(output == null){
+                    String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+                    newKeys[keys.length] = key;
+                    output = new Shape(this, newKeys);
+                    transitions.put(key, new ShapeReference(output, this, key));
+                    shapeCount.incrementAndGet();
+                }
+                return output;
+            }
+        }
 
-    /**
-     * Constructor overload : creates JObject to store a double value
-     */
-    public JObject(double inputValue){
-        setTo(inputValue);
+        private Shape getTransition(String key){
+            ShapeReference reference = transitions.get(key);
+            return reference == null ? null : reference.get();
+        }
+
+        private static void removeReleasedShapes(){
+            Reference<? extends Shape> released;
+            while((released = releasedShapes.poll()) != null){
+                ShapeReference reference = (ShapeReference) released;
+                // the key may already lead to a newer shape
+                reference.parent.transitions.remove(reference.key, reference);
+                shapeCount.decrementAndGet();
+            }
+        }
+
+        private static final class ShapeReference extends WeakReference<Shape> {
+
+            private final Shape parent;
+            private final String key;
+
+            private ShapeReference(Shape shape, Shape parent, String key){
+                super(shape, releasedShapes);
+                this.parent = parent;
+                this.key = key;
+            }
+        }
     }
 
     /**
-     * Constructor overload : creates JObject from a variety of different types
+     * The sub objects of a dictionary, kept as a shared {@link Shape} and an array with one value per key of the
+     * shape. Adding a key moves the map to the next shape. Removing a key, or adding one past the limits of the shape
+     * tree, moves the entries into a HashMap, which is used from then on.
+     * <br>
+     * Iteration order is the same as a HashMap that had the same keys added in the same order.
      */
-    public JObject(Object inputValue) throws UnrecognizedSymbolsException, IllegalArgumentException{
+    private static final class ShapedSubObjectMap extends AbstractMap<String, JObject> {
+
+        private static final JObject[] noValues = new JObject[0];
+
+        private Shape shape = Shape.empty;
+        private JObject[] values = noValues;
+        // once set, holds the entries instead of the shape and values
+        private HashMap<String, JObject> entries = null;
+
+        /**
+         * Returns a map with the same shape and a clone of each value. Only for maps that still have a shape.
+         */
+        public ShapedSubObjectMap cloneValues(){
+            ShapedSubObjectMap output = new ShapedSubObjectMap();
+            output.shape = shape;
+            output.values = new JObject[values.length];
+            for(int x = 0; x < values.length; x += 1){
+                JObject value = values[x];
+                output.values[x] = value == null ? null : value.clone();
+            }
+            return output;
+        }
 
-        if(inputValue == null) {
-            clear();
-            return;
+        private void convertToHashMap(){
+            HashMap<String, JObject> output = new HashMap<>();
+            for(int x = 0; x < values.length; x += 1){
+                output.put(shape.keys[x], values[x]);
+            }
+            entries = output;
+            shape = null;
+            values = null;
         }
 
-        try {
-            setTo(inputValue);
+        @Override
+        public int size(){
+            return entries != null ? entries.size() : values.length;
         }
-        catch (IllegalArgumentException e){
-            throw new IllegalArgumentException("Received an un-usable type during Instantiation : " + inputValue +
-                    ", input type : " + inputValue.getClass().getName());
+
+        @Override
+        public boolean containsKey(Object key){
+            return entries != null ? entries.containsKey(key) : shape.indexOf(key) >= 0;
         }
-    }
 
-    // endregion
+        @Override
+        public JObject get(Object key){
+            if(entries != null){
+                return entries.get(key);
+            }
+            int index = shape.indexOf(key);
+            return index < 0 ? null : values[index];
+        }
 
-    // region clear functions
+        @Override
+        public JObject getOrDefault(Object key, JObject defaultValue){
+            if(entries != null){
+                return entries.getOrDefault(key, defaultValue);
+            }
+            int index = shape.indexOf(key);
+            return index < 0 ? defaultValue : values[index];
+        }
 
-    /**
-     * Resets the JObject to an empty object with the built-in type of Null.
-     */
-    public void clear() {
-        typeName = ObjectTypes.Null.toString();
-        value = null;
-    }
+        @Override
+        public JObject put(String key, JObject value){
+            if(entries != null){
+                return entries.put(key, value);
+            }
 
-    // endregion
+            int index = shape.indexOf(key);
+            if(index >= 0){
+                JObject previous = values[index];
+                values[index] = value;
+                return previous;
+            }
 
-    // region set to empty default type functions
+            Shape next = key == null ? null : shape.withKey(key);
+            if(next == null){
+                convertToHashMap();
+                return entries.put(key, value);
+            }
+            values = Arrays.copyOf(values, next.size());
+            values[values.length - 1] = value;
+            shape = next;
+            return null;
+        }
 
-    /**
-     * Converts this JObject into a string composed of the given value.
-     * @return Returns the modified JObject for method chaining.
-     */
-    public JObject setToStringJObject(CharSequence value){
+        @Override
+        public JObject remove(Object key){
+            if(entries == null){
+                if(shape.indexOf(key) < 0){
+                    return null;
+                }
+                convertToHashMap();
+            }
+            return entries.remove(key);
+        }
 
-        this.typeName = ObjectTypes.String.name();
-        this.value = new JString(value);
+        @Override
+        public void clear(){
+            // a cleared HashMap keeps its capacity, and with it the order the next keys are iterated in
+            if(entries == null){
+                convertToHashMap();
+            }
+            entries.clear();
+        }
 
-        return this;
-    }
+        @Override
+        public Set<Entry<String, JObject>> entrySet(){
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, JObject>> iterator() {
+                    if(entries != null){
+                        return entries.entrySet().iterator();
+                    }
+                    return new ShapeIterator(shape, values);
+                }
 
-    /**
-     * Converts this JObject into a string.
-     * @return Returns the modified JObject for method chaining.
-     */
-    public JObject setToStringJObject(){
-        return setToStringJObject(null);
-    }
+                @Override
+                public int size() {
+                    return ShapedSubObjectMap.this.size();
+                }
+            };
+        }
 
-    /**
-     * Converts this JObject into an empty list.
-     * @return Returns the modified JObject for method chaining.
-     */
-    public JObject setToEmptyList(){
-        setTypeName(ObjectTypes.List.name());
-        resetSubObjects();
-        return this;
-    }
+        private final class ShapeIterator implements Iterator<Entry<String, JObject>> {
 
-    /**
-     * Converts this JObject into an empty set.
-     * @return Returns the modified JObject for method chaining.
-     */
-    public JObject setToEmptySet(){
-        setTypeName(ObjectTypes.Set.name());
-        resetSubObjects();
-        return this;
-    }
+            private final Shape iteratedShape;
+            private final JObject[] iteratedValues;
+            private int position = 0;
+            private String lastKey = null;
 
-    /**
-     * Converts this JObject into an empty dictionary.
-     * @return Returns the modified JObject for method chaining.
-     */
-    public JObject setToEmptyDictionary(){
-        setTypeName(ObjectTypes.Dictionary.name());
-        resetSubObjects();
-        return this;
+            private ShapeIterator(Shape iteratedShape, JObject[] iteratedValues){
+                this.iteratedShape = iteratedShape;
+                this.iteratedValues = iteratedValues;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < iteratedValues.length;
+            }
+
+            @Override
+            public Entry<String, JObject> next() {
+                if(position >= iteratedValues.length){
+                    throw new NoSuchElementException();
+                }
+                int slot = iteratedShape.iterationOrder[position];
+                position += 1;
+                lastKey = iteratedShape.keys[slot];
+                return new SimpleEntry<>(lastKey, iteratedValues[slot]) {
+                    @Override
+                    public JObject setValue(JObject value) {
+                        super.setValue(value);
+                        return put(getKey(), value);
+                    }
+                };
+            }
+
+            @Override
+            public void remove() {
+                if(lastKey == null){
+                    throw new IllegalStateException();
+                }
+                ShapedSubObjectMap.this.remove(lastKey);
+                lastKey = null;
+            }
+        }
     }
 
     /**
-     * Converts this JObject into an empty dictionary, containing the given keys. There will be no
-     * values stored at these keys.
-     * @return Returns the modified JObject for method chaining.
+     * The container of concurrent dictionaries, see {@link #createConcurrentDictionary()}.
+     * <br>
+     * It's never shared by a clone: copying it on the first write would let two threads each write to a different
+     * copy. Cloning a concurrent dictionary copies it right away, into another concurrent dictionary.
      */
-    public JObject setToEmptyDictionary(CharSequence... keys){
-        setToEmptyDictionary();
+    private static final class JObjectConcurrentHashMap extends JObjectHashMap {
 
-        if(keys == null || keys.length < 1){
-            return this;
+        public JObjectConcurrentHashMap(){
+            super(new ConcurrentSubObjectMap());
+            expose();
         }
 
-        for (CharSequence key : keys) {
-            getSubObjects().put(key.toString(), null);
-        }
-        return this;
-    }
+        @Override
+        public JObjectConcurrentHashMap clone(){
+            JObjectConcurrentHashMap output = new JObjectConcurrentHashMap();
 
-    // endregion
+            for(Map.Entry<String, JObject> entry : getMap().entrySet()){
+                JObject subObject = entry.getValue();
+                output.getMap().put(entry.getKey(), subObject == null ? null : subObject.clone());
+            }
 
-    // region static create empty default type functions
+            return output;
+        }
 
-    /**
-     * Creates a new string JObject composed of the given value.
-     * @return Returns the created JObject.
-     */
-    public static JObject createStringJObject(CharSequence value){
-        JObject output = new JObject();
-        output.setToStringJObject(value);
-
-        return output;
+        @Override
+        public JObjectHashMap snapshot(){
+            return new JObjectHashMap(getMap());
+        }
     }
 
     /**
-     * Creates a new empty string JObject.
-     * @return Returns the created JObject.
+     * The sub objects of a concurrent dictionary. Reads don't lock, and putIfAbsent, computeIfAbsent,
+     * computeIfPresent, compute and merge are atomic. Iteration is weakly consistent: it never throws a
+     * ConcurrentModificationException, and may or may not see changes made after it started.
+     * <br>
+     * ConcurrentHashMap doesn't accept null values, so null sub objects are stored as a marker and handed out as
+     * null. A key stored with a null sub object counts as absent for putIfAbsent, computeIfAbsent and merge, the same
+     * as in a HashMap.
      */
-    public static JObject createStringJObject(){
-        JObject output = new JObject();
-        output.setToStringJObject(null);
+    private static final class ConcurrentSubObjectMap extends AbstractMap<String, JObject>
+            implements ConcurrentMap<String, JObject> {
 
-        return output;
-    }
+        private static final Object nullSubObject = new Object();
 
-    /**
-     * Creates a new empty list JObject.
-     * @return Returns the created JObject.
-     */
-    public static JObject createEmptyList(){
-        JObject output = new JObject();
-        output.setToEmptyList();
-        return output;
-    }
+        private final ConcurrentHashMap<String, Object> map = new ConcurrentHashMap<>();
 
-    /**
-     * Creates a new empty set JObject.
-     * @return Returns the created JObject.
-     */
-    public static JObject createEmptySet(){
-        JObject output = new JObject();
-        output.setToEmptySet();
-        return output;
-    }
+        private static Object wrap(JObject value){
+            return value == null ? nullSubObject : value;
+        }
 
-    /**
-     * Creates a new empty dictionary JObject.
-     * @return Returns the created JObject.
-     */
-    public static JObject createEmptyDictionary(){
-        JObject output = new JObject();
-        output.setToEmptyDictionary();
-        return output;
-    }
+        private static JObject unwrap(Object value){
+            return value == nullSubObject ? null : (JObject) value;
+        }
 
-    /**
-     * Creates a new empty dictionary JObject containing the given keys. There will be no values stored at these keys.
-     * @return Returns the created JObject.
-     */
-    public static JObject createEmptyDictionary(CharSequence... keys){
-        JObject output = new JObject();
-        output.setToEmptyDictionary(keys);
-        return output;
-    }
+        private static boolean isAbsent(Object value){
+            return value == null || value == nullSubObject;
+        }
 
-    /**
-     * Creates an empty dictionary JObject containing the given keys.
-     * The created object will have the designated class name.
-     * @param className The class name to be assigned to the output object.
-     * @param keys The parameter names in the output object.
-     * @return Returns the created dictionary JObject.
-     */
-    public static JObject createEmptyClassJObject(String className, String... keys)
-            throws WrongExecutionTypeException, UnrecognizedSymbolsException, IllegalArgumentException {
-        JObject output = createEmptyDictionary(keys);
+        // region reads
 
-        output.typeName = className;
+        @Override
+        public int size(){
+            return map.size();
+        }
 
-        return output;
-    }
+        @Override
+        public boolean isEmpty(){
+            return map.isEmpty();
+        }
 
-    // endregion
+        @Override
+        public boolean containsKey(Object key){
+            return key != null && map.containsKey(key);
+        }
 
-    // region static to JObject conversion
+        @Override
+        public boolean containsValue(Object value){
+            return map.containsValue(value == null ? nullSubObject : value);
+        }
 
-    /**
-     * Creates a new JObject out of the given value if it is not already a JObject; otherwise: this method returns
-     * the given value unchanged.
-     */
-    public static JObject convertToJObject(Object value){
-        if(value instanceof JObject nv){
-            return nv;
+        @Override
+        public JObject get(Object key){
+            return key == null ? null : unwrap(map.get(key));
         }
-        else{
-            return new JObject(value);
+
+        @Override
+        public JObject getOrDefault(Object key, JObject defaultValue){
+            Object output = key == null ? null : map.get(key);
+            return output == null ? defaultValue : unwrap(output);
         }
-    }
 
-    // endregion
+        @Override
+        public void forEach(BiConsumer<? super String, ? super JObject> action){
+            map.forEach((key, value) -> action.accept(key, unwrap(value)));
+        }
 
-    // region map methods
+        // endregion
 
-    @Override
-    public boolean isEmpty() {
-        if(value == null){
-            return true;
+        // region writes
+
+        @Override
+        public JObject put(String key, JObject value){
+            return unwrap(map.put(key, wrap(value)));
         }
 
-        if(isPrimitive()){
-            return true;
+        @Override
+        public JObject remove(Object key){
+            return key == null ? null : unwrap(map.remove(key));
         }
 
-        if(value instanceof JObjectHashMap map){
-            return map.getHashMap().isEmpty();
+        @Override
+        public void clear(){
+            map.clear();
         }
 
-        return true;
-    }
+        @Override
+        public JObject putIfAbsent(String key, JObject value){
+            Object current = map.get(key);
+            if(!isAbsent(current)){
+                return (JObject) current;
+            }
 
-    @Override
-    public boolean containsKey(Object key) {
-        if(isPrimitive()){
-            return false;
+            Object[] previous = new Object[1];
+            map.compute(key, (k, old) -> {
+                previous[0] = old;
+                return isAbsent(old) ? wrap(value) : old;
+            });
+            return unwrap(previous[0]);
         }
 
-        if(key == null){
-            return false;
+        @Override
+        public boolean remove(Object key, Object value){
+            return key != null && map.remove(key, value == null ? nullSubObject : value);
         }
 
-        if(key.getClass().isArray()){
-            if(key instanceof Object[] keys){
-                for(Object keyElement : keys){
-                    if(containsKey(keyElement)){
-                        return true;
-                    }
-                }
-            }
-        }
-        else{
-            HashMap<String, JObject> map = getSubObjects();
-            if(map != null){
-                return map.containsKey(key);
-            }
+        @Override
+        public boolean replace(String key, JObject oldValue, JObject newValue){
+            return map.replace(key, wrap(oldValue), wrap(newValue));
         }
 
-        return false;
-    }
+        @Override
+        public JObject replace(String key, JObject value){
+            return unwrap(map.replace(key, wrap(value)));
+        }
 
-    @Override
-    public JObject get(Object key) {
-        if(isPrimitive()){
-            return null;
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super JObject, ? extends JObject> function){
+            map.replaceAll((key, value) -> wrap(function.apply(key, unwrap(value))));
         }
 
-        return getValue(key);
-    }
+        @Override
+        public JObject computeIfAbsent(String key, Function<? super String, ? extends JObject> mappingFunction){
+            Object current = map.get(key);
+            if(!isAbsent(current)){
+                return (JObject) current;
+            }
 
-    @Override
-    public JObject put(String key, JObject value) {
-        if(isPrimitive()){
-            return null;
+            return unwrap(map.compute(key, (k, old) -> {
+                if(!isAbsent(old)){
+                    return old;
+                }
+                JObject created = mappingFunction.apply(k);
+                return created == null ? old : created;
+            }));
         }
 
-        JObject previousValue = getValue(key);
-        setValue(key, value);
-        return previousValue;
-    }
-
-    @Override
-    public void putAll(Map<? extends String, ? extends JObject> m) {
-        HashMap<String, JObject> map = getSubObjects();
-        if(map != null){
+        @Override
+        public JObject computeIfPresent(String key,
+                                        BiFunction<? super String, ? super JObject, ? extends JObject> remappingFunction){
+            return unwrap(map.computeIfPresent(key, (k, old) ->
+                    old == nullSubObject ? old : remappingFunction.apply(k, (JObject) old)));
+        }
 
-            map.putAll(m);
+        @Override
+        public JObject compute(String key,
+                               BiFunction<? super String, ? super JObject, ? extends JObject> remappingFunction){
+            return unwrap(map.compute(key, (k, old) -> remappingFunction.apply(k, unwrap(old))));
         }
-    }
 
-    @Override
-    public Set<String> keySet() {
-        if(isPrimitive()){
-            return Collections.emptySet();
+        @Override
+        public JObject merge(String key, JObject value,
+                             BiFunction<? super JObject, ? super JObject, ? extends JObject> remappingFunction){
+            Objects.requireNonNull(value);
+            Objects.requireNonNull(remappingFunction);
+
+            return unwrap(map.compute(key, (k, old) ->
+                    isAbsent(old) ? value : remappingFunction.apply((JObject) old, value)));
         }
 
-        HashMap<String, JObject> map = getSubObjects();
-        if(map != null){
+        // endregion
+
+        // region views
+
+        @Override
+        public Set<String> keySet(){
             return map.keySet();
         }
-        return Collections.emptySet();
-    }
 
-    @Override
-    public Set<Entry<String, JObject>> entrySet() {
-        if(isPrimitive()){
-            return Collections.emptySet();
-        }
+        @Override
+        public Collection<JObject> values(){
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<JObject> iterator() {
+                    Iterator<Object> values = map.values().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return values.hasNext();
+                        }
 
-        HashMap<String, JObject> map = getSubObjects();
-        if(map != null){
+                        @Override
+                        public JObject next() {
+                            return unwrap(values.next());
+                        }
 
-            return map.entrySet();
-        }
-        return Collections.emptySet();
-    }
+                        @Override
+                        public void remove() {
+                            values.remove();
+                        }
+                    };
+                }
 
-    @Override
-    public ArrayList<JObject> values() {
-        if(isPrimitive()){
-            return new ArrayList<>();
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
         }
-        else{
-            HashMap<String, JObject> map = getSubObjects();
-            if(map != null){
 
-                return new ArrayList<>(map.values());
-            }
-            throw new RuntimeException("Values are missing");
-        }
-    }
+        @Override
+        public Set<Entry<String, JObject>> entrySet(){
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, JObject>> iterator() {
+                    Iterator<Entry<String, Object>> entries = map.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
 
-    // endregion
+                        @Override
+                        public Entry<String, JObject> next() {
+                            Entry<String, Object> entry = entries.next();
+                            return new SimpleEntry<>(entry.getKey(), unwrap(entry.getValue())) {
+                                @Override
+                                public JObject setValue(JObject value) {
+                                    super.setValue(value);
+                                    return unwrap(map.put(getKey(), wrap(value)));
+                                }
+                            };
+                        }
 
-    // region clone
+                        @Override
+                        public void remove() {
+                            entries.remove();
+                        }
+                    };
+                }
 
-    private Object getClonedValue(){
-        if(this.isBoolean()){
-            return ((Boolean) value);
-        }
-        else if(this.isNumber()){
-            return jNumberValue().clone().numberValue();
-        }
-        else if(this.isString() || this.isSymbol()){
-            return ((JString) value).clone();
-        }
-        else {
-            return getSubObjects().clone();
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
         }
+
+        // endregion
     }
 
     /**
-     * Creates a deep copy clone of the JObject. All sub objects (including sub JObjects) are cloned recursively.
-     * <br>
-     * The resulting JObject will be an exact duplicate to the original, but will contain no references back
-     * to the original.
+     * Contiguous storage for the elements of lists and sets.
      * <br>
-     * Chainable Function.
-     * @return JObject a clone of the JObject that called this function.
+     * Elements are kept in index order inside a growable array, so index based reads and writes don't need
+     * to go through string keys. A string keyed map view of the elements is still available via getMap(), in which
+     * each element is keyed by its index.
      */
-    public JObject clone(){
+    private static class JObjectArrayList extends JObjectContainer {
 
-        JObject output = new JObject();
+        private static final int defaultCapacity = 10;
 
-        output.typeName = this.typeName;
+        private JObject[] elements;
+        private int size;
+        private Map<String, JObject> mapView;
 
-        if(this.isPrimitive() || this.isSymbol()){
-            output.value = this.getClonedValue();
+        public JObjectArrayList(){
+            elements = new JObject[defaultCapacity];
+            size = 0;
         }
-        else{
-            output.value = this.getSubObjectsContainer().clone();
+
+        public JObjectArrayList(int capacity){
+            elements = new JObject[Math.max(capacity, defaultCapacity)];
+            size = 0;
         }
 
-        return output;
-    }
+        public JObjectArrayList clone(){
+            JObjectArrayList output = new JObjectArrayList(size);
 
-    /**
-     * Clones each of this JObject's sub-objects and returns the clones inside an array.
-     * If the sub-object value is null, this method will return an empty array.
-     * @return JObject array containing clones of all of this JObject's sub-objects, or an empty array.
-     */
-    public JObject[] getClonedChildren(){
-        if(getSubObjectsContainer() != null) {
-            return getSubObjectsContainer().clone().getHashMap().values().toArray(new JObject[0]);
-        }
-        else{
-            return new JObject[0];
+            for(int x = 0; x < size; x += 1){
+                JObject element = elements[x];
+                output.elements[x] = element == null ? null : element.clone();
+            }
+            output.size = size;
+
+            return output;
         }
-    }
 
-    // endregion
+        public void clear(){
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+        }
 
-    // region base value
+        public int size(){
+            return size;
+        }
 
-    @Override
-    public Object getBaseValue() {
-        return value;
-    }
+        // region capacity
 
-    // endregion
-    
-    // region subObjects functions
-    
-    private HashMap<String, JObject> getSubObjects() {
-        JObjectHashMap temp = getSubObjectsContainer();
-        if(temp != null){
-            return temp.getHashMap();
+        private void ensureCapacity(int minCapacity){
+            if(minCapacity > elements.length){
+                int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+                elements = Arrays.copyOf(elements, newCapacity);
+            }
         }
-        return null;
-    }
 
-    private JObjectHashMap getSubObjectsContainer() {
-        if(value == null){
-            if(!isPrimitive()){
-                resetSubObjects();
+        // endregion
+
+        // region element access
+
+        public boolean isIndexInBounds(int index){
+            return index >= 0 && index < size;
+        }
+
+        public JObject get(int index){
+            if(index < 0 || index >= size){
+                return null;
             }
+            return elements[index];
         }
 
-        if (value != null && value instanceof JObjectHashMap var) {
-            return var;
+        /**
+         * Returns the element at the given index for reading only. Packed lists may return a temporary JObject that
+         * isn't kept by the list, so the result must not be changed or handed out.
+         */
+        public JObject peek(int index){
+            return get(index);
         }
-        return null;
-    }
-    
-    private void resetSubObjects() {
-        value = new JObjectHashMap();
-    }
-    
-    // endregion
 
-    // region setTo functions
+        /**
+         * Assigns an element that nothing outside of this list references, which packed lists can store as a
+         * primitive value without keeping the JObject. See {@link #set(int, JObject)}.
+         */
+        public JObject setUnreferenced(int index, JObject element){
+            return set(index, element);
+        }
 
-    // region primitive setTo()
+        /**
+         * Adds an element that nothing outside of this list references. See {@link #setUnreferenced(int, JObject)}.
+         */
+        public void addUnreferenced(JObject element){
+            add(element);
+        }
 
-    /**
-     * Converts the calling JObject into a boolean JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(boolean inputValue){
+        /**
+         * Assigns the element at the given index. If the index lies beyond the end of the list, then
+         * the gap is filled with nulls.
+         * @return Returns the element previously stored at the index.
+         */
+        public JObject set(int index, JObject element){
+            if(index < 0){
+                throw new IndexOutOfBoundsException("index " + index + " is less then zero.");
+            }
 
-        clear();
-        typeName = ObjectTypes.Boolean.toString();
-        value = inputValue;
+            if(index >= size){
+                ensureCapacity(index + 1);
+                size = index + 1;
+            }
 
-        return this;
-    }
+            JObject previous = elements[index];
+            elements[index] = element;
+            return previous;
+        }
 
-    /**
-     * Converts the calling JObject into a boolean JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(char inputValue){
+        public void add(JObject element){
+            ensureCapacity(size + 1);
+            elements[size] = element;
+            size += 1;
+        }
 
-        clear();
-        typeName = ObjectTypes.String.toString();
-        value = new JString(inputValue);
+        public void insert(int index, JObject element){
+            if(index < 0 || index > size){
+                throw new IndexOutOfBoundsException("index " + index + " is outside of the range 0 to " + size + ".");
+            }
 
-        return this;
-    }
+            ensureCapacity(size + 1);
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+            elements[index] = element;
+            size += 1;
+        }
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(byte inputValue){
+        public JObject remove(int index){
+            if(index < 0 || index >= size){
+                return null;
+            }
 
-        clear();
-        typeName = ObjectTypes.Byte.toString();
-        value = inputValue;
+            JObject output = elements[index];
+            int shiftCount = size - index - 1;
+            if(shiftCount > 0){
+                System.arraycopy(elements, index + 1, elements, index, shiftCount);
+            }
+            size -= 1;
+            elements[size] = null;
 
-        return this;
-    }
+            return output;
+        }
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(short inputValue){
+        public JObject removeLast(){
+            if(size == 0){
+                return null;
+            }
 
-        clear();
-        typeName = ObjectTypes.Short.toString();
-        value = inputValue;
+            size -= 1;
+            JObject output = elements[size];
+            elements[size] = null;
+            return output;
+        }
 
-        return this;
-    }
+        public void reverse(){
+            for(int x = 0, y = size - 1; x < y; x += 1, y -= 1){
+                JObject temp = elements[x];
+                elements[x] = elements[y];
+                elements[y] = temp;
+            }
+        }
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(int inputValue){
+        public JObject[] toArray(){
+            return Arrays.copyOf(elements, size);
+        }
 
-        clear();
-        typeName = ObjectTypes.Integer.name();
-        value = inputValue;
+        /**
+         * Reorders the element references in place, in the order of JObject.compareByType. Each element's sort key
+         * is computed once, rather than on every comparison.
+         */
+        public void sortByType(boolean ascendingOrder, boolean inParallel){
+            TypeSortKey[] keys = new TypeSortKey[size];
+            for(int x = 0; x < size; x += 1){
+                keys[x] = new TypeSortKey(elements[x]);
+            }
 
-        return this;
-    }
+            Comparator<TypeSortKey> comparator = ascendingOrder ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            if(inParallel){
+                Arrays.parallelSort(keys, comparator);
+            }
+            else {
+                Arrays.sort(keys, comparator);
+            }
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(long inputValue){
+            for(int x = 0; x < keys.length; x += 1){
+                elements[x] = keys[x].element;
+            }
+        }
 
-        clear();
-        typeName = ObjectTypes.Long.toString();
-        value = inputValue;
+        public void setTo(JObject[] newElements){
+            // the fields are used directly, so a subclass holding a lock isn't called back
+            Arrays.fill(elements, 0, size, null);
+            ensureCapacity(newElements.length);
+            System.arraycopy(newElements, 0, elements, 0, newElements.length);
+            size = newElements.length;
+        }
 
-        return this;
-    }
+        /**
+         * Removes every element and returns them in index order. The storage is handed over rather than copied.
+         */
+        public List<JObject> drain(){
+            List<JObject> output = Arrays.asList(elements).subList(0, size);
+            elements = new JObject[defaultCapacity];
+            size = 0;
+            return output;
+        }
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(float inputValue){
+        // endregion
 
-        clear();
-        typeName = ObjectTypes.Float.toString();
-        value = inputValue;
+        // region iteration
 
-        return this;
-    }
+        /**
+         * Walks the elements in index order without copying the list. When cloneElements is true,
+         * each element is cloned as it is reached.
+         */
+        public Iterator<JObject> iterator(boolean cloneElements){
+            return new Iterator<JObject>() {
 
-    /**
-     * Converts the calling JObject into a number JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(double inputValue){
+                private int currentIndex = 0;
 
-        clear();
-        typeName = ObjectTypes.Double.toString();
-        value = inputValue;
+                @Override
+                public boolean hasNext() {
+                    return currentIndex < size;
+                }
 
-        return this;
-    }
+                @Override
+                public JObject next() {
+                    if(currentIndex >= size){
+                        throw new NoSuchElementException();
+                    }
+                    return ElementSpliterator.getElement(elements[currentIndex++], cloneElements);
+                }
 
-    // endregion
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
 
-    /**
-     * Converts the calling JObject into a JObject representing the given value.
-     * <br>
-     * Chainable Function.
-     * @param inputValue The value the JObject is to represent.
-     * @return Returns the modified JObject.
-     */
-    public JObject setTo(Object inputValue) throws UnrecognizedSymbolsException, IllegalArgumentException{
+        public Spliterator<JObject> spliterator(boolean cloneElements){
+            return new ElementSpliterator(this, cloneElements);
+        }
 
-        if (inputValue == null) {
+        /**
+         * Splits the element array in halves, so every part knows its exact size.
+         * <br>
+         * The spliterator is late-binding : it reads the list's array and size when it's first traversed, split or
+         * asked for its size, not when it's created. It isn't fail-fast : elements added or removed after that aren't
+         * detected, and elements replaced in place may or may not be seen.
+         */
+        private static final class ElementSpliterator implements Spliterator<JObject> {
 
-            clear();
-            return this;
-        }
-        if(inputValue == this){
-            return this;
-        }
+            // null once bound
+            private JObjectArrayList list;
+            private JObject[] elements;
+            private int fence;
+            private final boolean cloneElements;
+            private int index;
 
-        boolean alreadyShrunk = false;
+            private ElementSpliterator(JObjectArrayList list, boolean cloneElements){
+                this.list = list;
+                this.cloneElements = cloneElements;
+            }
 
-        if(inputValue instanceof JString iv){
+            private ElementSpliterator(JObject[] elements, int index, int fence, boolean cloneElements){
+                this.elements = elements;
+                this.index = index;
+                this.fence = fence;
+                this.cloneElements = cloneElements;
+            }
 
-            fromString(iv);
-        }
-        else if(inputValue instanceof JPrimitive iv){
-            this.typeName = iv.getTypeName();
-            this.value = iv.getClonedValue();
-            return this;
-        }
-        else if (inputValue instanceof CharSequence iv) {
+            private void bind(){
+                if(list != null){
+                    elements = list.elements;
+                    fence = list.size;
+                    list = null;
+                }
+            }
 
-            fromString(JString.toJString(iv));
-        }
-        else if (inputValue instanceof Character iv) {
+            private static JObject getElement(JObject element, boolean cloneElement){
+                if(cloneElement && element != null){
+                    return element.clone();
+                }
+                return element;
+            }
 
-            fromString(JString.toJString(iv));
-        }
-        else if(inputValue instanceof JNumber iv) {
+            @Override
+            public boolean tryAdvance(Consumer<? super JObject> action) {
+                Objects.requireNonNull(action);
+                bind();
+                if(index < fence){
+                    action.accept(getElement(elements[index++], cloneElements));
+                    return true;
+                }
+                return false;
+            }
 
-            clear();
-            typeName = iv.getType().name();
-            value = iv.getClonedNumber();
-        }
-        else if(inputValue instanceof Number iv){
-            setTo(new JNumber(iv));
-            alreadyShrunk = true;
-        }
-        else if(inputValue instanceof Boolean iv){
-            setTo(iv.booleanValue());
-        }
-        else if(inputValue instanceof JObject srcObj) {
+            @Override
+            public void forEachRemaining(Consumer<? super JObject> action) {
+                Objects.requireNonNull(action);
+                bind();
+                for(; index < fence; index += 1){
+                    action.accept(getElement(elements[index], cloneElements));
+                }
+            }
 
-            clear();
-            if (srcObj.isNull()){
+            @Override
+            public Spliterator<JObject> trySplit() {
+                bind();
+                int middle = (index + fence) >>> 1;
+                if(middle <= index){
+                    return null;
+                }
+                ElementSpliterator prefix = new ElementSpliterator(elements, index, middle, cloneElements);
+                index = middle;
+                return prefix;
+            }
 
-                return this;
+            @Override
+            public long estimateSize() {
+                bind();
+                return fence - index;
             }
 
-            this.typeName = srcObj.typeName;
-            if (srcObj.isPrimitive() || srcObj.isSymbol()) {
-                this.value = srcObj.getClonedValue();
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
             }
-            else if (srcObj.getSubObjects() != null){
-                this.resetSubObjects();
-                for(Map.Entry<String, JObject> entry : srcObj.getSubObjects().entrySet()){
-                    JObject valueBase = entry.getValue();
-                    if(valueBase != null) {
-                        JObject subObjClone = valueBase.clone();
-                        this.setValue(entry.getKey(), subObjClone);
-                    }
+        }
+
+        // endregion
+
+        // region map view
+
+        /**
+         * Converts a map key into an index. Returns -1 if the key isn't a non-negative integer.
+         */
+        private static int parseIndex(Object key){
+            if(key instanceof Integer i){
+                return i;
+            }
+            if(!(key instanceof CharSequence s) || s.length() == 0 || s.length() > 9){
+                return -1;
+            }
+
+            int output = 0;
+            for(int x = 0; x < s.length(); x += 1){
+                char c = s.charAt(x);
+                if(c < '0' || c > '9'){
+                    return -1;
                 }
+                output = (output * 10) + (c - '0');
             }
+            return output;
         }
-        else if(inputValue instanceof NumberInterface io){
-            if(io.isNumber()){
-                setTo(io.numberValue());
+
+        public Map<String, JObject> getMap(){
+            if(mapView == null){
+                mapView = new ListMapView();
             }
+            return mapView;
         }
-        else if(inputValue instanceof BooleanInterface io){
-            if(io.isBoolean()){
-                setTo(io.booleanValue());
-            }
-        }
-        else if(inputValue instanceof StringInterface io){
-            if(io.isString()){
-                fromString(io.toJString());
-            }
-        }
-        else if(inputValue instanceof ConvertibleToJObject var){
-
-            clear();
-            setTo(var.toJObject());
-        }
-        else if(inputValue instanceof JSONObject var){
-            return setTo(var.toMap());
-        }
-        else if(inputValue instanceof boolean[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
-
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
-            }
-        }
-        else if(inputValue instanceof byte[] arr){
 
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
+        /**
+         * A string keyed view of the list, where each element is keyed by its index.
+         */
+        private class ListMapView extends AbstractMap<String, JObject> {
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public int size() {
+                return JObjectArrayList.this.size();
             }
-        }
-        else if(inputValue instanceof short[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public boolean containsKey(Object key) {
+                int index = parseIndex(key);
+                return index >= 0 && index < JObjectArrayList.this.size();
             }
-        }
-        else if(inputValue instanceof int[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public JObject get(Object key) {
+                return JObjectArrayList.this.get(parseIndex(key));
             }
-        }
-        else if(inputValue instanceof long[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public JObject put(String key, JObject value) {
+                int index = parseIndex(key);
+                if(index < 0){
+                    throw new RuntimeException("List keys must be non-negative integers, received \"" + key + "\".");
+                }
+                return set(index, value);
             }
-        }
-        else if(inputValue instanceof float[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public JObject remove(Object key) {
+                return JObjectArrayList.this.remove(parseIndex(key));
             }
-        }
-        else if(inputValue instanceof double[] arr){
-
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
 
-                JObject jObj = new JObject(arr[x]);
-                this.setValue(x, jObj);
+            @Override
+            public void clear() {
+                JObjectArrayList.this.clear();
             }
-        }
-        else if(inputValue instanceof Object[] arr){
 
-            clear();
-            typeName = ObjectTypes.List.name();
-            for(int x = 0; x < arr.length; x += 1){
+            @Override
+            public Set<String> keySet() {
+                // the keys are just the indexes, so the elements aren't read
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<String> iterator() {
+                        return new Iterator<>() {
+
+                            private int currentIndex = 0;
+
+                            @Override
+                            public boolean hasNext() {
+                                return currentIndex < JObjectArrayList.this.size();
+                            }
 
-                JObject jObj = convertToJObject(arr[x]);
-                this.setValue(x, jObj);
-            }
-        }
-        else if(inputValue instanceof Collection<?> collection){
-            clear();
-            typeName = ObjectTypes.List.name();
-            Object[] elements = collection.toArray();
-            for(int x = 0; x < elements.length; x += 1){
-                JObject jObj = null;
+                            @Override
+                            public String next() {
+                                if(currentIndex >= JObjectArrayList.this.size()){
+                                    throw new NoSuchElementException();
+                                }
+                                return Integer.toString(currentIndex++);
+                            }
+                        };
+                    }
 
-                try{
-                    jObj = convertToJObject(elements[x]);
-                }
-                catch (Exception e){
-                    print(e);
-                    throw e;
-                }
+                    @Override
+                    public boolean contains(Object key) {
+                        return containsKey(key);
+                    }
 
-                try {
-                    this.setValue(x, jObj);
-                }
-                catch (Exception e){
-                    print(e);
-                    throw e;
-                }
+                    @Override
+                    public int size() {
+                        return JObjectArrayList.this.size();
+                    }
+                };
             }
-        }
-        else if(inputValue instanceof Iterable<?> collection){
-            clear();
-            typeName = ObjectTypes.List.name();
-            int counter = 0;
-            for(Object ele : collection){
-                JObject jObj = null;
-
-                try{
-                    jObj = convertToJObject(ele);
-                }
-                catch (Exception e){
-                    print(e);
-                    throw e;
-                }
 
-                try {
-                    this.setValue(counter, jObj);
-                    counter += 1;
-                }
-                catch (Exception e){
-                    print(e);
-                    throw e;
+            @Override
+            public int hashCode() {
+                // the same sum as AbstractMap.hashCode, with the elements only peeked at
+                int output = 0;
+                for(int x = 0; x < JObjectArrayList.this.size(); x += 1){
+                    output += Integer.toString(x).hashCode() ^ Objects.hashCode(peek(x));
                 }
+                return output;
             }
-        }
-        else if(inputValue instanceof Map<?,?> map){
-            clear();
-            typeName = ObjectTypes.Dictionary.name();
-            for(Map.Entry<?,?> entry: map.entrySet()){
 
-                JObject key = convertToJObject(entry.getKey());
+            @Override
+            public Set<Entry<String, JObject>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, JObject>> iterator() {
+                        return new Iterator<>() {
 
-                if(!key.isString() && !key.isIntegralNumber()){
-                    throw new IllegalArgumentException("The key must be a string or a whole number.");
-                }
+                            private int currentIndex = 0;
 
-                JObject value = null;
+                            @Override
+                            public boolean hasNext() {
+                                return currentIndex < JObjectArrayList.this.size();
+                            }
 
-                try{
-                    value = convertToJObject(entry.getValue());
-                }
-                catch (UnrecognizedSymbolsException e){
-                    if(entry.getValue().getClass().getSimpleName().equalsIgnoreCase("String")){
-                        value = JObject.createStringJObject(entry.getValue().toString());
-                    }
-                    else{
-                        print(e);
-                        throw e;
+                            @Override
+                            public Entry<String, JObject> next() {
+                                if(currentIndex >= JObjectArrayList.this.size()){
+                                    throw new NoSuchElementException();
+                                }
+                                final int index = currentIndex++;
+                                return new SimpleEntry<>(Integer.toString(index), JObjectArrayList.this.get(index)) {
+                                    @Override
+                                    public JObject setValue(JObject value) {
+                                        super.setValue(value);
+                                        return JObjectArrayList.this.set(index, value);
+                                    }
+                                };
+                            }
+                        };
                     }
-                }
-                catch (Exception e){
-                    print(e);
-                    throw e;
-                }
 
-                setValue(key.toString(), value);
+                    @Override
+                    public int size() {
+                        return JObjectArrayList.this.size();
+                    }
+                };
             }
         }
-        else {
 
-            throw new IllegalArgumentException("Received an un-usable data type during setTo()");
-        }
+        // endregion
 
-        if(isNumber()){
-            if(!alreadyShrunk) {
-                shrinkToSmallestDataType();
-            }
+        @Override
+        public String toString(){
+            return Arrays.toString(toArray());
         }
-
-        return this;
     }
 
-    // endregion
-
-    // region equals
-
     /**
-     * Compares the given inputValue with this JObject.
-     * @param inputValue The value to be compared to this JObject.
-     * @return Returns True if the inputValue is equal to this JObject, else it returns False.
+     * The container of concurrent lists, see {@link #createConcurrentList()}.
+     * <br>
+     * Every change takes the write lock of a StampedLock. {@link #get(int)} and {@link #size()} read optimistically
+     * without locking, and only take the read lock if a write happened while they were reading. Iteration walks a
+     * copy of the elements taken under the read lock, so it never fails and always sees one consistent list.
+     * <br>
+     * Like concurrent dictionaries, it's never shared by a clone.
      */
-    @Override
-    public boolean equals(Object inputValue) {
+    private static final class JObjectConcurrentArrayList extends JObjectArrayList {
 
-        if(inputValue == this){
-            return true;
+        private final StampedLock lock = new StampedLock();
+
+        public JObjectConcurrentArrayList(){
+            expose();
         }
 
-        if(inputValue == null){
-            return isNull();
+        @Override
+        public JObjectConcurrentArrayList clone(){
+            JObject[] current = toArray();
+            JObjectConcurrentArrayList output = new JObjectConcurrentArrayList();
+            for(int x = 0; x < current.length; x += 1){
+                JObject element = current[x];
+                current[x] = element == null ? null : element.clone();
+            }
+            output.setTo(current);
+            return output;
         }
 
-        if (inputValue instanceof String) {
-            return inputValue.equals(toString(false));
+        @Override
+        public JObjectArrayList snapshot(){
+            JObjectArrayList output = new JObjectArrayList();
+            output.setTo(toArray());
+            return output;
         }
-        else if(inputValue instanceof JNumber io) {
 
+        // region reads
+
+        @Override
+        public int size(){
+            long stamp = lock.tryOptimisticRead();
+            int output = super.size;
+            if(lock.validate(stamp)){
+                return output;
+            }
+
+            stamp = lock.readLock();
             try{
-                if(isNumber()){
-                    return jNumberValue().equals(io);
-                }
+                return super.size;
             }
-            catch (WrongExecutionTypeException e){
-                return false;
+            finally {
+                lock.unlockRead(stamp);
             }
+        }
 
-            return false;
+        @Override
+        public boolean isIndexInBounds(int index){
+            return index >= 0 && index < size();
         }
-        else if(inputValue instanceof JObject io)
-        {
-            if(this.isNull() && io.isNull()){
-                return true;
-            }
 
-            if(this.isNull() != io.isNull()){
-                return false;
+        @Override
+        public JObject get(int index){
+            long stamp = lock.tryOptimisticRead();
+            // a write can replace the array while it's read, so the index is checked against both
+            JObject[] currentElements = super.elements;
+            int currentSize = super.size;
+            JObject output = index >= 0 && index < currentSize && index < currentElements.length ?
+                    currentElements[index] : null;
+            if(lock.validate(stamp)){
+                return output;
             }
 
-            if(!this.getTypeName().equals(io.getTypeName())){
-                return false;
+            stamp = lock.readLock();
+            try{
+                return super.get(index);
             }
-
-            if(this.isPrimitive()){
-                return this.value.equals(io.value);
+            finally {
+                lock.unlockRead(stamp);
             }
+        }
 
-            if(this.size() != io.size()){
-                return false;
+        @Override
+        public JObject[] toArray(){
+            long stamp = lock.readLock();
+            try{
+                return super.toArray();
             }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
 
-            if(this.size() > 0){
-                String[] theseKeys = this.getKeys();
-                String[] thoseKeys = io.getKeys();
-                if(!MiscFunctions.stringArrayEquals(theseKeys, thoseKeys)){
-                    return false;
-                }
-
-                for (String theseKey : theseKeys) {
-                    JObject thisSubObject = this.getValue(theseKey);
-                    JObject thatSubObject = io.getValue(theseKey);
+        @Override
+        public Iterator<JObject> iterator(boolean cloneElements){
+            return snapshot().iterator(cloneElements);
+        }
 
-                    boolean thisIsNull = thisSubObject == null || thisSubObject.isNull();
-                    boolean thatIsNull = thatSubObject == null || thatSubObject.isNull();
+        @Override
+        public Spliterator<JObject> spliterator(boolean cloneElements){
+            return snapshot().spliterator(cloneElements);
+        }
 
-                    if (thisIsNull && thatIsNull) {
-                        continue;
-                    }
+        // endregion
 
-                    if (thisIsNull != thatIsNull) {
-                        return false;
-                    }
+        // region writes
 
-                    if (!thisSubObject.equals(thatSubObject)) {
-                        return false;
-                    }
-                }
+        @Override
+        public void clear(){
+            long stamp = lock.writeLock();
+            try{
+                super.clear();
+            }
+            finally {
+                lock.unlockWrite(stamp);
             }
-
-            return true;
-        }
-        else {
-            return false;
         }
-    }
-
-    // endregion
-
-    // region add operations
-
-    /**
-     * "Adds" obj2 to this JObject. This method takes performs different operations depending on the type of the
-     * instance that it is being executed on and the type of obj2. This will either perform a string concatenation or
-     * a numeric addition. If both operands are numbers, then it will perform a numeric addition. If any of the operands
-     * are a string, then it will perform a string concatenation.
-     * @param obj2 The value to be "added" to this JObject.
-     * @return Returns the result of the "addition" as a new JObject after it has been modified.
-     */
-    public JObject add(Object obj2) {
-        boolean thisIsNumber = isNumber();
-        boolean thisIsString = isString();
 
-        if(obj2 == null){
-            if(isString()){
-                return this.add("null");
+        @Override
+        public JObject set(int index, JObject element){
+            long stamp = lock.writeLock();
+            try{
+                return super.set(index, element);
+            }
+            finally {
+                lock.unlockWrite(stamp);
             }
-            return this;
         }
 
-        if(thisIsString){
-            return JObject.createStringJObject(this.toJString().add(obj2));
+        @Override
+        public void add(JObject element){
+            long stamp = lock.writeLock();
+            try{
+                super.add(element);
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
         }
 
-        boolean otherIsNumber = false;
-        JNumber otherAsNumber = null;
-        boolean otherIsString = false;
-        JString otherAsString = null;
-
-        if(obj2 instanceof JString var){
-            otherIsString = true;
-            otherAsString = var;
-        }
-        else if(obj2 instanceof NumberInterface var){
-            if(var.isNumber()){
-                otherAsNumber = var.jNumberValue();
-                otherIsNumber = true;
-            }
-            else if(var.isString()){
-                otherIsString = true;
-                otherAsString = new JString(var);
+        @Override
+        public void insert(int index, JObject element){
+            long stamp = lock.writeLock();
+            try{
+                super.insert(index, element);
             }
-            else{
-                ArrayList<String> temp = new ArrayList<>(List.of(MiscFunctions.getNumberTypeNames()));
-                temp.add(ObjectTypes.String.name());
-                throw new WrongInputTypeException(
-                        var.getType().name(),
-                        temp.toArray(new String[0]));
+            finally {
+                lock.unlockWrite(stamp);
             }
         }
-        else if(obj2 instanceof StringInterface var){
-            return add(new JString(var));
-        }
-        else if(obj2 instanceof CharSequence str){
-            return add(new JString(str));
-        }
-        else if(obj2 instanceof Number num){
-            return add(new JNumber(num));
-        }
-        else{
-            ArrayList<String> temp = new ArrayList<>(List.of(MiscFunctions.getNumberTypeNames()));
-            temp.add(ObjectTypes.String.name());
-            throw new WrongInputTypeException(
-                    obj2.getClass().getTypeName(),
-                    temp.toArray(new String[0]));
+
+        @Override
+        public JObject remove(int index){
+            long stamp = lock.writeLock();
+            try{
+                return super.remove(index);
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
         }
 
-        boolean bothAreNumbers = thisIsNumber && otherIsNumber;
+        @Override
+        public JObject removeLast(){
+            long stamp = lock.writeLock();
+            try{
+                return super.removeLast();
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
+        }
 
-        if(otherIsString){
-            return JObject.createStringJObject(this.toJString().add(otherAsString));
+        @Override
+        public void reverse(){
+            long stamp = lock.writeLock();
+            try{
+                super.reverse();
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
         }
-        else if(bothAreNumbers){
-            JNumber temp = JNumber.add(jNumberValue(), otherAsNumber);
-            temp.shrinkToSmallestDataType();
-            return new JObject(temp.numberValue());
+
+        @Override
+        public void sortByType(boolean ascendingOrder, boolean inParallel){
+            long stamp = lock.writeLock();
+            try{
+                super.sortByType(ascendingOrder, inParallel);
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
         }
-        else{
-            throw new RuntimeException("In order to perform that add() method, both this value and the other value " +
-                    "have to be numbers or one has to be string.");
+
+        @Override
+        public void setTo(JObject[] newElements){
+            long stamp = lock.writeLock();
+            try{
+                super.setTo(newElements);
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
         }
-    }
 
-    // endregion
+        @Override
+        public List<JObject> drain(){
+            // only the array is swapped while locked, the caller copies the elements out afterwards
+            long stamp = lock.writeLock();
+            try{
+                return super.drain();
+            }
+            finally {
+                lock.unlockWrite(stamp);
+            }
+        }
 
-    // region hash code
+        // endregion
+    }
 
     /**
-     * Generates a hash code for the JObject
-      * @return int : returns a hash code for the JObject
+     * The container of packed lists, see {@link #isPacked()}.
+     * <br>
+     * The elements are kept in one int[], long[], double[] or boolean[] instead of one JObject each. A JObject for an
+     * element is only created when {@link #get(int)} hands it out, and is then kept, so changes made through it are
+     * seen by the list. Elements that have been handed out are read from their JObject from then on.
+     * {@link #peek(int)} creates a temporary JObject instead, for the readers that only write the element out.
+     * <br>
+     * Writing a value of the same primitive type keeps the list packed, and so does sorting. Anything else, like a
+     * string, a null or a gap past the end, unpacks it first: every element becomes a JObject, and the list behaves
+     * like a regular JObjectArrayList from then on.
      */
-    @Override
-    public int hashCode() {
+    private static final class JObjectPackedArrayList extends JObjectArrayList {
 
-        if(isPrimitive()){
-            return Objects.hash(typeName, value.hashCode());
-        }
-        else{
-            return Objects.hash(typeName, getSubObjects());
-        }
-    }
+        // an int[], long[], double[] or boolean[], or null once the list is unpacked
+        private Object values;
+        // the elements that have been handed out, by index, or null if none have been
+        private JObject[] views;
 
-    // endregion
+        public JObjectPackedArrayList(Object values, int size){
+            this.values = values;
+            super.size = size;
+        }
 
-    // region length and size
+        public boolean isPacked(){
+            return values != null;
+        }
 
-    /**
-     * Gives the number of objects contained within this JObject.
-     * @return Returns the number of sub-objects inside this JObject.
-     */
-    public int size() {
-        if(isPrimitive()) {
-            throw new RuntimeException("Cannot retrieve size from primitive JObjects.");
+        public boolean isNumeric(){
+            return values instanceof int[] || values instanceof long[] || values instanceof double[];
         }
-        else{
-            if(this.getSubObjects() == null) {
-                return 0;
+
+        @Override
+        public JObjectArrayList clone(){
+            if(values == null){
+                return super.clone();
             }
-            else{
-                return this.getSubObjects().size();
+
+            JObjectPackedArrayList output = new JObjectPackedArrayList(copyValues(super.size), super.size);
+            if(views != null){
+                for(int x = 0; x < super.size; x += 1){
+                    JObject view = views[x];
+                    if(view != null && output.fits(view)){
+                        output.store(x, view.value);
+                    }
+                    else if(view != null){
+                        output.keepView(x, view.clone());
+                    }
+                }
             }
+            return output;
         }
-    }
 
-    /**
-     * Gives the character length or element count of this JObject.
-     * @return If this JObject is a string, then this function will return the length of that String.
-     * <br>
-     * If this JObject is not a primitive, then it returns the number of sub objects contained within this JObject.
-     */
-    public int length() {
-        if (isPrimitive()) {
-            if (isString()){
-                return ((JString) value).length();
+        @Override
+        public void clear(){
+            if(values == null){
+                super.clear();
+                return;
             }
 
-            throw new RuntimeException("Can only get the length from a primitive JObject if it is a string.");
-        }
-        else {
-            return size();
+            values = newValues(JObjectArrayList.defaultCapacity);
+            views = null;
+            super.size = 0;
         }
-    }
-
-    // endregion
 
-    // region to array functions
+        // region values
 
-    /**
-     * Creates a boolean array from lists, sets or primitives. If this JObject is a primitive of the correct type,
-     * then a single element array containing this JObject as a string is returned.
-     * @return boolean array
-     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a boolean or
-     * a list/set of booleans.
-     */
-    public boolean[] toBooleanArray() throws WrongExecutionTypeException {
-        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(),
-                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Boolean.name()});
+        private static int length(Object array){
+            if(array instanceof int[] arr){
+                return arr.length;
+            }
+            if(array instanceof long[] arr){
+                return arr.length;
+            }
+            if(array instanceof double[] arr){
+                return arr.length;
+            }
+            return ((boolean[]) array).length;
         }
 
-        if(isPrimitive()){
-            if(isBoolean()){
-                return new boolean[]{this.booleanValue()};
+        private Object newValues(int length){
+            if(values instanceof int[]){
+                return new int[length];
             }
-            else{
-                throw new WrongExecutionTypeException(getTypeName(),
-                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Boolean.name()});
+            if(values instanceof long[]){
+                return new long[length];
             }
-        }
-        else {
-            int counter = 0;
-            boolean[] output = new boolean[size()];
-            for(JObject subObj : this){
-                output[counter] = subObj.booleanValue();
-                counter += 1;
+            if(values instanceof double[]){
+                return new double[length];
             }
+            return new boolean[length];
+        }
+
+        private Object copyValues(int length){
+            Object output = newValues(length);
+            System.arraycopy(values, 0, output, 0, Math.min(super.size, length));
             return output;
         }
-    }
 
-    /**
-     * Creates an integer array from lists, sets or primitives. If this JObject is a primitive of the correct type,
-     * then a single element array containing this JObject as an integer is returned.
-     * @return boolean array
-     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
-     * a list/set of Numbers.
-     */
-    public int[] toIntegerArray() throws WrongExecutionTypeException {
-        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(),
-                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        private void ensurePackedCapacity(int minCapacity){
+            int capacity = length(values);
+            if(minCapacity > capacity){
+                int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+                values = copyValues(newCapacity);
+                if(views != null){
+                    views = Arrays.copyOf(views, newCapacity);
+                }
+            }
         }
 
-        if(isPrimitive()){
-            if(isInteger()){
-                return new int[]{this.intValue()};
+        /**
+         * Returns true if the element can be stored as a value of this list's primitive type.
+         */
+        private boolean fits(JObject element){
+            if(element == null){
+                return false;
             }
-            else{
-                throw new WrongExecutionTypeException(getTypeName(),
-                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            if(values instanceof int[]){
+                return element.getType() == ObjectTypes.Integer && element.value instanceof Integer;
             }
-        }
-        else {
-            int counter = 0;
-            int[] output = new int[size()];
-            for(JObject subObj : this){
-                output[counter] = subObj.intValue();
-                counter += 1;
+            if(values instanceof long[]){
+                return element.getType() == ObjectTypes.Long && element.value instanceof Long;
             }
-            return output;
+            if(values instanceof double[]){
+                return element.getType() == ObjectTypes.Double && element.value instanceof Double;
+            }
+            return element.getType() == ObjectTypes.Boolean && element.value instanceof Boolean;
         }
-    }
 
-    /**
-     * Creates a float array from lists, sets or primitives. If this JObject is a primitive of the correct type,
-     * then a single element array containing this JObject as a float is returned.
-     * @return boolean array
-     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
-     * a list/set of Numbers.
-     */
-    public float[] toFloatArray() throws WrongExecutionTypeException {
-        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(),
-                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        private void store(int index, Object value){
+            if(values instanceof int[] arr){
+                arr[index] = (Integer) value;
+            }
+            else if(values instanceof long[] arr){
+                arr[index] = (Long) value;
+            }
+            else if(values instanceof double[] arr){
+                arr[index] = (Double) value;
+            }
+            else{
+                ((boolean[]) values)[index] = (Boolean) value;
+            }
         }
 
-        if(isPrimitive()){
-            if(isNumber()){
-                return new float[]{this.floatValue()};
+        private JObject element(int index){
+            if(values instanceof int[] arr){
+                return new JObject(arr[index]);
             }
-            else{
-                throw new WrongExecutionTypeException(getTypeName(),
-                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            if(values instanceof long[] arr){
+                return new JObject(arr[index]);
+            }
+            if(values instanceof double[] arr){
+                return new JObject(arr[index]);
             }
+            return new JObject(((boolean[]) values)[index]);
         }
-        else {
-            int counter = 0;
-            float[] output = new float[size()];
-            for(JObject subObj : this){
-                output[counter] = subObj.floatValue();
-                counter += 1;
+
+        /**
+         * Keeps the given JObject as the element at the index, or forgets the one kept there if it's null.
+         */
+        private void keepView(int index, JObject view){
+            if(view != null && views == null){
+                views = new JObject[length(values)];
+            }
+            if(views != null){
+                views[index] = view;
             }
-            return output;
         }
-    }
 
-    /**
-     * Creates a double array from lists, sets or primitives. If this JObject is a primitive of the correct type,
-     * then a single element array containing this JObject as a double is returned.
-     * @return boolean array
-     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
-     * a list/set of Numbers.
-     */
-    public double[] toDoubleArray() throws WrongExecutionTypeException {
-        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(),
-                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        /**
+         * Turns every element into a JObject, after which the list behaves like a regular JObjectArrayList.
+         */
+        private void unpack(){
+            if(values == null){
+                return;
+            }
+
+            JObject[] newElements = new JObject[Math.max(super.size, JObjectArrayList.defaultCapacity)];
+            for(int x = 0; x < super.size; x += 1){
+                newElements[x] = peek(x);
+            }
+            super.elements = newElements;
+            values = null;
+            views = null;
         }
 
-        if(isPrimitive()){
-            if(isNumber()){
-                return new double[]{this.doubleValue()};
+        // endregion
+
+        // region element access
+
+        @Override
+        public JObject get(int index){
+            if(values == null){
+                return super.get(index);
             }
-            else{
-                throw new WrongExecutionTypeException(getTypeName(),
-                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            if(index < 0 || index >= super.size){
+                return null;
+            }
+
+            JObject[] currentViews = views;
+            if(currentViews != null && currentViews[index] != null){
+                return currentViews[index];
+            }
+            // several threads may read the list at once, so the element is only created once
+            synchronized (this){
+                JObject output = views == null ? null : views[index];
+                if(output == null){
+                    output = element(index);
+                    keepView(index, output);
+                }
+                return output;
             }
         }
-        else {
-            int counter = 0;
-            double[] output = new double[size()];
-            for(JObject subObj : this){
-                output[counter] = subObj.doubleValue();
-                counter += 1;
+
+        @Override
+        public JObject peek(int index){
+            if(values == null){
+                return super.get(index);
             }
-            return output;
+            if(index < 0 || index >= super.size){
+                return null;
+            }
+
+            JObject[] currentViews = views;
+            if(currentViews != null && currentViews[index] != null){
+                return currentViews[index];
+            }
+            return element(index);
         }
-    }
 
-    /**
-     * Creates a string array from lists, sets or primitives. If this JObject is a primitive of the correct type,
-     * then a single element array containing this JObject as a string is returned.
-     * @param includeQuotesOnArrayElements boolean value to determine if each element in the array will be encapsulated
-     * by quotation marks.
-     * @return String array
-     */
-    public String[] toStringArray(boolean includeQuotesOnArrayElements){
-        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(),
-                    new ObjectTypes[]{ObjectTypes.List, ObjectTypes.Set,
-                            ObjectTypes.Number, ObjectTypes.Boolean, ObjectTypes.String});
+        @Override
+        public JObject set(int index, JObject element){
+            return set(index, element, true);
         }
 
-        if(isPrimitive()){
-            return new String[]{this.toString(includeQuotesOnArrayElements)};
+        @Override
+        public JObject setUnreferenced(int index, JObject element){
+            return set(index, element, false);
         }
-        else {
-            ArrayList<String> output = new ArrayList<>();
-            for (JObject subObj : this) {
-                output.add(subObj.toString(includeQuotesOnArrayElements));
+
+        private JObject set(int index, JObject element, boolean referenced){
+            if(values != null && index >= 0 && index <= super.size && fits(element)){
+                JObject previous = peek(index);
+                if(index == super.size){
+                    ensurePackedCapacity(index + 1);
+                    super.size += 1;
+                }
+                store(index, element.value);
+                // a referenced element can still be changed from outside, so it's kept
+                keepView(index, referenced ? element : null);
+                return previous;
             }
 
-            return output.toArray(new String[0]);
+            unpack();
+            return super.set(index, element);
         }
-    }
-
-    /**
-     * Creates a string array from lists, sets or primitives. Each element will NOT have quotation marks.
-     * If this JObject is a primitive of the correct type, then a single element array containing this
-     * JObject as a string is returned.
-     * @return String array
-     */
-    public String[] toStringArray(){
-        return toStringArray(false);
-    }
 
-    /**
-     * Creates a JObject array from containing all of this object's sub objects. If this JObject is a primitive,
-     * then a single element array containing this JObject is returned instead.
-     * @return JObject array
-     */
-    public JObject[] toJObjectArray(){
-        if(isPrimitive()){
-            return new JObject[]{this};
+        @Override
+        public void add(JObject element){
+            add(element, true);
         }
-        else{
-            return getValues();
+
+        @Override
+        public void addUnreferenced(JObject element){
+            add(element, false);
         }
-    }
 
-    // endregion
+        private void add(JObject element, boolean referenced){
+            if(values != null && fits(element)){
+                ensurePackedCapacity(super.size + 1);
+                store(super.size, element.value);
+                keepView(super.size, referenced ? element : null);
+                super.size += 1;
+                return;
+            }
 
-    // region dictionary helper functions
+            unpack();
+            super.add(element);
+        }
 
-    /**
-     * Returns the sub objects stored inside this JObject as an array of JObjects. If this JObject
-     * has no sub objects, then an empty array is returned.
-     * @return JObject array
-     */
-    public JObject[] getValues(){
-        if(!isPrimitive()) {
-            if(getType().isSet()){
-                return getClonedChildren();
+        @Override
+        public void insert(int index, JObject element){
+            if(values != null && index >= 0 && index <= super.size && fits(element)){
+                ensurePackedCapacity(super.size + 1);
+                int shiftCount = super.size - index;
+                System.arraycopy(values, index, values, index + 1, shiftCount);
+                if(views != null){
+                    System.arraycopy(views, index, views, index + 1, shiftCount);
+                }
+                store(index, element.value);
+                keepView(index, element);
+                super.size += 1;
+                return;
             }
-            else {
-                return getSubObjects().values().toArray(new JObject[0]);
+
+            // out of range indexes are rejected before anything is changed
+            if(index >= 0 && index <= super.size){
+                unpack();
             }
+            super.insert(index, element);
         }
-        return new JObject[0];
-    }
-
-    // endregion
 
-    // region JConvertible interface implementations
-
-    @Override
-    public JObject toJObject() {
-        return this;
-    }
-
-    @Override
-    public boolean fromJObject(JObject source) {
-        setTo(source);
-        return true;
-    }
-
-    /**
-     * Pulls data from source JObject and places it within the outputRef object.
-     * @param source This function will pull data from the source to populate the output.
-     * @param outputRef A non-null instance of the output type will be needed to receive the data.
-     * @return This function returns a modified instance of the outputRef, after it has been populated with data.
-     * @param <T> This function can handle any instance that implements the JObjectConvertible interface.
-     */
-    public static <T extends JObjectConvertible>T createObjectFromJObject(JObject source, T outputRef){
-        if(outputRef != null) {
-            boolean valid = false;
-            try {
-                valid = outputRef.fromJObject(source);
-            } catch (Exception e) {
+        @Override
+        public JObject remove(int index){
+            if(values == null){
+                return super.remove(index);
+            }
+            if(index < 0 || index >= super.size){
                 return null;
             }
-            if (valid) {
-                return outputRef;
+
+            JObject output = peek(index);
+            int shiftCount = super.size - index - 1;
+            if(shiftCount > 0){
+                System.arraycopy(values, index + 1, values, index, shiftCount);
+                if(views != null){
+                    System.arraycopy(views, index + 1, views, index, shiftCount);
+                }
             }
+            super.size -= 1;
+            keepView(super.size, null);
+            return output;
         }
-        return null;
-    }
 
-    // endregion
+        @Override
+        public JObject removeLast(){
+            if(values == null){
+                return super.removeLast();
+            }
+            return remove(super.size - 1);
+        }
 
-    // region parameter names
+        @Override
+        public void reverse(){
+            if(values == null){
+                super.reverse();
+                return;
+            }
 
-    /**
-     * Gives the key names as a String Array.
-     * @return String Array of the sub object key names.
-     */
-    public String[] getKeys(){
-        if(size() > 0) {
-            return getSubObjects().keySet().toArray(new String[0]);
-        }
-        return new String[0];
-    }
+            for(int x = 0, y = super.size - 1; x < y; x += 1, y -= 1){
+                if(values instanceof int[] arr){
+                    int temp = arr[x];
+                    arr[x] = arr[y];
+                    arr[y] = temp;
+                }
+                else if(values instanceof long[] arr){
+                    long temp = arr[x];
+                    arr[x] = arr[y];
+                    arr[y] = temp;
+                }
+                else if(values instanceof double[] arr){
+                    double temp = arr[x];
+                    arr[x] = arr[y];
+                    arr[y] = temp;
+                }
+                else{
+                    boolean[] arr = (boolean[]) values;
+                    boolean temp = arr[x];
+                    arr[x] = arr[y];
+                    arr[y] = temp;
+                }
 
-    // endregion
+                if(views != null){
+                    JObject temp = views[x];
+                    views[x] = views[y];
+                    views[y] = temp;
+                }
+            }
+        }
 
-    // region retrieving the values of sub objects
+        @Override
+        public JObject[] toArray(){
+            if(values == null){
+                return super.toArray();
+            }
 
-    /**
-     * Returns the JObject that is referenced as a sub-object under the given parameter name.
-     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
-     * @param parameterName Object : the parameter name of the sub-object. Strings are preferred.
-     */
-    public JObject getValue(Object parameterName){
-        if(isPrimitive()) {
-            return null;
+            JObject[] output = new JObject[super.size];
+            for(int x = 0; x < output.length; x += 1){
+                output[x] = get(x);
+            }
+            return output;
         }
 
-        String key = null;
-        if(parameterName instanceof CharSequence var){
-            key = var.toString();
+        @Override
+        public void sortByType(boolean ascendingOrder, boolean inParallel){
+            if(values == null || !syncViews()){
+                unpack();
+                super.sortByType(ascendingOrder, inParallel);
+                return;
+            }
+
+            JObject[] handedOut = null;
+            if(views != null){
+                int count = 0;
+                for(int x = 0; x < super.size; x += 1){
+                    if(views[x] != null){
+                        count += 1;
+                    }
+                }
+                handedOut = new JObject[count];
+                for(int x = 0, y = 0; x < super.size; x += 1){
+                    if(views[x] != null){
+                        handedOut[y++] = views[x];
+                    }
+                }
+                views = null;
+            }
+
+            // the primitive order of each array type is the same as compareByType's
+            if(values instanceof int[] arr){
+                if(inParallel){
+                    Arrays.parallelSort(arr, 0, super.size);
+                }
+                else {
+                    Arrays.sort(arr, 0, super.size);
+                }
+            }
+            else if(values instanceof long[] arr){
+                if(inParallel){
+                    Arrays.parallelSort(arr, 0, super.size);
+                }
+                else {
+                    Arrays.sort(arr, 0, super.size);
+                }
+            }
+            else if(values instanceof double[] arr){
+                if(inParallel){
+                    Arrays.parallelSort(arr, 0, super.size);
+                }
+                else {
+                    Arrays.sort(arr, 0, super.size);
+                }
+            }
+            else{
+                boolean[] arr = (boolean[]) values;
+                int falseCount = 0;
+                for(int x = 0; x < super.size; x += 1){
+                    if(!arr[x]){
+                        falseCount += 1;
+                    }
+                }
+                Arrays.fill(arr, 0, falseCount, false);
+                Arrays.fill(arr, falseCount, super.size, true);
+            }
+            if(!ascendingOrder){
+                reverse();
+            }
+
+            if(handedOut != null){
+                // equal values can't be told apart, so each handed out element takes the next slot holding its value,
+                // keeping their order among equal elements the same as a stable sort would
+                Comparator<JObject> comparator = JObject::compareByType;
+                Arrays.sort(handedOut, ascendingOrder ? comparator : comparator.reversed());
+                int index = 0;
+                for(JObject view : handedOut){
+                    while(!holds(index, view)){
+                        index += 1;
+                    }
+                    keepView(index, view);
+                    index += 1;
+                }
+            }
         }
-        else{
-            try{
-                key = parameterName.toString();
+
+        /**
+         * Writes the values of the elements that have been handed out into the array.
+         * @return Returns false, without unpacking, if one of them holds a value of another type.
+         */
+        private boolean syncViews(){
+            if(views == null){
+                return true;
             }
-            catch (Exception e){
-                throw new RuntimeException("Couldn't extract string from parameterName.");
+
+            for(int x = 0; x < super.size; x += 1){
+                JObject view = views[x];
+                if(view != null){
+                    if(!fits(view)){
+                        return false;
+                    }
+                    store(x, view.value);
+                }
             }
+            return true;
         }
 
-        if(getType().isSet()) {
-            try {
-                return getSubObjects().getOrDefault(key, null).clone();
+        /**
+         * Returns true if the array holds the element's value at the index.
+         */
+        private boolean holds(int index, JObject element){
+            if(values instanceof int[] arr){
+                return arr[index] == (Integer) element.value;
             }
-            catch (NullPointerException var){
-                return null;
+            if(values instanceof long[] arr){
+                return arr[index] == (Long) element.value;
+            }
+            if(values instanceof double[] arr){
+                return Double.compare(arr[index], (Double) element.value) == 0;
             }
+            return ((boolean[]) values)[index] == (Boolean) element.value;
         }
-        else {
-            return getSubObjects().getOrDefault(key, null);
+
+        @Override
+        public void setTo(JObject[] newElements){
+            if(values != null){
+                values = null;
+                views = null;
+                super.elements = new JObject[JObjectArrayList.defaultCapacity];
+                super.size = 0;
+            }
+            super.setTo(newElements);
         }
-    }
 
-    /**
-     * Returns the JObject that is referenced as a sub-object under the given index.
-     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
-     * @param index int : the parameter name of the sub-object as an integer
-     */
-    public JObject getValue(int index){
-        return getValue(Integer.toString(index));
-    }
+        @Override
+        public List<JObject> drain(){
+            if(values == null){
+                return super.drain();
+            }
 
-    /**
-     * Returns the JObject that is referenced as a sub-object under the given index.
-     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
-     * @param index long : the parameter name of the sub-object as an integer
-     */
-    public JObject getValue(long index){
-        return getValue(Long.toString(index));
-    }
+            JObject[] output = new JObject[super.size];
+            for(int x = 0; x < output.length; x += 1){
+                output[x] = peek(x);
+            }
+            clear();
+            return Arrays.asList(output);
+        }
 
-    // endregion
+        // endregion
 
-    // region setting the values of sub objects
+        // region primitive arrays
 
-    private JObject setValue_bypassSetLock(String parameterName, JObject newValue)
-            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
-    {
-        if(getSubObjectsContainer() == null){
-            resetSubObjects();
-        }
+        // these are only called on packed lists, elements that have been handed out are read from their JObject
 
-        // assigns the value to the class name if the parameter name matches
-        if(parameterName.equals(ParameterName_ClassName)){
-            if(newValue.isString()){
-                setTypeName(newValue.toString());
-                return this;
+        public int[] toIntegerArray(){
+            int[] output = new int[super.size];
+            if(values instanceof int[] arr){
+                System.arraycopy(arr, 0, output, 0, output.length);
+            }
+            else if(values instanceof long[] arr){
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = (int) arr[x];
+                }
             }
             else{
-                throw new RuntimeException("The new class name must be a string.");
+                double[] arr = (double[]) values;
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = (int) arr[x];
+                }
             }
-        }
 
-        if(newValue != null && !newValue.isNull()) {
-            getSubObjects().put(parameterName, newValue);
-        }
-        else {
-            getSubObjects().put(parameterName, null);
+            if(views != null){
+                for(int x = 0; x < output.length; x += 1){
+                    if(views[x] != null){
+                        output[x] = views[x].intValue();
+                    }
+                }
+            }
+            return output;
         }
-        return this;
-    }
 
-    private JObject setValue_prv(Object parameterName, JObject newValue)
-            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
-    {
+        public long[] toLongArray(){
+            long[] output = new long[super.size];
+            if(values instanceof long[] arr){
+                System.arraycopy(arr, 0, output, 0, output.length);
+            }
+            else if(values instanceof int[] arr){
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = arr[x];
+                }
+            }
+            else{
+                double[] arr = (double[]) values;
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = (long) arr[x];
+                }
+            }
 
-        String key = null;
-        if(parameterName instanceof CharSequence var){
-            key = var.toString();
+            if(views != null){
+                for(int x = 0; x < output.length; x += 1){
+                    if(views[x] != null){
+                        output[x] = views[x].longValue();
+                    }
+                }
+            }
+            return output;
         }
-        else{
-            try{
-                key = parameterName.toString();
+
+        public float[] toFloatArray(){
+            float[] output = new float[super.size];
+            for(int x = 0; x < output.length; x += 1){
+                if(values instanceof int[] arr){
+                    output[x] = (float) arr[x];
+                }
+                else if(values instanceof long[] arr){
+                    output[x] = (float) arr[x];
+                }
+                else{
+                    output[x] = (float) ((double[]) values)[x];
+                }
             }
-            catch (Exception e){
-                throw new RuntimeException("Couldn't extract string from parameterName.");
+
+            if(views != null){
+                for(int x = 0; x < output.length; x += 1){
+                    if(views[x] != null){
+                        output[x] = views[x].floatValue();
+                    }
+                }
             }
+            return output;
         }
 
-        if(getType().isSet()){
-            throw new RuntimeException("Sets cannot be modified.");
-        }
+        public double[] toDoubleArray(){
+            double[] output = new double[super.size];
+            if(values instanceof double[] arr){
+                System.arraycopy(arr, 0, output, 0, output.length);
+            }
+            else if(values instanceof int[] arr){
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = arr[x];
+                }
+            }
+            else{
+                long[] arr = (long[]) values;
+                for(int x = 0; x < output.length; x += 1){
+                    output[x] = (double) arr[x];
+                }
+            }
 
-        if(isPrimitive()){
-            throw new WrongExecutionTypeException(getTypeName(), "Any non primitive excluding sets");
+            if(views != null){
+                for(int x = 0; x < output.length; x += 1){
+                    if(views[x] != null){
+                        output[x] = views[x].doubleValue();
+                    }
+                }
+            }
+            return output;
         }
 
-        return setValue_bypassSetLock(key, newValue);
-    }
+        public boolean[] toBooleanArray(){
+            boolean[] output = Arrays.copyOf((boolean[]) values, super.size);
+            if(views != null){
+                for(int x = 0; x < output.length; x += 1){
+                    if(views[x] != null){
+                        output[x] = views[x].booleanValue();
+                    }
+                }
+            }
+            return output;
+        }
 
-    /**
-     * Places the newValue within this JObject as a sub object under the given parameter name.
-     * <br>
-     * Chainable method.
-     * @return Returns this JObject after it has been modified.
-     */
-    public JObject setValue(Object parameterName, Object newValue)
-            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException {
-        return setValue_prv(parameterName, convertToJObject(newValue));
-    }
+        /**
+         * Compares the values of two packed lists of the same primitive type without creating any JObjects.
+         * @return Returns null if either list has handed out elements, or if their types differ.
+         */
+        public Boolean valuesEqual(JObjectPackedArrayList other){
+            if(values == null || other.values == null || views != null || other.views != null ||
+                    values.getClass() != other.values.getClass() || super.size != other.size()){
+                return null;
+            }
 
-    /**
-     * Places the newValue within this JObject as a sub object under at the given index.
-     * <br>
-     * Chainable method.
-     * @return Returns this JObject after it has been modified.
-     */
-    public JObject setValue(int index, Object newValue)
-            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
-    {
-        if(getType().isList()) {
-            return setValue_prv(Integer.toString(index) , convertToJObject(newValue));
-        }
-        else{
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+            int count = super.size;
+            if(values instanceof int[] arr){
+                return Arrays.equals(arr, 0, count, (int[]) other.values, 0, count);
+            }
+            if(values instanceof long[] arr){
+                return Arrays.equals(arr, 0, count, (long[]) other.values, 0, count);
+            }
+            if(values instanceof double[] arr){
+                return Arrays.equals(arr, 0, count, (double[]) other.values, 0, count);
+            }
+            return Arrays.equals((boolean[]) values, 0, count, (boolean[]) other.values, 0, count);
         }
-    }
 
-    /**
-     * Places the newValue within this JObject as a sub object under at the given index.
-     * <br>
-     * Chainable method.
-     * @return Returns this JObject after it has been modified.
-     */
-    public JObject setValue(long index, Object newValue)
-            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
-    {
-        if(getType().isList()) {
-            return setValue_prv(Long.toString(index) , convertToJObject(newValue));
-        }
-        else{
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
-        }
-    }
+        // endregion
 
-    // endregion
+        // region iteration
 
-    // region class name
+        @Override
+        public Iterator<JObject> iterator(boolean cloneElements){
+            if(values == null){
+                return super.iterator(cloneElements);
+            }
 
-    public JObject setTypeName(String newTypeName){
-        typeName = newTypeName;
+            return new Iterator<JObject>() {
 
-        return this;
-    }
+                private int currentIndex = 0;
 
-    @Override
-    public String getTypeName() {
-        return typeName;
-    }
+                @Override
+                public boolean hasNext() {
+                    return currentIndex < size();
+                }
 
-    @Override
-    public ObjectTypes getType() {
-        return ObjectTypes.fromString(typeName);
-    }
-    
-    // endregion
+                @Override
+                public JObject next() {
+                    if(currentIndex >= size()){
+                        throw new NoSuchElementException();
+                    }
+                    int index = currentIndex++;
+                    if(!cloneElements){
+                        return get(index);
+                    }
+                    // a peeked element that isn't kept by the list is already a copy
+                    JObject output = peek(index);
+                    boolean kept = values == null || (views != null && views[index] == output);
+                    return kept && output != null ? output.clone() : output;
+                }
+            };
+        }
 
-    // region adding objects to collection
+        @Override
+        public Spliterator<JObject> spliterator(boolean cloneElements){
+            if(values == null){
+                return super.spliterator(cloneElements);
+            }
 
-    // region adding an object at the beginning of the collection
+            // late-binding, like the spliterator of unpacked lists : the size is read when it's first used
+            return new Spliterator<>() {
+                private Spliterator<JObject> bound = null;
 
-    /**
-     * Adds the newObject to the beginning of a collection.
-     */
-    public JObject prepend(Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
-        }
+                private Spliterator<JObject> bind(){
+                    if(bound == null){
+                        bound = Spliterators.spliterator(iterator(cloneElements), size(), Spliterator.ORDERED);
+                    }
+                    return bound;
+                }
 
-        JObject tempObject;
+                @Override
+                public boolean tryAdvance(Consumer<? super JObject> action) {
+                    return bind().tryAdvance(action);
+                }
 
-        if(newObject == null) {
-            tempObject = new JObject();
-        }
-        else {
-            tempObject = new JObject(newObject);
-        }
+                @Override
+                public void forEachRemaining(Consumer<? super JObject> action) {
+                    bind().forEachRemaining(action);
+                }
 
-        int newSize = size() + 1;
-        JObject[] values = new JObject[newSize];
-        values[0] = tempObject;
-        for(int x = 1; x < newSize; x += 1){
-            values[x] = getValue(x-1);
-        }
+                @Override
+                public Spliterator<JObject> trySplit() {
+                    return bind().trySplit();
+                }
+
+                @Override
+                public long estimateSize() {
+                    return bind().estimateSize();
+                }
 
-        for(int x = 0; x < newSize; x += 1){
-            setValue(x, values[x]);
+                @Override
+                public int characteristics() {
+                    return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+                }
+            };
         }
 
-        return this;
+        // endregion
     }
 
+    public static final String ParameterName_ClassName = "ClassName";
+    public static final String ParameterName_value = "Value";
+
+    protected String typeName;
+    protected ObjectTypes type;
+    protected Object value;
+
+    // operator tree of an expression JObject, compiled from the RawExpressionString sub object
+    private CompiledExpression compiledExpression;
+
+    //region constructors
+
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Default constructor : creates an empty JObject with a class name of Null
      */
-    public JObject prepend(char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject() {
+        clear();
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a boolean value
      */
-    public JObject prepend(boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(boolean inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a boolean value
      */
-    public JObject prepend(byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(char inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a byte value
      */
-    public JObject prepend(short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(byte inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a short value
      */
-    public JObject prepend(int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(short inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store an integer value
      */
-    public JObject prepend(long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(int inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a long value
      */
-    public JObject prepend(float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(long inputValue){
+        setTo(inputValue);
     }
 
     /**
-     * Adds the newObject to the beginning of a collection.
+     * Constructor overload : creates JObject to store a float value
      */
-    public JObject prepend(double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return prepend(new JObject(newObject));
+    public JObject(float inputValue){
+        setTo(inputValue);
     }
 
-    // endregion
-
-    // region adding an object at end the of collection
+    /**
+     * Constructor overload : creates JObject to store a double value
+     */
+    public JObject(double inputValue){
+        setTo(inputValue);
+    }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Constructor overload : creates JObject from a variety of different types
      */
-    public JObject append(Object inputObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+    public JObject(Object inputValue) throws UnrecognizedSymbolsException, IllegalArgumentException{
 
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        if(inputValue == null) {
+            clear();
+            return;
         }
 
-        JObject tempObject;
-
-        if(inputObject == null) {
-            tempObject = new JObject();
+        try {
+            setTo(inputValue);
         }
-        else {
-            tempObject = new JObject(inputObject);
+        catch (IllegalArgumentException e){
+            throw new IllegalArgumentException("Received an un-usable type during Instantiation : " + inputValue +
+                    ", input type : " + inputValue.getClass().getName());
         }
+    }
 
-        int newIndex = size();
-        getSubObjects().put(Integer.toString(newIndex), tempObject);
+    // endregion
 
-        return this;
-    }
+    // region clear functions
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Resets the JObject to an empty object with the built-in type of Null.
      */
-    public JObject append(boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public void clear() {
+        setTypeName(ObjectTypes.Null);
+        value = null;
+        compiledExpression = null;
     }
 
-    /**
-     * Adds the newObject to the end of a collection.
-     */
-    public JObject append(char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
-    }
+    // endregion
+
+    // region set to empty default type functions
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into a string composed of the given value.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public JObject setToStringJObject(CharSequence value){
+
+        setTypeName(ObjectTypes.String);
+        this.value = new JString(value);
+
+        return this;
     }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into a string.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public JObject setToStringJObject(){
+        return setToStringJObject(null);
     }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into an empty list.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public JObject setToEmptyList(){
+        setTypeName(ObjectTypes.List);
+        resetSubObjects();
+        return this;
     }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into an empty set.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public JObject setToEmptySet(){
+        setTypeName(ObjectTypes.Set);
+        resetSubObjects();
+        return this;
     }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into an empty dictionary.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
+    public JObject setToEmptyDictionary(){
+        setTypeName(ObjectTypes.Dictionary);
+        resetSubObjects();
+        return this;
     }
 
     /**
-     * Adds the newObject to the end of a collection.
+     * Converts this JObject into an empty dictionary, containing the given keys. There will be no
+     * values stored at these keys.
+     * @return Returns the modified JObject for method chaining.
      */
-    public JObject append(double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return append(new JObject(newObject));
-    }
-
-    // endregion
-
-    // region add an object in the collection at a specified point
-
-    public JObject insert(Object location, Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
-        }
+    public JObject setToEmptyDictionary(CharSequence... keys){
+        setToEmptyDictionary();
 
-        // processes location input to get index
-        int locationIntVal;
-        if (location == null)
-        {
-            throw new NullPointerException("The input given for location is null.");
+        if(keys == null || keys.length < 1){
+            return this;
         }
 
-        if(location instanceof JObject locationObject){
-            if (locationObject.isWholeNumber())
-            {
-                locationIntVal = locationObject.intValue();
-            }
-            else
-            {
-                throw new RuntimeException(
-                        "Can only accept integers for the location, this is a "+locationObject.getTypeName()+".");
-            }
-        }
-        else if(location instanceof String locationObject){
-            JObject newLoc = new JObject(locationObject);
-            return this.insert(newLoc, newObject);
-        }
-        else{
-            throw new RuntimeException("The value given for the insert location must be an convertible to an integer");
+        for (CharSequence key : keys) {
+            getSubObjects().put(key.toString(), null);
         }
+        return this;
+    }
 
-        // processes newObject
+    // endregion
 
-        JObject objectToAssign;
-        if (newObject == null)
-        {
-            objectToAssign = null;
-        }
-        else if(newObject instanceof JObject var) {
-            objectToAssign = var;
-        }
-        else {
-            objectToAssign = new JObject(newObject);
-        }
+    // region static create empty default type functions
 
-        // actual appending
-        int newSize = size() + 1;
+    /**
+     * Creates a new string JObject composed of the given value.
+     * @return Returns the created JObject.
+     */
+    public static JObject createStringJObject(CharSequence value){
+        JObject output = new JObject();
+        output.setToStringJObject(value);
 
-        for(int x = locationIntVal; x < newSize; x += 1)
-        {
-            String paramName = Integer.toString(x);
-            JObject pulledObject = getValue(x);
-            getSubObjects().put(paramName, objectToAssign);
+        return output;
+    }
 
-            objectToAssign = pulledObject;
-        }
+    /**
+     * Creates a new empty string JObject.
+     * @return Returns the created JObject.
+     */
+    public static JObject createStringJObject(){
+        JObject output = new JObject();
+        output.setToStringJObject(null);
 
-        return this;
+        return output;
     }
 
-    public JObject insert(int location, Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), convertToJObject(newObject));
+    /**
+     * Creates a new empty list JObject.
+     * @return Returns the created JObject.
+     */
+    public static JObject createEmptyList(){
+        JObject output = new JObject();
+        output.setToEmptyList();
+        return output;
     }
 
-    public JObject insert(int location, double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Creates a new empty set JObject.
+     * @return Returns the created JObject.
+     */
+    public static JObject createEmptySet(){
+        JObject output = new JObject();
+        output.setToEmptySet();
+        return output;
     }
 
-    public JObject insert(int location, float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Creates a new empty dictionary JObject.
+     * @return Returns the created JObject.
+     */
+    public static JObject createEmptyDictionary(){
+        JObject output = new JObject();
+        output.setToEmptyDictionary();
+        return output;
     }
 
-    public JObject insert(int location, long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Creates a new empty dictionary JObject whose sub objects can be read and changed by several threads at once.
+     * <br>
+     * Reads don't lock. {@link #putIfAbsent(String, JObject)}, {@link #computeIfAbsent(String, Function)},
+     * {@link #computeIfPresent(String, BiFunction)}, {@link #compute(String, BiFunction)} and
+     * {@link #merge(String, JObject, BiFunction)} are atomic, and iterating over the sub objects never throws a
+     * ConcurrentModificationException. Only the dictionary's own entries are thread safe: changing its type, clearing
+     * it or changing the sub objects themselves still has to be synchronized by the caller. Clones are concurrent
+     * dictionaries as well.
+     * @return Returns the created JObject.
+     */
+    public static JObject createConcurrentDictionary(){
+        JObject output = new JObject();
+        output.setTypeName(ObjectTypes.Dictionary);
+        output.value = new JObjectConcurrentHashMap();
+        return output;
     }
 
-    public JObject insert(int location, int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Creates a new empty list JObject whose elements can be read and changed by several threads at once.
+     * <br>
+     * Each single operation on the elements is atomic: {@link #append(Object)}, {@link #prepend(Object)},
+     * {@link #setValue(int, Object)}, {@link #remove(int)}, {@link #popFromBeginning()}, {@link #popFromEnd()} and
+     * {@link #drainTo(Collection)}. {@link #getValue(int)} and {@link #size()} usually don't lock at all, and
+     * iteration walks a consistent copy of the list. Sequences of operations, type changes and changes to the
+     * elements themselves still have to be synchronized by the caller. Clones are concurrent lists as well.
+     * @return Returns the created JObject.
+     */
+    public static JObject createConcurrentList(){
+        JObject output = new JObject();
+        output.setTypeName(ObjectTypes.List);
+        output.value = new JObjectConcurrentArrayList();
+        return output;
     }
 
-    public JObject insert(int location, short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Returns true if this JObject is a packed list, which keeps its elements in a single int[], long[], double[] or
+     * boolean[] rather than one JObject each. Lists created from one of those arrays start out packed.
+     * <br>
+     * {@link #getValue(int)} still hands out a JObject for an element, created when it's first asked for, and changes
+     * made through it are seen by the list. {@link #toIntegerArray()}, {@link #toLongArray()},
+     * {@link #toDoubleArray()} and the other array methods copy straight out of the packed array, and clones share or
+     * copy it whole. A list stays packed as long as only values of its own primitive type are written to it, any
+     * other value or a sort unpacks it into one JObject per element.
+     */
+    public boolean isPacked(){
+        return value instanceof JObjectPackedArrayList packed && packed.isPacked();
     }
 
-    public JObject insert(int location, byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Returns true if this JObject and the given one are dictionaries that share the same set of keys, rather than
+     * each storing their own. Dictionaries given the same keys in the same order share them, unless one of them had a
+     * key removed, or the limits on shared key sets were reached when the keys were added.
+     */
+    public boolean sharesKeysWith(JObject other){
+        return other != null && value instanceof JObjectHashMap map && other.value instanceof JObjectHashMap otherMap &&
+                map.getMap() instanceof ShapedSubObjectMap shaped &&
+                otherMap.getMap() instanceof ShapedSubObjectMap otherShaped &&
+                shaped.entries == null && otherShaped.entries == null && shaped.shape == otherShaped.shape;
     }
 
-    public JObject insert(int location, char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
+    /**
+     * Creates a new empty dictionary JObject containing the given keys. There will be no values stored at these keys.
+     * @return Returns the created JObject.
+     */
+    public static JObject createEmptyDictionary(CharSequence... keys){
+        JObject output = new JObject();
+        output.setToEmptyDictionary(keys);
+        return output;
     }
 
-    public JObject insert(int location, boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
-        return insert(new JObject(location), new JObject(newObject));
-    }
+    /**
+     * Creates an empty dictionary JObject containing the given keys.
+     * The created object will have the designated class name.
+     * @param className The class name to be assigned to the output object.
+     * @param keys The parameter names in the output object.
+     * @return Returns the created dictionary JObject.
+     */
+    public static JObject createEmptyClassJObject(String className, String... keys)
+            throws WrongExecutionTypeException, UnrecognizedSymbolsException, IllegalArgumentException {
+        JObject output = createEmptyDictionary(keys);
 
-    // endregion
+        output.setTypeName(className);
 
-    // endregion
+        return output;
+    }
 
-    // region removing objects from collection
+    // endregion
 
-    public JObject remove(Object key) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+    // region static to JObject conversion
 
-        if(getType().isSet()) {
-            throw new RuntimeException("Cannot remove elements from a Set.");
-        }
+    /**
+     * Creates a new JObject out of the given value if it is not already a JObject; otherwise: this method returns
+     * the given value unchanged.
+     */
+    public static JObject convertToJObject(Object value){
+        if(value instanceof JObject nv){
+            return nv;
+        }
+        else{
+            return new JObject(value);
+        }
+    }
 
-        if (key == null) {
-            throw new NullPointerException("Null received for Key.");
+    // endregion
+
+    // region map methods
+
+    @Override
+    public boolean isEmpty() {
+        if(value == null){
+            return true;
         }
 
-        JObject keyObj = convertToJObject(key);
+        if(isPrimitive()){
+            return true;
+        }
 
-        if(keyObj.isNull()){
-            throw new RuntimeException("Couldn't determine the type for the index.");
+        if(value instanceof JObjectContainer container){
+            return container.size() == 0;
         }
 
-        if(getType().isList())
-        {
-            int indexNumber = -1;
+        return true;
+    }
 
-            if (keyObj.isNumber()) {
-                indexNumber = keyObj.intValue();
-            }
+    @Override
+    public boolean containsKey(Object key) {
+        if(isPrimitive()){
+            return false;
+        }
 
-            String indexString = Integer.toString(indexNumber);
+        if(key == null){
+            return false;
+        }
 
-            if(!getSubObjects().containsKey(indexString)) {
-                return null;
+        if(key.getClass().isArray()){
+            if(key instanceof Object[] keys){
+                for(Object keyElement : keys){
+                    if(containsKey(keyElement)){
+                        return true;
+                    }
+                }
+            }
+        }
+        else{
+            Map<String, JObject> map = readSubObjects();
+            if(map != null){
+                return map.containsKey(key);
             }
+        }
 
-            JObject output = getSubObjects().getOrDefault(indexString, null);
+        return false;
+    }
 
-            int counter = indexNumber;
-            for(int x = indexNumber+1; x < getSubObjects().size(); x += 1)
-            {
-                int oldKey = x;
-                int newKey = counter;
+    @Override
+    public JObject get(Object key) {
+        if(isPrimitive()){
+            return null;
+        }
 
-                JObject parameterObject = getValue(oldKey);
+        return getValue(key);
+    }
 
-                setValue(newKey, parameterObject);
+    @Override
+    public JObject put(String key, JObject value) {
+        if(isPrimitive()){
+            return null;
+        }
 
-                counter += 1;
-            }
+        JObject previousValue = getValue(key);
+        setValue(key, value);
+        return previousValue;
+    }
 
-            getSubObjects().remove(Long.toString(counter));
+    /**
+     * Stores the value under the key unless a sub object is already stored there. Atomic for concurrent
+     * dictionaries, see {@link #createConcurrentDictionary()}.
+     * @return Returns the sub object that was already stored, or null if the value was stored.
+     */
+    @Override
+    public JObject putIfAbsent(String key, JObject value) {
+        return getModifiableSubObjects().putIfAbsent(key, value);
+    }
 
-            return output;
-        }
-        else {
-            return getSubObjects().remove(keyObj.toString(false));
-        }
+    /**
+     * Stores the result of the mapping function under the key unless a sub object is already stored there. Atomic
+     * for concurrent dictionaries, see {@link #createConcurrentDictionary()}.
+     * @return Returns the sub object now stored under the key.
+     */
+    @Override
+    public JObject computeIfAbsent(String key, Function<? super String, ? extends JObject> mappingFunction) {
+        return getModifiableSubObjects().computeIfAbsent(key, mappingFunction);
     }
 
-    public JObject remove(int index) throws WrongExecutionTypeException {
+    /**
+     * Replaces the sub object stored under the key with the result of the remapping function, if there is one.
+     * Atomic for concurrent dictionaries, see {@link #createConcurrentDictionary()}.
+     * @return Returns the sub object now stored under the key.
+     */
+    @Override
+    public JObject computeIfPresent(String key,
+                                    BiFunction<? super String, ? super JObject, ? extends JObject> remappingFunction) {
+        return getModifiableSubObjects().computeIfPresent(key, remappingFunction);
+    }
 
-        return remove(new JObject(index));
+    /**
+     * Replaces the sub object stored under the key with the result of the remapping function. Atomic for concurrent
+     * dictionaries, see {@link #createConcurrentDictionary()}.
+     * @return Returns the sub object now stored under the key.
+     */
+    @Override
+    public JObject compute(String key,
+                           BiFunction<? super String, ? super JObject, ? extends JObject> remappingFunction) {
+        return getModifiableSubObjects().compute(key, remappingFunction);
     }
 
     /**
-     * Removes an object from the beginning of a list and returns the removed item.
-     * @return Returns the removed object.
-     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     * Stores the value under the key, or if a sub object is already stored there, the result of combining the two
+     * with the remapping function. Atomic for concurrent dictionaries, see {@link #createConcurrentDictionary()}.
+     * @return Returns the sub object now stored under the key.
      */
-    public JObject popFromBeginning() throws WrongExecutionTypeException {
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+    @Override
+    public JObject merge(String key, JObject value,
+                         BiFunction<? super JObject, ? super JObject, ? extends JObject> remappingFunction) {
+        return getModifiableSubObjects().merge(key, value, remappingFunction);
+    }
+
+    private Map<String, JObject> getModifiableSubObjects() {
+        if(getType().isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+        if(isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(), "Any non primitive excluding sets");
         }
+        return getSubObjects();
+    }
 
-        if(size() < 1){
-            return null;
+    @Override
+    public void putAll(Map<? extends String, ? extends JObject> m) {
+        Map<String, JObject> map = getSubObjects();
+        if(map != null){
+
+            map.putAll(m);
         }
+    }
 
-        JObject[] values = toJObjectArray();
-        JObject output = values[0];
+    @Override
+    public Set<String> keySet() {
+        if(isPrimitive()){
+            return Collections.emptySet();
+        }
 
-        resetSubObjects();
+        Map<String, JObject> map = getSubObjects();
+        if(map != null){
+            return map.keySet();
+        }
+        return Collections.emptySet();
+    }
 
-        for(int x = 1; x < values.length; x += 1){
-            setValue(x-1, values[x]);
+    @Override
+    public Set<Entry<String, JObject>> entrySet() {
+        if(isPrimitive()){
+            return Collections.emptySet();
         }
 
-        return output;
+        Map<String, JObject> map = getSubObjects();
+        if(map != null){
+
+            return map.entrySet();
+        }
+        return Collections.emptySet();
     }
 
-    /**
-     * Removes an object from the end of a list and returns the removed item.
-     * @return Returns the removed object.
-     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
-     */
-    public JObject popFromEnd() throws WrongExecutionTypeException {
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+    @Override
+    public ArrayList<JObject> values() {
+        if(isPrimitive()){
+            return new ArrayList<>();
         }
+        else{
+            Map<String, JObject> map = getSubObjects();
+            if(map != null){
 
-        if(size() < 1){
-            return null;
+                return new ArrayList<>(map.values());
+            }
+            throw new RuntimeException("Values are missing");
         }
+    }
 
-        JObject[] values = toJObjectArray();
-        JObject output = values[values.length-1];
+    // endregion
 
-        resetSubObjects();
+    // region clone
 
-        for(int x = 0; x < values.length-1; x += 1){
-            setValue(x, values[x]);
+    private Object getClonedValue(){
+        if(this.isBoolean()){
+            return ((Boolean) value);
+        }
+        else if(this.isNumber()){
+            return jNumberValue().clone().numberValue();
+        }
+        else if(this.isString() || this.isSymbol()){
+            return ((JString) value).clone();
+        }
+        else {
+            return getSubObjectsContainer().clone();
         }
-
-        return output;
     }
 
     /**
-     * Removes an object from a list and returns the removed item.
-     * @param fromBeginning Boolean flag controlling weather the object is removed from
-     *                      the beginning or the end of the list.
-     * @return Returns the removed object.
-     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     * Creates a deep copy clone of the JObject. All sub objects (including sub JObjects) are cloned recursively.
+     * <br>
+     * The resulting JObject will be an exact duplicate to the original, but will contain no references back
+     * to the original.
+     * <br>
+     * The copy is made lazily. Sub objects that have never been handed out (by getValue(), iteration and so on) are
+     * shared between the original and the clone, and each shared level is copied the first time either of them
+     * changes it or hands out its sub objects. Cloning a parsed or previously cloned JObject therefore costs almost
+     * nothing until the clone is used.
+     * <br>
+     * Chainable Function.
+     * @return JObject a clone of the JObject that called this function.
      */
-    public JObject pop(boolean fromBeginning) throws WrongExecutionTypeException {
-        if(fromBeginning){
-            return popFromBeginning();
+    public JObject clone(){
+
+        JObject output = new JObject();
+
+        output.typeName = this.typeName;
+        output.type = this.type;
+        output.compiledExpression = this.compiledExpression;
+
+        if(this.isPrimitive() || this.isSymbol()){
+            output.value = this.getClonedValue();
         }
         else{
-            return popFromEnd();
+            JObjectContainer container = this.readSubObjectsContainer();
+            output.value = container.isExposed() ? container.clone() : container.share();
         }
+
+        return output;
     }
 
     /**
-     * Removes an object from the beginning of a list and returns the removed item.
-     * @return Returns the removed object.
-     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     * Clones each of this JObject's sub-objects and returns the clones inside an array.
+     * If the sub-object value is null, this method will return an empty array.
+     * @return JObject array containing clones of all of this JObject's sub-objects, or an empty array.
      */
-    public JObject pop() throws WrongExecutionTypeException {
-        return popFromBeginning();
+    public JObject[] getClonedChildren(){
+        JObjectContainer container = readSubObjectsContainer();
+        if(container != null) {
+            if(container instanceof JObjectArrayList list){
+                return list.clone().toArray();
+            }
+            return container.clone().getMap().values().toArray(new JObject[0]);
+        }
+        else{
+            return new JObject[0];
+        }
     }
 
     // endregion
 
-    // region removing duplicate objects from collection
+    // region immutable copies
 
-    private void removeDuplicates_prv(){
-        ArrayList<JObject> newListElements = new ArrayList<>();
+    /**
+     * Creates an immutable deep copy of this JObject. See {@link ImmutableJObject}.
+     * @return Returns the created ImmutableJObject.
+     */
+    public ImmutableJObject toImmutableJObject(){
+        ImmutableJObject output = toImmutable(this);
+        return output == null ? ImmutableJObject.nullObject : output;
+    }
 
-        for(JObject elementInOldList : this){
-            boolean duplicateFound = false;
-            for(int x = 0; x < newListElements.size() && !duplicateFound; x += 1){
-                JObject elementInNewList = newListElements.get(x);
-                if(elementInNewList.equals(elementInOldList)){
-                    duplicateFound = true;
-                }
-            }
+    private static ImmutableJObject toImmutable(JObject object){
+        if(object == null || object.getType() == null || object.isNull()){
+            return null;
+        }
 
-            if(!duplicateFound){
-                newListElements.add(elementInOldList);
-            }
+        ObjectTypes type = object.getType();
+        if(type.isPrimitive()){
+            // booleans and numbers are already stored as immutable boxed values
+            Object primitive = type.isString() || type.isSymbol() ? object.value.toString() : object.value;
+            return new ImmutableJObject(object.typeName, type, primitive);
         }
 
-        resetSubObjects();
+        JObjectContainer container = object.readSubObjectsContainer();
+        if(container instanceof JObjectArrayList elements){
+            Object[] children = new Object[elements.size()];
+            for(int x = 0; x < children.length; x += 1){
+                children[x] = toImmutable(elements.peek(x));
+            }
+            return new ImmutableJObject(object.typeName, type, PersistentVector.of(children, children.length));
+        }
 
-        for(int x = 0 ;x < newListElements.size(); x += 1){
-            getSubObjects().put(Integer.toString(x), newListElements.get(x));
+        PersistentHashMap<String, ImmutableJObject> children = PersistentHashMap.empty();
+        for(Map.Entry<String, JObject> entry : container.getMap().entrySet()){
+            children = children.put(entry.getKey(), toImmutable(entry.getValue()));
         }
+        return new ImmutableJObject(object.typeName, type, children);
     }
 
     /**
-     * Removes all duplicate items from a list.
-     * <br>
-     * This method is chainable.
-     * @return Returns this JObject after it has been modified.
-     * @throws WrongExecutionTypeException This method will throw this error if executed on anything
-     *                                     other than a list JObject.
+     * Creates a regular JObject holding a deep copy of the given ImmutableJObject.
      */
-    public JObject removeDuplicates() throws WrongExecutionTypeException {
+    static JObject fromImmutableJObject(ImmutableJObject object){
+        JObject output = fromImmutable(object);
+        return output == null ? new JObject() : output;
+    }
 
-        if (!this.getType().isList()){
-            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+    private static JObject fromImmutable(ImmutableJObject object){
+        if(object == null || object.isNull()){
+            return null;
         }
 
-        removeDuplicates_prv();
-
-        return this;
+        JObject output = new JObject();
+        ObjectTypes type = object.getType();
+        Object contents = object.getContents();
+        if(type.isPrimitive()){
+            switch (type) {
+                case Boolean -> output.setTo((boolean) (Boolean) contents);
+                case Byte -> output.setTo(((Number) contents).byteValue());
+                case Short -> output.setTo(((Number) contents).shortValue());
+                case Integer -> output.setTo(((Number) contents).intValue());
+                case Long -> output.setTo(((Number) contents).longValue());
+                case Float -> output.setTo(((Number) contents).floatValue());
+                case String, Symbol, Operator, Bracket -> {
+                    output.setTypeName(type);
+                    output.value = new JString(((String) contents).toCharArray());
+                }
+                default -> output.setTo(((Number) contents).doubleValue());
+            }
+            return output;
+        }
+
+        output.setTypeName(object.getTypeName());
+        output.resetSubObjects();
+        JObjectContainer container = output.readSubObjectsContainer();
+        if(container instanceof JObjectArrayList elements){
+            for(ImmutableJObject child : object){
+                elements.add(fromImmutable(child));
+            }
+        }
+        else{
+            Map<String, JObject> subObjects = container.getMap();
+            for(String key : object.keySet()){
+                subObjects.put(key, fromImmutable(object.getValue(key)));
+            }
+        }
+        return output;
     }
 
     // endregion
 
-    // region list-Set conversions
+    // region base value
 
-    /**
-     * Converts this object into a list if it is a set.
-     * @return Returns the calling JObject after ths conversion is complete.
-     */
-    public JObject convertSetToList() throws WrongExecutionTypeException {
+    @Override
+    public Object getBaseValue() {
+        return value;
+    }
 
-        if(getType().isSet()) {
-            this.typeName = ObjectTypes.List.toString();
+    // endregion
+    
+    // region subObjects functions
+    
+    private Map<String, JObject> getSubObjects() {
+        JObjectContainer temp = getSubObjectsContainer();
+        if(temp != null){
+            return temp.getMap();
         }
-        return this;
+        return null;
+    }
+
+    private JObjectContainer getSubObjectsContainer() {
+        if(value == null){
+            if(!isPrimitive()){
+                resetSubObjects();
+            }
+        }
+
+        if(value instanceof JObjectContainer var){
+            // a shared container is copied before anything in it can be changed or handed out
+            if(var.isShared()){
+                var = var.unshare();
+                value = var;
+            }
+
+            boolean isCollection = isList() || isSet();
+            if(isCollection && var instanceof JObjectHashMap map){
+                value = convertToArrayList(map);
+            }
+            else if(!isCollection && var instanceof JObjectArrayList list){
+                value = new JObjectHashMap(list.getMap());
+            }
+
+            JObjectContainer output = (JObjectContainer) value;
+            output.expose();
+            return output;
+        }
+        return null;
     }
 
     /**
-     * Converts this object into a set if it is a list.
-     * @return Returns the calling JObject after ths conversion is complete.
+     * Returns the sub object container without copying it if it's shared, and without marking its sub objects as
+     * handed out. Nothing read through it may be changed or handed out, only read or cloned, unless the container was
+     * just created by this JObject.
      */
-    public JObject convertListToSet() throws WrongExecutionTypeException {
+    private JObjectContainer readSubObjectsContainer() {
+        if(value instanceof JObjectContainer var && (isList() || isSet()) == (var instanceof JObjectArrayList)){
+            return var;
+        }
+        return getSubObjectsContainer();
+    }
 
-        if(getType().isList()) {
-            this.typeName = ObjectTypes.Set.toString();
+    private Map<String, JObject> readSubObjects() {
+        JObjectContainer temp = readSubObjectsContainer();
+        if(temp != null){
+            return temp.getMap();
         }
-        return this;
+        return null;
+    }
+
+    private JObjectArrayList readSubObjectsArray() {
+        if(readSubObjectsContainer() instanceof JObjectArrayList list){
+            return list;
+        }
+        return null;
     }
 
     /**
-     * Converts all sets contained in this JObject into lists.
-     * @return Returns the calling JObject after ths conversion is complete.
+     * Returns the contiguous element storage of a list or set, or null if this JObject isn't a list or set.
      */
-    private JObject convertSetToList_recursive(){
-        JObjectExecutionPredicate<JObject> conversion = new JObjectExecutionPredicate<JObject>() {
-            @Override
-            public JObject execute(JObject input) {
-                if(input.getType().isSet()){
-                    return input.convertSetToList();
-                }
-                return input;
-            }
-        };
-        return this.executeRecursively(conversion);
+    private JObjectArrayList getSubObjectsArray() {
+        if(getSubObjectsContainer() instanceof JObjectArrayList list){
+            return list;
+        }
+        return null;
     }
 
     /**
-     * Converts all lists contained in this JObject into sets.
-     * @return Returns the calling JObject after ths conversion is complete.
+     * Moves index keyed sub objects out of a hash map and into contiguous storage, ordered by index.
      */
-    private JObject convertListToSet_recursive(){
-        JObjectExecutionPredicate<JObject> conversion = new JObjectExecutionPredicate<JObject>() {
-            @Override
-            public JObject execute(JObject input) {
-                if(input.getType().isList()){
-                    return input.convertListToSet();
-                }
-                return input;
+    private static JObjectArrayList convertToArrayList(JObjectHashMap map){
+        JObjectArrayList output = new JObjectArrayList(map.size());
+        for(Map.Entry<String, JObject> entry : map.getHashMap().entrySet()){
+            int index = JObjectArrayList.parseIndex(entry.getKey());
+            if(index < 0){
+                throw new RuntimeException("List keys must be non-negative integers, received \"" + entry.getKey() + "\".");
             }
-        };
-        return this.executeRecursively(conversion);
+            output.set(index, entry.getValue());
+        }
+        return output;
     }
-
+    
+    private void resetSubObjects() {
+        if(isList() || isSet()){
+            value = new JObjectArrayList();
+        }
+        else {
+            value = new JObjectHashMap();
+        }
+    }
+    
     // endregion
 
-    // region combining object collections
+    // region setTo functions
+
+    // region primitive setTo()
 
     /**
-     * Combines JObject Dictionaries and JObject Lists with other JObjects of the same type (Dictionaries can only
-     * be combined with Dictionaries and Lists can only be combined with Lists). If the 2 dictionaries have duplicate
-     * keys then the old dictionary is updated with the values from the new dictionary.
+     * Converts the calling JObject into a boolean JObject representing the given value.
      * <br>
-     * This method is chainable.
-     * @return Returns the original JObject updated with the new values.
-     * @param newObject The JObject containing the new values to be added.
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
      */
-    public JObject combine(Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+    public JObject setTo(boolean inputValue){
 
-        JObject newJObject = null;
-        if(newObject instanceof JObject var){
-            newJObject = var;
-        }
-        else{
-            newJObject = new JObject(newObject);
-        }
+        clear();
+        setTypeName(ObjectTypes.Boolean);
+        value = inputValue;
 
-        if(getType().isDictionary()){
-            if(!newJObject.getType().isDictionary()){
-                throw new RuntimeException("The new value must be a dictionary.");
-            }
+        return this;
+    }
 
-            String[] newObjKeys = newJObject.getKeys();
+    /**
+     * Converts the calling JObject into a boolean JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(char inputValue){
 
-            for(String key : newObjKeys){
-                JObject newSubObj = newJObject.getValue(key);
-                getSubObjects().put(key, newSubObj);
-            }
-        }
-        else if(getType().isList()){
-            if(!newJObject.getType().isList()){
-                throw new RuntimeException("The new value must be a list.");
-            }
+        clear();
+        setTypeName(ObjectTypes.String);
+        value = new JString(inputValue);
 
-            int newIndex = size();
+        return this;
+    }
 
-            JObject[] newValues = newJObject.getValues();
-            for (JObject newValue : newValues) {
-                getSubObjects().put(Integer.toString(newIndex), newValue);
-                newIndex++;
-            }
-        }
-        else{
-            throw new WrongExecutionTypeException(typeName,
-                    new ObjectTypes[]{
-                            ObjectTypes.Dictionary, ObjectTypes.List});
-        }
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(byte inputValue){
+
+        clear();
+        setTypeName(ObjectTypes.Byte);
+        value = inputValue;
 
         return this;
     }
 
-    // endregion
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(short inputValue){
 
-    // region sorting
+        clear();
+        setTypeName(ObjectTypes.Short);
+        value = inputValue;
 
-    // region basic sorting
+        return this;
+    }
 
-    public JObject sort(boolean ascendingOrder) throws WrongExecutionTypeException {
-        if (!getType().isList()){
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
-        }
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(int inputValue){
 
-        JObject[] subObjects = this.getValues();
+        clear();
+        setTypeName(ObjectTypes.Integer);
+        value = inputValue;
 
-        Vector<String> subObjectsStrings = new Vector<>();
+        return this;
+    }
 
-        for(JObject obj : subObjects){
-            subObjectsStrings.add(obj.toString());
-        }
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(long inputValue){
 
-        if(!ascendingOrder) {
-            Collections.sort(subObjectsStrings, java.util.Comparator.reverseOrder());
-        }
-        else{
-            Collections.sort(subObjectsStrings);
-        }
+        clear();
+        setTypeName(ObjectTypes.Long);
+        value = inputValue;
 
-        HashMap<String, JObject> newSubObjects = new HashMap<>();
+        return this;
+    }
 
-        for(int x = 0; x < subObjectsStrings.size(); x += 1){
-            newSubObjects.put(Integer.toString(x), new JObject(subObjectsStrings.get(x)));
-        }
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(float inputValue){
 
-        this.getSubObjectsContainer().setHashMap(newSubObjects);
+        clear();
+        setTypeName(ObjectTypes.Float);
+        value = inputValue;
 
         return this;
     }
 
-    public JObject sort() throws WrongExecutionTypeException {
-        return this.sort(true);
+    /**
+     * Converts the calling JObject into a number JObject representing the given value.
+     * <br>
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
+     */
+    public JObject setTo(double inputValue){
+
+        clear();
+        setTypeName(ObjectTypes.Double);
+        value = inputValue;
+
+        return this;
     }
 
     // endregion
 
-    // region sorting-reverse order
-
     /**
-     * Reverses the order of elements in JObject Lists.
+     * Converts the calling JObject into a JObject representing the given value.
      * <br>
-     * This function only works on lists.
-     * <br>
-     * This function is chainable.
-     * @return Returns the JObject list after the order of its elements has been reversed.
+     * Chainable Function.
+     * @param inputValue The value the JObject is to represent.
+     * @return Returns the modified JObject.
      */
-    public JObject reverseOrder() throws WrongExecutionTypeException {
-        if (!getType().isList()){
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+    public JObject setTo(Object inputValue) throws UnrecognizedSymbolsException, IllegalArgumentException{
+
+        if (inputValue == null) {
+
+            clear();
+            return this;
+        }
+        if(inputValue == this){
+            return this;
         }
 
-        // copies the sub objects from of the JObject
-        JObject[] subObjects = this.getValues();
+        boolean alreadyShrunk = false;
 
-        // finds the halfway point
-        int halfWay = 0;
-        if ((subObjects.length % 2) == 0){
-            halfWay = subObjects.length/2;
+        if(inputValue instanceof JString iv){
+
+            fromString(iv);
         }
-        else{
-            halfWay = ((subObjects.length-1)/2);
+        else if(inputValue instanceof JPrimitive iv){
+            setTypeName(iv.getType());
+            this.value = iv.getClonedValue();
+            return this;
+        }
+        else if (inputValue instanceof CharSequence iv) {
+
+            fromString(JString.toJString(iv));
         }
+        else if (inputValue instanceof Character iv) {
 
-        // reverses order of sub objects by swapping elements at the end with elements near the start
-        int counter = subObjects.length-1;
-        for(int x = 0; x < halfWay; x++){
+            fromString(JString.toJString(iv));
+        }
+        else if(inputValue instanceof JNumber iv) {
 
-            // extracts element near the end of the array
-            JObject temp = subObjects[counter];
+            clear();
+            setTypeName(iv.getType());
+            value = iv.getClonedNumber();
+        }
+        else if(inputValue instanceof Number iv){
+            setTo(new JNumber(iv));
+            alreadyShrunk = true;
+        }
+        else if(inputValue instanceof Boolean iv){
+            setTo(iv.booleanValue());
+        }
+        else if(inputValue instanceof JObject srcObj) {
 
-            // copies element near the start into the position of the previously extracted element
-            subObjects[counter] = subObjects[x];
+            clear();
+            if (srcObj.isNull()){
 
-            // copies extracted element into the position near the start
-            subObjects[x] = temp;
+                return this;
+            }
 
-            // increments end position
-            counter--;
+            this.typeName = srcObj.typeName;
+            this.type = srcObj.type;
+            this.compiledExpression = srcObj.compiledExpression;
+            if (srcObj.isPrimitive() || srcObj.isSymbol()) {
+                this.value = srcObj.getClonedValue();
+            }
+            else if (srcObj.readSubObjectsContainer() instanceof JObjectPackedArrayList packed && packed.isPacked()){
+                // packed lists are shared or copied whole, the same way clone() does
+                this.value = packed.isExposed() ? packed.clone() : packed.share();
+            }
+            else if (srcObj.readSubObjects() != null){
+                this.resetSubObjects();
+                for(Map.Entry<String, JObject> entry : srcObj.readSubObjects().entrySet()){
+                    JObject valueBase = entry.getValue();
+                    if(valueBase != null) {
+                        JObject subObjClone = valueBase.clone();
+                        this.setValue(entry.getKey(), subObjClone);
+                    }
+                }
+            }
+        }
+        else if(inputValue instanceof NumberInterface io){
+            if(io.isNumber()){
+                setTo(io.numberValue());
+            }
+        }
+        else if(inputValue instanceof BooleanInterface io){
+            if(io.isBoolean()){
+                setTo(io.booleanValue());
+            }
+        }
+        else if(inputValue instanceof StringInterface io){
+            if(io.isString()){
+                fromString(io.toJString());
+            }
         }
+        else if(inputValue instanceof ConvertibleToJObject var){
 
-        // clears the current sub objects away
-        resetSubObjects();
+            clear();
+            setTo(var.toJObject());
+        }
+        else if(inputValue instanceof JSONObject var){
+            return setTo(var.toMap());
+        }
+        else if(inputValue instanceof boolean[] arr){
 
-        // re-inserts sub objects back into JObject
-        counter = 0;
-        for(JObject obj : subObjects){
-            this.getSubObjects().put(Integer.toString(counter), obj);
-            counter++;
+            clear();
+            setTypeName(ObjectTypes.List);
+            value = new JObjectPackedArrayList(arr.clone(), arr.length);
         }
+        else if(inputValue instanceof byte[] arr){
 
-        return this;
-    }
+            clear();
+            setTypeName(ObjectTypes.List);
+            for(int x = 0; x < arr.length; x += 1){
 
-    // endregion
+                JObject jObj = new JObject(arr[x]);
+                this.setValue(x, jObj);
+            }
+        }
+        else if(inputValue instanceof short[] arr){
 
-    // region comparator sort
+            clear();
+            setTypeName(ObjectTypes.List);
+            for(int x = 0; x < arr.length; x += 1){
 
-    public JObject sort(Comparator sortComparator) throws WrongExecutionTypeException {
-        if (!getType().isList()){
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+                JObject jObj = new JObject(arr[x]);
+                this.setValue(x, jObj);
+            }
         }
+        else if(inputValue instanceof int[] arr){
 
-        JObject[] subObjects = this.getValues();
+            clear();
+            setTypeName(ObjectTypes.List);
+            value = new JObjectPackedArrayList(arr.clone(), arr.length);
+        }
+        else if(inputValue instanceof long[] arr){
 
-        Vector<String> subObjectsStrings = new Vector<>();
+            clear();
+            setTypeName(ObjectTypes.List);
+            value = new JObjectPackedArrayList(arr.clone(), arr.length);
+        }
+        else if(inputValue instanceof float[] arr){
 
-        for(JObject obj : subObjects){
-            subObjectsStrings.add(obj.toString());
+            clear();
+            setTypeName(ObjectTypes.List);
+            for(int x = 0; x < arr.length; x += 1){
+
+                JObject jObj = new JObject(arr[x]);
+                this.setValue(x, jObj);
+            }
         }
+        else if(inputValue instanceof double[] arr){
 
-        subObjectsStrings.sort(sortComparator);
+            clear();
+            setTypeName(ObjectTypes.List);
+            value = new JObjectPackedArrayList(arr.clone(), arr.length);
+        }
+        else if(inputValue instanceof Object[] arr){
 
-        HashMap<String, JObject> newSubObjects = new HashMap<>();
+            clear();
+            setTypeName(ObjectTypes.List);
+            for(int x = 0; x < arr.length; x += 1){
+
+                JObject jObj = convertToJObject(arr[x]);
+                this.setValue(x, jObj);
+            }
+        }
+        else if(inputValue instanceof Collection<?> collection){
+            clear();
+            setTypeName(ObjectTypes.List);
+            Object[] elements = collection.toArray();
+            for(int x = 0; x < elements.length; x += 1){
+                JObject jObj = null;
+
+                try{
+                    jObj = convertToJObject(elements[x]);
+                }
+                catch (Exception e){
+                    print(e);
+                    throw e;
+                }
+
+                try {
+                    this.setValue(x, jObj);
+                }
+                catch (Exception e){
+                    print(e);
+                    throw e;
+                }
+            }
+        }
+        else if(inputValue instanceof Iterable<?> collection){
+            clear();
+            setTypeName(ObjectTypes.List);
+            int counter = 0;
+            for(Object ele : collection){
+                JObject jObj = null;
+
+                try{
+                    jObj = convertToJObject(ele);
+                }
+                catch (Exception e){
+                    print(e);
+                    throw e;
+                }
+
+                try {
+                    this.setValue(counter, jObj);
+                    counter += 1;
+                }
+                catch (Exception e){
+                    print(e);
+                    throw e;
+                }
+            }
+        }
+        else if(inputValue instanceof Map<?,?> map){
+            clear();
+            setTypeName(ObjectTypes.Dictionary);
+            for(Map.Entry<?,?> entry: map.entrySet()){
+
+                JObject key = convertToJObject(entry.getKey());
+
+                if(!key.isString() && !key.isIntegralNumber()){
+                    throw new IllegalArgumentException("The key must be a string or a whole number.");
+                }
+
+                JObject value = null;
+
+                try{
+                    value = convertToJObject(entry.getValue());
+                }
+                catch (UnrecognizedSymbolsException e){
+                    if(entry.getValue().getClass().getSimpleName().equalsIgnoreCase("String")){
+                        value = JObject.createStringJObject(entry.getValue().toString());
+                    }
+                    else{
+                        print(e);
+                        throw e;
+                    }
+                }
+                catch (Exception e){
+                    print(e);
+                    throw e;
+                }
+
+                setValue(key.toString(), value);
+            }
+        }
+        else {
 
-        for(int x = 0; x < subObjectsStrings.size(); x += 1){
-            newSubObjects.put(Integer.toString(x), new JObject(subObjectsStrings.get(x)));
+            throw new IllegalArgumentException("Received an un-usable data type during setTo()");
         }
 
-        this.getSubObjectsContainer().setHashMap(newSubObjects);
+        if(isNumber()){
+            if(!alreadyShrunk) {
+                shrinkToSmallestDataType();
+            }
+        }
 
         return this;
     }
 
     // endregion
 
-    // endregion
+    // region equals
 
-    // region contains value
+    /**
+     * Compares the given inputValue with this JObject.
+     * @param inputValue The value to be compared to this JObject.
+     * @return Returns True if the inputValue is equal to this JObject, else it returns False.
+     */
+    @Override
+    public boolean equals(Object inputValue) {
+
+        if(inputValue == this){
+            return true;
+        }
+
+        if(inputValue == null){
+            return isNull();
+        }
+
+        if (inputValue instanceof String) {
+            return inputValue.equals(toString(false));
+        }
+        else if(inputValue instanceof JNumber io) {
+
+            try{
+                if(isNumber()){
+                    return jNumberValue().equals(io);
+                }
+            }
+            catch (WrongExecutionTypeException e){
+                return false;
+            }
+
+            return false;
+        }
+        else if(inputValue instanceof JObject io)
+        {
+            if(this.isNull() && io.isNull()){
+                return true;
+            }
+
+            if(this.isNull() != io.isNull()){
+                return false;
+            }
+
+            if(!this.getTypeName().equals(io.getTypeName())){
+                return false;
+            }
+
+            if(this.isPrimitive()){
+                return this.value.equals(io.value);
+            }
+
+            if(this.size() != io.size()){
+                return false;
+            }
+
+            if(this.size() > 0){
+                String[] theseKeys = this.getKeys();
+                String[] thoseKeys = io.getKeys();
+                if(!MiscFunctions.stringArrayEquals(theseKeys, thoseKeys)){
+                    return false;
+                }
+
+                JObjectArrayList theseElements = this.readSubObjectsArray();
+                JObjectArrayList thoseElements = io.readSubObjectsArray();
+                if(theseElements instanceof JObjectPackedArrayList thesePacked &&
+                        thoseElements instanceof JObjectPackedArrayList thosePacked){
+                    Boolean valuesEqual = thesePacked.valuesEqual(thosePacked);
+                    if(valuesEqual != null){
+                        return valuesEqual;
+                    }
+                }
+
+                Map<String, JObject> theseSubObjects = this.readSubObjects();
+                Map<String, JObject> thoseSubObjects = io.readSubObjects();
+                for (int x = 0; x < theseKeys.length; x += 1) {
+                    // list elements are only peeked at, so packed lists don't keep a JObject for each one
+                    JObject thisSubObject = theseElements != null ?
+                            theseElements.peek(x) : theseSubObjects.get(theseKeys[x]);
+                    JObject thatSubObject = thoseElements != null ?
+                            thoseElements.peek(x) : thoseSubObjects.get(theseKeys[x]);
+
+                    boolean thisIsNull = thisSubObject == null || thisSubObject.isNull();
+                    boolean thatIsNull = thatSubObject == null || thatSubObject.isNull();
+
+                    if (thisIsNull && thatIsNull) {
+                        continue;
+                    }
+
+                    if (thisIsNull != thatIsNull) {
+                        return false;
+                    }
+
+                    if (!thisSubObject.equals(thatSubObject)) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+    // endregion
+
+    // region add operations
+
+    /**
+     * "Adds" obj2 to this JObject. This method takes performs different operations depending on the type of the
+     * instance that it is being executed on and the type of obj2. This will either perform a string concatenation or
+     * a numeric addition. If both operands are numbers, then it will perform a numeric addition. If any of the operands
+     * are a string, then it will perform a string concatenation.
+     * @param obj2 The value to be "added" to this JObject.
+     * @return Returns the result of the "addition" as a new JObject after it has been modified.
+     */
+    public JObject add(Object obj2) {
+        boolean thisIsNumber = isNumber();
+        boolean thisIsString = isString();
+
+        if(obj2 == null){
+            if(isString()){
+                return this.add("null");
+            }
+            return this;
+        }
+
+        if(thisIsString){
+            return JObject.createStringJObject(this.toJString().add(obj2));
+        }
+
+        boolean otherIsNumber = false;
+        JNumber otherAsNumber = null;
+        boolean otherIsString = false;
+        JString otherAsString = null;
+
+        if(obj2 instanceof JString var){
+            otherIsString = true;
+            otherAsString = var;
+        }
+        else if(obj2 instanceof NumberInterface var){
+            if(var.isNumber()){
+                otherAsNumber = var.jNumberValue();
+                otherIsNumber = true;
+            }
+            else if(var.isString()){
+                otherIsString = true;
+                otherAsString = new JString(var);
+            }
+            else{
+                ArrayList<String> temp = new ArrayList<>(List.of(MiscFunctions.getNumberTypeNames()));
+                temp.add(ObjectTypes.String.name());
+                throw new WrongInputTypeException(
+                        var.getType().name(),
+                        temp.toArray(new String[0]));
+            }
+        }
+        else if(obj2 instanceof StringInterface var){
+            return add(new JString(var));
+        }
+        else if(obj2 instanceof CharSequence str){
+            return add(new JString(str));
+        }
+        else if(obj2 instanceof Number num){
+            return add(new JNumber(num));
+        }
+        else{
+            ArrayList<String> temp = new ArrayList<>(List.of(MiscFunctions.getNumberTypeNames()));
+            temp.add(ObjectTypes.String.name());
+            throw new WrongInputTypeException(
+                    obj2.getClass().getTypeName(),
+                    temp.toArray(new String[0]));
+        }
+
+        boolean bothAreNumbers = thisIsNumber && otherIsNumber;
+
+        if(otherIsString){
+            return JObject.createStringJObject(this.toJString().add(otherAsString));
+        }
+        else if(bothAreNumbers){
+            JNumber temp = JNumber.add(jNumberValue(), otherAsNumber);
+            temp.shrinkToSmallestDataType();
+            return new JObject(temp.numberValue());
+        }
+        else{
+            throw new RuntimeException("In order to perform that add() method, both this value and the other value " +
+                    "have to be numbers or one has to be string.");
+        }
+    }
+
+    // endregion
+
+    // region hash code
+
+    /**
+     * Generates a hash code for the JObject
+      * @return int : returns a hash code for the JObject
+     */
+    @Override
+    public int hashCode() {
+
+        if(isPrimitive()){
+            return Objects.hash(typeName, value.hashCode());
+        }
+        else{
+            return Objects.hash(typeName, readSubObjects());
+        }
+    }
+
+    // endregion
+
+    // region length and size
+
+    /**
+     * Gives the number of objects contained within this JObject.
+     * @return Returns the number of sub-objects inside this JObject.
+     */
+    public int size() {
+        if(isPrimitive()) {
+            throw new RuntimeException("Cannot retrieve size from primitive JObjects.");
+        }
+        else{
+            Map<String, JObject> subObjects = this.readSubObjects();
+            if(subObjects == null) {
+                return 0;
+            }
+            else{
+                return subObjects.size();
+            }
+        }
+    }
+
+    /**
+     * Gives the character length or element count of this JObject.
+     * @return If this JObject is a string, then this function will return the length of that String.
+     * <br>
+     * If this JObject is not a primitive, then it returns the number of sub objects contained within this JObject.
+     */
+    public int length() {
+        if (isPrimitive()) {
+            if (isString()){
+                return ((JString) value).length();
+            }
+
+            throw new RuntimeException("Can only get the length from a primitive JObject if it is a string.");
+        }
+        else {
+            return size();
+        }
+    }
+
+    // endregion
+
+    // region to array functions
+
+    /**
+     * Creates a boolean array from lists, sets or primitives. If this JObject is a primitive of the correct type,
+     * then a single element array containing this JObject as a string is returned.
+     * @return boolean array
+     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a boolean or
+     * a list/set of booleans.
+     */
+    public boolean[] toBooleanArray() throws WrongExecutionTypeException {
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Boolean.name()});
+        }
+
+        if(isPrimitive()){
+            if(isBoolean()){
+                return new boolean[]{this.booleanValue()};
+            }
+            else{
+                throw new WrongExecutionTypeException(getTypeName(),
+                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Boolean.name()});
+            }
+        }
+        else if(readSubObjectsArray() instanceof JObjectPackedArrayList packed && packed.isPacked() &&
+                !packed.isNumeric()){
+            // packed lists are copied straight out of their primitive array
+            return packed.toBooleanArray();
+        }
+        else {
+            int counter = 0;
+            boolean[] output = new boolean[size()];
+            for(JObject subObj : this){
+                output[counter] = subObj.booleanValue();
+                counter += 1;
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Creates an integer array from lists, sets or primitives. If this JObject is a primitive of the correct type,
+     * then a single element array containing this JObject as an integer is returned.
+     * @return boolean array
+     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
+     * a list/set of Numbers.
+     */
+    public int[] toIntegerArray() throws WrongExecutionTypeException {
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        }
+
+        if(isPrimitive()){
+            if(isInteger()){
+                return new int[]{this.intValue()};
+            }
+            else{
+                throw new WrongExecutionTypeException(getTypeName(),
+                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            }
+        }
+        else if(readSubObjectsArray() instanceof JObjectPackedArrayList packed && packed.isNumeric()){
+            return packed.toIntegerArray();
+        }
+        else {
+            int counter = 0;
+            int[] output = new int[size()];
+            for(JObject subObj : this){
+                output[counter] = subObj.intValue();
+                counter += 1;
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Creates a long array from lists, sets or primitives. If this JObject is an integral primitive, then a single
+     * element array containing this JObject as a long is returned.
+     * @return long array
+     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
+     * a list/set of Numbers.
+     */
+    public long[] toLongArray() throws WrongExecutionTypeException {
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        }
+
+        if(isPrimitive()){
+            if(isByte() || isShort() || isInteger() || isLong()){
+                return new long[]{this.longValue()};
+            }
+            else{
+                throw new WrongExecutionTypeException(getTypeName(),
+                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            }
+        }
+        else if(readSubObjectsArray() instanceof JObjectPackedArrayList packed && packed.isNumeric()){
+            return packed.toLongArray();
+        }
+        else {
+            int counter = 0;
+            long[] output = new long[size()];
+            for(JObject subObj : this){
+                output[counter] = subObj.longValue();
+                counter += 1;
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Creates a float array from lists, sets or primitives. If this JObject is a primitive of the correct type,
+     * then a single element array containing this JObject as a float is returned.
+     * @return boolean array
+     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
+     * a list/set of Numbers.
+     */
+    public float[] toFloatArray() throws WrongExecutionTypeException {
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        }
+
+        if(isPrimitive()){
+            if(isNumber()){
+                return new float[]{this.floatValue()};
+            }
+            else{
+                throw new WrongExecutionTypeException(getTypeName(),
+                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            }
+        }
+        else if(readSubObjectsArray() instanceof JObjectPackedArrayList packed && packed.isNumeric()){
+            return packed.toFloatArray();
+        }
+        else {
+            int counter = 0;
+            float[] output = new float[size()];
+            for(JObject subObj : this){
+                output[counter] = subObj.floatValue();
+                counter += 1;
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Creates a double array from lists, sets or primitives. If this JObject is a primitive of the correct type,
+     * then a single element array containing this JObject as a double is returned.
+     * @return boolean array
+     * @throws WrongExecutionTypeException Throws a wrong type exception if this JObject isn't a Number or
+     * a list/set of Numbers.
+     */
+    public double[] toDoubleArray() throws WrongExecutionTypeException {
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+        }
+
+        if(isPrimitive()){
+            if(isNumber()){
+                return new double[]{this.doubleValue()};
+            }
+            else{
+                throw new WrongExecutionTypeException(getTypeName(),
+                        new String[]{ObjectTypes.List.name(), ObjectTypes.Set.name(), ObjectTypes.Number.name()});
+            }
+        }
+        else if(readSubObjectsArray() instanceof JObjectPackedArrayList packed && packed.isNumeric()){
+            return packed.toDoubleArray();
+        }
+        else {
+            int counter = 0;
+            double[] output = new double[size()];
+            for(JObject subObj : this){
+                output[counter] = subObj.doubleValue();
+                counter += 1;
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Creates a string array from lists, sets or primitives. If this JObject is a primitive of the correct type,
+     * then a single element array containing this JObject as a string is returned.
+     * @param includeQuotesOnArrayElements boolean value to determine if each element in the array will be encapsulated
+     * by quotation marks.
+     * @return String array
+     */
+    public String[] toStringArray(boolean includeQuotesOnArrayElements){
+        if(!getType().isList() && !getType().isSet() && !isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(),
+                    new ObjectTypes[]{ObjectTypes.List, ObjectTypes.Set,
+                            ObjectTypes.Number, ObjectTypes.Boolean, ObjectTypes.String});
+        }
+
+        if(isPrimitive()){
+            return new String[]{this.toString(includeQuotesOnArrayElements)};
+        }
+        else {
+            ArrayList<String> output = new ArrayList<>();
+            for (JObject subObj : this) {
+                output.add(subObj.toString(includeQuotesOnArrayElements));
+            }
+
+            return output.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Creates a string array from lists, sets or primitives. Each element will NOT have quotation marks.
+     * If this JObject is a primitive of the correct type, then a single element array containing this
+     * JObject as a string is returned.
+     * @return String array
+     */
+    public String[] toStringArray(){
+        return toStringArray(false);
+    }
+
+    /**
+     * Creates a JObject array from containing all of this object's sub objects. If this JObject is a primitive,
+     * then a single element array containing this JObject is returned instead.
+     * @return JObject array
+     */
+    public JObject[] toJObjectArray(){
+        if(isPrimitive()){
+            return new JObject[]{this};
+        }
+        else{
+            return getValues();
+        }
+    }
+
+    // endregion
+
+    // region dictionary helper functions
+
+    /**
+     * Returns the sub objects stored inside this JObject as an array of JObjects. If this JObject
+     * has no sub objects, then an empty array is returned.
+     * @return JObject array
+     */
+    public JObject[] getValues(){
+        if(!isPrimitive()) {
+            if(getType().isSet()){
+                return getClonedChildren();
+            }
+            else {
+                JObjectArrayList list = getSubObjectsArray();
+                if(list != null){
+                    return list.toArray();
+                }
+                return getSubObjects().values().toArray(new JObject[0]);
+            }
+        }
+        return new JObject[0];
+    }
+
+    // endregion
+
+    // region JConvertible interface implementations
+
+    @Override
+    public JObject toJObject() {
+        return this;
+    }
+
+    @Override
+    public boolean fromJObject(JObject source) {
+        setTo(source);
+        return true;
+    }
+
+    /**
+     * Pulls data from source JObject and places it within the outputRef object.
+     * @param source This function will pull data from the source to populate the output.
+     * @param outputRef A non-null instance of the output type will be needed to receive the data.
+     * @return This function returns a modified instance of the outputRef, after it has been populated with data.
+     * @param <T> This function can handle any instance that implements the JObjectConvertible interface.
+     */
+    public static <T extends JObjectConvertible>T createObjectFromJObject(JObject source, T outputRef){
+        if(outputRef != null) {
+            boolean valid = false;
+            try {
+                valid = outputRef.fromJObject(source);
+            } catch (Exception e) {
+                return null;
+            }
+            if (valid) {
+                return outputRef;
+            }
+        }
+        return null;
+    }
+
+    // endregion
+
+    // region parameter names
+
+    /**
+     * Gives the key names as a String Array.
+     * @return String Array of the sub object key names.
+     */
+    public String[] getKeys(){
+        if(size() > 0) {
+            return readSubObjects().keySet().toArray(new String[0]);
+        }
+        return new String[0];
+    }
+
+    // endregion
+
+    // region retrieving the values of sub objects
+
+    /**
+     * Returns the JObject that is referenced as a sub-object under the given parameter name.
+     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
+     * @param parameterName Object : the parameter name of the sub-object. Strings are preferred.
+     */
+    public JObject getValue(Object parameterName){
+        if(isPrimitive()) {
+            return null;
+        }
+
+        String key = null;
+        if(parameterName instanceof CharSequence var){
+            key = var.toString();
+        }
+        else{
+            try{
+                key = parameterName.toString();
+            }
+            catch (Exception e){
+                throw new RuntimeException("Couldn't extract string from parameterName.");
+            }
+        }
+
+        if(getType().isSet()) {
+            try {
+                return readSubObjects().getOrDefault(key, null).clone();
+            }
+            catch (NullPointerException var){
+                return null;
+            }
+        }
+        else {
+            return getSubObjects().getOrDefault(key, null);
+        }
+    }
+
+    /**
+     * Returns the JObject that is referenced as a sub-object under the given index.
+     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
+     * @param index int : the parameter name of the sub-object as an integer
+     */
+    public JObject getValue(int index){
+        // set elements are only handed out as copies, so sets are read without being copied first
+        JObjectArrayList list = isSet() ? readSubObjectsArray() : getSubObjectsArray();
+        if(list == null){
+            return getValue(Integer.toString(index));
+        }
+
+        JObject output = getType().isSet() ? list.peek(index) : list.get(index);
+        if(output != null && getType().isSet()){
+            return output.clone();
+        }
+        return output;
+    }
+
+    /**
+     * Returns the JObject that is referenced as a sub-object under the given index.
+     * Set typed JObjects will yield a deep copy of the sub-object rather than the object itself.
+     * @param index long : the parameter name of the sub-object as an integer
+     */
+    public JObject getValue(long index){
+        if(index >= Integer.MIN_VALUE && index <= Integer.MAX_VALUE){
+            return getValue((int) index);
+        }
+        return getValue(Long.toString(index));
+    }
+
+    // endregion
+
+    // region setting the values of sub objects
+
+    private JObject setValue_bypassSetLock(String parameterName, JObject newValue)
+            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
+    {
+        if(getSubObjectsContainer() == null){
+            resetSubObjects();
+        }
+
+        // assigns the value to the class name if the parameter name matches
+        if(parameterName.equals(ParameterName_ClassName)){
+            if(newValue.isString()){
+                setTypeName(newValue.toString());
+                return this;
+            }
+            else{
+                throw new RuntimeException("The new class name must be a string.");
+            }
+        }
+
+        if(newValue != null && !newValue.isNull()) {
+            getSubObjects().put(parameterName, newValue);
+        }
+        else {
+            getSubObjects().put(parameterName, null);
+        }
+        return this;
+    }
+
+    private JObject setValue_prv(Object parameterName, JObject newValue)
+            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
+    {
+
+        String key = null;
+        if(parameterName instanceof CharSequence var){
+            key = var.toString();
+        }
+        else{
+            try{
+                key = parameterName.toString();
+            }
+            catch (Exception e){
+                throw new RuntimeException("Couldn't extract string from parameterName.");
+            }
+        }
+
+        if(getType().isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+
+        if(isPrimitive()){
+            throw new WrongExecutionTypeException(getTypeName(), "Any non primitive excluding sets");
+        }
+
+        return setValue_bypassSetLock(key, newValue);
+    }
+
+    /**
+     * Places the newValue within this JObject as a sub object under the given parameter name.
+     * <br>
+     * Chainable method.
+     * @return Returns this JObject after it has been modified.
+     */
+    public JObject setValue(Object parameterName, Object newValue)
+            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException {
+        return setValue_prv(parameterName, convertToJObject(newValue));
+    }
+
+    /**
+     * Places the newValue within this JObject as a sub object under at the given index.
+     * <br>
+     * Chainable method.
+     * @return Returns this JObject after it has been modified.
+     */
+    public JObject setValue(int index, Object newValue)
+            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
+    {
+        if(getType().isList()) {
+            JObject objectToAssign = convertToJObject(newValue);
+            if(objectToAssign != null && objectToAssign.isNull()){
+                objectToAssign = null;
+            }
+            if(newValue instanceof JObject){
+                getSubObjectsArray().set(index, objectToAssign);
+            }
+            else{
+                getSubObjectsArray().setUnreferenced(index, objectToAssign);
+            }
+            return this;
+        }
+        else{
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+        }
+    }
+
+    /**
+     * Places the newValue within this JObject as a sub object under at the given index.
+     * <br>
+     * Chainable method.
+     * @return Returns this JObject after it has been modified.
+     */
+    public JObject setValue(long index, Object newValue)
+            throws UnrecognizedSymbolsException, IllegalArgumentException, WrongExecutionTypeException
+    {
+        if(getType().isList()) {
+            if(index < 0 || index > Integer.MAX_VALUE){
+                throw new IndexOutOfBoundsException("index " + index + " is outside of the range of a list.");
+            }
+            return setValue((int) index, newValue);
+        }
+        else{
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+        }
+    }
+
+    // endregion
+
+    // region class name
+
+    /**
+     * Assigns the type name of this JObject. The matching built-in type is resolved once here, names that don't
+     * match a built-in type (custom class names) resolve to Unknown.
+     * @return Returns this JObject for method chaining.
+     */
+    public JObject setTypeName(String newTypeName){
+        typeName = newTypeName;
+        type = newTypeName == null ? null : ObjectTypes.fromString(newTypeName);
+
+        return this;
+    }
+
+    /**
+     * Assigns one of the built-in types to this JObject.
+     * @return Returns this JObject for method chaining.
+     */
+    public JObject setTypeName(ObjectTypes newType){
+        typeName = newType.name();
+        type = newType;
+
+        return this;
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public ObjectTypes getType() {
+        return type;
+    }
+    
+    // endregion
+
+    // region adding objects to collection
+
+    // region adding an object at the beginning of the collection
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        JObject tempObject;
+
+        if(newObject == null) {
+            tempObject = new JObject();
+        }
+        else {
+            tempObject = new JObject(newObject);
+        }
+
+        if(tempObject.isNull()){
+            tempObject = null;
+        }
+
+        getSubObjectsArray().insert(0, tempObject);
+
+        return this;
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the beginning of a collection.
+     */
+    public JObject prepend(double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return prepend(new JObject(newObject));
+    }
+
+    // endregion
+
+    // region adding an object at end the of collection
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(Object inputObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        JObject tempObject;
+
+        if(inputObject == null) {
+            tempObject = new JObject();
+        }
+        else {
+            tempObject = new JObject(inputObject);
+        }
+
+        getSubObjectsArray().addUnreferenced(tempObject);
+
+        return this;
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    /**
+     * Adds the newObject to the end of a collection.
+     */
+    public JObject append(double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return append(new JObject(newObject));
+    }
+
+    // endregion
+
+    // region add an object in the collection at a specified point
+
+    public JObject insert(Object location, Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        // processes location input to get index
+        int locationIntVal;
+        if (location == null)
+        {
+            throw new NullPointerException("The input given for location is null.");
+        }
+
+        if(location instanceof JObject locationObject){
+            if (locationObject.isWholeNumber())
+            {
+                locationIntVal = locationObject.intValue();
+            }
+            else
+            {
+                throw new RuntimeException(
+                        "Can only accept integers for the location, this is a "+locationObject.getTypeName()+".");
+            }
+        }
+        else if(location instanceof String locationObject){
+            JObject newLoc = new JObject(locationObject);
+            return this.insert(newLoc, newObject);
+        }
+        else{
+            throw new RuntimeException("The value given for the insert location must be an convertible to an integer");
+        }
+
+        // processes newObject
+
+        JObject objectToAssign;
+        if (newObject == null)
+        {
+            objectToAssign = null;
+        }
+        else if(newObject instanceof JObject var) {
+            objectToAssign = var;
+        }
+        else {
+            objectToAssign = new JObject(newObject);
+        }
+
+        // actual insertion
+        JObjectArrayList list = getSubObjectsArray();
+        if(locationIntVal <= list.size()) {
+            list.insert(locationIntVal, objectToAssign);
+        }
+
+        return this;
+    }
+
+    public JObject insert(int location, Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), convertToJObject(newObject));
+    }
+
+    public JObject insert(int location, double newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, float newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, long newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, int newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, short newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, byte newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, char newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    public JObject insert(int location, boolean newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+        return insert(new JObject(location), new JObject(newObject));
+    }
+
+    // endregion
+
+    // endregion
+
+    // region removing objects from collection
+
+    public JObject remove(Object key) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+
+        if(getType().isSet()) {
+            throw new RuntimeException("Cannot remove elements from a Set.");
+        }
+
+        if (key == null) {
+            throw new NullPointerException("Null received for Key.");
+        }
+
+        JObject keyObj = convertToJObject(key);
+
+        if(keyObj.isNull()){
+            throw new RuntimeException("Couldn't determine the type for the index.");
+        }
+
+        if(getType().isList())
+        {
+            int indexNumber = -1;
+
+            if (keyObj.isNumber()) {
+                indexNumber = keyObj.intValue();
+            }
+
+            return getSubObjectsArray().remove(indexNumber);
+        }
+        else {
+            return getSubObjects().remove(keyObj.toString(false));
+        }
+    }
+
+    public JObject remove(int index) throws WrongExecutionTypeException {
+
+        return remove(new JObject(index));
+    }
+
+    /**
+     * Removes an object from the beginning of a list and returns the removed item.
+     * @return Returns the removed object.
+     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     */
+    public JObject popFromBeginning() throws WrongExecutionTypeException {
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        if(size() < 1){
+            return null;
+        }
+
+        return getSubObjectsArray().remove(0);
+    }
+
+    /**
+     * Removes an object from the end of a list and returns the removed item.
+     * @return Returns the removed object.
+     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     */
+    public JObject popFromEnd() throws WrongExecutionTypeException {
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        if(size() < 1){
+            return null;
+        }
+
+        return getSubObjectsArray().removeLast();
+    }
+
+    /**
+     * Removes an object from a list and returns the removed item.
+     * @param fromBeginning Boolean flag controlling weather the object is removed from
+     *                      the beginning or the end of the list.
+     * @return Returns the removed object.
+     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     */
+    public JObject pop(boolean fromBeginning) throws WrongExecutionTypeException {
+        if(fromBeginning){
+            return popFromBeginning();
+        }
+        else{
+            return popFromEnd();
+        }
+    }
+
+    /**
+     * Removes an object from the beginning of a list and returns the removed item.
+     * @return Returns the removed object.
+     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     */
+    public JObject pop() throws WrongExecutionTypeException {
+        return popFromBeginning();
+    }
+
+    /**
+     * Removes every element of a list and adds them, in order, to the given collection. Null elements are added as
+     * null.
+     * <br>
+     * For concurrent lists (see {@link #createConcurrentList()}) the elements are taken out in one step, so every
+     * appended element is drained exactly once even while other threads keep appending.
+     * @return Returns the number of elements moved.
+     * @throws WrongExecutionTypeException This method throws this error if executed on anything other than a list.
+     */
+    public int drainTo(Collection<? super JObject> target) throws WrongExecutionTypeException {
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+        nullCheck(target, "target");
+
+        List<JObject> drained = getSubObjectsArray().drain();
+        target.addAll(drained);
+        return drained.size();
+    }
+
+    // endregion
+
+    // region removing duplicate objects from collection
+
+    private void removeDuplicates_prv(){
+        ArrayList<JObject> newListElements = new ArrayList<>();
+
+        for(JObject elementInOldList : this){
+            boolean duplicateFound = false;
+            for(int x = 0; x < newListElements.size() && !duplicateFound; x += 1){
+                JObject elementInNewList = newListElements.get(x);
+                if(elementInNewList.equals(elementInOldList)){
+                    duplicateFound = true;
+                }
+            }
+
+            if(!duplicateFound){
+                newListElements.add(elementInOldList);
+            }
+        }
+
+        getSubObjectsArray().setTo(newListElements.toArray(new JObject[0]));
+    }
+
+    /**
+     * Removes all duplicate items from a list.
+     * <br>
+     * This method is chainable.
+     * @return Returns this JObject after it has been modified.
+     * @throws WrongExecutionTypeException This method will throw this error if executed on anything
+     *                                     other than a list JObject.
+     */
+    public JObject removeDuplicates() throws WrongExecutionTypeException {
+
+        if (!this.getType().isList()){
+            throw new WrongExecutionTypeException(typeName, ObjectTypes.List.name());
+        }
+
+        removeDuplicates_prv();
+
+        return this;
+    }
+
+    // endregion
+
+    // region list-Set conversions
+
+    /**
+     * Converts this object into a list if it is a set.
+     * @return Returns the calling JObject after ths conversion is complete.
+     */
+    public JObject convertSetToList() throws WrongExecutionTypeException {
+
+        if(getType().isSet()) {
+            setTypeName(ObjectTypes.List);
+        }
+        return this;
+    }
+
+    /**
+     * Converts this object into a set if it is a list.
+     * @return Returns the calling JObject after ths conversion is complete.
+     */
+    public JObject convertListToSet() throws WrongExecutionTypeException {
+
+        if(getType().isList()) {
+            setTypeName(ObjectTypes.Set);
+        }
+        return this;
+    }
+
+    /**
+     * Converts all sets contained in this JObject into lists.
+     * @return Returns the calling JObject after ths conversion is complete.
+     */
+    private JObject convertSetToList_recursive(){
+        JObjectExecutionPredicate<JObject> conversion = new JObjectExecutionPredicate<JObject>() {
+            @Override
+            public JObject execute(JObject input) {
+                if(input.getType().isSet()){
+                    return input.convertSetToList();
+                }
+                return input;
+            }
+        };
+        return this.executeRecursively(conversion);
+    }
+
+    /**
+     * Converts all lists contained in this JObject into sets.
+     * @return Returns the calling JObject after ths conversion is complete.
+     */
+    private JObject convertListToSet_recursive(){
+        JObjectExecutionPredicate<JObject> conversion = new JObjectExecutionPredicate<JObject>() {
+            @Override
+            public JObject execute(JObject input) {
+                if(input.getType().isList()){
+                    return input.convertListToSet();
+                }
+                return input;
+            }
+        };
+        return this.executeRecursively(conversion);
+    }
+
+    // endregion
+
+    // region combining object collections
+
+    /**
+     * Combines JObject Dictionaries and JObject Lists with other JObjects of the same type (Dictionaries can only
+     * be combined with Dictionaries and Lists can only be combined with Lists). If the 2 dictionaries have duplicate
+     * keys then the old dictionary is updated with the values from the new dictionary.
+     * <br>
+     * This method is chainable.
+     * @return Returns the original JObject updated with the new values.
+     * @param newObject The JObject containing the new values to be added.
+     */
+    public JObject combine(Object newObject) throws WrongExecutionTypeException, UnrecognizedSymbolsException{
+
+        JObject newJObject = null;
+        if(newObject instanceof JObject var){
+            newJObject = var;
+        }
+        else{
+            newJObject = new JObject(newObject);
+        }
+
+        if(getType().isDictionary()){
+            if(!newJObject.getType().isDictionary()){
+                throw new RuntimeException("The new value must be a dictionary.");
+            }
+
+            String[] newObjKeys = newJObject.getKeys();
+
+            for(String key : newObjKeys){
+                JObject newSubObj = newJObject.getValue(key);
+                getSubObjects().put(key, newSubObj);
+            }
+        }
+        else if(getType().isList()){
+            if(!newJObject.getType().isList()){
+                throw new RuntimeException("The new value must be a list.");
+            }
+
+            JObjectArrayList list = getSubObjectsArray();
+
+            JObject[] newValues = newJObject.getValues();
+            for (JObject newValue : newValues) {
+                list.add(newValue);
+            }
+        }
+        else{
+            throw new WrongExecutionTypeException(typeName,
+                    new ObjectTypes[]{
+                            ObjectTypes.Dictionary, ObjectTypes.List});
+        }
+
+        return this;
+    }
+
+    // endregion
+
+    // region sorting
+
+    // region basic sorting
+
+    /**
+     * Sorts the elements of a JObject list in place, by reordering the element references.
+     * <br>
+     * Elements are grouped by type, in the order null, boolean, number, string and then all other types.
+     * Numbers are compared by value, strings lexically, booleans with false first,
+     * and all other types by their string form. See compareByType.
+     * <br>
+     * This function only works on lists.
+     * <br>
+     * This function is chainable.
+     * @param ascendingOrder When false, the elements are sorted in descending order.
+     * @return Returns the JObject list after it has been sorted.
+     */
+    public JObject sort(boolean ascendingOrder) throws WrongExecutionTypeException {
+        return sort_prv(ascendingOrder, false);
+    }
+
+    public JObject sort() throws WrongExecutionTypeException {
+        return this.sort(true);
+    }
+
+    /**
+     * Sorts the elements of a JObject list in place, with the same ordering as sort(boolean), using
+     * Arrays.parallelSort. This is faster than sort(boolean) for large lists.
+     * <br>
+     * This function only works on lists.
+     * <br>
+     * This function is chainable.
+     * @param ascendingOrder When false, the elements are sorted in descending order.
+     * @return Returns the JObject list after it has been sorted.
+     */
+    public JObject parallelSort(boolean ascendingOrder) throws WrongExecutionTypeException {
+        return sort_prv(ascendingOrder, true);
+    }
+
+    public JObject parallelSort() throws WrongExecutionTypeException {
+        return this.parallelSort(true);
+    }
+
+    private JObject sort_prv(boolean ascendingOrder, boolean inParallel) throws WrongExecutionTypeException {
+        if (!getType().isList()){
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+        }
+
+        getSubObjectsArray().sortByType(ascendingOrder, inParallel);
+
+        return this;
+    }
+
+    /**
+     * Compares two JObjects, first by the type group they belong to, in the order null, boolean, number, string,
+     * and then all other types. Within a group, numbers are compared by value using JNumber.compare, strings lexically,
+     * booleans with false first, and all other types by their string form.
+     * @return Returns a negative value if obj1 sorts before obj2, zero if they're equal, and a positive value otherwise.
+     */
+    public static int compareByType(JObject obj1, JObject obj2){
+        return new TypeSortKey(obj1).compareTo(new TypeSortKey(obj2));
+    }
+
+    // an element with the parts of it that compareByType looks at, so they're only worked out once per sort
+    private static final class TypeSortKey implements Comparable<TypeSortKey> {
+        private final JObject element;
+        private final int group;
+        private final boolean booleanValue;
+        private final String text;
+
+        private TypeSortKey(JObject element){
+            this.element = element;
+            group = getSortGroup(element);
+            booleanValue = group == 1 && element.booleanValue();
+            text = group > 2 ? element.toString() : null;
+        }
+
+        @Override
+        public int compareTo(TypeSortKey other){
+            if(group != other.group){
+                return Integer.compare(group, other.group);
+            }
+
+            switch (group){
+                case 0 -> {
+                    return 0;
+                }
+                case 1 -> {
+                    return Boolean.compare(booleanValue, other.booleanValue);
+                }
+                case 2 -> {
+                    return JNumber.compare(element, other.element);
+                }
+                default -> {
+                    return text.compareTo(other.text);
+                }
+            }
+        }
+    }
+
+    private static int getSortGroup(JObject obj){
+        if(obj == null || obj.isNull()){
+            return 0;
+        }
+        else if(obj.isBoolean()){
+            return 1;
+        }
+        else if(obj.isNumber()){
+            return 2;
+        }
+        else if(obj.isString()){
+            return 3;
+        }
+        return 4;
+    }
+
+    // endregion
+
+    // region sorting-reverse order
+
+    /**
+     * Reverses the order of elements in JObject Lists.
+     * <br>
+     * This function only works on lists.
+     * <br>
+     * This function is chainable.
+     * @return Returns the JObject list after the order of its elements has been reversed.
+     */
+    public JObject reverseOrder() throws WrongExecutionTypeException {
+        if (!getType().isList()){
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+        }
+
+        // reverses the order of the sub objects in place, by swapping elements at the end with elements near the start
+        getSubObjectsArray().reverse();
+
+        return this;
+    }
+
+    // endregion
+
+    // region comparator sort
+
+    public JObject sort(Comparator sortComparator) throws WrongExecutionTypeException {
+        if (!getType().isList()){
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List.name());
+        }
+
+        JObject[] subObjects = this.getValues();
+
+        Vector<String> subObjectsStrings = new Vector<>();
+
+        for(JObject obj : subObjects){
+            subObjectsStrings.add(obj.toString());
+        }
+
+        subObjectsStrings.sort(sortComparator);
+
+        JObject[] newSubObjects = new JObject[subObjectsStrings.size()];
+
+        for(int x = 0; x < newSubObjects.length; x += 1){
+            newSubObjects[x] = new JObject(subObjectsStrings.get(x));
+        }
+
+        getSubObjectsArray().setTo(newSubObjects);
+
+        return this;
+    }
+
+    // endregion
+
+    // endregion
+
+    // region contains value
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    @Override
+    public boolean containsValue(Object value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(value.toString());
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(double value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Double.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(float value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Float.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(long value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Long.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(int value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Integer.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(short value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Short.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(byte value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Byte.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(boolean value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(Boolean.toString(value));
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
+     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
+     * string JObject, then it checks weather or not the value's string from is contained within.
+     * @param value value whose presence in this JObject is to be tested
+     * @return Returns true if the value is contained within this object.
+     */
+    public boolean containsValue(char value){
+        if(isPrimitive()){
+            if(isString()){
+                return toJString().contains(value);
+            }
+            return false;
+        }
+
+        for(JObject obj : getValues()) {
+            if(obj.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // endregion
+
+    // region contains key
+
+    /**
+     * Returns true if this object contains a value mapping for the given key.
+     * @param key The key to be tested.
+     */
+    public boolean containsKey(int key){
+        return containsKey(Integer.toString(key));
+    }
+
+    /**
+     * Returns true if this object contains a value mapping for the given key.
+     * @param key The key to be tested.
+     */
+    public boolean containsKey(long key){
+        return containsKey(Long.toString(key));
+    }
+
+    /**
+     * Tests if the given object contains every instance of the given keys.
+     * @param keys The list of keys to be tested for.
+     * @return Returns false if any of the keys are missing, or else true.
+     */
+    public boolean containsEveryKey(Object... keys){
+        for(Object key : keys){
+            if(!containsKey(key)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests if the given object contains any instance of the given keys.
+     * @param keys The list of keys to be tested for.
+     * @return Returns true if any of the keys are present, or else false.
+     */
+    public boolean containsAnyKey(Object... keys){
+        return containsKey(keys);
+    }
+
+    // endregion
+
+    // region remove sub objects by keys
+
+    public JObject removeSubObjectsByKeys(String... keys){
+        if(getType().isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+
+        if(size() > 0) {
+            for (String key : keys) {
+                getSubObjects().remove(key);
+            }
+        }
+        return this;
+    }
+
+    public JObject removeAllSubObjectByKeysExcept(String... keys){
+
+        if(getType().isSet()){
+            throw new RuntimeException("Sets cannot be modified.");
+        }
+
+        HashMap<String, JObject> newSubObjects = new HashMap<>();
+
+        if(size() > 0) {
+            for (String key : keys) {
+                if (getSubObjects().containsKey(key)) {
+                    JObject subObject = getSubObjects().getOrDefault(key, null);
+                    if (subObject != null && subObject.isNull()) {
+                        subObject = null;
+                    }
+                    newSubObjects.put(key, subObject);
+                }
+            }
+        }
+
+        getSubObjects().clear();
+        getSubObjects().putAll(newSubObjects);
+
+        return this;
+    }
+
+    // endregion
+
+    // region casting shortcuts
+
+    public JPrimitive jPrimitiveValue() throws WrongExecutionTypeException {
+        if(isPrimitive() || isSymbol()){
+            JPrimitive output = new JPrimitive();
+            if(isNumber()){
+                output.setTo(jNumberValue());
+            }
+            else if(isBoolean()){
+                output.setTo(booleanValue());
+            }
+            else{
+                output.setTo(toJString());
+            }
+            return output;
+        }
+        throw new WrongExecutionTypeException(getTypeName(), new String[]{
+                ObjectTypes.Number.name(),
+                ObjectTypes.String.name(),
+                ObjectTypes.Boolean.name(),
+                ObjectTypes.Symbol.name(),
+                ObjectTypes.Operator.name()
+        });
+    }
+
+    // endregion
+
+    //region iterator function overrides
+
+    /**
+     * Returns an iterator of JObjects contained within this object.
+     * The iterator walks the sub-objects in place, rather than copying them into a new collection first.
+     * <br>
+     * If this object is a JObject of a primitive type, then the iterator will contain no elements.
+     * <br>
+     * If this object is a list or a set, then it will iterate over the objects in order of their index.
+     * <br>
+     * If this object is a set, then this will iterator over deep copies of each of the elements
+     * contained within this object. Each copy is made as the iterator reaches the element.
+     * <br>
+     * If this object is any other type, of non-primitive JObject, then the order of sub-objects iterated over
+     * will be random. The iterator walks a copy of the sub-objects taken when it's created, so the object can be
+     * changed while it's being iterated over.
+     */
+    @Override
+    public Iterator<JObject> iterator(){
+        JObjectArrayList list = isSet() ? readSubObjectsArray() : getSubObjectsArray();
+        if(list != null){
+            return list.iterator(getType().isSet());
+        }
+        else if(isPrimitive()){
+            return Collections.emptyIterator();
+        }
+        return Arrays.asList(getValues()).iterator();
+    }
+
+    /**
+     * Returns a spliterator over the same sub-objects as iterator().
+     * <br>
+     * For lists and sets it reports SIZED and SUBSIZED and splits the backing storage in halves,
+     * so parallel streams created with StreamSupport.stream(jObject.spliterator(), true) divide the work evenly.
+     * It's late-binding but not fail-fast : it reads the storage when it's first used, and sub-objects added or
+     * removed after that aren't detected.
+     * <br>
+     * For other types it walks a copy of the sub-objects taken when it's created, and reports IMMUTABLE.
+     */
+    @Override
+    public Spliterator<JObject> spliterator(){
+        JObjectArrayList list = isSet() ? readSubObjectsArray() : getSubObjectsArray();
+        if(list != null){
+            return list.spliterator(getType().isSet());
+        }
+        else if(isPrimitive()){
+            return Spliterators.emptySpliterator();
+        }
+        return Spliterators.spliterator(getValues(), Spliterator.IMMUTABLE);
+    }
+
+    // endregion
+
+    // region comparable function overrides
+
+    @Override
+    public int compareTo(JObject o) {
+        if(o == null){
+            return -1;
+        }
+
+        if(o == this) {
+            return 0;
+        }
+
+        if(o.isNull()) {
+            if(isNull()){
+                return 0;
+            }
+            else {
+                return -1;
+            }
+        }
+
+        return this.toString().compareTo(o.toString());
+    }
+
+    // endregion
+
+    // region execute function recursively
+
+    /**
+     * Number of JObjects a parallel execution task processes on its own thread before splitting the work further.
+     */
+    public static final int defaultParallelismThreshold = 1024;
+
+    /**
+     * Executes the process on every JObject within the calling JObject, including all nested JObjects.
+     * The first element modified will be the calling JObject.
+     * @param process The process to be executed.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeRecursively(JObjectExecutionPredicate<JObject> process){
+        return executeRecursively(process, true);
+    }
+
+    /**
+     * Executes the process on every JObject within the calling JObject, including all nested JObjects.
+     * The first element modified will be the calling JObject.
+     * @param process The process to be executed.
+     * @param cloneInput When true, the process receives a deep copy of each JObject. Pass false only if
+     *                   the process doesn't keep a reference to its input, in which case it receives the JObject itself.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeRecursively(JObjectExecutionPredicate<JObject> process, boolean cloneInput){
+        ArrayDeque<JObject> que = new ArrayDeque<>();
+        que.add(this);
+        while(!que.isEmpty()){
+            JObject loopObject = que.poll();
+
+            loopObject.execute(process, cloneInput);
+
+            if(!loopObject.isPrimitive() && loopObject.getSubObjects().size() > 0){
+                que.addAll(loopObject.getSubObjects().values());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Executes the process on every JObject within the calling JObject, including all nested JObjects,
+     * using the common ForkJoinPool.
+     * <br>
+     * Each JObject is processed before any of its sub objects, but separate branches are processed at the same time,
+     * so the process must be safe to call from multiple threads.
+     * @param process The process to be executed.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeRecursivelyInParallel(JObjectExecutionPredicate<JObject> process){
+        return executeRecursivelyInParallel(process, defaultParallelismThreshold, true);
+    }
+
+    /**
+     * Executes the process on every JObject within the calling JObject, including all nested JObjects,
+     * using the common ForkJoinPool.
+     * <br>
+     * Each JObject is processed before any of its sub objects, but separate branches are processed at the same time,
+     * so the process must be safe to call from multiple threads.
+     * @param process The process to be executed.
+     * @param parallelismThreshold Groups of sibling JObjects larger than this are split between threads.
+     * @param cloneInput When true, the process receives a deep copy of each JObject. Pass false only if
+     *                   the process doesn't keep a reference to its input, in which case it receives the JObject itself.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeRecursivelyInParallel(
+            JObjectExecutionPredicate<JObject> process, int parallelismThreshold, boolean cloneInput){
+        if(parallelismThreshold < 1){
+            throw new IllegalArgumentException("parallelismThreshold must be at least 1.");
+        }
+
+        JObject[] root = new JObject[]{this};
+        ForkJoinPool.commonPool().invoke(
+                new RecursiveExecutionTask(null, root, 0, 1, process, parallelismThreshold, cloneInput));
+        return this;
+    }
+
+    /**
+     * Executes the process on the calling JObject's sub objects;
+     * @param process The process to be executed.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeOnSubObjects(JObjectExecutionPredicate<JObject> process){
+        return executeOnSubObjects(process, true);
+    }
+
+    /**
+     * Executes the process on the calling JObject's sub objects;
+     * @param process The process to be executed.
+     * @param cloneInput When true, the process receives a deep copy of each sub object. Pass false only if
+     *                   the process doesn't keep a reference to its input, in which case it receives the sub object itself.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeOnSubObjects(JObjectExecutionPredicate<JObject> process, boolean cloneInput){
+        if(getType().isSet()){
+            throw new WrongExecutionTypeException(getTypeName(), "any JObject that isn't a Set");
+        }
+        getSubObjects().replaceAll((key, value) -> process.execute(cloneInput ? value.clone() : value));
+        return this;
+    }
+
+    /**
+     * Executes the process on the calling JObject's sub objects, using the common ForkJoinPool.
+     * The process must be safe to call from multiple threads.
+     * @param process The process to be executed.
+     * @param parallelismThreshold Groups of sub objects larger than this are split between threads.
+     * @param cloneInput When true, the process receives a deep copy of each sub object. Pass false only if
+     *                   the process doesn't keep a reference to its input, in which case it receives the sub object itself.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeOnSubObjectsInParallel(
+            JObjectExecutionPredicate<JObject> process, int parallelismThreshold, boolean cloneInput){
+        if(getType().isSet()){
+            throw new WrongExecutionTypeException(getTypeName(), "any JObject that isn't a Set");
+        }
+        if(parallelismThreshold < 1){
+            throw new IllegalArgumentException("parallelismThreshold must be at least 1.");
+        }
+
+        // replacing the value of an existing entry doesn't change the structure of the map,
+        // so each task can write to its own entries
+        List<Map.Entry<String, JObject>> entries = new ArrayList<>(getSubObjects().entrySet());
+        ForkJoinPool.commonPool().invoke(
+                new SubObjectExecutionTask(entries, 0, entries.size(), process, parallelismThreshold, cloneInput));
+        return this;
+    }
+
+    /**
+     * Executes the process on the calling JObject's sub objects, using the common ForkJoinPool.
+     * The process must be safe to call from multiple threads.
+     * @param process The process to be executed.
+     * @return Returns the calling JObject after all processing is complete.
+     */
+    public JObject executeOnSubObjectsInParallel(JObjectExecutionPredicate<JObject> process){
+        return executeOnSubObjectsInParallel(process, defaultParallelismThreshold, true);
+    }
+
+    private void execute(JObjectExecutionPredicate<JObject> process, boolean cloneInput){
+        setTo(process.execute(cloneInput ? clone() : this));
+    }
+
+    /**
+     * Processes a range of sibling JObjects, then moves on to all of their sub objects, one level at a time.
+     * Ranges larger than the threshold are split in halves, and levels that grow past the threshold are handed to a
+     * new task. Tasks are forked without waiting on them and signal their parent when they and their forks finish,
+     * so the stack doesn't grow with the depth of the tree.
+     */
+    private static final class RecursiveExecutionTask extends CountedCompleter<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JObject[] objects;
+        private final int start;
+        private final int end;
+        private final JObjectExecutionPredicate<JObject> process;
+        private final int parallelismThreshold;
+        private final boolean cloneInput;
+
+        private RecursiveExecutionTask(CountedCompleter<?> parent, JObject[] objects, int start, int end,
+                                       JObjectExecutionPredicate<JObject> process, int parallelismThreshold,
+                                       boolean cloneInput){
+            super(parent);
+            this.objects = objects;
+            this.start = start;
+            this.end = end;
+            this.process = process;
+            this.parallelismThreshold = parallelismThreshold;
+            this.cloneInput = cloneInput;
+        }
+
+        @Override
+        public void compute() {
+            int rangeEnd = end;
+            while(rangeEnd - start > parallelismThreshold){
+                int middle = (start + rangeEnd) >>> 1;
+                addToPendingCount(1);
+                new RecursiveExecutionTask(this, objects, middle, rangeEnd, process, parallelismThreshold, cloneInput)
+                        .fork();
+                rangeEnd = middle;
+            }
+
+            ArrayList<JObject> level = new ArrayList<>(rangeEnd - start);
+            for(int x = start; x < rangeEnd; x += 1){
+                level.add(objects[x]);
+            }
+
+            while(!level.isEmpty()){
+                ArrayList<JObject> subObjects = new ArrayList<>();
+                for(JObject loopObject : level){
+                    loopObject.execute(process, cloneInput);
+
+                    if(!loopObject.isPrimitive() && loopObject.getSubObjects().size() > 0){
+                        subObjects.addAll(loopObject.getSubObjects().values());
+                    }
+                }
+
+                if(subObjects.size() > parallelismThreshold){
+                    JObject[] nextObjects = subObjects.toArray(new JObject[0]);
+                    addToPendingCount(1);
+                    new RecursiveExecutionTask(this, nextObjects, 0, nextObjects.length, process, parallelismThreshold,
+                            cloneInput).fork();
+                    break;
+                }
+                level = subObjects;
+            }
+
+            tryComplete();
+        }
+    }
+
+    /**
+     * Replaces the values of a range of map entries with the result of the process.
+     * Ranges larger than the threshold are split in halves and processed in parallel.
+     */
+    private static final class SubObjectExecutionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Map.Entry<String, JObject>> entries;
+        private final int start;
+        private final int end;
+        private final JObjectExecutionPredicate<JObject> process;
+        private final int parallelismThreshold;
+        private final boolean cloneInput;
+
+        private SubObjectExecutionTask(List<Map.Entry<String, JObject>> entries, int start, int end,
+                                       JObjectExecutionPredicate<JObject> process, int parallelismThreshold,
+                                       boolean cloneInput){
+            this.entries = entries;
+            this.start = start;
+            this.end = end;
+            this.process = process;
+            this.parallelismThreshold = parallelismThreshold;
+            this.cloneInput = cloneInput;
+        }
+
+        @Override
+        protected void compute() {
+            if(end - start > parallelismThreshold){
+                int middle = (start + end) >>> 1;
+                invokeAll(
+                        new SubObjectExecutionTask(entries, start, middle, process, parallelismThreshold, cloneInput),
+                        new SubObjectExecutionTask(entries, middle, end, process, parallelismThreshold, cloneInput));
+                return;
+            }
+
+            for(int x = start; x < end; x += 1){
+                Map.Entry<String, JObject> entry = entries.get(x);
+                JObject value = entry.getValue();
+                entry.setValue(process.execute(cloneInput ? value.clone() : value));
+            }
+        }
+    }
+
+    // endregion
+
+    // region manipulating via predicates
+
+    /**
+     * Copies all sub objects from a list or set that meet the condition.
+     * @param condition The condition by which the sub objects are identified to be copied.
+     * @return Returns an array containing all objects from the list or set that meet the condition.
+     */
+    public JObject[] copyIf(Predicate<? super JObject> condition){
+        if(!getType().isList() && !getType().isSet()){
+            throw new WrongExecutionTypeException(
+                    getTypeName(),
+                    new ObjectTypes[]{ObjectTypes.List, ObjectTypes.Set});
+        }
+
+        ArrayList<JObject> output = new ArrayList<>();
+
+        if(getType().isSet()){
+            for(JObject ele : this){
+                if(condition.test(ele)){
+                    output.add(ele.clone());
+                }
+            }
+        }
+        else{
+            for(JObject ele : this){
+                if(condition.test(ele)){
+                    output.add(ele);
+                }
+            }
+        }
+
+        return output.toArray(new JObject[0]);
+    }
+
+    /**
+     * Copies all sub objects from a list or set that do not meet the condition.
+     * @param condition The condition by which the sub objects are identified to be excluded.
+     * @return Returns an array containing all objects from the list or set that do not meet the condition.
+     */
+    public JObject[] copyIfNot(Predicate<? super JObject> condition){
+        return copyIf(condition.negate());
+    }
+
+    /**
+     * Removes all sub objects from a list if they meet the condition.
+     * @param condition The condition by which the sub objects are identified to be removed.
+     * @return Returns the object on which this method was called after it has been modified.
+     */
+    public JObject removeIf(Predicate<? super JObject> condition){
+        if(!getType().isList()){
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List);
+        }
+
+        ArrayList<JObject> output = new ArrayList<>();
+        for(JObject ele : this){
+            if(!condition.test(ele)){
+                output.add(ele);
+            }
+        }
+
+        setTo(output.toArray(new JObject[0]));
+
+        return this;
+    }
+
+    /**
+     * Removes all sub objects from a list if they do not meet the condition.
+     * @param condition The condition by which the sub objects are identified to be kept.
+     * @return Returns the object on which this method was called after it has been modified.
+     */
+    public JObject removeIfNot(Predicate<? super JObject> condition){
+        return removeIf(condition.negate());
+    }
+
+    // endregion
+
+    // region json functions
+
+    public static final String JSON_BOOLEAN_VALUE_KEY = "boolean_value";
+    public static final String JSON_INTEGER_VALUE_KEY = "integer_value";
+    public static final String JSON_LONG_VALUE_KEY = "long_value";
+    public static final String JSON_DOUBLE_VALUE_KEY = "double_value";
+    public static final String JSON_STRING_VALUE_KEY = "string_value";
+    public static final String JSON_LIST_VALUE_KEY = "list_value";
+    public static final String JSON_SET_VALUE_KEY = "set_value";
+
+    private Object getPrimitiveValueAsObject(){
+        if(isDouble()){
+            return doubleValue();
+        }
+        else if(isFloat()){
+            return floatValue();
+        }
+        else if(isLong()){
+            return longValue();
+        }
+        else if(isInteger()){
+            return intValue();
+        }
+        else if(isShort()){
+            return shortValue();
+        }
+        else if(isByte()){
+            return byteValue();
+        }
+        else if(isBoolean()){
+            return booleanValue();
+        }
+        else{
+            return toString(false);
+        }
+    }
+
+    /**
+     * Converts the calling JObject into a valid JSON value.
+     * <br>
+     * If the verbose flag is set false, then only the value will be returned. Primitive values will be converted
+     * into the appropriate matching JSON value type, lists and sets will be converted into JSONArrays and all
+     * other JObjects will be converted into JSON objects with match key-value pairs.
+     * <br>
+     * If the verbose flag is set to true, then the function will wrap any primitive values, lists and sets inside
+     * a JSON object with a single key-value pair. The key will be the matching JSON_[type]_VALUE_KEY constant for
+     * the value. This affect is recursive to the entire JObject and its contents.
+     * @param verbose Boolean flag controlling how concise the returned value is.
+     * @return Returns a Boolean, Integer, Long, Double, String, JSONArray or JSONObject: depending on the
+     * type of the calling JObject and the value of the verbose flag.
+     */
+    public Object toJSONElement(boolean verbose){
+        if(isNull()){
+            return JSONObject.NULL;
+        }
+        else if(isBoolean()){
+            Object value = getPrimitiveValueAsObject();
+            if(verbose){
+                JSONObject output = new JSONObject();
+                output.put(JSON_BOOLEAN_VALUE_KEY, value);
+                return output;
+            }
+            else{
+                return value;
+            }
+        }
+        else if(isByte() || isShort() || isInteger()){
+            Object value = intValue();
+            if(verbose){
+                JSONObject output = new JSONObject();
+                output.put(JSON_INTEGER_VALUE_KEY, value);
+                return output;
+            }
+            else{
+                return value;
+            }
+        }
+        else if(isLong()){
+            Object value = longValue();
+            if(verbose) {
+                JSONObject output = new JSONObject();
+                output.put(JSON_LONG_VALUE_KEY, value);
+                return output;
+            }
+            else{
+                return value;
+            }
+        }
+        else if(isFloat() || isDouble()){
+            Object value = jNumberValue().doubleValue();
+            if(verbose) {
+                JSONObject output = new JSONObject();
+                output.put(JSON_DOUBLE_VALUE_KEY, value);
+                return output;
+            }
+            else{
+                return value;
+            }
+        }
+        else if(isString()){
+            Object value = toString(false);
+            if(verbose) {
+                JSONObject output = new JSONObject();
+                output.put(JSON_STRING_VALUE_KEY, value);
+                return output;
+            }
+            else{
+                return value;
+            }
+        }
+        else if(getType().isSet() || getType().isList()) {
+            if(verbose){
+                JSONObject output = new JSONObject();
+                JSONArray value = new JSONArray();
+
+                ArrayList<Object> subObjects = new ArrayList<>();
+                for(JObject subObject : this){
+                    subObjects.add(subObject.toJSONElement(true));
+                }
+
+                value.putAll(subObjects);
+
+                if(getType().isSet()){
+                    output.put(JSON_SET_VALUE_KEY, value);
+                }
+                else{
+                    output.put(JSON_LIST_VALUE_KEY, value);
+                }
+
+                return output;
+            }
+            else{
+                JSONArray output = new JSONArray();
+
+                ArrayList<Object> subObjects = new ArrayList<>();
+                for(JObject subObject : this){
+                    subObjects.add(subObject.toJSONElement(false));
+                }
+
+                output.putAll(subObjects);
+
+                return output;
+            }
+
+        }
+        else {
+            JSONObject output = new JSONObject();
+            if (this.readSubObjects() != null) {
+                for (Map.Entry<String, JObject> entry : this.entrySet()) {
+                    output.put(entry.getKey(), entry.getValue().toJSONElement(verbose));
+                }
+
+                if (!getType().isDictionary() && getTypeName() != null && getTypeName().length() > 0) {
+                    output.put(ParameterName_ClassName, this.getTypeName());
+                }
+            }
+            return output;
+        }
+    }
+
+    /**
+     * Overload that defaults to a non-verbose execution.
+     * @return Returns a Boolean, Integer, Long, Double, String, JSONArray or JSONObject: depending on the
+     * type of the calling JObject.
+     */
+    public Object toJSONElement(){
+        return this.toJSONElement(false);
+    }
+
+    /**
+     * Creates a new JSONObject from the existing JObject instance.
+     * <br>
+     * <br>
+     * If the JObject is a list, a set or a primitive value, this function will still return a JSONObject,
+     * with a single key value pair. The key will be one of the matching JSON_[type]_VALUE_KEY constants.
+     * The value will be of the corresponding JSON value type. (Boolean, Integer, Long, Double, String, JSONArray)
+     * <br>
+     * @return Returns a JSON object with the same corresponding values as the calling JObject instance.
+     */
+    public JSONObject toJSONObject(){
+        JSONObject output = new JSONObject();
+        if(isNull()){
+            return null;
+        }
+        else if(isPrimitive()){
+            return (JSONObject)this.toJSONElement(true);
+        }
+        else if(getType().isList() || getType().isSet()) {
+            JSONArray value = new JSONArray();
 
-    /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
-     */
-    @Override
-    public boolean containsValue(Object value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(value.toString());
+            ArrayList<Object> subObjects = new ArrayList<>();
+            for(JObject subObject : this){
+                subObjects.add(subObject.toJSONElement(false));
             }
-            return false;
-        }
+            value.putAll(subObjects);
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
+            if(getType().isList()) {
+                output.put(JSON_LIST_VALUE_KEY, value);
+            }
+            else{
+                output.put(JSON_SET_VALUE_KEY, value);
             }
+            return output;
         }
+        else{
+            if(!isPrimitive()) {
+                for (Map.Entry<String, JObject> entry : readSubObjects().entrySet()) {
+                    if(entry.getValue() != null) {
+                        if(entry.getValue().isPrimitive()){
+                            output.put(entry.getKey(), entry.getValue().toJSONElement(false));
+                        }
+                        else if(entry.getValue().getType().isList() || entry.getValue().getType().isSet()){
+                            JSONArray value = new JSONArray();
 
-        return false;
-    }
+                            ArrayList<Object> subObjects = new ArrayList<>();
+                            for(JObject subObject : entry.getValue()){
+                                subObjects.add(subObject.toJSONElement(false));
+                            }
 
-    /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
-     */
-    public boolean containsValue(double value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Double.toString(value));
+                            value.putAll(subObjects);
+                            output.put(entry.getKey(), value);
+                        }
+                        else {
+                            output.put(entry.getKey(), entry.getValue().toJSONElement());
+                        }
+                    }
+                    else{
+                        output.put(entry.getKey(), JSONObject.NULL);
+                    }
+                }
             }
-            return false;
-        }
-
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
+            if(!getType().isDictionary() && getTypeName() != null && getTypeName().length() > 0){
+                output.put(ParameterName_ClassName, getTypeName());
             }
         }
-        return false;
+        return output;
     }
 
     /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
+     * Writes the same JSON as {@link #toJSONElement(boolean)} directly to the given output, one sub object at a
+     * time, without building a JSONObject or JSONArray tree first.
+     * <br>
+     * The class name of a non-dictionary object is written as its first key instead of its last, and null sub
+     * objects are written as null.
+     * @param output Appendable : the destination of the JSON text.
+     * @param verbose Boolean flag controlling whether values are wrapped with the JSON_[type]_VALUE_KEY constants.
+     * @throws IOException if the output can't be written to.
      */
-    public boolean containsValue(float value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Float.toString(value));
-            }
-            return false;
-        }
+    public void writeJSON(Appendable output, boolean verbose) throws IOException {
+        nullCheck(output, "output");
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
-            }
-        }
-        return false;
+        writeJSON_prv(output, verbose);
     }
 
     /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
+     * Writes the same JSON as {@link #toJSONElement(boolean)} to the given stream, encoded as UTF-8, and flushes it.
+     * The stream is left open.
+     * @param output OutputStream : the destination of the JSON text.
+     * @param verbose Boolean flag controlling whether values are wrapped with the JSON_[type]_VALUE_KEY constants.
+     * @throws IOException if the stream can't be written to.
      */
-    public boolean containsValue(long value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Long.toString(value));
-            }
-            return false;
-        }
+    public void writeJSON(OutputStream output, boolean verbose) throws IOException {
+        nullCheck(output, "output");
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
-            }
-        }
-        return false;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writeJSON_prv(writer, verbose);
+        writer.flush();
     }
 
     /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
+     * Creates the same JSON text as {@link #toJSONElement(boolean)}, without building a JSONObject or JSONArray
+     * tree first.
+     * @param verbose Boolean flag controlling whether values are wrapped with the JSON_[type]_VALUE_KEY constants.
+     * @return Returns the JSON text.
      */
-    public boolean containsValue(int value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Integer.toString(value));
-            }
-            return false;
+    public String toJSONString(boolean verbose){
+        StringBuilder output = new StringBuilder();
+        try {
+            writeJSON_prv(output, verbose);
         }
-
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
-            }
+        catch (IOException e){
+            throw new RuntimeException(e);
         }
-        return false;
+        return output.toString();
     }
 
     /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
+     * Overload that defaults to a non-verbose execution.
      */
-    public boolean containsValue(short value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Short.toString(value));
+    public String toJSONString(){
+        return toJSONString(false);
+    }
+
+    private void writeJSON_prv(Appendable output, boolean verbose) throws IOException {
+        if(isNull()){
+            output.append("null");
+        }
+        else if(isBoolean()){
+            writeJSONPrimitive(output, verbose, JSON_BOOLEAN_VALUE_KEY, booleanValue() ? "true" : "false");
+        }
+        else if(isByte() || isShort() || isInteger()){
+            writeJSONPrimitive(output, verbose, JSON_INTEGER_VALUE_KEY, Integer.toString(intValue()));
+        }
+        else if(isLong()){
+            writeJSONPrimitive(output, verbose, JSON_LONG_VALUE_KEY, Long.toString(longValue()));
+        }
+        else if(isFloat() || isDouble()){
+            writeJSONPrimitive(output, verbose, JSON_DOUBLE_VALUE_KEY, jsonNumberString(jNumberValue().doubleValue()));
+        }
+        else if(isString()){
+            if(verbose){
+                output.append('{');
+                writeJSONString(output, JSON_STRING_VALUE_KEY);
+                output.append(':');
+            }
+            writeJSONString(output, toString(false));
+            if(verbose){
+                output.append('}');
             }
-            return false;
         }
+        else if(getType().isSet() || getType().isList()){
+            if(verbose){
+                output.append('{');
+                writeJSONString(output, getType().isSet() ? JSON_SET_VALUE_KEY : JSON_LIST_VALUE_KEY);
+                output.append(':');
+            }
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
+            output.append('[');
+            JObjectArrayList elements = readSubObjectsArray();
+            for(int x = 0; x < elements.size(); x += 1){
+                if(x > 0){
+                    output.append(',');
+                }
+
+                JObject element = elements.peek(x);
+                if(element != null){
+                    element.writeJSON_prv(output, verbose);
+                }
+                else{
+                    output.append("null");
+                }
             }
-        }
-        return false;
-    }
+            output.append(']');
 
-    /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
-     */
-    public boolean containsValue(byte value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Byte.toString(value));
+            if(verbose){
+                output.append('}');
             }
-            return false;
         }
+        else {
+            output.append('{');
+            Map<String, JObject> subObjects = readSubObjects();
+            if(subObjects != null){
+                boolean firstEntry = true;
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
+                if (!getType().isDictionary() && getTypeName() != null && getTypeName().length() > 0) {
+                    writeJSONString(output, ParameterName_ClassName);
+                    output.append(':');
+                    writeJSONString(output, getTypeName());
+                    firstEntry = false;
+                }
+
+                for(Map.Entry<String, JObject> entry : subObjects.entrySet()){
+                    if(!firstEntry){
+                        output.append(',');
+                    }
+
+                    writeJSONString(output, entry.getKey());
+                    output.append(':');
+                    if(entry.getValue() != null){
+                        entry.getValue().writeJSON_prv(output, verbose);
+                    }
+                    else{
+                        output.append("null");
+                    }
+
+                    firstEntry = false;
+                }
             }
+            output.append('}');
         }
-        return false;
     }
 
-    /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
-     */
-    public boolean containsValue(boolean value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(Boolean.toString(value));
-            }
-            return false;
+    private static void writeJSONPrimitive(Appendable output, boolean verbose, String valueKey, String value)
+            throws IOException {
+        if(verbose){
+            output.append('{');
+            writeJSONString(output, valueKey);
+            output.append(':').append(value).append('}');
         }
-
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
-            }
+        else{
+            output.append(value);
         }
-        return false;
     }
 
-    /**
-     * Tests weather the value is contained within this JObject. If this JObject is a non-primitive type
-     * (list, set, dictionary, etc..), this method checks the contained sub objects for a match. If this JObject is a
-     * string JObject, then it checks weather or not the value's string from is contained within.
-     * @param value value whose presence in this JObject is to be tested
-     * @return Returns true if the value is contained within this object.
-     */
-    public boolean containsValue(char value){
-        if(isPrimitive()){
-            if(isString()){
-                return toJString().contains(value);
-            }
-            return false;
+    // matches the way org.json writes doubles, trailing zeros after the decimal point are removed
+    private static String jsonNumberString(double value){
+        if(Double.isNaN(value) || Double.isInfinite(value)){
+            throw new IllegalArgumentException("JSON does not allow non-finite numbers.");
         }
 
-        for(JObject obj : getValues()) {
-            if(obj.equals(value)) {
-                return true;
+        String output = Double.toString(value);
+        if(output.indexOf('.') > 0 && output.indexOf('e') < 0 && output.indexOf('E') < 0){
+            int end = output.length();
+            while(output.charAt(end - 1) == '0'){
+                end -= 1;
             }
+            if(output.charAt(end - 1) == '.'){
+                end -= 1;
+            }
+            output = output.substring(0, end);
         }
-        return false;
+        return output;
     }
 
-    // endregion
-
-    // region contains key
+    private static void writeJSONString(Appendable output, CharSequence value) throws IOException {
+        output.append('"');
+        for(int x = 0; x < value.length(); x += 1){
+            char c = value.charAt(x);
+            switch (c) {
+                case '"' -> output.append("\\\"");
+                case '\\' -> output.append("\\\\");
+                case '\b' -> output.append("\\b");
+                case '\f' -> output.append("\\f");
+                case '\n' -> output.append("\\n");
+                case '\r' -> output.append("\\r");
+                case '\t' -> output.append("\\t");
+                default -> {
+                    if(c < ' ' || c == '\u2028' || c == '\u2029'){
+                        String hex = Integer.toHexString(c);
+                        output.append("\\u");
+                        for(int y = hex.length(); y < 4; y += 1){
+                            output.append('0');
+                        }
+                        output.append(hex);
+                    }
+                    else{
+                        output.append(c);
+                    }
+                }
+            }
+        }
+        output.append('"');
+    }
 
     /**
-     * Returns true if this object contains a value mapping for the given key.
-     * @param key The key to be tested.
+     * Reads a single JSON value from the given reader, straight into a JObject, without building a JSONObject or
+     * JSONArray tree first.
+     * <br>
+     * Objects containing a string under {@link #ParameterName_ClassName} take it as their class name, and objects
+     * whose only key is one of the JSON_[type]_VALUE_KEY constants are replaced by that key's value, so the output
+     * of {@link #toJSONElement(boolean)} is read back in both its verbose and non-verbose forms. JSON strings are
+     * kept as strings, they are not evaluated.
+     * @param input Reader : the source of the JSON text. It is read to the end, but not closed.
+     * @return Returns the JObject created from the JSON value.
+     * @throws FailedParseException if the input isn't a single valid JSON value.
+     * @throws IOException if the input can't be read.
      */
-    public boolean containsKey(int key){
-        return containsKey(Integer.toString(key));
+    public static JObject readJSON(Reader input) throws IOException {
+        nullCheck(input, "input");
+
+        return new JSONParser(input).parseRoot();
     }
 
     /**
-     * Returns true if this object contains a value mapping for the given key.
-     * @param key The key to be tested.
+     * Reads a single UTF-8 encoded JSON value from the given stream, straight into a JObject. See
+     * {@link #readJSON(Reader)}.
      */
-    public boolean containsKey(long key){
-        return containsKey(Long.toString(key));
+    public static JObject readJSON(InputStream input) throws IOException {
+        nullCheck(input, "input");
+
+        return readJSON(new InputStreamReader(input, StandardCharsets.UTF_8));
     }
 
     /**
-     * Tests if the given object contains every instance of the given keys.
-     * @param keys The list of keys to be tested for.
-     * @return Returns false if any of the keys are missing, or else true.
+     * Reads a single JSON value from the given text, straight into a JObject. See {@link #readJSON(Reader)}.
      */
-    public boolean containsEveryKey(Object... keys){
-        for(Object key : keys){
-            if(!containsKey(key)){
-                return false;
-            }
+    public static JObject parseJSON(CharSequence input){
+        nullCheck(input, "input");
+
+        try {
+            return readJSON(new StringReader(input.toString()));
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
         }
-        return true;
     }
 
     /**
-     * Tests if the given object contains any instance of the given keys.
-     * @param keys The list of keys to be tested for.
-     * @return Returns true if any of the keys are present, or else false.
+     * Single pass JSON parser that creates each sub object as soon as it has been read. The input is read through a
+     * small buffer, so the only tree that is built is the JObject tree itself.
      */
-    public boolean containsAnyKey(Object... keys){
-        return containsKey(keys);
-    }
+    private static final class JSONParser {
 
-    // endregion
+        private static final int bufferSize = 8192;
 
-    // region remove sub objects by keys
+        private final Reader input;
+        private final char[] buffer = new char[bufferSize];
+        private int bufferPosition = 0;
+        private int bufferLength = 0;
+        private final StringBuilder token = new StringBuilder();
 
-    public JObject removeSubObjectsByKeys(String... keys){
-        if(getType().isSet()){
-            throw new RuntimeException("Sets cannot be modified.");
+        private JSONParser(Reader input){
+            this.input = input;
         }
 
-        if(size() > 0) {
-            for (String key : keys) {
-                getSubObjects().remove(key);
+        // region character input
+
+        private boolean fill() throws IOException {
+            int count = input.read(buffer, 0, buffer.length);
+            while(count == 0){
+                count = input.read(buffer, 0, buffer.length);
             }
+            if(count == -1){
+                return false;
+            }
+            bufferPosition = 0;
+            bufferLength = count;
+            return true;
         }
-        return this;
-    }
 
-    public JObject removeAllSubObjectByKeysExcept(String... keys){
+        private int peek() throws IOException {
+            if(bufferPosition == bufferLength && !fill()){
+                return -1;
+            }
+            return buffer[bufferPosition];
+        }
 
-        if(getType().isSet()){
-            throw new RuntimeException("Sets cannot be modified.");
+        private int read() throws IOException {
+            if(bufferPosition == bufferLength && !fill()){
+                return -1;
+            }
+            return buffer[bufferPosition++];
         }
 
-        HashMap<String, JObject> newSubObjects = new HashMap<>();
+        private int peekNonWhitespace() throws IOException {
+            int c = peek();
+            while(c == ' ' || c == '\t' || c == '\n' || c == '\r'){
+                bufferPosition += 1;
+                c = peek();
+            }
+            return c;
+        }
 
-        if(size() > 0) {
-            for (String key : keys) {
-                if (getSubObjects().containsKey(key)) {
-                    JObject subObject = getSubObjects().getOrDefault(key, null);
-                    if (subObject.isNull()) {
-                        subObject = null;
-                    }
-                    newSubObjects.put(key, subObject);
-                }
+        private void expect(char expected) throws IOException {
+            int c = read();
+            if(c != expected){
+                throw unexpected(c, "\"" + expected + "\"");
             }
         }
 
-        getSubObjectsContainer().setHashMap(newSubObjects);
+        private static FailedParseException unexpected(int c, String expected){
+            if(c == -1){
+                return new FailedParseException("The JSON input ended where " + expected + " was expected.");
+            }
+            return new FailedParseException("Expected " + expected + " in the JSON input, but found \"" + (char) c + "\".");
+        }
 
-        return this;
-    }
+        // endregion
 
-    // endregion
+        // region grammar
 
-    // region casting shortcuts
+        private JObject parseRoot() throws IOException {
+            JObject output = parseValue();
 
-    public JPrimitive jPrimitiveValue() throws WrongExecutionTypeException {
-        if(isPrimitive() || isSymbol()){
-            JPrimitive output = new JPrimitive();
-            if(isNumber()){
-                output.setTo(jNumberValue());
-            }
-            else if(isBoolean()){
-                output.setTo(booleanValue());
-            }
-            else{
-                output.setTo(toJString());
+            int c = peekNonWhitespace();
+            if(c != -1){
+                throw unexpected(c, "the end of the input");
             }
             return output;
         }
-        throw new WrongExecutionTypeException(getTypeName(), new String[]{
-                ObjectTypes.Number.name(),
-                ObjectTypes.String.name(),
-                ObjectTypes.Boolean.name(),
-                ObjectTypes.Symbol.name(),
-                ObjectTypes.Operator.name()
-        });
-    }
 
-    // endregion
+        private JObject parseValue() throws IOException {
+            int c = peekNonWhitespace();
+            return switch (c) {
+                case '{' -> parseObject();
+                case '[' -> parseArray();
+                case '"' -> createStringJObject(parseString());
+                case 't' -> parseLiteral("true", new JObject(true));
+                case 'f' -> parseLiteral("false", new JObject(false));
+                case 'n' -> parseLiteral("null", new JObject());
+                default -> {
+                    if(c == '-' || (c >= '0' && c <= '9')){
+                        yield parseNumber();
+                    }
+                    throw unexpected(c, "a value");
+                }
+            };
+        }
 
-    //region iterator function overrides
+        private JObject parseObject() throws IOException {
+            read();
 
-    /**
-     * Returns an iterator of JObjects contained within this object.
-     * <br>
-     * If this object is a JObject of a primitive type, then the iterator will contain no elements.
-     * <br>
-     * If this object is a list or a set, then it will iterate over the objects in order of their index.
-     * <br>
-     * If this object is a set, then this will iterator over deep copies of each of the elements
-     * contained within this object.
-     * <br>
-     * If this object is any other type, of non-primitive JObject, then the order of sub-objects iterated over
-     * will be random.
-     */
-    @Override
-    public Iterator<JObject> iterator(){
+            JObject output = new JObject();
+            output.setTypeName(ObjectTypes.Dictionary);
+            output.resetSubObjects();
+            Map<String, JObject> subObjects = output.readSubObjects();
+            String className = null;
 
-        ArrayList<JObject> children = new ArrayList<>();
-        if(isList() || isSet()){
-            for(int x = 0; x < size(); x += 1){
-                children.add(this.getValue(x));
+            if(peekNonWhitespace() == '}'){
+                read();
+                return output;
             }
-        }
-        else if(isPrimitive()){
-            // do nothing, empty list
-        }
-        else{
-            children.addAll(List.of(this.getValues()));
-        }
 
-        return new Iterator<JObject>() {
+            while(true){
+                if(peekNonWhitespace() != '"'){
+                    throw unexpected(peek(), "a key");
+                }
+                String key = parseString();
 
-            private int currentIndex = 0;
+                peekNonWhitespace();
+                expect(':');
+                JObject value = parseValue();
 
-            @Override
-            public boolean hasNext() {
-                return currentIndex < size();
-            }
+                if(key.equals(ParameterName_ClassName) && value.isString()){
+                    className = value.toString(false);
+                }
+                else{
+                    subObjects.put(key, value.isNull() ? null : value);
+                }
 
-            @Override
-            public JObject next() {
-                return children.get(currentIndex++);
+                int c = peekNonWhitespace();
+                read();
+                if(c == '}'){
+                    break;
+                }
+                else if(c != ','){
+                    throw unexpected(c, "\",\" or \"}\"");
+                }
             }
 
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+            if(className != null){
+                output.setTypeName(className);
+                return output;
             }
-        };
-    }
-
-    // endregion
 
-    // region comparable function overrides
+            // objects holding a single JSON_[type]_VALUE_KEY stand for the value itself
+            if(subObjects.size() == 1){
+                Map.Entry<String, JObject> entry = subObjects.entrySet().iterator().next();
+                switch (entry.getKey()) {
+                    case JSON_BOOLEAN_VALUE_KEY, JSON_INTEGER_VALUE_KEY, JSON_LONG_VALUE_KEY, JSON_DOUBLE_VALUE_KEY,
+                            JSON_STRING_VALUE_KEY, JSON_LIST_VALUE_KEY -> {
+                        return entry.getValue() != null ? entry.getValue() : new JObject();
+                    }
+                    case JSON_SET_VALUE_KEY -> {
+                        JObject value = entry.getValue();
+                        if(value == null){
+                            return new JObject();
+                        }
+                        if(value.getType().isList()){
+                            value.convertListToSet();
+                        }
+                        return value;
+                    }
+                }
+            }
 
-    @Override
-    public int compareTo(JObject o) {
-        if(o == null){
-            return -1;
+            return output;
         }
 
-        if(o == this) {
-            return 0;
-        }
+        private JObject parseArray() throws IOException {
+            read();
 
-        if(o.isNull()) {
-            if(isNull()){
-                return 0;
+            JObject output = new JObject();
+            output.setTypeName(ObjectTypes.List);
+            output.resetSubObjects();
+            JObjectArrayList elements = output.readSubObjectsArray();
+
+            if(peekNonWhitespace() == ']'){
+                read();
+                return output;
             }
-            else {
-                return -1;
+
+            while(true){
+                JObject element = parseValue();
+                elements.add(element.isNull() ? null : element);
+
+                int c = peekNonWhitespace();
+                read();
+                if(c == ']'){
+                    break;
+                }
+                else if(c != ','){
+                    throw unexpected(c, "\",\" or \"]\"");
+                }
             }
+
+            return output;
         }
 
-        return this.toString().compareTo(o.toString());
-    }
+        private String parseString() throws IOException {
+            read();
+            token.setLength(0);
 
-    // endregion
+            while(true){
+                int c = read();
+                if(c == '"'){
+                    return token.toString();
+                }
+                if(c == -1 || c < ' '){
+                    throw unexpected(c, "the end of a string");
+                }
 
-    // region execute function recursively
+                if(c == '\\'){
+                    c = read();
+                    switch (c) {
+                        case '"', '\\', '/' -> token.append((char) c);
+                        case 'b' -> token.append('\b');
+                        case 'f' -> token.append('\f');
+                        case 'n' -> token.append('\n');
+                        case 'r' -> token.append('\r');
+                        case 't' -> token.append('\t');
+                        case 'u' -> {
+                            int codeUnit = 0;
+                            for(int x = 0; x < 4; x += 1){
+                                int digit = Character.digit(read(), 16);
+                                if(digit == -1){
+                                    throw new FailedParseException("Invalid unicode escape in a JSON string.");
+                                }
+                                codeUnit = codeUnit * 16 + digit;
+                            }
+                            token.append((char) codeUnit);
+                        }
+                        default -> throw unexpected(c, "an escape character");
+                    }
+                }
+                else{
+                    token.append((char) c);
+                }
+            }
+        }
 
-    /**
-     * Executes the process on every JObject within the calling JObject, including all nested JObjects.
-     * The first element modified will be the calling JObject.
-     * @param process The process to be executed.
-     * @return Returns the calling JObject after all processing is complete.
-     */
-    public JObject executeRecursively(JObjectExecutionPredicate<JObject> process){
-        ArrayList<JObject> que = new ArrayList<>();
-        que.add(this);
-        while(que.size() > 0){
-            JObject loopObject = que.get(0);
-            que.remove(0);
+        private JObject parseLiteral(String literal, JObject output) throws IOException {
+            for(int x = 0; x < literal.length(); x += 1){
+                int c = read();
+                if(c != literal.charAt(x)){
+                    throw unexpected(c, "\"" + literal + "\"");
+                }
+            }
+            return output;
+        }
 
-            loopObject.setTo(process.execute(loopObject.clone()));
+        private JObject parseNumber() throws IOException {
+            token.setLength(0);
+            boolean integral = true;
 
-            if(!loopObject.isPrimitive() && loopObject.getSubObjects().size() > 0){
-                que.addAll(loopObject.getSubObjects().values());
+            int c = peek();
+            while(c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9')){
+                if(c == '.' || c == 'e' || c == 'E'){
+                    integral = false;
+                }
+                token.append((char) read());
+                c = peek();
             }
-        }
 
-        return this;
-    }
+            String text = token.toString();
+            JNumber number;
+            try {
+                if(integral){
+                    try {
+                        number = new JNumber(Long.parseLong(text));
+                    }
+                    catch (NumberFormatException e){
+                        // whole numbers too large for a long are kept as doubles
+                        number = new JNumber(new BigInteger(text).doubleValue());
+                    }
+                }
+                else{
+                    number = new JNumber(Double.parseDouble(text));
+                }
+            }
+            catch (NumberFormatException e){
+                throw new FailedParseException("\"" + text + "\" is not a valid JSON number.");
+            }
 
-    /**
-     * Executes the process on the calling JObject's sub objects;
-     * @param process The process to be executed.
-     * @return Returns the calling JObject after all processing is complete.
-     */
-    public JObject executeOnSubObjects(JObjectExecutionPredicate<JObject> process){
-        if(getType().isSet()){
-            throw new WrongExecutionTypeException(getTypeName(), "any JObject that isn't a Set");
+            JObject output = new JObject();
+            output.setTo(number);
+            return output;
         }
-        getSubObjects().replaceAll((key, value) -> process.execute(value.clone()));
-        return this;
+
+        // endregion
     }
 
     // endregion
 
-    // region manipulating via predicates
+    // region binary functions
 
     /**
-     * Copies all sub objects from a list or set that meet the condition.
-     * @param condition The condition by which the sub objects are identified to be copied.
-     * @return Returns an array containing all objects from the list or set that meet the condition.
+     * Writes this object to the given stream in a compact binary format, which {@link #readBinary(InputStream)}
+     * reads back into an exact copy. Numbers keep their exact type (Byte, Short, Integer, Long, Float or Double),
+     * strings and keys are stored as they are, and custom class names are kept. Nothing has to be re-parsed or
+     * re-detected when the object is read.
+     * <br>
+     * The object is written as a single frame : a 4 byte header, the length of the body as a varint, then the body.
+     * Several objects can be written one after another to the same stream. The bytes are streamed through a small
+     * buffer, so frames larger than an array can hold can be written and then opened with
+     * {@link MappedJObject#open(java.nio.file.Path)}. The stream is flushed, but left open.
+     * @param output OutputStream : the destination of the bytes.
+     * @throws IOException if the stream can't be written to.
      */
-    public JObject[] copyIf(Predicate<? super JObject> condition){
-        if(!getType().isList() && !getType().isSet()){
-            throw new WrongExecutionTypeException(
-                    getTypeName(),
-                    new ObjectTypes[]{ObjectTypes.List, ObjectTypes.Set});
-        }
-
-        ArrayList<JObject> output = new ArrayList<>();
-
-        if(getType().isSet()){
-            for(JObject ele : this){
-                if(condition.test(ele)){
-                    output.add(ele.clone());
-                }
-            }
-        }
-        else{
-            for(JObject ele : this){
-                if(condition.test(ele)){
-                    output.add(ele);
-                }
-            }
-        }
+    public void writeBinary(OutputStream output) throws IOException {
+        nullCheck(output, "output");
 
-        return output.toArray(new JObject[0]);
+        BinaryWriter writer = new BinaryWriter(output);
+        writer.writeFrame(this, writer.measure(this));
+        writer.flush();
+        output.flush();
     }
 
     /**
-     * Copies all sub objects from a list or set that do not meet the condition.
-     * @param condition The condition by which the sub objects are identified to be excluded.
-     * @return Returns an array containing all objects from the list or set that do not meet the condition.
+     * Creates the same bytes that {@link #writeBinary(OutputStream)} writes.
+     * @return Returns a single binary frame holding this object.
+     * @throws IllegalStateException if the frame is too large to fit in an array.
      */
-    public JObject[] copyIfNot(Predicate<? super JObject> condition){
-        return copyIf(condition.negate());
+    public byte[] toBinary(){
+        BinaryWriter writer = new BinaryWriter(null);
+        long bodyLength = writer.measure(this);
+        long frameLength = JObjectBinaryFormat.header.length + BinaryWriter.varLongSize(bodyLength) + bodyLength;
+        if(frameLength > Integer.MAX_VALUE - 8){
+            throw new IllegalStateException("The binary frame is " + frameLength +
+                    " bytes long, which is too large for an array. Use writeBinary instead.");
+        }
+
+        writer.bytes = new byte[(int) frameLength];
+        try {
+            writer.writeFrame(this, bodyLength);
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+        return writer.bytes;
     }
 
     /**
-     * Removes all sub objects from a list if they meet the condition.
-     * @param condition The condition by which the sub objects are identified to be removed.
-     * @return Returns the object on which this method was called after it has been modified.
+     * Reads an object written by {@link #writeBinary(OutputStream)}. Exactly one frame is read from the stream, so
+     * any bytes that follow it are left for the next read.
+     * @param input InputStream : the source of the bytes.
+     * @return Returns the object read from the stream.
+     * @throws FailedParseException if the bytes aren't in the binary format, or the frame is too large to read into
+     * an array.
+     * @throws IOException if the stream can't be read or ends inside the frame.
      */
-    public JObject removeIf(Predicate<? super JObject> condition){
-        if(!getType().isList()){
-            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.List);
+    public static JObject readBinary(InputStream input) throws IOException {
+        nullCheck(input, "input");
+
+        byte[] header = input.readNBytes(JObjectBinaryFormat.header.length);
+        if(!Arrays.equals(header, JObjectBinaryFormat.header)){
+            throw new FailedParseException("The input doesn't start with a JObject binary header.");
         }
 
-        ArrayList<JObject> output = new ArrayList<>();
-        for(JObject ele : this){
-            if(!condition.test(ele)){
-                output.add(ele);
+        long length = 0;
+        for(int shift = 0; ; shift += 7){
+            int b = input.read();
+            if(b == -1){
+                throw new EOFException("The input ended inside a JObject binary header.");
+            }
+            if(shift > 56){
+                throw new FailedParseException("The length of the JObject binary body is too large.");
+            }
+            length |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0){
+                break;
             }
         }
+        if(length > Integer.MAX_VALUE - 8){
+            throw new FailedParseException("The JObject binary body is " + length +
+                    " bytes long, which is too large for an array. Use MappedJObject to read it.");
+        }
 
-        setTo(output.toArray(new JObject[0]));
+        byte[] body = input.readNBytes((int) length);
+        if(body.length != length){
+            throw new EOFException("The input ended inside a JObject binary body.");
+        }
 
-        return this;
+        return fromBinaryBody(body);
     }
 
     /**
-     * Removes all sub objects from a list if they do not meet the condition.
-     * @param condition The condition by which the sub objects are identified to be kept.
-     * @return Returns the object on which this method was called after it has been modified.
+     * Reads an object from a frame created by {@link #toBinary()}.
+     * @param input byte[] : the bytes of a single frame.
+     * @return Returns the object read from the bytes.
+     * @throws FailedParseException if the bytes aren't in the binary format.
      */
-    public JObject removeIfNot(Predicate<? super JObject> condition){
-        return removeIf(condition.negate());
-    }
-
-    // endregion
-
-    // region json functions
+    public static JObject fromBinary(byte[] input){
+        nullCheck(input, "input");
 
-    public static final String JSON_BOOLEAN_VALUE_KEY = "boolean_value";
-    public static final String JSON_INTEGER_VALUE_KEY = "integer_value";
-    public static final String JSON_LONG_VALUE_KEY = "long_value";
-    public static final String JSON_DOUBLE_VALUE_KEY = "double_value";
-    public static final String JSON_STRING_VALUE_KEY = "string_value";
-    public static final String JSON_LIST_VALUE_KEY = "list_value";
-    public static final String JSON_SET_VALUE_KEY = "set_value";
-
-    private Object getPrimitiveValueAsObject(){
-        if(isDouble()){
-            return doubleValue();
-        }
-        else if(isFloat()){
-            return floatValue();
-        }
-        else if(isLong()){
-            return longValue();
-        }
-        else if(isInteger()){
-            return intValue();
-        }
-        else if(isShort()){
-            return shortValue();
-        }
-        else if(isByte()){
-            return byteValue();
+        try {
+            ByteArrayInputStream stream = new ByteArrayInputStream(input);
+            JObject output = readBinary(stream);
+            if(stream.available() > 0){
+                throw new FailedParseException("The input contains bytes after the end of the JObject binary frame.");
+            }
+            return output;
         }
-        else if(isBoolean()){
-            return booleanValue();
+        catch (EOFException e){
+            throw new FailedParseException(e.getMessage());
         }
-        else{
-            return toString(false);
+        catch (IOException e){
+            throw new RuntimeException(e);
         }
     }
 
+    // reads a single object that fills the whole array, without a frame header
+    static JObject fromBinaryBody(byte[] body){
+        return new BinaryReader(body).readRoot();
+    }
+
     /**
-     * Converts the calling JObject into a valid JSON value.
-     * <br>
-     * If the verbose flag is set false, then only the value will be returned. Primitive values will be converted
-     * into the appropriate matching JSON value type, lists and sets will be converted into JSONArrays and all
-     * other JObjects will be converted into JSON objects with match key-value pairs.
+     * Encodes JObject trees in the format described by {@link JObjectBinaryFormat}. Counts, lengths and whole numbers
+     * are written as varints, with signed numbers zigzag encoded first so small negative numbers stay small. Floats
+     * and doubles are written as their raw IEEE bits. Strings are written as their char count followed by each char in
+     * one to three bytes, the same way UTF-8 encodes it, so any char sequence is kept exactly.
      * <br>
-     * If the verbose flag is set to true, then the function will wrap any primitive values, lists and sets inside
-     * a JSON object with a single key-value pair. The key will be the matching JSON_[type]_VALUE_KEY constant for
-     * the value. This affect is recursive to the entire JObject and its contents.
-     * @param verbose Boolean flag controlling how concise the returned value is.
-     * @return Returns a Boolean, Integer, Long, Double, String, JSONArray or JSONObject: depending on the
-     * type of the calling JObject and the value of the verbose flag.
+     * The tree is measured before it's written, which records the length of every collection's entries in the order
+     * the collections are written. The bytes are either written into an array of exactly the right size or streamed
+     * to an OutputStream whenever the buffer fills up.
      */
-    public Object toJSONElement(boolean verbose){
-        if(isNull()){
-            return JSONObject.NULL;
+    private static final class BinaryWriter {
+
+        private static final int streamBufferSize = 65536;
+
+        private final OutputStream output;
+        private byte[] bytes;
+        private int length = 0;
+
+        // the length of each collection's entries, in the order the collections are written
+        private long[] entryLengths = new long[16];
+        private int collectionCount = 0;
+        private int nextCollection = 0;
+        // snapshots of concurrent containers by collection number, taken while measuring so that both passes
+        // write the same contents
+        private HashMap<Integer, JObjectContainer> snapshots = null;
+
+        private BinaryWriter(OutputStream output){
+            this.output = output;
+            this.bytes = output == null ? null : new byte[streamBufferSize];
         }
-        else if(isBoolean()){
-            Object value = getPrimitiveValueAsObject();
-            if(verbose){
-                JSONObject output = new JSONObject();
-                output.put(JSON_BOOLEAN_VALUE_KEY, value);
-                return output;
+
+        // region measuring
+
+        private long measure(JObject object){
+            if(object == null || object.getType() == null || object.isNull()){
+                return 1;
             }
-            else{
-                return value;
+
+            ObjectTypes type = object.getType();
+            if(type.isPrimitive()){
+                return switch (type) {
+                    case Boolean -> 1;
+                    case Byte -> 2;
+                    case Short -> 1 + varLongSize(zigzag(object.shortValue()));
+                    case Integer -> 1 + varLongSize(zigzag(object.intValue()));
+                    case Long -> 1 + varLongSize(zigzag(object.longValue()));
+                    case Float -> 5;
+                    case String, Symbol, Operator, Bracket -> 1 + stringSize((JString) object.value);
+                    default -> 9;
+                };
             }
-        }
-        else if(isByte() || isShort() || isInteger()){
-            Object value = intValue();
-            if(verbose){
-                JSONObject output = new JSONObject();
-                output.put(JSON_INTEGER_VALUE_KEY, value);
-                return output;
+
+            long output = 1;
+            if(!type.name().equals(object.typeName)){
+                output += stringSize(object.typeName);
+            }
+
+            // the slot is taken before the entries are measured, so the lengths stay in writing order
+            if(collectionCount == entryLengths.length){
+                entryLengths = Arrays.copyOf(entryLengths, collectionCount * 2);
+            }
+            int slot = collectionCount;
+            collectionCount += 1;
+
+            long entriesLength = 0;
+            int count;
+            JObjectContainer container = object.readSubObjectsContainer();
+            JObjectContainer snapshot = container.snapshot();
+            if(snapshot != container){
+                if(snapshots == null){
+                    snapshots = new HashMap<>();
+                }
+                snapshots.put(slot, snapshot);
+                container = snapshot;
+            }
+            if(container instanceof JObjectArrayList elements){
+                count = elements.size();
+                for(int x = 0; x < count; x += 1){
+                    entriesLength += measure(elements.peek(x));
+                }
             }
             else{
-                return value;
+                Map<String, JObject> subObjects = container.getMap();
+                count = subObjects.size();
+                for(Map.Entry<String, JObject> entry : subObjects.entrySet()){
+                    entriesLength += stringSize(entry.getKey()) + measure(entry.getValue());
+                }
             }
+            entryLengths[slot] = entriesLength;
+
+            return output + varLongSize(count) + varLongSize(entriesLength) + entriesLength;
         }
-        else if(isLong()){
-            Object value = longValue();
-            if(verbose) {
-                JSONObject output = new JSONObject();
-                output.put(JSON_LONG_VALUE_KEY, value);
-                return output;
+
+        private static int varLongSize(long value){
+            int output = 1;
+            while((value & ~0x7FL) != 0){
+                value >>>= 7;
+                output += 1;
             }
-            else{
-                return value;
+            return output;
+        }
+
+        private static long stringSize(CharSequence value){
+            int charCount = value.length();
+            long output = varLongSize(charCount);
+            for(int x = 0; x < charCount; x += 1){
+                char c = value.charAt(x);
+                output += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
             }
+            return output;
         }
-        else if(isFloat() || isDouble()){
-            Object value = jNumberValue().doubleValue();
-            if(verbose) {
-                JSONObject output = new JSONObject();
-                output.put(JSON_DOUBLE_VALUE_KEY, value);
-                return output;
+
+        // endregion
+
+        // region objects
+
+        private void writeFrame(JObject object, long bodyLength) throws IOException {
+            writeBytes(JObjectBinaryFormat.header, JObjectBinaryFormat.header.length);
+            writeVarLong(bodyLength);
+            writeObject(object);
+        }
+
+        private void writeObject(JObject object) throws IOException {
+            if(object == null || object.getType() == null || object.isNull()){
+                writeByte(JObjectBinaryFormat.tagNull);
+                return;
+            }
+
+            ObjectTypes type = object.getType();
+            if(type.isPrimitive()){
+                writePrimitive(object, type);
+                return;
+            }
+
+            if(!type.name().equals(object.typeName)){
+                writeByte(JObjectBinaryFormat.tagNamed);
+                writeString(object.typeName);
+            }
+            else if(type.isList()){
+                writeByte(JObjectBinaryFormat.tagList);
+            }
+            else if(type.isSet()){
+                writeByte(JObjectBinaryFormat.tagSet);
+            }
+            else if(type.isExpression()){
+                writeByte(JObjectBinaryFormat.tagExpression);
             }
             else{
-                return value;
+                writeByte(JObjectBinaryFormat.tagDictionary);
             }
-        }
-        else if(isString()){
-            Object value = toString(false);
-            if(verbose) {
-                JSONObject output = new JSONObject();
-                output.put(JSON_STRING_VALUE_KEY, value);
-                return output;
+
+            int slot = nextCollection;
+            long entriesLength = entryLengths[slot];
+            nextCollection += 1;
+
+            JObjectContainer container = snapshots == null ? null : snapshots.get(slot);
+            if(container == null){
+                container = object.readSubObjectsContainer();
+            }
+            if(container instanceof JObjectArrayList elements){
+                writeVarInt(elements.size());
+                writeVarLong(entriesLength);
+                for(int x = 0; x < elements.size(); x += 1){
+                    writeObject(elements.peek(x));
+                }
             }
             else{
-                return value;
+                Map<String, JObject> subObjects = container.getMap();
+                writeVarInt(subObjects.size());
+                writeVarLong(entriesLength);
+                for(Map.Entry<String, JObject> entry : subObjects.entrySet()){
+                    writeString(entry.getKey());
+                    writeObject(entry.getValue());
+                }
             }
         }
-        else if(getType().isSet() || getType().isList()) {
-            if(verbose){
-                JSONObject output = new JSONObject();
-                JSONArray value = new JSONArray();
 
-                ArrayList<Object> subObjects = new ArrayList<>();
-                for(JObject subObject : this){
-                    subObjects.add(subObject.toJSONElement(true));
+        private void writePrimitive(JObject object, ObjectTypes type) throws IOException {
+            switch (type) {
+                case Boolean -> writeByte((Boolean) object.value ?
+                        JObjectBinaryFormat.tagTrue : JObjectBinaryFormat.tagFalse);
+                case Byte -> {
+                    writeByte(JObjectBinaryFormat.tagByte);
+                    writeByte(object.byteValue());
+                }
+                case Short -> {
+                    writeByte(JObjectBinaryFormat.tagShort);
+                    writeVarLong(zigzag(object.shortValue()));
+                }
+                case Integer -> {
+                    writeByte(JObjectBinaryFormat.tagInteger);
+                    writeVarLong(zigzag(object.intValue()));
+                }
+                case Long -> {
+                    writeByte(JObjectBinaryFormat.tagLong);
+                    writeVarLong(zigzag(object.longValue()));
+                }
+                case Float -> {
+                    writeByte(JObjectBinaryFormat.tagFloat);
+                    writeFixed(Float.floatToRawIntBits(object.floatValue()), 4);
+                }
+                case String, Symbol, Operator, Bracket -> {
+                    writeByte(switch (type) {
+                        case Symbol -> JObjectBinaryFormat.tagSymbol;
+                        case Operator -> JObjectBinaryFormat.tagOperator;
+                        case Bracket -> JObjectBinaryFormat.tagBracket;
+                        default -> JObjectBinaryFormat.tagString;
+                    });
+                    writeString((JString) object.value);
+                }
+                default -> {
+                    writeByte(JObjectBinaryFormat.tagDouble);
+                    writeFixed(Double.doubleToRawLongBits(object.doubleValue()), 8);
                 }
+            }
+        }
 
-                value.putAll(subObjects);
+        // endregion
 
-                if(getType().isSet()){
-                    output.put(JSON_SET_VALUE_KEY, value);
+        // region bytes
+
+        // makes room for a few more bytes, writing out the buffer first when streaming
+        private void ensureCapacity(int additionalBytes) throws IOException {
+            if(length + additionalBytes > bytes.length){
+                if(output == null){
+                    throw new IllegalStateException("The measured length of the binary frame was too short.");
                 }
-                else{
-                    output.put(JSON_LIST_VALUE_KEY, value);
+                flush();
+                if(additionalBytes > bytes.length){
+                    bytes = new byte[additionalBytes];
                 }
-
-                return output;
             }
-            else{
-                JSONArray output = new JSONArray();
+        }
 
-                ArrayList<Object> subObjects = new ArrayList<>();
-                for(JObject subObject : this){
-                    subObjects.add(subObject.toJSONElement(false));
-                }
+        private void flush() throws IOException {
+            output.write(bytes, 0, length);
+            length = 0;
+        }
 
-                output.putAll(subObjects);
+        private void writeByte(int b) throws IOException {
+            ensureCapacity(1);
+            bytes[length++] = (byte) b;
+        }
 
-                return output;
+        private void writeBytes(byte[] source, int count) throws IOException {
+            ensureCapacity(count);
+            System.arraycopy(source, 0, bytes, length, count);
+            length += count;
+        }
+
+        private static long zigzag(long value){
+            return (value << 1) ^ (value >> 63);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            ensureCapacity(varLongSize(value));
+            while((value & ~0x7FL) != 0){
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
             }
+            bytes[length++] = (byte) value;
+        }
 
+        // little endian
+        private void writeFixed(long value, int byteCount) throws IOException {
+            ensureCapacity(byteCount);
+            for(int x = 0; x < byteCount; x += 1){
+                bytes[length++] = (byte) (value >>> (x * 8));
+            }
         }
-        else {
-            JSONObject output = new JSONObject();
-            if (this.getSubObjects() != null) {
-                for (Map.Entry<String, JObject> entry : this.entrySet()) {
-                    output.put(entry.getKey(), entry.getValue().toJSONElement(verbose));
+
+        private void writeString(CharSequence value) throws IOException {
+            int charCount = value.length();
+            writeVarInt(charCount);
+            for(int x = 0; x < charCount; x += 1){
+                char c = value.charAt(x);
+                int byteCount = c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+                if(length + byteCount > bytes.length){
+                    ensureCapacity(byteCount);
                 }
 
-                if (!getType().isDictionary() && getTypeName() != null && getTypeName().length() > 0) {
-                    output.put(ParameterName_ClassName, this.getTypeName());
+                if(byteCount == 1){
+                    bytes[length++] = (byte) c;
+                }
+                else if(byteCount == 2){
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+                else{
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
                 }
             }
-            return output;
         }
-    }
 
-    /**
-     * Overload that defaults to a non-verbose execution.
-     * @return Returns a Boolean, Integer, Long, Double, String, JSONArray or JSONObject: depending on the
-     * type of the calling JObject.
-     */
-    public Object toJSONElement(){
-        return this.toJSONElement(false);
+        // endregion
     }
 
     /**
-     * Creates a new JSONObject from the existing JObject instance.
-     * <br>
-     * <br>
-     * If the JObject is a list, a set or a primitive value, this function will still return a JSONObject,
-     * with a single key value pair. The key will be one of the matching JSON_[type]_VALUE_KEY constants.
-     * The value will be of the corresponding JSON value type. (Boolean, Integer, Long, Double, String, JSONArray)
-     * <br>
-     * @return Returns a JSON object with the same corresponding values as the calling JObject instance.
+     * Decodes the body of a frame written by {@link BinaryWriter}.
      */
-    public JSONObject toJSONObject(){
-        JSONObject output = new JSONObject();
-        if(isNull()){
-            return null;
+    private static final class BinaryReader {
+
+        private final byte[] bytes;
+        private int position = 0;
+
+        private BinaryReader(byte[] bytes){
+            this.bytes = bytes;
+        }
+
+        // region objects
+
+        private JObject readRoot(){
+            JObject output = readObject();
+            if(output == null){
+                output = new JObject();
+            }
+            if(position != bytes.length){
+                throw new FailedParseException("The JObject binary body contains bytes after the end of the object.");
+            }
+            return output;
+        }
+
+        // returns null for Null objects, the same way containers store them
+        private JObject readObject(){
+            int tag = readByte();
+            JObject output = new JObject();
+            switch (tag) {
+                case JObjectBinaryFormat.tagNull -> {
+                    return null;
+                }
+                case JObjectBinaryFormat.tagFalse -> output.setTo(false);
+                case JObjectBinaryFormat.tagTrue -> output.setTo(true);
+                case JObjectBinaryFormat.tagByte -> output.setTo((byte) readByte());
+                case JObjectBinaryFormat.tagShort -> output.setTo((short) unzigzag(readVarLong()));
+                case JObjectBinaryFormat.tagInteger -> output.setTo((int) unzigzag(readVarLong()));
+                case JObjectBinaryFormat.tagLong -> output.setTo(unzigzag(readVarLong()));
+                case JObjectBinaryFormat.tagFloat -> output.setTo(Float.intBitsToFloat((int) readFixed(4)));
+                case JObjectBinaryFormat.tagDouble -> output.setTo(Double.longBitsToDouble(readFixed(8)));
+                case JObjectBinaryFormat.tagString -> readString(output, ObjectTypes.String);
+                case JObjectBinaryFormat.tagSymbol -> readString(output, ObjectTypes.Symbol);
+                case JObjectBinaryFormat.tagOperator -> readString(output, ObjectTypes.Operator);
+                case JObjectBinaryFormat.tagBracket -> readString(output, ObjectTypes.Bracket);
+                case JObjectBinaryFormat.tagList -> readContents(output.setTypeName(ObjectTypes.List));
+                case JObjectBinaryFormat.tagSet -> readContents(output.setTypeName(ObjectTypes.Set));
+                case JObjectBinaryFormat.tagDictionary -> readContents(output.setTypeName(ObjectTypes.Dictionary));
+                case JObjectBinaryFormat.tagExpression -> readContents(output.setTypeName(ObjectTypes.Expression));
+                case JObjectBinaryFormat.tagNamed -> {
+                    output.setTypeName(new String(readChars()));
+                    if(output.getType().isPrimitive() || output.getType().isNull()){
+                        throw new FailedParseException(
+                                "\"" + output.typeName + "\" is not a valid type name for a collection.");
+                    }
+                    readContents(output);
+                }
+                default -> throw new FailedParseException("Unknown tag " + tag + " in the JObject binary body.");
+            }
+            return output;
+        }
+
+        private void readString(JObject output, ObjectTypes type){
+            output.setTypeName(type);
+            output.value = new JString(readChars());
+        }
+
+        private void readContents(JObject output){
+            output.resetSubObjects();
+            int count = readVarInt();
+            long entriesLength = readVarLong();
+            if(entriesLength < 0 || entriesLength > bytes.length - position){
+                throw new FailedParseException("A collection in the JObject binary body is longer than the body.");
+            }
+            long entriesEnd = position + entriesLength;
+
+            JObjectContainer container = output.readSubObjectsContainer();
+            if(container instanceof JObjectArrayList elements){
+                for(int x = 0; x < count; x += 1){
+                    elements.add(readObject());
+                }
+            }
+            else{
+                Map<String, JObject> subObjects = container.getMap();
+                for(int x = 0; x < count; x += 1){
+                    String key = new String(readChars());
+                    subObjects.put(key, readObject());
+                }
+            }
+
+            if(position != entriesEnd){
+                throw new FailedParseException("A collection in the JObject binary body doesn't match its length.");
+            }
+        }
+
+        // endregion
+
+        // region bytes
+
+        private int readByte(){
+            if(position >= bytes.length){
+                throw new FailedParseException("The JObject binary body ended inside an object.");
+            }
+            return bytes[position++];
         }
-        else if(isPrimitive()){
-            return (JSONObject)this.toJSONElement(true);
+
+        private static long unzigzag(long value){
+            return (value >>> 1) ^ -(value & 1);
         }
-        else if(getType().isList() || getType().isSet()) {
-            JSONArray value = new JSONArray();
 
-            ArrayList<Object> subObjects = new ArrayList<>();
-            for(JObject subObject : this){
-                subObjects.add(subObject.toJSONElement(false));
+        private int readVarInt(){
+            long value = readVarLong();
+            if(value < 0 || value > Integer.MAX_VALUE){
+                throw new FailedParseException("A count in the JObject binary body is too large.");
             }
-            value.putAll(subObjects);
+            return (int) value;
+        }
 
-            if(getType().isList()) {
-                output.put(JSON_LIST_VALUE_KEY, value);
+        private long readVarLong(){
+            long value = 0;
+            for(int shift = 0; shift < 64; shift += 7){
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if((b & 0x80) == 0){
+                    return value;
+                }
             }
-            else{
-                output.put(JSON_SET_VALUE_KEY, value);
+            throw new FailedParseException("A varint in the JObject binary body is too long.");
+        }
+
+        private long readFixed(int byteCount){
+            long value = 0;
+            for(int x = 0; x < byteCount; x += 1){
+                value |= (long) (readByte() & 0xFF) << (x * 8);
             }
-            return output;
+            return value;
         }
-        else{
-            if(!isPrimitive()) {
-                for (Map.Entry<String, JObject> entry : getSubObjects().entrySet()) {
-                    if(entry.getValue() != null) {
-                        if(entry.getValue().isPrimitive()){
-                            output.put(entry.getKey(), entry.getValue().toJSONElement(false));
-                        }
-                        else if(entry.getValue().getType().isList() || entry.getValue().getType().isSet()){
-                            JSONArray value = new JSONArray();
 
-                            ArrayList<Object> subObjects = new ArrayList<>();
-                            for(JObject subObject : entry.getValue()){
-                                subObjects.add(subObject.toJSONElement(false));
-                            }
+        private char[] readChars(){
+            int charCount = readVarInt();
+            if(charCount > bytes.length - position){
+                throw new FailedParseException("A string in the JObject binary body is longer than the body.");
+            }
 
-                            value.putAll(subObjects);
-                            output.put(entry.getKey(), value);
-                        }
-                        else {
-                            output.put(entry.getKey(), entry.getValue().toJSONElement());
-                        }
-                    }
-                    else{
-                        output.put(entry.getKey(), JSONObject.NULL);
-                    }
+            char[] output = new char[charCount];
+            for(int x = 0; x < charCount; x += 1){
+                int b = readByte() & 0xFF;
+                if(b < 0x80){
+                    output[x] = (char) b;
+                }
+                else if(b < 0xE0){
+                    output[x] = (char) (((b & 0x1F) << 6) | (readByte() & 0x3F));
+                }
+                else{
+                    output[x] = (char) (((b & 0x0F) << 12) | ((readByte() & 0x3F) << 6) | (readByte() & 0x3F));
                 }
             }
-            if(!getType().isDictionary() && getTypeName() != null && getTypeName().length() > 0){
-                output.put(ParameterName_ClassName, getTypeName());
-            }
+            return output;
         }
-        return output;
+
+        // endregion
     }
 
     // endregion
@@ -3781,120 +7707,517 @@ public class JObject
         JString[] unrecognizedSymbols = allSplits[1];
 
         constructExpressionRootObject(inputString, unrecognizedSymbols);
+        compiledExpression = CompiledExpression.compile(inputString, allSplits);
         return this;
     }
 
-    private static JObject constructExpressionVariableObjectContainer(CharSequence[] variableNames){
-        JObject output = JObject.createEmptyDictionary();
-        output.setTypeName(ExpressionVariableContainer.className);
+    private static JObject constructExpressionVariableObjectContainer(CharSequence[] variableNames){
+        JObject output = JObject.createEmptyDictionary();
+        output.setTypeName(ExpressionVariableContainer.className);
+
+        for(CharSequence variableName : variableNames){
+            JString varName = new JString(variableName);
+            // all variable names nested within this variable
+            ArrayList<CharSequence> allNestedVariableNames = new ArrayList<>();
+
+            // variable names nested within this variable that are not nested within any of the other nested variables
+            ArrayList<CharSequence> firstOrderNestedVariableNames = new ArrayList<>();
+
+            for(CharSequence str1 : variableNames){
+                if(varName.contains(str1) && !varName.equals(str1)){
+                    allNestedVariableNames.add(str1);
+                }
+            }
+
+            for(CharSequence str1 : allNestedVariableNames){
+                boolean foundWithinAnother = false;
+                for(int x = 0; x < allNestedVariableNames.size() && !foundWithinAnother; x += 1){
+                    JString temp = new JString(allNestedVariableNames.get(x));
+                    if(temp.equals(str1)){
+                        continue;
+                    }
+                    if(temp.contains(str1)){
+                        foundWithinAnother = true;
+                    }
+                }
+                if(!foundWithinAnother){
+                    firstOrderNestedVariableNames.add(str1);
+                }
+            }
+
+            JObject subObject = constructExpressionVariableObject(
+                    varName,
+                    allNestedVariableNames.toArray(new CharSequence[0]),
+                    firstOrderNestedVariableNames.toArray(new CharSequence[0]));
+            output.getSubObjects().put(variableName.toString(), subObject);
+        }
+
+        return output;
+    }
+
+    private static JObject constructExpressionVariableObject(
+            CharSequence variableName, CharSequence[] nestedVariables, CharSequence[] firstOrderNestedVariables){
+
+        JObject output = JObject.createEmptyDictionary();
+
+        output.setTypeName(ExpressionVariableObject.className);
+
+        output.setValue(ExpressionVariableObject._Value, null);
+        output.setValue(ExpressionVariableObject._OriginalSubstring, JObject.createStringJObject(variableName));
+        output.setValue(ExpressionVariableObject._ModifiedSubstring, JObject.createStringJObject(variableName));
+
+        JObject nestedVariableList = JObject.createEmptyList();
+        if(nestedVariables != null) {
+            for (CharSequence str2 : nestedVariables) {
+                nestedVariableList.append(JObject.createStringJObject(str2));
+            }
+        }
+
+        JObject firstOrderNestedVariableList = JObject.createEmptyList();
+        if(firstOrderNestedVariables != null) {
+            for (CharSequence str2 : firstOrderNestedVariables) {
+                firstOrderNestedVariableList.append(JObject.createStringJObject(str2));
+            }
+        }
+
+        output.setValue(ExpressionVariableObject._AllNestedVariables, nestedVariableList);
+        output.setValue(ExpressionVariableObject._RootNestedVariables, firstOrderNestedVariableList);
+        output.setValue(ExpressionVariableObject._IsAssigned, new JObject(false));
+
+        return output;
+    }
+
+    private void constructExpressionRootObject(CharSequence inputString, CharSequence[] unrecognizedSymbols){
+
+        clear();
+        setTypeName(ObjectTypes.Expression);
+        resetSubObjects();
+
+        JObject variableContainer = JObject.constructExpressionVariableObjectContainer(unrecognizedSymbols);
+
+        this.setValue(ExpressionObject._Variables, variableContainer);
+
+        JObject expressionSubObject = JObject.createStringJObject(inputString);
+        this.setValue(ExpressionObject._ExpressionString, expressionSubObject);
+    }
+
+    // endregion
+
+    /**
+     * Creates and returns an ExpressionObject linked to this JObject.
+     */
+    public ExpressionObject getExpressionObject(){
+        return new ExpressionObject(this);
+    }
+
+    public ExpressionVariableContainer getExpressionVariableContainer(){
+        return new ExpressionVariableContainer(this);
+    }
+
+    public ExpressionVariableObject getExpressionVariableObject(CharSequence variableName){
+        return new ExpressionVariableObject(this, variableName);
+    }
+
+    /**
+     * Returns the operator tree compiled from this expression JObject's expression string. The tree is compiled once
+     * and re-used until the expression string changes.
+     */
+    public CompiledExpression getCompiledExpression() throws WrongExecutionTypeException{
+        if(!getType().isExpression()) {
+            throw new WrongExecutionTypeException(getTypeName(), ObjectTypes.Expression);
+        }
+
+        JObject expressionString = getValue(ExpressionObject._ExpressionString);
+        if(expressionString == null || !expressionString.isString()){
+            throw new RuntimeException("Could not find expression string.");
+        }
+
+        if(compiledExpression == null || !compiledExpression.isCompiledFrom(expressionString.toJString())){
+            compiledExpression = CompiledExpression.compile(expressionString.toJString());
+        }
+        return compiledExpression;
+    }
+
+    // endregion
+
+    // region from string functions
+
+    // region streaming parser
+
+    /**
+     * Single pass parser for the data portion of the JObject string format : lists, sets, dictionaries,
+     * quoted strings, unsigned numbers, booleans and Null.
+     * <br>
+     * The input is read once from left to right, and each sub object is created as soon as its tokens are read. No
+     * intermediate strings or string trees are built.
+     * <br>
+     * Anything outside of that subset (operators, expressions, escapes or mixed quotation marks inside of strings,
+     * empty or comma-less bracket groups, unquoted keys, unrecognized symbols, etc.) makes the parser give up, so the caller can fall back on the
+     * nested string tree parser, which produces the same results for the supported subset.
+     */
+    private static final class StreamingParser {
+
+        /**
+         * Signals that the input left the subset of the format this parser handles. It carries no stack trace,
+         * since it is only used to unwind back to tryParse().
+         */
+        private static final class UnsupportedSyntaxException extends RuntimeException {
+
+            private static final UnsupportedSyntaxException instance = new UnsupportedSyntaxException();
+
+            private UnsupportedSyntaxException(){
+                super("The input is not supported by the streaming parser.", null, false, false);
+            }
+        }
+
+        private final char[] chars;
+        private final CharSequence charView;
+        private int position;
+
+        private StreamingParser(char[] chars){
+            this.chars = chars;
+            this.charView = CharBuffer.wrap(chars);
+            this.position = 0;
+        }
+
+        /**
+         * Returns true if the first character of the input, after any whitespace, opens a list, set or dictionary.
+         * Those inputs are never simple strings, operators or symbols, so they go straight to this parser.
+         */
+        public static boolean startsWithCollection(JString inputString){
+            for(int x = 0; x < inputString.length(); x += 1){
+                char c = inputString.charAt(x);
+                if(!isWhitespace(c)){
+                    return c == '[' || c == '(' || c == '{';
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Attempts to parse the input string into the target.
+         * @return Returns true if the target was populated, or false if the input needs to be handled
+         * by the nested string tree parser. The target is left untouched when false is returned.
+         */
+        public static boolean tryParse(JObject target, JString inputString){
+            JObject output;
+            try {
+                output = new StreamingParser(inputString.toCharArray()).parseRoot();
+            }
+            catch (UnsupportedSyntaxException e){
+                return false;
+            }
+
+            target.typeName = output.typeName;
+            target.type = output.type;
+            target.value = output.value;
+            return true;
+        }
+
+        // region character helpers
+
+        private static UnsupportedSyntaxException unsupported(){
+            return UnsupportedSyntaxException.instance;
+        }
+
+        private static boolean isWhitespace(char c){
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+        }
+
+        private static boolean isDelimiter(char c){
+            return switch (c) {
+                case ',', ':', '[', ']', '{', '}', '(', ')', '"', '\'' -> true;
+                default -> isWhitespace(c);
+            };
+        }
+
+        private static boolean isDigit(char c){
+            return c >= '0' && c <= '9';
+        }
+
+        private boolean hasNext(){
+            return position < chars.length;
+        }
+
+        private char peek(){
+            if(position >= chars.length){
+                throw unsupported();
+            }
+            return chars[position];
+        }
+
+        private void expect(char c){
+            if(peek() != c){
+                throw unsupported();
+            }
+            position += 1;
+        }
+
+        private void skipWhitespace(){
+            while(position < chars.length && isWhitespace(chars[position])){
+                position += 1;
+            }
+        }
+
+        // endregion
+
+        // region grammar
+
+        private JObject parseRoot(){
+            skipWhitespace();
+            boolean isSingleQuoted = peek() == '\'';
+            JObject first = parseValue();
+            skipWhitespace();
+
+            if(!hasNext()){
+                // the nested string tree parser removes the quotation marks around a lone single-quoted string
+                if(isSingleQuoted){
+                    throw unsupported();
+                }
+                return first;
+            }
+
+            // comma separated values without brackets default to being a list
+            JObject output = createCollection(ObjectTypes.List);
+            JObjectArrayList elements = (JObjectArrayList) output.value;
+            elements.add(first);
+
+            while(hasNext()){
+                expect(',');
+                skipWhitespace();
+                elements.add(parseValue());
+                skipWhitespace();
+            }
+
+            return output;
+        }
+
+        private JObject parseValue(){
+            return switch (peek()) {
+                case '[' -> parseCollection(ObjectTypes.List, ']');
+                case '(' -> parseCollection(ObjectTypes.Set, ')');
+                case '{' -> parseDictionary();
+                case '"', '\'' -> parseStringValue();
+                default -> parseAtom();
+            };
+        }
+
+        private JObject parseCollection(ObjectTypes collectionType, char closingBracket){
+            position += 1;
+
+            JObject output = createCollection(collectionType);
+            JObjectArrayList elements = (JObjectArrayList) output.value;
+
+            boolean continueLoop = true;
+            while(continueLoop){
+                skipWhitespace();
+                elements.add(parseValue());
+                skipWhitespace();
+
+                char c = peek();
+                position += 1;
+                if(c == closingBracket){
+                    continueLoop = false;
+                }
+                else if(c != ','){
+                    throw unsupported();
+                }
+            }
+
+            // a single value in parentheses is an expression, not a set
+            if(collectionType.isSet() && elements.size() < 2){
+                throw unsupported();
+            }
+
+            return output;
+        }
+
+        private JObject parseDictionary(){
+            position += 1;
+
+            JObject output = new JObject();
+            output.setTypeName(ObjectTypes.Dictionary);
+            output.resetSubObjects();
+            Map<String, JObject> subObjects = output.getSubObjects();
+
+            boolean continueLoop = true;
+            while(continueLoop){
+                skipWhitespace();
+                if(peek() != '"' && peek() != '\''){
+                    throw unsupported();
+                }
+                String key = parseQuotedString();
+                for(int x = 0; x < key.length(); x += 1){
+                    if(isDelimiter(key.charAt(x)) && !isWhitespace(key.charAt(x))){
+                        throw unsupported();
+                    }
+                }
+
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                subObjects.put(key, parseValue());
+                skipWhitespace();
+
+                char c = peek();
+                position += 1;
+                if(c == '}'){
+                    continueLoop = false;
+                }
+                else if(c != ','){
+                    throw unsupported();
+                }
+            }
+
+            return output;
+        }
 
-        for(CharSequence variableName : variableNames){
-            JString varName = new JString(variableName);
-            // all variable names nested within this variable
-            ArrayList<CharSequence> allNestedVariableNames = new ArrayList<>();
+        /**
+         * Reads a quoted string value. Like the nested string tree parser, the quotation marks are kept as part of
+         * the stored string.
+         */
+        private JObject parseStringValue(){
+            int start = position;
+            parseQuotedString();
 
-            // variable names nested within this variable that are not nested within any of the other nested variables
-            ArrayList<CharSequence> firstOrderNestedVariableNames = new ArrayList<>();
+            JObject output = new JObject();
+            output.setTypeName(ObjectTypes.String);
+            output.value = new JString(Arrays.copyOfRange(chars, start, position));
+            return output;
+        }
 
-            for(CharSequence str1 : variableNames){
-                if(varName.contains(str1) && !varName.equals(str1)){
-                    allNestedVariableNames.add(str1);
+        /**
+         * Reads a string quoted with " or ' and returns its contents, without the quotation marks. Single-quoted
+         * strings holding a " are left to the nested string tree parser.
+         */
+        private String parseQuotedString(){
+            char quote = chars[position];
+            int start = position + 1;
+            int end = start;
+            while(end < chars.length && chars[end] != quote){
+                if(chars[end] == '\\' || (quote == '\'' && chars[end] == '"')){
+                    throw unsupported();
                 }
+                end += 1;
             }
 
-            for(CharSequence str1 : allNestedVariableNames){
-                boolean foundWithinAnother = false;
-                for(int x = 0; x < allNestedVariableNames.size() && !foundWithinAnother; x += 1){
-                    JString temp = new JString(allNestedVariableNames.get(x));
-                    if(temp.equals(str1)){
-                        continue;
-                    }
-                    if(temp.contains(str1)){
-                        foundWithinAnother = true;
-                    }
-                }
-                if(!foundWithinAnother){
-                    firstOrderNestedVariableNames.add(str1);
-                }
+            if(end >= chars.length){
+                throw unsupported();
             }
 
-            JObject subObject = constructExpressionVariableObject(
-                    varName,
-                    allNestedVariableNames.toArray(new CharSequence[0]),
-                    firstOrderNestedVariableNames.toArray(new CharSequence[0]));
-            output.getSubObjects().put(variableName.toString(), subObject);
+            position = end + 1;
+            return new String(chars, start, end - start);
         }
 
-        return output;
-    }
+        /**
+         * Reads an unquoted value. Only Null, booleans and unsigned decimal numbers are accepted.
+         */
+        private JObject parseAtom(){
+            int start = position;
+            while(position < chars.length && !isDelimiter(chars[position])){
+                position += 1;
+            }
 
-    private static JObject constructExpressionVariableObject(
-            CharSequence variableName, CharSequence[] nestedVariables, CharSequence[] firstOrderNestedVariables){
+            int length = position - start;
+            if(length == 0){
+                throw unsupported();
+            }
 
-        JObject output = JObject.createEmptyDictionary();
+            boolean isNumber = isUnsignedDecimal(start, position);
 
-        output.setTypeName(ExpressionVariableObject.className);
+            // words touching tabs or line breaks are seen as unrecognized symbols by the nested string tree parser
+            if(!isNumber && (isLineOrTabCharacter(start - 1) || isLineOrTabCharacter(position))){
+                throw unsupported();
+            }
 
-        output.setValue(ExpressionVariableObject._Value, null);
-        output.setValue(ExpressionVariableObject._OriginalSubstring, JObject.createStringJObject(variableName));
-        output.setValue(ExpressionVariableObject._ModifiedSubstring, JObject.createStringJObject(variableName));
+            if(length == 4 && chars[start] == 'N' && chars[start+1] == 'u' && chars[start+2] == 'l' && chars[start+3] == 'l'){
+                return new JObject();
+            }
 
-        JObject nestedVariableList = JObject.createEmptyList();
-        if(nestedVariables != null) {
-            for (CharSequence str2 : nestedVariables) {
-                nestedVariableList.append(JObject.createStringJObject(str2));
+            if(isNumber){
+                JNumber number = JNumber.parse(charView, start, position);
+                if(number == null){
+                    throw unsupported();
+                }
+
+                JObject output = new JObject();
+                output.setTypeName(number.getType());
+                output.value = number.getClonedNumber();
+                return output;
             }
+
+            if(!isBooleanWord(start, length)){
+                throw unsupported();
+            }
+
+            JPrimitive primitive = new JPrimitive(new JString(Arrays.copyOfRange(chars, start, position)));
+            if(!primitive.isNumber() && !primitive.isBoolean()){
+                throw unsupported();
+            }
+
+            JObject output = new JObject();
+            output.setTypeName(primitive.getType());
+            output.value = primitive.getClonedValue();
+            return output;
         }
 
-        JObject firstOrderNestedVariableList = JObject.createEmptyList();
-        if(firstOrderNestedVariables != null) {
-            for (CharSequence str2 : firstOrderNestedVariables) {
-                firstOrderNestedVariableList.append(JObject.createStringJObject(str2));
+        private boolean isLineOrTabCharacter(int index){
+            if(index < 0 || index >= chars.length){
+                return false;
             }
+            char c = chars[index];
+            return c == '\t' || c == '\n' || c == '\r';
         }
 
-        output.setValue(ExpressionVariableObject._AllNestedVariables, nestedVariableList);
-        output.setValue(ExpressionVariableObject._RootNestedVariables, firstOrderNestedVariableList);
-        output.setValue(ExpressionVariableObject._IsAssigned, new JObject(false));
+        private boolean isUnsignedDecimal(int start, int end){
+            int x = start;
+            while(x < end && isDigit(chars[x])){
+                x += 1;
+            }
 
-        return output;
-    }
+            if(x == start){
+                return false;
+            }
 
-    private void constructExpressionRootObject(CharSequence inputString, CharSequence[] unrecognizedSymbols){
+            if(x == end){
+                return true;
+            }
 
-        clear();
-        typeName = ObjectTypes.Expression.name();
-        resetSubObjects();
+            if(chars[x] != '.'){
+                return false;
+            }
 
-        JObject variableContainer = JObject.constructExpressionVariableObjectContainer(unrecognizedSymbols);
+            int fractionStart = x + 1;
+            x = fractionStart;
+            while(x < end && isDigit(chars[x])){
+                x += 1;
+            }
 
-        this.setValue(ExpressionObject._Variables, variableContainer);
+            return x == end && x > fractionStart;
+        }
 
-        JObject expressionSubObject = JObject.createStringJObject(inputString);
-        this.setValue(ExpressionObject._ExpressionString, expressionSubObject);
-    }
+        private boolean isBooleanWord(int start, int length){
+            String word = new String(chars, start, length);
+            return word.equalsIgnoreCase("true") || word.equalsIgnoreCase("false") ||
+                    word.equalsIgnoreCase("yes") || word.equalsIgnoreCase("no");
+        }
 
-    // endregion
+        // endregion
 
-    /**
-     * Creates and returns an ExpressionObject linked to this JObject.
-     */
-    public ExpressionObject getExpressionObject(){
-        return new ExpressionObject(this);
-    }
+        // region object creation
 
-    public ExpressionVariableContainer getExpressionVariableContainer(){
-        return new ExpressionVariableContainer(this);
-    }
+        private static JObject createCollection(ObjectTypes collectionType){
+            JObject output = new JObject();
+            output.setTypeName(collectionType);
+            output.resetSubObjects();
+            return output;
+        }
 
-    public ExpressionVariableObject getExpressionVariableObject(CharSequence variableName){
-        return new ExpressionVariableObject(this, variableName);
+        // endregion
     }
 
     // endregion
 
-    // region from string functions
-
     private JObject fromString_prv(JString inputString) throws UnrecognizedSymbolsException{
         clear();
 
@@ -3909,6 +8232,16 @@ public class JObject
 
         // endregion
 
+        // region collections are read by the streaming parser right away, early exit
+
+        boolean isCollection = StreamingParser.startsWithCollection(inputString);
+        if(isCollection && StreamingParser.tryParse(this, inputString)){
+            postProcessParsedObject();
+            return this;
+        }
+
+        // endregion
+
         // region string pre-processing
 
         String[] operators = MiscFunctions.getAllOperators();
@@ -3921,7 +8254,7 @@ public class JObject
         if(isSimpleString(inputString)){
 
             JPrimitive ps = new JPrimitive(inputString);
-            this.typeName = ps.getTypeName();
+            setTypeName(ps.getType());
             this.value = ps.getClonedValue();
 
             return this;
@@ -3933,7 +8266,7 @@ public class JObject
 
         for(String operator : operators){
             if(inputString.equals(operator)){
-                this.typeName = ObjectTypes.Operator.name();
+                setTypeName(ObjectTypes.Operator);
                 this.value = new JString(operator);
                 return this;
             }
@@ -3944,7 +8277,7 @@ public class JObject
         // region checks if the input string is a bracket, early exit
         for(String bracket : brackets){
             if(inputString.equals(bracket)){
-                this.typeName = ObjectTypes.String.name();
+                setTypeName(ObjectTypes.String);
                 this.value = new JString(bracket);
 
                 return this;
@@ -3957,7 +8290,7 @@ public class JObject
         {
             JPrimitive temp = new JPrimitive(inputString);
             if(temp.isSymbol()){
-                this.typeName = ObjectTypes.Symbol.name();
+                setTypeName(ObjectTypes.Symbol);
                 this.value = new JString(inputString);
                 return this;
             }
@@ -3967,6 +8300,24 @@ public class JObject
 
         // endregion
 
+        // collections have already been tried
+        if(isCollection || !StreamingParser.tryParse(this, inputString)){
+            parseViaNestedStringTree(inputString);
+        }
+
+        postProcessParsedObject();
+
+        return this;
+    }
+
+    /**
+     * Parses the input string using a nested string tree. This handles everything the streaming parser doesn't,
+     * including expressions, operators and unrecognized symbol detection.
+     */
+    private void parseViaNestedStringTree(JString inputString) throws UnrecognizedSymbolsException{
+
+        String[] operators = MiscFunctions.getAllOperators();
+
         // region checks for unknown symbols
 
         {
@@ -4057,9 +8408,9 @@ public class JObject
 
                 if (isList) {
 
-                    loopObject.resetSubObjects();
+                    loopObject.setTypeName(ObjectTypes.List);
 
-                    loopObject.typeName = ObjectTypes.List.toString();
+                    loopObject.resetSubObjects();
 
                     JString[] substrings = JString.splitStringButConcatenateBrackets(
                             JString.concatenateStrings(loopLeaf.getPayloadSubstrings(),
@@ -4115,7 +8466,7 @@ public class JObject
                     }
 
                     if (treatAsSet) {
-                        loopObject.typeName = ObjectTypes.Set.toString();
+                        loopObject.setTypeName(ObjectTypes.Set);
                         loopObject.resetSubObjects();
 
                         JString[] substrings = JString.splitStringButConcatenateBrackets(
@@ -4153,7 +8504,7 @@ public class JObject
                 }
                 else if (loopLeaf.hasBrackets() && loopLeaf.getOpeningBracket().equals("{") && loopLeaf.getClosingBracket().equals("}")) {
 
-                    loopObject.typeName = ObjectTypes.Dictionary.toString();
+                    loopObject.setTypeName(ObjectTypes.Dictionary);
                     loopObject.resetSubObjects();
 
                     JString[] substrings = JString.splitStringButConcatenateBrackets(
@@ -4235,7 +8586,7 @@ public class JObject
                         primitiveValueString = primitiveValueString.subString(1, primitiveValueString.length()-1);
                     }
 
-                    loopObject.typeName = ObjectTypes.String.toString();
+                    loopObject.setTypeName(ObjectTypes.String);
                     loopObject.value = primitiveValueString;
                 }
                 else if (loopLeaf.hasBrackets() && loopLeaf.getOpeningBracket().equals("'") && loopLeaf.getClosingBracket().equals("'")) {
@@ -4246,7 +8597,7 @@ public class JObject
                         primitiveValueString = primitiveValueString.subString(1, primitiveValueString.length()-1);
                     }
 
-                    loopObject.typeName = ObjectTypes.String.toString();
+                    loopObject.setTypeName(ObjectTypes.String);
                     loopObject.value = primitiveValueString;
                 }
                 else {
@@ -4280,7 +8631,7 @@ public class JObject
 
                 JPrimitive parsedString = new JPrimitive(loopString);
 
-                loopObject.typeName = parsedString.getTypeName();
+                loopObject.setTypeName(parsedString.getType());
                 loopObject.value = parsedString.getClonedValue();
 
             } // end of if(loopLeaf != null) else block
@@ -4288,14 +8639,20 @@ public class JObject
 
         // endregion
         // end of while loop region
+    }
+
+    /**
+     * Applies the class name and JSON value key conventions to a freshly parsed object tree.
+     */
+    private void postProcessParsedObject(){
+
+        ArrayDeque<JObject> que = new ArrayDeque<>();
 
         // region removes the className sub object and uses its value as the object's classname if possible
         {
-            queSet1.clear();
-            queSet1.add(this);
-            while (queSet1.size() > 0) {
-                JObject loopObject = queSet1.get(0);
-                queSet1.remove(0);
+            que.add(this);
+            while (!que.isEmpty()) {
+                JObject loopObject = que.poll();
                 if(loopObject.isPrimitive()){
                     continue;
                 }
@@ -4315,7 +8672,7 @@ public class JObject
                 if (!loopObject.isPrimitive()) {
                     for (JObject subObject : loopObject.getValues()) {
                         if (!subObject.isPrimitive()) {
-                            queSet1.add(subObject);
+                            que.add(subObject);
                         }
                     }
                 }
@@ -4345,11 +8702,10 @@ public class JObject
                 }
                 return null;
             };
-            queSet1.clear();
-            queSet1.add(this);
-            while (queSet1.size() > 0) {
-                JObject loopObject = queSet1.get(0);
-                queSet1.remove(0);
+            que.clear();
+            que.add(this);
+            while (!que.isEmpty()) {
+                JObject loopObject = que.poll();
 
                 if (loopObject.isPrimitive()) {
                     continue;
@@ -4366,15 +8722,13 @@ public class JObject
                     for (Map.Entry<String, JObject> entry : loopObject.getSubObjects().entrySet()) {
                         JObject subObject = entry.getValue();
                         if (subObject != null) {
-                            queSet1.add(subObject);
+                            que.add(subObject);
                         }
                     }
                 }
             }
         }
         // endregion
-
-        return this;
     }
 
     /**
@@ -4436,78 +8790,99 @@ public class JObject
             return toJString().toString(includeQuotationMarks);
         }
 
-        JString output = new JString();
+        StringBuilder output = new StringBuilder();
+        try {
+            writeString_prv(output, includeQuotationMarks);
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+        return output.toString();
+    }
+
+    // writes the toString() format depth first, each container writes its opening bracket before its contents
+    private void writeString_prv(Appendable output, Boolean includeQuotationMarks) throws IOException {
+
+        if(isNull()) {
+            if(typeName != null) {
+                output.append(typeName);
+            }
+            return;
+        }
+
+        if(isString()) {
+            output.append(toJString().toString(includeQuotationMarks));
+            return;
+        }
 
         if (isPrimitive()){
             output.append(value.toString());
-            return output.toString();
+            return;
         }
         else if(isOperator()){
-            output.append((JString) value).toString(false);
-            return output.toString();
+            output.append((JString) value);
+            return;
         }
-        else {
-            boolean firstElement = true;
-            if (!(getType().isDictionary() || getType().isList() || getType().isSet())) {
 
-                output.append(JString.getQuotedJString(ParameterName_ClassName) + " : ").append("\"").append(typeName).append("\"");
-                firstElement = false;
-            }
+        String[] bracketStrings = {"{", "}"};
+        if (getType().isList()) {
+            bracketStrings = new String[]{"[", "]"};
+        } else if (getType().isSet()) {
+            bracketStrings = new String[]{"(", ")"};
+        }
 
-            if (size() > 0) {
-                if(getType().isList() || getType().isSet()){
-                    HashMap<String, JObject> hm = getSubObjects();
-                    for(int x = 0; x < size(); x += 1){
-                        if (!firstElement) {
-                            output.append(", ");
-                        }
+        output.append(bracketStrings[0]);
 
-                        JObject parameterValue = hm.get(String.valueOf(x));
+        boolean firstElement = true;
+        if (!(getType().isDictionary() || getType().isList() || getType().isSet())) {
 
-                        if (parameterValue != null) {
-                            output.append(parameterValue.toString(true));
-                        } else {
-                            output.append("Null");
-                        }
+            output.append(JString.getQuotedJString(ParameterName_ClassName)).append(" : ").append("\"");
+            if(typeName != null) {
+                output.append(typeName);
+            }
+            output.append("\"");
+            firstElement = false;
+        }
 
-                        if (firstElement) {
-                            firstElement = false;
-                        }
+        if (size() > 0) {
+            if(getType().isList() || getType().isSet()){
+                JObjectArrayList hm = readSubObjectsArray();
+                for(int x = 0; x < size(); x += 1){
+                    if (!firstElement) {
+                        output.append(", ");
                     }
-                }
-                else {
-                    for (Map.Entry<String, JObject> entry : getSubObjects().entrySet()) {
-                        if (!firstElement) {
-                            output.append(", ");
-                        }
 
-                        JObject parameterValue = entry.getValue();
-
-                        if (parameterValue != null) {
-                            output.append(parameterValue.toString(true));
-                        } else {
-                            output.append("Null");
-                        }
+                    JObject parameterValue = hm.peek(x);
 
-                        if (firstElement) {
-                            firstElement = false;
-                        }
+                    if (parameterValue != null) {
+                        parameterValue.writeString_prv(output, true);
+                    } else {
+                        output.append("Null");
                     }
+
+                    firstElement = false;
                 }
             }
+            else {
+                for (Map.Entry<String, JObject> entry : readSubObjects().entrySet()) {
+                    if (!firstElement) {
+                        output.append(", ");
+                    }
+
+                    JObject parameterValue = entry.getValue();
+
+                    if (parameterValue != null) {
+                        parameterValue.writeString_prv(output, true);
+                    } else {
+                        output.append("Null");
+                    }
 
-            if (getType().isList()) {
-                output.prepend("[").append("]");
-            } else if (getType().isSet()) {
-                output.prepend("(").append(")");
-            } else if (getType().isDictionary()) {
-                output.prepend("{").append("}");
-            } else if (!isPrimitive()) {
-                output.prepend("{").append("}");
+                    firstElement = false;
+                }
             }
         }
 
-        return output.toString();
+        output.append(bracketStrings[1]);
     }
 
     // endregion
@@ -4528,28 +8903,37 @@ public class JObject
 
     public String toIndentedString(int startingIndentation, Boolean includeQuotationMarks){
         StringBuilder s = new StringBuilder();
+        try {
+            writeIndentedString_prv(s, startingIndentation, includeQuotationMarks);
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+        return s.toString();
+    }
 
-        StringBuilder tabString = getTabString(startingIndentation);
+    private void writeIndentedString_prv(Appendable s, int startingIndentation, Boolean includeQuotationMarks)
+            throws IOException {
 
         if(getType().isNull()){
             s.append("Null");
-            return s.toString();
+            return;
         }
 
         if(getType().isString()){
             s.append(toJString().toString(includeQuotationMarks));
-            return s.toString();
+            return;
         }
 
         if(isSymbol()){
             s.append(
                 ((JString) value).toString(false)
             );
-            return s.toString();
+            return;
         }
         else if (isPrimitive()){
             s.append(value.toString());
-            return s.toString();
+            return;
         }
 
         String[] bracketStrings = {"{","}"};
@@ -4562,11 +8946,13 @@ public class JObject
         }
 
         s.append(bracketStrings[0]);
-        tabString = getTabString(++startingIndentation);
+        startingIndentation += 1;
 
         // displays the type name if it is not a default type
         if(getType().isUnknown()) {
-            s.append("\n").append(tabString).append(JString.getQuotedJString(ParameterName_ClassName) + " : ");
+            s.append("\n");
+            appendTabs(s, startingIndentation);
+            s.append(JString.getQuotedJString(ParameterName_ClassName)).append(" : ");
             if (typeName != null) {
                 s.append(JString.getQuotedJString(typeName));
             } else {
@@ -4579,23 +8965,18 @@ public class JObject
             boolean firstElement = true;
 
             if(getType().isList() || getType().isSet()){
-                HashMap<String, JObject> hm = getSubObjects();
+                JObjectArrayList hm = readSubObjectsArray();
                 for(int x = 0; x < size(); x += 1){
                     if(!firstElement){
                         s.append(",");
                     }
 
-                    JObject val = hm.get(String.valueOf(x));
+                    JObject val = hm.peek(x);
 
                     if(val != null){
-                        if(val.isPrimitive()){
-                            s.append("\n").append(tabString);
-                            s.append(val.toIndentedString(0));
-                        }
-                        else {
-                            s.append("\n").append(tabString);
-                            s.append(val.toIndentedString(startingIndentation));
-                        }
+                        s.append("\n");
+                        appendTabs(s, startingIndentation);
+                        val.writeIndentedString_prv(s, val.isPrimitive() ? 0 : startingIndentation, false);
                     }
                     else {
                         s.append("Null");
@@ -4605,22 +8986,25 @@ public class JObject
                 }
             }
             else{
-                for(Map.Entry<String, JObject> entry : getSubObjects().entrySet()){
+                for(Map.Entry<String, JObject> entry : readSubObjects().entrySet()){
                     if(!firstElement){
                         s.append(",");
                     }
 
-                    s.append("\n").append(tabString).append(JString.getQuotedJString(entry.getKey())).append(" : ");
+                    s.append("\n");
+                    appendTabs(s, startingIndentation);
+                    s.append(JString.getQuotedJString(entry.getKey())).append(" : ");
 
                     JObject val = entry.getValue();
 
                     if(val != null){
                         if(val.isPrimitive()){
-                            s.append(val.toIndentedString(0));
+                            val.writeIndentedString_prv(s, 0, false);
                         }
                         else {
-                            s.append("\n").append(tabString);
-                            s.append(val.toIndentedString(startingIndentation));
+                            s.append("\n");
+                            appendTabs(s, startingIndentation);
+                            val.writeIndentedString_prv(s, startingIndentation, false);
                         }
                     }
                     else {
@@ -4632,10 +9016,15 @@ public class JObject
             }
         }
 
-        tabString = MiscFunctions.getTabString(--startingIndentation);
-        s.append("\n").append(tabString).append(bracketStrings[1]);
+        s.append("\n");
+        appendTabs(s, startingIndentation - 1);
+        s.append(bracketStrings[1]);
+    }
 
-        return s.toString();
+    private static void appendTabs(Appendable output, int tabCount) throws IOException {
+        for(int x = 0; x < tabCount; x += 1){
+            output.append('\t');
+        }
     }
 
     // endregion
@@ -4669,19 +9058,27 @@ public class JObject
     public String toDebugString(int tabCount){
 
         StringBuilder s = new StringBuilder();
+        try {
+            writeDebugString_prv(s, tabCount);
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+        return s.toString();
+    }
 
-        StringBuilder tabString = getTabString(tabCount);
+    private void writeDebugString_prv(Appendable s, int tabCount) throws IOException {
 
         if(tabCount != 0){
-            s.append("\n").append(tabString);
+            s.append("\n");
+            appendTabs(s, tabCount);
         }
 
         s.append("{\n");
 
-        tabString = getTabString(++tabCount);
-        s.append(tabString);
+        appendTabs(s, ++tabCount);
 
-        s.append(JString.getQuotedJString(ParameterName_ClassName) + " : ");
+        s.append(JString.getQuotedJString(ParameterName_ClassName)).append(" : ");
         if(typeName != null){
             s.append(JString.getQuotedJString(typeName));
         }
@@ -4691,8 +9088,8 @@ public class JObject
 
         s.append(", ");
         s.append("\n");
-        s.append(tabString);
-        s.append(JString.getQuotedJString(ParameterName_value)+" : ");
+        appendTabs(s, tabCount);
+        s.append(JString.getQuotedJString(ParameterName_value)).append(" : ");
         if(isPrimitive() || isNull()){
             if(value != null){
                 if(isString()){
@@ -4707,20 +9104,22 @@ public class JObject
             }
         }
         else{
-            s.append("\n").append(tabString).append("{");
-            tabString = getTabString(++tabCount);
+            s.append("\n");
+            appendTabs(s, tabCount);
+            s.append("{");
+            tabCount += 1;
             s.append("\n");
             if(size() > 0){
                 boolean first = true;
-                for(Map.Entry<String, JObject> entry : getSubObjects().entrySet()){
+                for(Map.Entry<String, JObject> entry : readSubObjects().entrySet()){
                     if(!first){
                         s.append(",\n");
                     }
-                    s.append(tabString);
+                    appendTabs(s, tabCount);
                     s.append(JString.getQuotedJString(entry.getKey())).append(" : ");
                     JObject val = entry.getValue();
                     if(val != null){
-                        s.append(val.toDebugString(tabCount));
+                        val.writeDebugString_prv(s, tabCount);
                     }
                     else{
                         s.append("Null");
@@ -4730,15 +9129,13 @@ public class JObject
             }
 
             s.append("\n");
-            tabString = MiscFunctions.getTabString(--tabCount);
-            s.append(tabString);
+            appendTabs(s, --tabCount);
             s.append("}");
         }
 
-        tabString = MiscFunctions.getTabString(--tabCount);
-        s.append("\n").append(tabString).append("}");
-
-        return s.toString();
+        s.append("\n");
+        appendTabs(s, --tabCount);
+        s.append("}");
     }
 
     /**
@@ -4791,7 +9188,7 @@ public class JObject
                 s.append("\n");
                 if (size() > 0) {
                     boolean first = true;
-                    for (Map.Entry<String, JObject> entry : getSubObjects().entrySet()) {
+                    for (Map.Entry<String, JObject> entry : readSubObjects().entrySet()) {
                         if (!first) {
                             s.append(",\n");
                         }
@@ -4825,4 +9222,85 @@ public class JObject
     }
 
     // endregion
+
+    // region write to functions
+
+    /**
+     * Writes the same text as {@link #toString()} directly to the given output, one sub object at a time, without
+     * building the whole string in memory first.
+     * @param output Appendable : the destination of the text.
+     * @throws IOException if the output can't be written to.
+     */
+    public void writeTo(Appendable output) throws IOException {
+        writeTo(output, false);
+    }
+
+    /**
+     * Writes the same text as {@link #toString(Boolean)} directly to the given output, one sub object at a time,
+     * without building the whole string in memory first.
+     * @param output Appendable : the destination of the text.
+     * @param includeQuotationMarks Boolean : whether a string value is written with its quotation marks.
+     * @throws IOException if the output can't be written to.
+     */
+    public void writeTo(Appendable output, Boolean includeQuotationMarks) throws IOException {
+        nullCheck(output, "output");
+
+        if(isString()) {
+            output.append(toJString().toString(includeQuotationMarks));
+            return;
+        }
+        writeString_prv(output, includeQuotationMarks);
+    }
+
+    /**
+     * Writes the same text as {@link #toString()} to the given writer, and flushes it. The writer is left open.
+     * @param output Writer : the destination of the text.
+     * @throws IOException if the writer can't be written to.
+     */
+    public void writeTo(Writer output) throws IOException {
+        writeTo((Appendable) output, false);
+        output.flush();
+    }
+
+    /**
+     * Writes the same text as {@link #toString()} to the given stream, encoded as UTF-8, and flushes it. The stream is
+     * left open.
+     * @param output OutputStream : the destination of the text.
+     * @throws IOException if the stream can't be written to.
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        nullCheck(output, "output");
+
+        writeTo(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes the same text as {@link #toIndentedString(int, Boolean)} directly to the given output, one sub object at
+     * a time, without building the whole string in memory first.
+     * @param output Appendable : the destination of the text.
+     * @param startingIndentation int : used to modify the default starting indentation.
+     * @param includeQuotationMarks Boolean : whether a string value is written with its quotation marks.
+     * @throws IOException if the output can't be written to.
+     */
+    public void writeIndentedTo(Appendable output, int startingIndentation, Boolean includeQuotationMarks)
+            throws IOException {
+        nullCheck(output, "output");
+
+        writeIndentedString_prv(output, startingIndentation, includeQuotationMarks);
+    }
+
+    /**
+     * Writes the same text as {@link #toDebugString(int)} directly to the given output, one sub object at a time,
+     * without building the whole string in memory first.
+     * @param output Appendable : the destination of the text.
+     * @param tabCount int : used to modify the default starting indentation.
+     * @throws IOException if the output can't be written to.
+     */
+    public void writeDebugTo(Appendable output, int tabCount) throws IOException {
+        nullCheck(output, "output");
+
+        writeDebugString_prv(output, tabCount);
+    }
+
+    // endregion
 }
@@ -0,0 +1,39 @@
+package jLibrary;
+
+/**
+ * The constants of the JObject binary format, shared by {@link JObject#writeBinary(java.io.OutputStream)},
+ * {@link JObject#readBinary(java.io.InputStream)} and {@link MappedJObject}.
+ * <br>
+ * A frame is a 4 byte header, the length of the body as a varint, then the body. The body is a single object, and
+ * every object starts with a one byte tag. Lists, sets, dictionaries and expressions write their entry count and then
+ * the length in bytes of their entries, both as varints, before the entries themselves, so a reader can step over a
+ * whole collection without decoding it.
+ */
+final class JObjectBinaryFormat {
+
+    static final byte[] header = {'J', 'O', 'B', 1};
+
+    static final byte tagNull = 0;
+    static final byte tagFalse = 1;
+    static final byte tagTrue = 2;
+    static final byte tagByte = 3;
+    static final byte tagShort = 4;
+    static final byte tagInteger = 5;
+    static final byte tagLong = 6;
+    static final byte tagFloat = 7;
+    static final byte tagDouble = 8;
+    static final byte tagString = 9;
+    static final byte tagSymbol = 10;
+    static final byte tagOperator = 11;
+    static final byte tagBracket = 12;
+    static final byte tagList = 13;
+    static final byte tagSet = 14;
+    static final byte tagDictionary = 15;
+    static final byte tagExpression = 16;
+    // any other type name, written before the contents
+    static final byte tagNamed = 17;
+
+    private JObjectBinaryFormat(){
+
+    }
+}
@@ -0,0 +1,383 @@
+package jLibrary;
+
+import jLibrary.exceptions.FailedParseException;
+import jLibrary.miscFunctions.MiscFunctions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads the JObject string format (see {@link JObject}) one token at a time, the way a StAX reader reads XML.
+ * <br>
+ * Each call to {@link #next()} reads just enough of the input to report the next event, so documents far larger
+ * than the available memory can be read and filtered. Only the current token and one character per open bracket
+ * are kept in memory. {@link #skipChildren()} moves past an entire list, set or dictionary without creating
+ * anything for its contents.
+ * <br>
+ * <br>
+ * Lists "[...]", sets "(...)" and dictionaries "{...}" are reported as a start event, the events for their
+ * contents, and an {@link Event#End} event. Dictionary entries are reported as a {@link Event#Key} event followed by
+ * the events for the value. Dictionary values written without a key, the way {@link JObject#toString()} writes them,
+ * are reported without a key event.
+ * <br>
+ * Every other value is reported as a single {@link Event#Value} event. Quoted values are strings, and keep their
+ * quotation marks, the same as in a parsed JObject. Unquoted values are classified by
+ * {@link JPrimitive#fromString(CharSequence)}, with "Null" and "None" read as null. Expressions are not evaluated.
+ * <br>
+ * Comma separated values without brackets around them are read as consecutive top level values.
+ */
+public class JObjectReader implements Closeable {
+
+    public enum Event {
+        StartList, StartSet, StartDictionary, Key, Value, End
+    }
+
+    private static final int bufferSize = 8192;
+
+    private final Reader input;
+    private final char[] buffer = new char[bufferSize];
+    private int bufferPosition = 0;
+    private int bufferLength = 0;
+
+    // the closing bracket of every open container, innermost last
+    private char[] closingBrackets = new char[16];
+    private int depth = 0;
+
+    private final StringBuilder token = new StringBuilder();
+    private Event event = null;
+    private String key = null;
+    private JPrimitive value = null;
+
+    // true once a value is complete and a comma or closing bracket has to come next
+    private boolean needsSeparator = false;
+    // true right after an opening bracket, when a closing bracket would make an empty container
+    private boolean containerOpened = false;
+    // true between a key and its value
+    private boolean keyRead = false;
+
+    // region constructor
+
+    public JObjectReader(Reader input){
+        MiscFunctions.nullCheck(input, "input");
+
+        this.input = input;
+    }
+
+    // endregion
+
+    // region events
+
+    /**
+     * Returns true if there are more events to read.
+     */
+    public boolean hasNext() throws IOException {
+        if(depth > 0){
+            return true;
+        }
+
+        return peekNonWhitespace() != -1;
+    }
+
+    /**
+     * Reads the next event.
+     * @return Returns the event that was read.
+     * @throws FailedParseException if the input isn't in the JObject string format.
+     * @throws IOException if the input can't be read.
+     */
+    public Event next() throws IOException {
+        key = null;
+        value = null;
+
+        while(true){
+            int c = peekNonWhitespace();
+
+            if(c == -1){
+                if(depth > 0){
+                    throw new FailedParseException(
+                            "The input ended before the closing bracket \"" + closingBrackets[depth - 1] + "\".");
+                }
+                if(keyRead){
+                    throw new FailedParseException("The input ended before the value of the last key.");
+                }
+                throw new FailedParseException("There are no more events to read.");
+            }
+
+            if(depth > 0 && c == closingBrackets[depth - 1] && (needsSeparator || containerOpened) && !keyRead){
+                read();
+                depth -= 1;
+                return endValue(Event.End);
+            }
+
+            if(needsSeparator){
+                if(c != ','){
+                    throw new FailedParseException("Expected a comma or closing bracket, but found \"" + (char) c + "\".");
+                }
+                read();
+                needsSeparator = false;
+                continue;
+            }
+
+            containerOpened = false;
+
+            switch (c) {
+                case '[' -> {
+                    return startContainer(Event.StartList, ']');
+                }
+                case '(' -> {
+                    return startContainer(Event.StartSet, ')');
+                }
+                case '{' -> {
+                    return startContainer(Event.StartDictionary, '}');
+                }
+                case ']', ')', '}', ',', ':' ->
+                    throw new FailedParseException("Expected a value, but found \"" + (char) c + "\".");
+                default -> {
+                    return readScalar((char) c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the last event read, or null if {@link #next()} hasn't been called yet.
+     */
+    public Event getEvent(){
+        return event;
+    }
+
+    /**
+     * Returns the key read by the last {@link Event#Key} event, without quotation marks.
+     */
+    public String getKey(){
+        if(event != Event.Key){
+            throw new IllegalStateException("The last event was " + event + ", not " + Event.Key + ".");
+        }
+        return key;
+    }
+
+    /**
+     * Returns the value read by the last {@link Event#Value} event. A null value is returned as a JPrimitive of
+     * type Null.
+     */
+    public JPrimitive getValue(){
+        if(event != Event.Value){
+            throw new IllegalStateException("The last event was " + event + ", not " + Event.Value + ".");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of lists, sets and dictionaries that are currently open.
+     */
+    public int getDepth(){
+        return depth;
+    }
+
+    /**
+     * Skips the contents of the list, set or dictionary that the last event started, up to and including its
+     * closing bracket, without creating anything for them. Afterwards the last event is {@link Event#End}.
+     * @throws IllegalStateException if the last event didn't start a list, set or dictionary.
+     */
+    public void skipChildren() throws IOException {
+        if(event != Event.StartList && event != Event.StartSet && event != Event.StartDictionary){
+            throw new IllegalStateException("The last event was " + event + ", not the start of a collection.");
+        }
+
+        int targetDepth = depth - 1;
+        int quote = -1;
+        while(depth > targetDepth){
+            int c = read();
+            if(c == -1){
+                throw new FailedParseException(
+                        "The input ended before the closing bracket \"" + closingBrackets[depth - 1] + "\".");
+            }
+
+            if(quote != -1){
+                if(c == quote){
+                    quote = -1;
+                }
+            }
+            else if(c == '"' || c == '\''){
+                quote = c;
+            }
+            else if(c == '['){
+                pushClosingBracket(']');
+            }
+            else if(c == '('){
+                pushClosingBracket(')');
+            }
+            else if(c == '{'){
+                pushClosingBracket('}');
+            }
+            else if(c == ']' || c == ')' || c == '}'){
+                if(c != closingBrackets[depth - 1]){
+                    throw new FailedParseException("Expected the closing bracket \"" + closingBrackets[depth - 1] +
+                            "\", but found \"" + (char) c + "\".");
+                }
+                depth -= 1;
+            }
+        }
+
+        key = null;
+        value = null;
+        endValue(Event.End);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    // endregion
+
+    // region tokens
+
+    private Event startContainer(Event startEvent, char closingBracket) throws IOException {
+        read();
+        pushClosingBracket(closingBracket);
+        containerOpened = true;
+        keyRead = false;
+        event = startEvent;
+        return startEvent;
+    }
+
+    private void pushClosingBracket(char closingBracket){
+        if(depth == closingBrackets.length){
+            closingBrackets = Arrays.copyOf(closingBrackets, depth * 2);
+        }
+        closingBrackets[depth] = closingBracket;
+        depth += 1;
+    }
+
+    private Event endValue(Event endEvent){
+        needsSeparator = true;
+        containerOpened = false;
+        keyRead = false;
+        event = endEvent;
+        return endEvent;
+    }
+
+    private Event readScalar(char first) throws IOException {
+        token.setLength(0);
+
+        boolean quoted = first == '"' || first == '\'';
+        if(quoted){
+            readQuoted(first);
+        }
+        else{
+            readUnquoted();
+        }
+
+        // a value followed by a colon is a dictionary key
+        if(peekNonWhitespace() == ':' && !keyRead){
+            if(depth == 0 || closingBrackets[depth - 1] != '}'){
+                throw new FailedParseException("Keys are only allowed in dictionaries, found the key \"" + token + "\".");
+            }
+            read();
+
+            key = quoted ? token.substring(1, token.length() - 1) : token.toString();
+            keyRead = true;
+            event = Event.Key;
+            return Event.Key;
+        }
+
+        if(quoted){
+            value = new JPrimitive();
+            value.fromString(token);
+        }
+        else if(isNullWord()){
+            value = new JPrimitive();
+        }
+        else{
+            value = JPrimitive.createFromString(token);
+        }
+
+        return endValue(Event.Value);
+    }
+
+    private void readQuoted(char quote) throws IOException {
+        token.append((char) read());
+        while(true){
+            int c = read();
+            if(c == -1){
+                throw new FailedParseException("The input ended inside the string " + token);
+            }
+            token.append((char) c);
+            if(c == quote){
+                return;
+            }
+        }
+    }
+
+    private void readUnquoted() throws IOException {
+        while(true){
+            int c = peek();
+            if(c == -1 || isDelimiter((char) c)){
+                break;
+            }
+            token.append((char) read());
+        }
+
+        int end = token.length();
+        while(end > 0 && Character.isWhitespace(token.charAt(end - 1))){
+            end -= 1;
+        }
+        token.setLength(end);
+    }
+
+    private static boolean isDelimiter(char c){
+        return switch (c) {
+            case ',', ':', '[', ']', '{', '}', '(', ')', '"', '\'' -> true;
+            default -> false;
+        };
+    }
+
+    private boolean isNullWord(){
+        String word = token.toString();
+        return word.equalsIgnoreCase("Null") || word.equalsIgnoreCase("None");
+    }
+
+    // endregion
+
+    // region character input
+
+    private boolean fill() throws IOException {
+        int count = input.read(buffer, 0, buffer.length);
+        while(count == 0){
+            count = input.read(buffer, 0, buffer.length);
+        }
+        if(count == -1){
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLength = count;
+        return true;
+    }
+
+    private int peek() throws IOException {
+        if(bufferPosition == bufferLength && !fill()){
+            return -1;
+        }
+        return buffer[bufferPosition];
+    }
+
+    private int read() throws IOException {
+        if(bufferPosition == bufferLength && !fill()){
+            return -1;
+        }
+        return buffer[bufferPosition++];
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c = peek();
+        while(c != -1 && Character.isWhitespace((char) c)){
+            bufferPosition += 1;
+            c = peek();
+        }
+        return c;
+    }
+
+    // endregion
+}
@@ -1,8 +1,11 @@
 package jLibrary;
 
+import jLibrary.expressionManipulation.ExpressionScanner;
 import jLibrary.interfaces.JObjectBaseInterface;
 import jLibrary.interfaces.StringInterface;
 import jLibrary.miscFunctions.MiscFunctions;
+import jLibrary.miscFunctions.MultiPatternSearch;
+import jLibrary.miscFunctions.SearchPattern;
 import jLibrary.typeEnumerable.ObjectTypes;
 
 import java.util.*;
@@ -22,6 +25,12 @@ public class JString implements JObjectBaseInterface,
     private char[] chars;
     private int length, capacity;
 
+    // slices read chars from offset onwards, and share their array with the string they were taken from
+    private int offset;
+    private boolean shared;
+    // set by the first slice taken from this string, so its array is copied before it's modified in place
+    private volatile boolean lent;
+
     // region static conversion functions
 
     public static JString convertToJString(Object input){
@@ -68,6 +77,14 @@ public class JString implements JObjectBaseInterface,
         setTo(initialValue);
     }
 
+    private JString(char[] sharedChars, int offset, int length){
+        this.chars = sharedChars;
+        this.offset = offset;
+        this.length = length;
+        this.capacity = length;
+        this.shared = true;
+    }
+
     // endregion
 
     // region set to functions
@@ -77,10 +94,14 @@ public class JString implements JObjectBaseInterface,
             return setTo(input);
         }
         else if(value instanceof JString input){
+            char[] newChars = new char[input.capacity];
+            System.arraycopy(input.chars, input.offset, newChars, 0, input.length);
             length = input.length;
             capacity = input.capacity;
-            chars = new char[capacity];
-            System.arraycopy(input.chars, 0, chars, 0, input.chars.length);
+            chars = newChars;
+            offset = 0;
+            shared = false;
+            lent = false;
             return this;
         }
         else if(value instanceof Character input){
@@ -118,6 +139,9 @@ public class JString implements JObjectBaseInterface,
             capacity = length;
             chars = new char[capacity];
             System.arraycopy(value, 0, chars, 0, value.length);
+            offset = 0;
+            shared = false;
+            lent = false;
         }
         return this;
     }
@@ -158,6 +182,9 @@ public class JString implements JObjectBaseInterface,
         length = 0;
         capacity = 10;
         chars = new char[capacity];
+        offset = 0;
+        shared = false;
+        lent = false;
     }
 
     public JString clone(){
@@ -165,7 +192,7 @@ public class JString implements JObjectBaseInterface,
         output.length = length;
         output.capacity = capacity;
         output.chars = new char[capacity];
-        System.arraycopy(chars, 0, output.chars, 0, chars.length);
+        System.arraycopy(chars, offset, output.chars, 0, length);
         return output;
     }
 
@@ -356,7 +383,7 @@ public class JString implements JObjectBaseInterface,
     public char[] toCharArray(){
         char[] output = new char[length];
 
-        System.arraycopy(chars, 0, output, 0, output.length);
+        System.arraycopy(chars, offset, output, 0, output.length);
 
         return output;
     }
@@ -545,7 +572,12 @@ public class JString implements JObjectBaseInterface,
     @Override
     public int hashCode() {
 
-        return java.util.Arrays.hashCode(chars);
+        // only the used portion of the character array is hashed, spare capacity must not affect the hash
+        int output = 1;
+        for(int x = 0; x < length; x += 1){
+            output = 31 * output + chars[offset + x];
+        }
+        return output;
     }
 
     // endregion
@@ -586,19 +618,23 @@ public class JString implements JObjectBaseInterface,
 
     // region sub sequence
 
-    public char[] getSubSequence_asCharArray(int start, int end){
-
+    private void subSequenceBoundsCheck(int start, int end){
         indexBoundsCheck("start", start);
         if(end < 0){
             throw getLessThenZeroError("end");
         }
-        else if(end > length+1){
+        else if(end > length){
             throw getExceedsLengthError("end", end, length, this);
         }
 
         if(start > end){
             throw new IndexOutOfBoundsException("Start index ("+start+") cannot exceed end ("+end+") index.");
         }
+    }
+
+    public char[] getSubSequence_asCharArray(int start, int end){
+
+        subSequenceBoundsCheck(start, end);
 
         if (end == start) {
             return new char[0];
@@ -606,12 +642,58 @@ public class JString implements JObjectBaseInterface,
 
         int length = end-start;
         char[] output = new char[length];
-        System.arraycopy(chars, start, output, 0, length);
+        System.arraycopy(chars, offset + start, output, 0, length);
         return output;
     }
 
     public JString getSubSequence_asJString(int start, int end){
-        return new JString(getSubSequence_asCharArray(start, end));
+        return slice(start, end);
+    }
+
+    // endregion
+
+    // region slices
+
+    /**
+     * Returns a view of the characters between start and end, without copying them. The slice shares this string's
+     * character array, and whichever of the two is modified first copies its characters into a new array, so
+     * changes to one are never seen by the other. Taking a slice doesn't change this string's contents or
+     * {@link #isShared()}, and is safe to do from several threads at once.
+     * @param start The index of the first character in the slice.
+     * @param end The index after the last character in the slice.
+     * @return Returns a JString containing the characters between start and end.
+     */
+    public JString slice(int start, int end){
+
+        subSequenceBoundsCheck(start, end);
+
+        // checked first so concurrent readers don't keep writing to the same field
+        if(!lent){
+            lent = true;
+        }
+        return new JString(chars, offset + start, end - start);
+    }
+
+    /**
+     * Returns whether this string is a slice still reading the character array of the string it was taken from.
+     * @return Returns true if the next modification will copy this slice's characters into a new array.
+     */
+    public boolean isShared(){
+        return shared;
+    }
+
+    // copies this string's characters into an array of its own, before they're modified
+    private void ensureUnshared(){
+        if(!shared && !lent){
+            return;
+        }
+
+        char[] newChars = new char[capacity];
+        System.arraycopy(chars, offset, newChars, 0, length);
+        chars = newChars;
+        offset = 0;
+        shared = false;
+        lent = false;
     }
 
     // endregion
@@ -627,7 +709,7 @@ public class JString implements JObjectBaseInterface,
     public char charAt(int index) {
 
         indexBoundsCheck("index", index);
-        return chars[index];
+        return chars[offset + index];
     }
 
     @Override
@@ -638,7 +720,7 @@ public class JString implements JObjectBaseInterface,
     @Override
     public CharSequence subSequence(int start, int end) {
 
-        return getSubSequence_asJString(start, end);
+        return slice(start, end);
     }
 
     // endregion
@@ -781,6 +863,8 @@ public class JString implements JObjectBaseInterface,
 
     public JString shrinkWrap(){
 
+        ensureUnshared();
+
         if(length == capacity){
             return this;
         }
@@ -810,6 +894,8 @@ public class JString implements JObjectBaseInterface,
     }
 
     private void setCapacity(int totalCapacity){
+        ensureUnshared();
+
         capacity = totalCapacity;
 
         char[] newChars = new char[capacity];
@@ -830,6 +916,8 @@ public class JString implements JObjectBaseInterface,
 
     public JString append(char c){
 
+        ensureUnshared();
+
         if(length+1 >= capacity){
             expandCapacity();
         }
@@ -871,6 +959,7 @@ public class JString implements JObjectBaseInterface,
             if(c.length < 1){
                 return this;
             }
+            ensureUnshared();
             if(length+c.length >= capacity){
                 if(c.length >= 10) {
                     expandCapacity(c.length * 2);
@@ -932,6 +1021,7 @@ public class JString implements JObjectBaseInterface,
             if(newValues.length < 1){
                 return this;
             }
+            ensureUnshared();
             int newCapacity = 0;
             int newMinCapacity = length+newValues.length;
             if(newMinCapacity >= capacity){
@@ -1033,6 +1123,7 @@ public class JString implements JObjectBaseInterface,
     }
 
     public JString toLowerCase(){
+        ensureUnshared();
         for(int x = 0; x <chars.length; x += 1){
             chars[x] = toLowerCase(chars[x]);
         }
@@ -1041,6 +1132,7 @@ public class JString implements JObjectBaseInterface,
     }
 
     public JString toUpperCase(){
+        ensureUnshared();
         for(int x = 0; x <chars.length; x += 1){
             chars[x] = toUpperCase(chars[x]);
         }
@@ -1082,43 +1174,7 @@ public class JString implements JObjectBaseInterface,
             throw new NullPointerException("search value is null.");
         }
 
-        boolean done = false;
-        int output = -1;
-        while(!done){
-            int indexOfFirstChar = indexOf(source, searchValue[0], startingIndex);
-
-            if(indexOfFirstChar == -1){
-                done = true;
-                continue;
-            }
-            boolean match = true;
-            int counter = indexOfFirstChar;
-            for(char srch : searchValue){
-                if(counter >= source.length){
-                    match = false;
-                    break;
-                }
-
-                char src = source[counter];
-                if(src != srch){
-                    match = false;
-                    break;
-                }
-                else{
-                    counter += 1;
-                }
-            }
-
-            if(match){
-                output = indexOfFirstChar;
-                done = true;
-            }
-            else{
-                startingIndex = counter;
-            }
-        }
-
-        return output;
+        return SearchPattern.compile(searchValue).indexOf(source, startingIndex, source.length);
     }
 
     public static int indexOf(char[] source, char[] searchValue)
@@ -1129,10 +1185,20 @@ public class JString implements JObjectBaseInterface,
     public static <t>int indexOf(t source, t searchValue, int startingIndex)
             throws NullPointerException, IndexOutOfBoundsException{
 
-        char[] src = toCharArray(source);
         char[] search = toCharArray(searchValue);
 
-        return indexOf(src, search, startingIndex);
+        // searches a JString's own characters, rather than a copy of them
+        if(source instanceof JString src){
+            if(startingIndex < 0){
+                throw new IndexOutOfBoundsException("Starting index must be greater then or equal to zero.");
+            }
+
+            int index = SearchPattern.compile(search).indexOf(
+                    src.chars, src.offset + startingIndex, src.offset + src.length);
+            return index == -1 ? -1 : index - src.offset;
+        }
+
+        return indexOf(toCharArray(source), search, startingIndex);
     }
 
     public static <t>int indexOf(t source, t searchValue)
@@ -1169,34 +1235,11 @@ public class JString implements JObjectBaseInterface,
     // region static index of each
 
     public static int[] indexOfEach(char[] source, char[] searchString, int startingPoint){
-
-        ArrayList<Integer> indexes = new ArrayList<>();
-
-        boolean stop = false;
-        while(!stop){
-            int index = indexOf(source, searchString, startingPoint);
-
-            if(index == -1){
-                stop = true;
-            }
-            else{
-                indexes.add(index);
-                startingPoint = index + searchString.length;
-            }
+        if(startingPoint < 0){
+            throw getLessThenZeroError("startingPoint");
         }
 
-        if(indexes.size() > 0) {
-
-            int[] output = new int[indexes.size()];
-            for (int x = 0; x < output.length; x += 1) {
-                output[x] = indexes.get(x);
-            }
-
-            return output;
-        }
-        else{
-            return new int[0];
-        }
+        return SearchPattern.compile(searchString).indexOfEach(source, startingPoint, source.length);
     }
 
     public static int[] indexOfEach(char[] source, char[] searchString){
@@ -1309,6 +1352,10 @@ public class JString implements JObjectBaseInterface,
     }
 
     public <t>boolean contains(t[] searchValues){
+        if(searchValues instanceof CharSequence[] sequences){
+            return MultiPatternSearch.compile(sequences).containsAny(chars, offset, offset + length);
+        }
+
         for(t s : searchValues){
             if(contains(s)){
                 return true;
@@ -1317,6 +1364,13 @@ public class JString implements JObjectBaseInterface,
         return false;
     }
 
+    /**
+     * Returns whether this string contains any of the patterns searched for by the given automaton.
+     */
+    public boolean contains(MultiPatternSearch searchValues){
+        return searchValues.containsAny(chars, offset, offset + length);
+    }
+
     public static boolean doesStringArrayContain(JString[] searchSet, JString searchValue){
         for(JString ele : searchSet){
             if(ele.equals(searchValue)){
@@ -1331,6 +1385,7 @@ public class JString implements JObjectBaseInterface,
     // region replace each occurrence in string
 
     public JString replaceEach(char oldChar, char newChar){
+        ensureUnshared();
         for(int x = 0; x < length; x += 1){
             if(chars[x] == oldChar){
                 chars[x] = newChar;
@@ -1398,6 +1453,7 @@ public class JString implements JObjectBaseInterface,
     // region replace first occurrence in string
 
     public JString replaceFirstOccurrence(char oldChar, char newChar){
+        ensureUnshared();
         for(int x = 0; x < length; x += 1){
             if(chars[x] == oldChar){
                 chars[x] = newChar;
@@ -1484,6 +1540,8 @@ public class JString implements JObjectBaseInterface,
             throw getExceedsLengthError("removalStartPoint", removalStartPoint, length, this);
         }
 
+        ensureUnshared();
+
         char[] newChars = new char[capacity];
 
 
@@ -1522,6 +1580,8 @@ public class JString implements JObjectBaseInterface,
 
         JString output = subString(removalStartPoint, removalEndPoint);
 
+        ensureUnshared();
+
         char[] newChars = new char[capacity];
 
 
@@ -1552,6 +1612,8 @@ public class JString implements JObjectBaseInterface,
             return this;
         }
 
+        ensureUnshared();
+
         char[] newChars = new char[capacity];
         int indexOfStart = 0;
         boolean startFound = false;
@@ -1601,7 +1663,7 @@ public class JString implements JObjectBaseInterface,
             }
 
             for(int x = 0; x < s.length; x += 1){
-                if(s[x] != chars[x]){
+                if(s[x] != chars[offset + x]){
                     return false;
                 }
             }
@@ -1620,7 +1682,7 @@ public class JString implements JObjectBaseInterface,
 
             int counter = 0;
             for(int x = length-s.length; x < length; x += 1){
-                if(s[counter] != chars[x]){
+                if(s[counter] != chars[offset + x]){
                     return false;
                 }
                 counter += 1;
@@ -1658,108 +1720,47 @@ public class JString implements JObjectBaseInterface,
         }
 
         if(splitStrings == null || splitStrings.length == 0){
-            return new JString[]{wholeString.clone()};
+            return new JString[]{wholeString.slice(0, wholeString.length())};
         }
 
-        if(!wholeString.contains(splitStrings)) {
-            return new JString[] {
-                    wholeString.clone()
-            };
-        }
-
-        // sorts split strings by element length, with longer elements first
-        ArrayList<JString> output = new ArrayList<>();
-
-        int longestLength = 0;
-        for(JString s : splitStrings) {
-            if (s != null) {
-                if (s.length() > longestLength) {
-                    longestLength = s.length();
-                }
-            }
-        }
+        return splitString_prv(wholeString, MultiPatternSearch.compile(splitStrings), includeSplitStrings);
+    }
 
-        for(int currentLength = longestLength; currentLength >= 1; currentLength -= 1) {
-            for (JString s : splitStrings) {
-                if(!isNullOrEmptyString(s)) {
-                    if (s.length() >= currentLength) {
-                        if(!output.contains(s)){
-                            output.add(s);
-                        }
-                    }
-                }
-            }
+    private static JString[] splitString_prv(
+            JString wholeString, MultiPatternSearch splitStrings, boolean includeSplitStrings){
+        if(isNullOrEmptyString(wholeString)){
+            return new JString[0];
         }
 
-        splitStrings = output.toArray(new JString[0]);
-
-        // actual splitting
-        output.clear();
-        JString workingString = wholeString.clone();
-        boolean continueLoop = true;
+        // the automaton finds every split point in one pass, taking the longest split string when several start at
+        // the same index, and every output element is a slice of the whole string
+        int[][] matches = splitStrings.findAll(wholeString.chars, wholeString.offset,
+                wholeString.offset + wholeString.length);
+        int[] matchStarts = matches[0];
+        int[] matchedPatterns = matches[1];
 
-        while(continueLoop){
+        if(matchStarts.length == 0){
+            return new JString[]{wholeString.slice(0, wholeString.length())};
+        }
 
-            if(workingString.length() < 1) {
-                continueLoop = false;
-                continue;
-            }
+        ArrayList<JString> output = new ArrayList<>();
+        int previousEnd = 0;
+        for(int x = 0; x < matchStarts.length; x += 1){
+            int splitAt = matchStarts[x] - wholeString.offset;
+            int splitEnd = splitAt + splitStrings.getPattern(matchedPatterns[x]).length();
 
-            if(!workingString.contains(splitStrings)){
-                if(!workingString.isEmpty()) {
-                    output.add(workingString);
-                }
-                continueLoop = false;
+            if(splitAt > previousEnd){
+                output.add(wholeString.slice(previousEnd, splitAt));
             }
-
-            int splitAt = -1;
-            int splitStringLength = -1;
-
-            for (JString splitString : splitStrings) {
-                int newSplitIndex = workingString.indexOf(splitString);
-                if(newSplitIndex == -1){
-                    continue;
-                }
-
-                if(splitAt == -1){
-                    splitAt = newSplitIndex;
-                    splitStringLength = splitString.length();
-                    continue;
-                }
-
-                if (newSplitIndex < splitAt) {
-                    splitAt = newSplitIndex;
-                    splitStringLength = splitString.length();
-                }
-                else if(splitAt == newSplitIndex) {
-
-                    if (splitString.length() > splitStringLength) {
-                        //splitAt = newSplitIndex;
-                        splitStringLength = splitString.length();
-                    }
-                }
+            if(includeSplitStrings){
+                output.add(wholeString.slice(splitAt, splitEnd));
             }
 
-            if(splitAt != -1) {
-                JString pre_splitString = workingString.subString(0, splitAt);
-                JString splitString = workingString.subString(
-                        splitAt, splitAt + splitStringLength);
-                JString post_splitString = new JString();
-                if(splitAt+ splitString.length < workingString.length()) {
-                    post_splitString = workingString.subString(splitAt + splitString.length(), workingString.length());
-                }
-
-                if (pre_splitString.length() > 0) {
-
-                    output.add(pre_splitString);
-                }
-                if(includeSplitStrings) {
-                    output.add(splitString);
-                }
-
-                workingString = post_splitString.clone();
-            }
+            previousEnd = splitEnd;
+        }
 
+        if(previousEnd < wholeString.length()){
+            output.add(wholeString.slice(previousEnd, wholeString.length()));
         }
 
         return output.toArray(new JString[0]);
@@ -1904,16 +1905,16 @@ public class JString implements JObjectBaseInterface,
             while (subCounter < bracketSets.length && continueCheckingLoop){
                 if(bracketSets[subCounter][0].equals(subString)){
                     continueCheckingLoop = false;
-                    openingBracket = bracketSets[subCounter][0].clone();
-                    closingBracket = bracketSets[subCounter][1].clone();
+                    openingBracket = bracketSets[subCounter][0];
+                    closingBracket = bracketSets[subCounter][1];
                     isOpeningBracket = true;
                 }
 
                 if(bracketSets[subCounter][1].equals(subString)){
                     continueCheckingLoop = false;
                     if(!isOpeningBracket) {
-                        openingBracket = bracketSets[subCounter][0].clone();
-                        closingBracket = bracketSets[subCounter][1].clone();
+                        openingBracket = bracketSets[subCounter][0];
+                        closingBracket = bracketSets[subCounter][1];
                     }
                     isClosingBracket = true;
                 }
@@ -1943,7 +1944,7 @@ public class JString implements JObjectBaseInterface,
                 // endregion
 
                 if(lfm){
-                    newOutputElement.append(subString.clone());
+                    newOutputElement.append(subString);
                 }
 
                 if(isOpeningBracket){
@@ -1954,17 +1955,17 @@ public class JString implements JObjectBaseInterface,
                     }
                     else{
                         lfm = true;
-                        triggeringString = subString.clone();
-                        stringToMatch = closingBracket.clone();
+                        triggeringString = subString;
+                        stringToMatch = closingBracket;
                         nestingCounter = 0;
-                        newOutputElement = new JString(subString.clone());
+                        newOutputElement = new JString(subString);
                     }
                 }
                 else if(isClosingBracket){
                     if(lfm){
                         if(subString.equals(stringToMatch)){
                             if(nestingCounter == 0){
-                                outputList.add(newOutputElement.clone());
+                                outputList.add(newOutputElement);
                                 newOutputElement = null;
                                 triggeringString = null;
                                 stringToMatch = null;
@@ -1983,11 +1984,11 @@ public class JString implements JObjectBaseInterface,
             else{
                 if(lfm){
                     if(subString.length() > 0) {
-                        newOutputElement.append(subString.clone());
+                        newOutputElement.append(subString);
                     }
                 }
                 else{
-                    outputList.add(subString.clone());
+                    outputList.add(subString.slice(0, subString.length()));
                 }
             }
 
@@ -2007,21 +2008,25 @@ public class JString implements JObjectBaseInterface,
     }
 
     public static JString[] concatenateByDots(JString[] inputStrings){
+        return concatenateByDots(Arrays.asList(inputStrings)).toArray(new JString[0]);
+    }
+
+    public static List<JString> concatenateByDots(List<JString> inputStrings){
         ArrayList<JString> outputList = new ArrayList<>();
 
         int counter = 0;
         JString substring = new JString();
         boolean buildingSubstring = false;
-        while(counter < inputStrings.length){
-            JString ele = inputStrings[counter];
+        while(counter < inputStrings.size()){
+            JString ele = inputStrings.get(counter);
             JString nextEle = null;
             JString nextNextEle = null;
-            if(inputStrings.length > counter + 1){
-                nextEle = inputStrings[counter + 1];
+            if(inputStrings.size() > counter + 1){
+                nextEle = inputStrings.get(counter + 1);
             }
 
-            if(inputStrings.length > counter + 2){
-                nextNextEle = inputStrings[counter + 2];
+            if(inputStrings.size() > counter + 2){
+                nextNextEle = inputStrings.get(counter + 2);
             }
 
             if(ele != null && ele.equals(".")){
@@ -2045,11 +2050,11 @@ public class JString implements JObjectBaseInterface,
                         boolean found = false;
                         boolean continueLoop = true;
                         while(!found && continueLoop){
-                            if((counter + stringCounter) >= inputStrings.length){
+                            if((counter + stringCounter) >= inputStrings.size()){
                                 continueLoop = false;
                                 continue;
                             }
-                            JString tempEle = inputStrings[counter + stringCounter];
+                            JString tempEle = inputStrings.get(counter + stringCounter);
                             if(tempEle == null || tempEle.isEmpty() || tempEle.isBlank()){
                                 stringCounter += 1;
                                 continue;
@@ -2073,7 +2078,7 @@ public class JString implements JObjectBaseInterface,
 
                         if(found) {
                             for (int x = 0; x <= stringCounter; x += 1) {
-                                substring.append(inputStrings[counter]);
+                                substring.append(inputStrings.get(counter));
                                 counter += 1;
                             }
                         }
@@ -2120,7 +2125,7 @@ public class JString implements JObjectBaseInterface,
             //buildingSubstring = false;
         }
 
-        return outputList.toArray(new JString[0]);
+        return outputList;
     }
 
     public static <t>JString concatenateStrings(t[] strings,
@@ -2404,80 +2409,6 @@ public class JString implements JObjectBaseInterface,
 
     // endregion
 
-    // region static unrecognized symbol extraction
-
-    private static JString[] getUnrecognizedSymbols(JString[] strings){
-        ArrayList<JString> unrecognizedSymbols = new ArrayList<>();
-        ArrayList<JString> nestedElementsQue = new ArrayList<>();
-        for(JString ele : strings){
-            if(ele.isBlankOrEmpty()){
-                continue;
-            }
-
-            if(ele.startsWith("\"") && ele.endsWith("\"")){
-                continue;
-            }
-
-            if(ele.startsWith("'") && ele.endsWith("'")){
-                continue;
-            }
-
-            JPrimitive ps = new JPrimitive(ele);
-            if(ps.isBoolean()){
-                continue;
-            }
-
-            if(ps.isNumber()){
-                continue;
-            }
-
-            if(ps.isSymbol()){
-                continue;
-            }
-
-            if(!unrecognizedSymbols.contains(ele)){
-                unrecognizedSymbols.add(ele);
-                if(ele.contains("[")){
-                    nestedElementsQue.add(ele);
-                }
-            }
-        }
-
-        while(nestedElementsQue.size() > 0){
-            JString loopObject = nestedElementsQue.get(0);
-            nestedElementsQue.remove(0);
-            int[][] indexOfBracketSets = getIndexesOfBracketSets(loopObject, "[", "]");
-            if(indexOfBracketSets[0][0] == -1){
-                continue;
-            }
-            JString substring = loopObject.subString(indexOfBracketSets[0][0]+1,indexOfBracketSets[1][0]);
-            unrecognizedSymbols.add(substring.clone());
-
-            if(substring.contains("[")){
-                nestedElementsQue.add(substring);
-            }
-        }
-
-        unrecognizedSymbols.sort(new Comparator<JString>() {
-            @Override
-            public int compare(JString o1, JString o2) {
-                if(o1.contains(o2)){
-                    return 1;
-                }
-                else if(o2.contains(o1)){
-                    return -1;
-                }
-                else{
-                    return o1.compareTo(o2);
-                }
-            }
-        });
-
-        return unrecognizedSymbols.toArray(new JString[0]);
-    }
-
-    // endregion
-
     // region special string splitting
 
     public JString[] splitStringOnSpacesButConcatenateBrackets(){
@@ -2488,16 +2419,13 @@ public class JString implements JObjectBaseInterface,
         return splitString_ExtractNumbers_prv(new JString[]{this});
     }
 
+    /**
+     * Splits a string into tokens for expression processing, see {@link ExpressionScanner}.
+     * @param input The input string to undergo splitting.
+     * @return Returns the tokens, without any blank tokens.
+     */
     public static JString[] splitStringForExpressionProcessing(JString input){
-        JString[] allSymbols = JString.toJStringArray(MiscFunctions.getAllRecognizedSymbols());
-
-        JString[] splits = input.splitString(allSymbols, true);
-        splits = JString.splitString_ExtractNumbers(splits);
-        splits = JString.concatenateByBracketPairs(splits, JString.toJStringArray(JString.getQuoteBracketPairs()));
-        splits = JString.concatenateByDots(splits);
-        splits = JString.removeNullOrEmptyStrings(splits, true);
-
-        return splits;
+        return ExpressionScanner.scan(input);
     }
 
     /**
@@ -2509,15 +2437,7 @@ public class JString implements JObjectBaseInterface,
      * symbols, including any that are nested inside of others.
      */
     public static JString[][] splitStringForExpressionProcessing_includeUnrecognizedSymbols(JString input){
-        JString[] allSymbols = JString.toJStringArray(MiscFunctions.getAllRecognizedSymbols());
-
-        JString[] splits = splitStringForExpressionProcessing(input);
-
-        JString[] unrecs = JString.getUnrecognizedSymbols(splits);
-
-        return new JString[][]{
-                splits, unrecs
-        };
+        return ExpressionScanner.scanIncludingUnrecognizedSymbols(input);
     }
 
     // endregion
@@ -2531,6 +2451,9 @@ public class JString implements JObjectBaseInterface,
         capacity = length + newCharacters.length() + 10;
         this.chars = new char[capacity];
         length = 0;
+        offset = 0;
+        shared = false;
+        lent = false;
 
         append(chars[0]);
         append(newCharacters);
@@ -2932,6 +2855,10 @@ public class JString implements JObjectBaseInterface,
         output.append(getQuotedJString("Length")).append(" : ").append(length).append(", ");
         output.append(getQuotedJString("Character Array Length")).append(" : ").append(chars.length).append(", ");
         output.append(getQuotedJString("Character Array")).append(" : ").append(chars);
+        if(shared){
+            output.append(", ").append(getQuotedJString("Offset")).append(" : ").append(offset);
+            output.append(", ").append(getQuotedJString("Shared")).append(" : ").append(true);
+        }
         output.append("}");
 
         return output.toString();
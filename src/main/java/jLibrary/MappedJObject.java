@@ -0,0 +1,534 @@
+package jLibrary;
+
+import jLibrary.exceptions.FailedParseException;
+import jLibrary.miscFunctions.MiscFunctions;
+import jLibrary.typeEnumerable.ObjectTypes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+/**
+ * A read-only view of a JObject frame written by {@link JObject#writeBinary(java.io.OutputStream)}, read straight out
+ * of a memory mapped file instead of being parsed into heap JObjects.
+ * <br>
+ * Opening a file only maps it and reads the tag of the root object. The children of a list, set or dictionary are
+ * decoded the first time {@link #getValue(String)} or {@link #getValue(int)} is called on it : the entries are
+ * stepped over once to build an index of their offsets (and, for dictionaries, of their keys), and every later lookup
+ * goes straight to the child. Collections that are never looked into cost nothing, and nested collections are
+ * stepped over using their stored length, without reading their contents.
+ * <br>
+ * Files are mapped in 1 GB pieces, so frames larger than 2 GB can be opened. Views are safe to read from several
+ * threads at once. {@link #toJObject()} copies a part of the document onto the heap as a regular JObject.
+ */
+public final class MappedJObject {
+
+    private static final int chunkShift = 30;
+
+    private final Bytes bytes;
+    private final long offset;
+    private final byte tag;
+    private final String typeName;
+    private final ObjectTypes type;
+
+    // only used by lists, sets, dictionaries, expressions and named types
+    private final int count;
+    private final long entriesStart;
+    private final long entriesLength;
+
+    // built the first time a child is looked up
+    private long[] childOffsets = null;
+    private String[] keys = null;
+    private HashMap<String, Integer> keyIndexes = null;
+    private MappedJObject[] children = null;
+
+    // region constructor
+
+    private MappedJObject(Bytes bytes, long offset){
+        this.bytes = bytes;
+        this.offset = offset;
+        this.tag = bytes.get(offset);
+
+        long position = offset + 1;
+        if(tag == JObjectBinaryFormat.tagNamed){
+            long[] end = new long[1];
+            typeName = bytes.readString(position, end);
+            position = end[0];
+            type = ObjectTypes.fromString(typeName);
+        }
+        else{
+            type = typeOfTag(tag);
+            typeName = type.name();
+        }
+
+        if(isCollection()){
+            long countValue = bytes.readVarLong(position);
+            position += Bytes.varLongSize(countValue);
+            long lengthValue = bytes.readVarLong(position);
+            position += Bytes.varLongSize(lengthValue);
+
+            if(lengthValue < 0 || lengthValue > bytes.length - position){
+                throw new FailedParseException("A collection in the JObject binary body is longer than the body.");
+            }
+            // every entry takes at least one byte, so a larger count can only come from a corrupt body
+            if(countValue < 0 || countValue > lengthValue){
+                throw new FailedParseException("A collection in the JObject binary body has more entries than bytes.");
+            }
+
+            count = (int) countValue;
+            entriesStart = position;
+            entriesLength = lengthValue;
+        }
+        else{
+            count = 0;
+            entriesStart = position;
+            entriesLength = 0;
+        }
+    }
+
+    /**
+     * Maps the given file and returns a view of the frame at its start.
+     * @param file Path : a file written by {@link JObject#writeBinary(java.io.OutputStream)}.
+     * @return Returns a view of the root object of the frame.
+     * @throws FailedParseException if the file doesn't start with a JObject binary frame.
+     * @throws IOException if the file can't be mapped.
+     */
+    public static MappedJObject open(Path file) throws IOException {
+        MiscFunctions.nullCheck(file, "file");
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            long size = channel.size();
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + (1L << chunkShift) - 1) >>> chunkShift)];
+            for(int x = 0; x < chunks.length; x += 1){
+                long chunkStart = (long) x << chunkShift;
+                chunks[x] = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart,
+                        Math.min(size - chunkStart, 1L << chunkShift));
+            }
+
+            // the mappings stay valid after the channel is closed
+            return openFrame(new Bytes(chunks, chunkShift, size));
+        }
+    }
+
+    /**
+     * Returns a view of the frame that starts at the position of the given buffer, for frames that are already in
+     * memory. The buffer's position and limit aren't changed.
+     * @param frame ByteBuffer : a buffer holding a frame written by {@link JObject#writeBinary(java.io.OutputStream)}.
+     * @return Returns a view of the root object of the frame.
+     * @throws FailedParseException if the buffer doesn't hold a JObject binary frame.
+     */
+    public static MappedJObject wrap(ByteBuffer frame){
+        MiscFunctions.nullCheck(frame, "frame");
+
+        ByteBuffer slice = frame.slice();
+        return openFrame(new Bytes(new ByteBuffer[]{slice}, 31, slice.remaining()));
+    }
+
+    private static MappedJObject openFrame(Bytes bytes){
+        byte[] header = JObjectBinaryFormat.header;
+        if(bytes.length < header.length){
+            throw new FailedParseException("The input doesn't start with a JObject binary header.");
+        }
+        for(int x = 0; x < header.length; x += 1){
+            if(bytes.get(x) != header[x]){
+                throw new FailedParseException("The input doesn't start with a JObject binary header.");
+            }
+        }
+
+        long bodyLength = bytes.readVarLong(header.length);
+        long bodyStart = header.length + Bytes.varLongSize(bodyLength);
+        if(bodyLength < 1 || bodyLength > bytes.length - bodyStart){
+            throw new FailedParseException("The input ended inside a JObject binary body.");
+        }
+
+        // the frame may be followed by other data, so the view ends with the body
+        return new MappedJObject(bytes.limit(bodyStart + bodyLength), bodyStart);
+    }
+
+    // endregion
+
+    // region type functions
+
+    public String getTypeName(){
+        return typeName;
+    }
+
+    public ObjectTypes getType(){
+        return type;
+    }
+
+    public boolean isNull(){
+        return tag == JObjectBinaryFormat.tagNull;
+    }
+
+    /**
+     * Returns true if this is a list, set, dictionary, expression or custom type, which holds other objects.
+     */
+    public boolean isCollection(){
+        return tag >= JObjectBinaryFormat.tagList;
+    }
+
+    // list and set entries don't have keys
+    private boolean hasKeys(){
+        return isCollection() && !type.isList() && !type.isSet();
+    }
+
+    private static ObjectTypes typeOfTag(byte tag){
+        return switch (tag) {
+            case JObjectBinaryFormat.tagNull -> ObjectTypes.Null;
+            case JObjectBinaryFormat.tagFalse, JObjectBinaryFormat.tagTrue -> ObjectTypes.Boolean;
+            case JObjectBinaryFormat.tagByte -> ObjectTypes.Byte;
+            case JObjectBinaryFormat.tagShort -> ObjectTypes.Short;
+            case JObjectBinaryFormat.tagInteger -> ObjectTypes.Integer;
+            case JObjectBinaryFormat.tagLong -> ObjectTypes.Long;
+            case JObjectBinaryFormat.tagFloat -> ObjectTypes.Float;
+            case JObjectBinaryFormat.tagDouble -> ObjectTypes.Double;
+            case JObjectBinaryFormat.tagString -> ObjectTypes.String;
+            case JObjectBinaryFormat.tagSymbol -> ObjectTypes.Symbol;
+            case JObjectBinaryFormat.tagOperator -> ObjectTypes.Operator;
+            case JObjectBinaryFormat.tagBracket -> ObjectTypes.Bracket;
+            case JObjectBinaryFormat.tagList -> ObjectTypes.List;
+            case JObjectBinaryFormat.tagSet -> ObjectTypes.Set;
+            case JObjectBinaryFormat.tagDictionary -> ObjectTypes.Dictionary;
+            case JObjectBinaryFormat.tagExpression -> ObjectTypes.Expression;
+            default -> throw new FailedParseException("Unknown tag " + tag + " in the JObject binary body.");
+        };
+    }
+
+    // endregion
+
+    // region size and keys
+
+    /**
+     * Gives the number of objects contained within this object, without decoding them.
+     */
+    public int size(){
+        if(!isCollection()){
+            throw new RuntimeException("Cannot retrieve size from primitive JObjects.");
+        }
+        return count;
+    }
+
+    /**
+     * Gives the key names as a String Array. Lists and sets are keyed by their indexes, the same as in a JObject.
+     */
+    public String[] getKeys(){
+        if(size() == 0){
+            return new String[0];
+        }
+
+        buildIndex();
+        if(keys != null){
+            return keys.clone();
+        }
+
+        String[] output = new String[count];
+        for(int x = 0; x < count; x += 1){
+            output[x] = Integer.toString(x);
+        }
+        return output;
+    }
+
+    /**
+     * Returns true if this object contains a value mapping for the given key.
+     */
+    public boolean containsKey(String key){
+        return indexOf(key) != -1;
+    }
+
+    // endregion
+
+    // region retrieving the values of sub objects
+
+    /**
+     * Returns a view of the sub-object stored under the given key, decoding the index of this object's entries if it
+     * hasn't been decoded yet.
+     * @return Returns null if there is no sub-object under the key, or if the sub-object is Null, the same as
+     * {@link JObject#getValue(Object)}.
+     */
+    public MappedJObject getValue(String key){
+        int index = indexOf(key);
+        return index == -1 ? null : getChild(index);
+    }
+
+    /**
+     * Returns a view of the sub-object stored at the given index of a list or set, or under the given index as a key
+     * for other types.
+     * @return Returns null if the index is out of range, or if the sub-object is Null, the same as
+     * {@link JObject#getValue(int)}.
+     */
+    public MappedJObject getValue(int index){
+        if(hasKeys()){
+            return getValue(Integer.toString(index));
+        }
+        if(!isCollection() || index < 0 || index >= count){
+            return null;
+        }
+        return getChild(index);
+    }
+
+    private int indexOf(String key){
+        if(key == null || !isCollection() || count == 0){
+            return -1;
+        }
+
+        if(hasKeys()){
+            buildIndex();
+            Integer output = keyIndexes.get(key);
+            return output == null ? -1 : output;
+        }
+
+        // lists and sets are keyed by the plain decimal form of each index
+        try {
+            int index = Integer.parseInt(key);
+            if(index >= 0 && index < count && Integer.toString(index).equals(key)){
+                return index;
+            }
+        }
+        catch (NumberFormatException ignored){
+
+        }
+        return -1;
+    }
+
+    private synchronized MappedJObject getChild(int index){
+        buildIndex();
+
+        MappedJObject output = children[index];
+        if(output == null){
+            if(bytes.get(childOffsets[index]) == JObjectBinaryFormat.tagNull){
+                return null;
+            }
+            output = new MappedJObject(bytes, childOffsets[index]);
+            children[index] = output;
+        }
+        return output;
+    }
+
+    // steps over the entries once, recording where each child starts
+    private synchronized void buildIndex(){
+        if(childOffsets != null){
+            return;
+        }
+
+        long[] offsets = new long[count];
+        String[] entryKeys = hasKeys() ? new String[count] : null;
+        HashMap<String, Integer> indexes = hasKeys() ? new HashMap<>(count * 4 / 3 + 1) : null;
+
+        long[] end = new long[1];
+        long position = entriesStart;
+        for(int x = 0; x < count; x += 1){
+            if(entryKeys != null){
+                entryKeys[x] = bytes.readString(position, end);
+                indexes.put(entryKeys[x], x);
+                position = end[0];
+            }
+            offsets[x] = position;
+            position = skip(position);
+        }
+
+        if(position != entriesStart + entriesLength){
+            throw new FailedParseException("A collection in the JObject binary body doesn't match its length.");
+        }
+
+        keys = entryKeys;
+        keyIndexes = indexes;
+        children = new MappedJObject[count];
+        childOffsets = offsets;
+    }
+
+    // returns the position just after the object that starts at the given position
+    private long skip(long position){
+        byte objectTag = bytes.get(position);
+        position += 1;
+        switch (objectTag) {
+            case JObjectBinaryFormat.tagNull, JObjectBinaryFormat.tagFalse, JObjectBinaryFormat.tagTrue -> {
+                return position;
+            }
+            case JObjectBinaryFormat.tagByte -> {
+                return bytes.checkEnd(position + 1);
+            }
+            case JObjectBinaryFormat.tagShort, JObjectBinaryFormat.tagInteger, JObjectBinaryFormat.tagLong -> {
+                return position + Bytes.varLongSize(bytes.readVarLong(position));
+            }
+            case JObjectBinaryFormat.tagFloat -> {
+                return bytes.checkEnd(position + 4);
+            }
+            case JObjectBinaryFormat.tagDouble -> {
+                return bytes.checkEnd(position + 8);
+            }
+            case JObjectBinaryFormat.tagString, JObjectBinaryFormat.tagSymbol, JObjectBinaryFormat.tagOperator,
+                    JObjectBinaryFormat.tagBracket -> {
+                return bytes.skipString(position);
+            }
+            case JObjectBinaryFormat.tagNamed, JObjectBinaryFormat.tagList, JObjectBinaryFormat.tagSet,
+                    JObjectBinaryFormat.tagDictionary, JObjectBinaryFormat.tagExpression -> {
+                if(objectTag == JObjectBinaryFormat.tagNamed){
+                    position = bytes.skipString(position);
+                }
+                position += Bytes.varLongSize(bytes.readVarLong(position));
+                long length = bytes.readVarLong(position);
+                position += Bytes.varLongSize(length);
+                if(length < 0 || length > bytes.length - position){
+                    throw new FailedParseException("A collection in the JObject binary body is longer than the body.");
+                }
+                return position + length;
+            }
+            default -> throw new FailedParseException("Unknown tag " + objectTag + " in the JObject binary body.");
+        }
+    }
+
+    // endregion
+
+    // region conversion
+
+    /**
+     * Decodes this object and everything inside it into a regular JObject. The view itself isn't changed.
+     * @throws IllegalStateException if this object is too large to be copied into an array.
+     */
+    public JObject toJObject(){
+        // skip only returns positions inside the body, so the copy below can't run past it
+        long end = skip(offset);
+        if(end - offset > Integer.MAX_VALUE - 8){
+            throw new IllegalStateException("The object is " + (end - offset) +
+                    " bytes long, which is too large to copy onto the heap.");
+        }
+
+        byte[] body = new byte[(int) (end - offset)];
+        bytes.copy(offset, body);
+        return JObject.fromBinaryBody(body);
+    }
+
+    /**
+     * Writes this object the same way as {@link JObject#toString()}. The whole object is decoded to do so.
+     */
+    @Override
+    public String toString(){
+        return toJObject().toString();
+    }
+
+    // endregion
+
+    // region bytes
+
+    /**
+     * The mapped bytes, addressed by long positions. Each chunk holds 2^shift bytes, except for the last one.
+     */
+    private static final class Bytes {
+
+        private final ByteBuffer[] chunks;
+        private final int shift;
+        private final long mask;
+        private final long length;
+
+        private Bytes(ByteBuffer[] chunks, int shift, long length){
+            this.chunks = chunks;
+            this.shift = shift;
+            this.mask = (1L << shift) - 1;
+            this.length = length;
+        }
+
+        private Bytes limit(long newLength){
+            return new Bytes(chunks, shift, newLength);
+        }
+
+        private byte get(long position){
+            if(position < 0 || position >= length){
+                throw new FailedParseException("The JObject binary body ended inside an object.");
+            }
+            return chunks[(int) (position >>> shift)].get((int) (position & mask));
+        }
+
+        // throws if the given position is past the end of the body
+        private long checkEnd(long position){
+            if(position < 0 || position > length){
+                throw new FailedParseException("The JObject binary body ended inside an object.");
+            }
+            return position;
+        }
+
+        private void copy(long position, byte[] destination){
+            if(position < 0 || position > length - destination.length){
+                throw new FailedParseException("The JObject binary body ended inside an object.");
+            }
+            for(int x = 0; x < destination.length; ){
+                long source = position + x;
+                ByteBuffer chunk = chunks[(int) (source >>> shift)];
+                int chunkPosition = (int) (source & mask);
+                int count = Math.min(destination.length - x, chunk.limit() - chunkPosition);
+                if(count <= 0){
+                    throw new FailedParseException("The JObject binary body ended inside an object.");
+                }
+                chunk.get(chunkPosition, destination, x, count);
+                x += count;
+            }
+        }
+
+        private static int varLongSize(long value){
+            int output = 1;
+            while((value & ~0x7FL) != 0){
+                value >>>= 7;
+                output += 1;
+            }
+            return output;
+        }
+
+        private long readVarLong(long position){
+            long value = 0;
+            for(int shift = 0; shift < 64; shift += 7){
+                int b = get(position);
+                position += 1;
+                value |= (long) (b & 0x7F) << shift;
+                if((b & 0x80) == 0){
+                    return value;
+                }
+            }
+            throw new FailedParseException("A varint in the JObject binary body is too long.");
+        }
+
+        // the position after the string is returned through end[0]
+        private String readString(long position, long[] end){
+            long charCount = readVarLong(position);
+            position += varLongSize(charCount);
+            if(charCount < 0 || charCount > length - position){
+                throw new FailedParseException("A string in the JObject binary body is longer than the body.");
+            }
+
+            char[] output = new char[(int) charCount];
+            for(int x = 0; x < output.length; x += 1){
+                int b = get(position) & 0xFF;
+                if(b < 0x80){
+                    output[x] = (char) b;
+                    position += 1;
+                }
+                else if(b < 0xE0){
+                    output[x] = (char) (((b & 0x1F) << 6) | (get(position + 1) & 0x3F));
+                    position += 2;
+                }
+                else{
+                    output[x] = (char) (((b & 0x0F) << 12) | ((get(position + 1) & 0x3F) << 6) |
+                            (get(position + 2) & 0x3F));
+                    position += 3;
+                }
+            }
+
+            end[0] = position;
+            return new String(output);
+        }
+
+        private long skipString(long position){
+            long charCount = readVarLong(position);
+            position += varLongSize(charCount);
+            for(long x = 0; x < charCount; x += 1){
+                int b = get(position) & 0xFF;
+                position += b < 0x80 ? 1 : b < 0xE0 ? 2 : 3;
+            }
+            return checkEnd(position);
+        }
+    }
+
+    // endregion
+}
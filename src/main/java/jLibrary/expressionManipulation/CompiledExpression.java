@@ -0,0 +1,713 @@
+package jLibrary.expressionManipulation;
+
+import jLibrary.JPrimitive;
+import jLibrary.JString;
+import jLibrary.interfaces.functional.NumericExpressionFunction;
+import jLibrary.miscFunctions.MiscFunctions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An expression string that has been compiled once into an operator tree. Each variable in the expression is bound to a
+ * numbered slot, so evaluating the expression again with new variable values only walks the tree, the expression
+ * string is never tokenized or rebuilt.
+ * <br>
+ * The tree follows the string based evaluator's rules for the expression as written : "-" joins the number or variable
+ * that follows it, "!" joins the boolean or variable that follows it, a "*" is implied between a number and a bracket,
+ * and operators are solved by precedence set (^, then * / %, then + -, then comparisons and logic), left to right
+ * within a set. Every intermediate result is reduced to the type it would have been re-parsed as from its string form.
+ * <br>
+ * The string based evaluator substitutes variable values as text, so a value's sign, decimal point or boolean text
+ * can merge with a "-" next to the variable and change how the expression is read. The tree can't follow that, so
+ * {@link #canEvaluate(JPrimitive[])} reports false for values placed next to a "-" unless they're positive whole
+ * numbers, and those values have to be evaluated through the string based evaluator instead.
+ * <br>
+ * Expressions containing anything else (strings, collections, nested variable names, etc.) are not compiled, see
+ * {@link #isCompiled()}, and have to be evaluated through the string based evaluator instead.
+ */
+public final class CompiledExpression {
+
+    private static final String[][] orderedOperators = new String[][]{
+            {"^"},
+            {"*", "/", "%"},
+            {"+", "-"},
+            {"<", "<=", ">", ">=", "==", "!=", "||", "&&"}
+    };
+
+    private final String expressionString;
+    private final String[] variableNames;
+    // slots whose variable is written next to a "-"
+    private final boolean[] signSensitiveSlots;
+    private final Node root;
+
+    private volatile NumericExpressionFunction numericFunction;
+
+    // region constructor
+
+    private CompiledExpression(String expressionString, String[] variableNames, boolean[] signSensitiveSlots, Node root){
+        this.expressionString = expressionString;
+        this.variableNames = variableNames;
+        this.signSensitiveSlots = signSensitiveSlots;
+        this.root = root;
+    }
+
+    // endregion
+
+    // region compilation
+
+    /**
+     * Compiles the given expression string. If the expression can not be compiled, the returned object will report
+     * false from {@link #isCompiled()}.
+     */
+    public static CompiledExpression compile(CharSequence expressionString){
+        MiscFunctions.nullCheck(expressionString, "expressionString");
+
+        return compile(expressionString,
+                JString.splitStringForExpressionProcessing_includeUnrecognizedSymbols(
+                        JString.convertToJString(expressionString)));
+    }
+
+    /**
+     * Compiles the given expression string, re-using the output of
+     * {@link JString#splitStringForExpressionProcessing_includeUnrecognizedSymbols(JString)} for that string.
+     */
+    public static CompiledExpression compile(CharSequence expressionString, JString[][] expressionSplits){
+        MiscFunctions.nullCheck(expressionString, "expressionString");
+        MiscFunctions.nullCheck(expressionSplits, "expressionSplits");
+
+        JString[] splits = expressionSplits[0];
+        String[] variableNames = new String[expressionSplits[1].length];
+        for(int x = 0; x < variableNames.length; x += 1){
+            variableNames[x] = expressionSplits[1][x].toString();
+        }
+
+        boolean[] signSensitiveSlots = new boolean[variableNames.length];
+        Node root = null;
+        try {
+            List<Token> tokens = tokenize(splits, variableNames);
+            if(tokens != null) {
+                findSignSensitiveSlots(tokens, signSensitiveSlots);
+                tokens = joinUnaryOperators(tokens);
+            }
+            if(tokens != null) {
+                tokens = insertImpliedMultiplication(tokens);
+            }
+            if(tokens != null) {
+                TreeBuilder builder = new TreeBuilder(tokens);
+                root = builder.buildLevel(orderedOperators.length - 1);
+                if(root != null && !builder.isFinished()){
+                    root = null;
+                }
+            }
+        }
+        catch (RuntimeException e){
+            root = null;
+        }
+
+        return new CompiledExpression(expressionString.toString(), variableNames, signSensitiveSlots, root);
+    }
+
+    // region token processing
+
+    private static List<Token> tokenize(JString[] splits, String[] variableNames){
+        String[] operators = MiscFunctions.getAllOperators();
+        ArrayList<String> texts = new ArrayList<>();
+        for(JString split : splits){
+            String text = split.clone().trim().toString();
+            if(!text.isEmpty()){
+                texts.add(text);
+            }
+        }
+
+        // variables are substituted as text by the string evaluator, a variable name found inside of any other
+        // piece of the expression would corrupt it, so those expressions are left to the string evaluator
+        for(String variableName : variableNames){
+            for(String text : texts){
+                if(!text.equals(variableName) && text.contains(variableName)){
+                    return null;
+                }
+            }
+        }
+
+        ArrayList<Token> output = new ArrayList<>(texts.size());
+        for(String text : texts){
+            int slot = indexOf(variableNames, text);
+            if(text.equals("(")){
+                output.add(new Token(TokenKind.Opening, text, null));
+            }
+            else if(text.equals(")")){
+                output.add(new Token(TokenKind.Closing, text, null));
+            }
+            else if(MiscFunctions.doesStringArrayContain(operators, text)){
+                output.add(new Token(TokenKind.Operator, text, null));
+            }
+            else if(slot >= 0){
+                output.add(new Token(TokenKind.Variable, text, new SlotNode(slot)));
+            }
+            else {
+                JPrimitive literal = new JPrimitive(text);
+                if(literal.isNumber()){
+                    output.add(new Token(TokenKind.Number, text, new ConstantNode(literal)));
+                }
+                else if(literal.isBoolean()){
+                    output.add(new Token(TokenKind.Boolean, text, new ConstantNode(literal)));
+                }
+                else{
+                    return null;
+                }
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Marks the slot of every variable written directly before or after a "-".
+     */
+    private static void findSignSensitiveSlots(List<Token> tokens, boolean[] signSensitiveSlots){
+        for(int x = 0; x < tokens.size(); x += 1){
+            Token token = tokens.get(x);
+            if(token.kind != TokenKind.Variable){
+                continue;
+            }
+            if((x > 0 && tokens.get(x - 1).isOperator("-")) ||
+                    ((x + 1) < tokens.size() && tokens.get(x + 1).isOperator("-"))){
+                signSensitiveSlots[((SlotNode) token.node).slot] = true;
+            }
+        }
+    }
+
+    /**
+     * Joins "-" with the number or variable that follows it (implying a "+" when it follows a value) and "!" with the
+     * boolean or variable that follows it.
+     */
+    private static List<Token> joinUnaryOperators(List<Token> tokens){
+        ArrayList<Token> output = new ArrayList<>(tokens.size());
+        for(int x = 0; x < tokens.size(); x += 1){
+            Token token = tokens.get(x);
+            Token next = (x + 1) < tokens.size() ? tokens.get(x + 1) : null;
+
+            if(token.isOperator("-")){
+                if(next == null || !next.isNumeric()){
+                    return null;
+                }
+                // the string evaluator doesn't read "-0" as zero
+                if(next.kind == TokenKind.Number && next.node.evaluate(null).doubleValue() == 0){
+                    return null;
+                }
+                if(x > 0){
+                    Token previous = tokens.get(x - 1);
+                    if(previous.kind == TokenKind.Boolean){
+                        return null;
+                    }
+                    if(previous.isNumeric() || previous.kind == TokenKind.Closing){
+                        output.add(new Token(TokenKind.Operator, "+", null));
+                    }
+                }
+                if(next.kind == TokenKind.Number){
+                    output.add(new Token(TokenKind.Number, "-" + next.text,
+                            new ConstantNode(new JPrimitive("-" + next.text))));
+                }
+                else{
+                    output.add(new Token(TokenKind.Negated, "-" + next.text, new NegateNode(next.node)));
+                }
+                x += 1;
+            }
+            else if(token.isOperator("!")){
+                if(next == null){
+                    return null;
+                }
+                if(next.kind == TokenKind.Boolean){
+                    output.add(new Token(TokenKind.Boolean, "!" + next.text,
+                            new ConstantNode(new JPrimitive(!next.node.evaluate(null).booleanValue()))));
+                }
+                else if(next.kind == TokenKind.Variable){
+                    output.add(new Token(TokenKind.Boolean, "!" + next.text, new NotNode(next.node)));
+                }
+                else{
+                    return null;
+                }
+                x += 1;
+            }
+            else{
+                output.add(token);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Inserts a "*" between a closing bracket or number and an opening bracket, and between a closing bracket and a
+     * number.
+     */
+    private static List<Token> insertImpliedMultiplication(List<Token> tokens){
+        ArrayList<Token> output = new ArrayList<>(tokens.size());
+        for(int x = 0; x < tokens.size(); x += 1){
+            Token token = tokens.get(x);
+            Token previous = x > 0 ? tokens.get(x - 1) : null;
+            Token next = (x + 1) < tokens.size() ? tokens.get(x + 1) : null;
+
+            if(token.kind == TokenKind.Opening && previous != null){
+                if(previous.kind == TokenKind.Boolean){
+                    return null;
+                }
+                if(previous.isNumeric() || previous.kind == TokenKind.Closing){
+                    output.add(new Token(TokenKind.Operator, "*", null));
+                }
+            }
+
+            output.add(token);
+
+            if(token.kind == TokenKind.Closing && next != null){
+                if(next.kind == TokenKind.Boolean){
+                    return null;
+                }
+                if(next.isNumeric()){
+                    output.add(new Token(TokenKind.Operator, "*", null));
+                }
+            }
+        }
+        return output;
+    }
+
+    // endregion
+
+    // region tree builder
+
+    private static class TreeBuilder {
+        private final List<Token> tokens;
+        private int position = 0;
+
+        TreeBuilder(List<Token> tokens){
+            this.tokens = tokens;
+        }
+
+        boolean isFinished(){
+            return position >= tokens.size();
+        }
+
+        Node buildLevel(int level){
+            if(level < 0){
+                return buildOperand();
+            }
+
+            Node left = buildLevel(level - 1);
+            while(left != null && position < tokens.size()){
+                Token token = tokens.get(position);
+                if(token.kind != TokenKind.Operator || indexOf(orderedOperators[level], token.text) < 0){
+                    break;
+                }
+                position += 1;
+                Node right = buildLevel(level - 1);
+                if(right == null){
+                    return null;
+                }
+                left = new OperatorNode(token.text, left, right);
+            }
+            return left;
+        }
+
+        Node buildOperand(){
+            if(position >= tokens.size()){
+                return null;
+            }
+            Token token = tokens.get(position);
+            position += 1;
+
+            if(token.kind == TokenKind.Opening){
+                Node inner = buildLevel(orderedOperators.length - 1);
+                if(inner == null || position >= tokens.size() || tokens.get(position).kind != TokenKind.Closing){
+                    return null;
+                }
+                position += 1;
+                return inner;
+            }
+            return token.node;
+        }
+    }
+
+    // endregion
+
+    // endregion
+
+    // region accessors
+
+    /**
+     * Returns true if the expression was compiled into an operator tree and can be evaluated with
+     * {@link #evaluate(JPrimitive[])}.
+     */
+    public boolean isCompiled(){
+        return root != null;
+    }
+
+    /**
+     * Returns true if this instance was compiled from an expression string equal to the given one.
+     */
+    public boolean isCompiledFrom(CharSequence expressionString){
+        if(expressionString == null || expressionString.length() != this.expressionString.length()){
+            return false;
+        }
+        for(int x = 0; x < expressionString.length(); x += 1){
+            if(expressionString.charAt(x) != this.expressionString.charAt(x)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getExpressionString(){
+        return expressionString;
+    }
+
+    /**
+     * Returns the variable names in slot order. The value for the variable at index x must be passed at index x of
+     * the slot values given to {@link #evaluate(JPrimitive[])}.
+     */
+    public String[] getVariableNames(){
+        return variableNames.clone();
+    }
+
+    public int getSlotCount(){
+        return variableNames.length;
+    }
+
+    /**
+     * Returns the slot index of the given variable, or -1 if the expression has no such variable.
+     */
+    public int getSlot(CharSequence variableName){
+        return variableName == null ? -1 : indexOf(variableNames, variableName.toString());
+    }
+
+    // endregion
+
+    // region evaluation
+
+    /**
+     * Returns true if evaluating the operator tree with the given slot values gives the same result as substituting
+     * them into the expression string. Values of variables written next to a "-" must be positive whole numbers,
+     * anything else would be read differently by the string based evaluator.
+     */
+    public boolean canEvaluate(JPrimitive[] slotValues){
+        if(root == null || slotValues == null || slotValues.length < variableNames.length){
+            return false;
+        }
+        for(int slot = 0; slot < signSensitiveSlots.length; slot += 1){
+            JPrimitive value = slotValues[slot];
+            if(signSensitiveSlots[slot] &&
+                    (value == null || !value.isNumber() || value.isFloatingPointNumber() || value.longValue() <= 0)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates the operator tree. The result only matches the string based evaluator when
+     * {@link #canEvaluate(JPrimitive[])} is true for the same values.
+     * @param slotValues The value of each variable, in slot order. Values must be numbers or booleans.
+     * @return Returns the result of the expression.
+     */
+    public JPrimitive evaluate(JPrimitive[] slotValues){
+        if(root == null){
+            throw new RuntimeException("The expression \"" + expressionString + "\" could not be compiled.");
+        }
+        MiscFunctions.nullCheck(slotValues, "slotValues");
+        if(slotValues.length < variableNames.length){
+            throw new IllegalArgumentException("Expected " + variableNames.length + " slot values but received " +
+                    slotValues.length + ".");
+        }
+
+        return root.evaluate(slotValues);
+    }
+
+    /**
+     * Returns a function evaluating this expression entirely in double precision, taking the variable values in slot
+     * order. Booleans are represented as 1 and 0 (any non-zero value is true), and division is floating point
+     * division, so results can differ from {@link #evaluate(JPrimitive[])} for whole number operands.
+     * <br>
+     * The function is generated once as a hidden class, so the JIT can inline the arithmetic. If the class can not be
+     * generated, a function walking the operator tree is returned instead.
+     * @return Returns the function, or null if the expression could not be compiled.
+     */
+    public NumericExpressionFunction toNumericFunction(){
+        if(root == null){
+            return null;
+        }
+
+        NumericExpressionFunction output = numericFunction;
+        if(output == null){
+            synchronized (this){
+                output = numericFunction;
+                if(output == null){
+                    try {
+                        output = NumericFunctionGenerator.generate(root);
+                    }
+                    catch (RuntimeException | LinkageError e){
+                        final Node tree = root;
+                        output = tree::evaluateDouble;
+                    }
+                    numericFunction = output;
+                }
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Reduces a value to the type it would have if it was converted to a string and parsed again, as the string
+     * based evaluator does with every value. Whole numbers shrink to the smallest integral type able to hold them
+     * and decimals become floats.
+     */
+    public static JPrimitive toSubstitutedValue(JPrimitive value){
+        if(value == null || !value.isNumber()){
+            return value;
+        }
+
+        if(value.isDouble()){
+            return new JPrimitive(Float.parseFloat(value.toString()));
+        }
+        else if(value.isFloat()){
+            return value;
+        }
+
+        long longValue = value.longValue();
+        if(longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE){
+            return new JPrimitive((byte) longValue);
+        }
+        else if(longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE){
+            return new JPrimitive((short) longValue);
+        }
+        else if(longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE){
+            return new JPrimitive((int) longValue);
+        }
+        return new JPrimitive(longValue);
+    }
+
+    // endregion
+
+    // region helpers
+
+    private static int indexOf(String[] values, String value){
+        for(int x = 0; x < values.length; x += 1){
+            if(values[x].equals(value)){
+                return x;
+            }
+        }
+        return -1;
+    }
+
+    // endregion
+
+    // region tokens
+
+    private enum TokenKind {
+        Number, Boolean, Variable, Negated, Operator, Opening, Closing
+    }
+
+    private static class Token {
+        final TokenKind kind;
+        final String text;
+        final Node node;
+
+        Token(TokenKind kind, String text, Node node){
+            this.kind = kind;
+            this.text = text;
+            this.node = node;
+        }
+
+        boolean isOperator(String operator){
+            return kind == TokenKind.Operator && text.equals(operator);
+        }
+
+        /**
+         * Variables are treated as numbers, as the string evaluator only sees the numbers substituted for them.
+         */
+        boolean isNumeric(){
+            return kind == TokenKind.Number || kind == TokenKind.Variable || kind == TokenKind.Negated;
+        }
+    }
+
+    // endregion
+
+    // region nodes
+
+    static abstract class Node {
+        abstract JPrimitive evaluate(JPrimitive[] slotValues);
+
+        /**
+         * Evaluates the node in double precision, booleans are represented as 1 and 0.
+         */
+        abstract double evaluateDouble(double[] slotValues);
+    }
+
+    static class ConstantNode extends Node {
+        final JPrimitive value;
+        final double doubleValue;
+
+        ConstantNode(JPrimitive value){
+            this.value = value;
+            this.doubleValue = value.isBoolean() ? NumericFunctionGenerator.toDouble(value.booleanValue()) :
+                    value.doubleValue();
+        }
+
+        @Override
+        JPrimitive evaluate(JPrimitive[] slotValues){
+            return value;
+        }
+
+        @Override
+        double evaluateDouble(double[] slotValues){
+            return doubleValue;
+        }
+    }
+
+    static class SlotNode extends Node {
+        final int slot;
+
+        SlotNode(int slot){
+            this.slot = slot;
+        }
+
+        @Override
+        JPrimitive evaluate(JPrimitive[] slotValues){
+            return slotValues[slot];
+        }
+
+        @Override
+        double evaluateDouble(double[] slotValues){
+            return slotValues[slot];
+        }
+    }
+
+    static class NegateNode extends Node {
+        final Node operand;
+
+        NegateNode(Node operand){
+            this.operand = operand;
+        }
+
+        @Override
+        JPrimitive evaluate(JPrimitive[] slotValues){
+            JPrimitive value = operand.evaluate(slotValues);
+            if(!value.isNumber()){
+                throw new RuntimeException("Cannot negate the non numeric value " + value + ".");
+            }
+            if(value.isFloatingPointNumber()){
+                return toSubstitutedValue(new JPrimitive(-value.floatValue()));
+            }
+            return toSubstitutedValue(new JPrimitive(-value.longValue()));
+        }
+
+        @Override
+        double evaluateDouble(double[] slotValues){
+            return -operand.evaluateDouble(slotValues);
+        }
+    }
+
+    static class NotNode extends Node {
+        final Node operand;
+
+        NotNode(Node operand){
+            this.operand = operand;
+        }
+
+        @Override
+        JPrimitive evaluate(JPrimitive[] slotValues){
+            JPrimitive value = operand.evaluate(slotValues);
+            // the string evaluator drops a "!" that is not followed by a boolean
+            if(value.isBoolean()){
+                return new JPrimitive(!value.booleanValue());
+            }
+            return value;
+        }
+
+        @Override
+        double evaluateDouble(double[] slotValues){
+            return NumericFunctionGenerator.not(operand.evaluateDouble(slotValues));
+        }
+    }
+
+    static class OperatorNode extends Node {
+        final char operator;
+        final Node operand1;
+        final Node operand2;
+
+        OperatorNode(String operator, Node operand1, Node operand2){
+            this.operator = encodeOperator(operator);
+            this.operand1 = operand1;
+            this.operand2 = operand2;
+        }
+
+        private static char encodeOperator(String operator){
+            return switch (operator) {
+                case "<=" -> 'l';
+                case ">=" -> 'g';
+                case "==" -> 'e';
+                case "!=" -> 'n';
+                case "||" -> 'o';
+                case "&&" -> 'a';
+                default -> operator.charAt(0);
+            };
+        }
+
+        @Override
+        JPrimitive evaluate(JPrimitive[] slotValues){
+            JPrimitive value1 = operand1.evaluate(slotValues);
+            JPrimitive value2 = operand2.evaluate(slotValues);
+
+            JPrimitive output = switch (operator) {
+                case '^' -> JPrimitive.power(value1, value2);
+                case '%' -> JPrimitive.modulo(value1, value2);
+                case '*' -> JPrimitive.multiply(value1, value2);
+                case '/' -> JPrimitive.divide(value1, value2);
+                case '+' -> JPrimitive.add(value1, value2);
+                case '-' -> JPrimitive.subtract(value1, value2);
+                case '>' -> JPrimitive.greaterThan(value1, value2);
+                case 'g' -> JPrimitive.greaterThanOrEqualTo(value1, value2);
+                case '<' -> JPrimitive.lessThan(value1, value2);
+                case 'l' -> JPrimitive.lessThanOrEqualTo(value1, value2);
+                case 'n' -> JPrimitive.notEqualTo(value1, value2);
+                case 'e' -> JPrimitive.equalTo(value1, value2);
+                case 'o' -> JPrimitive.or(value1, value2);
+                case 'a' -> JPrimitive.and(value1, value2);
+                default -> throw new RuntimeException("Unknown operator " + operator);
+            };
+
+            return toSubstitutedValue(output);
+        }
+
+        @Override
+        double evaluateDouble(double[] slotValues){
+            double value1 = operand1.evaluateDouble(slotValues);
+            double value2 = operand2.evaluateDouble(slotValues);
+
+            return switch (operator) {
+                case '^' -> Math.pow(value1, value2);
+                case '%' -> value1 % value2;
+                case '*' -> value1 * value2;
+                case '/' -> value1 / value2;
+                case '+' -> value1 + value2;
+                case '-' -> value1 - value2;
+                case '>' -> NumericFunctionGenerator.greaterThan(value1, value2);
+                case 'g' -> NumericFunctionGenerator.greaterThanOrEqualTo(value1, value2);
+                case '<' -> NumericFunctionGenerator.lessThan(value1, value2);
+                case 'l' -> NumericFunctionGenerator.lessThanOrEqualTo(value1, value2);
+                case 'n' -> NumericFunctionGenerator.notEqualTo(value1, value2);
+                case 'e' -> NumericFunctionGenerator.equalTo(value1, value2);
+                case 'o' -> NumericFunctionGenerator.or(value1, value2);
+                case 'a' -> NumericFunctionGenerator.and(value1, value2);
+                default -> throw new RuntimeException("Unknown operator " + operator);
+            };
+        }
+    }
+
+    // endregion
+
+    // region to string
+
+    public String toString(){
+        return expressionString;
+    }
+
+    // endregion
+}
@@ -4,7 +4,9 @@ import jLibrary.exceptions.UnassignedVariableException;
 import jLibrary.exceptions.UnrecognizedSymbolsException;
 import jLibrary.exceptions.WrongExecutionTypeException;
 import jLibrary.JObject;
+import jLibrary.JPrimitive;
 import jLibrary.JString;
+import jLibrary.interfaces.functional.NumericExpressionFunction;
 import jLibrary.typeEnumerable.ObjectTypes;
 
 import java.util.ArrayList;
@@ -69,7 +71,8 @@ public class ExpressionObject {
 
     public String getExpressionString(boolean replaceVariables){
         if(replaceVariables){
-            JString workingString = source.getValue(ExpressionObject._ExpressionString).toJString();
+            // toJString returns the stored string itself, which must not be rewritten
+            JString workingString = source.getValue(ExpressionObject._ExpressionString).toJString().clone();
 
             ExpressionVariableObject[] variableObjectsArray = new ExpressionVariableContainer(this.source).getAllVariableObjects();
 
@@ -151,16 +154,35 @@ public class ExpressionObject {
     }
 
     /**
-     * If all variables have been assigned, then this method will replace each instance of the variable name within
-     * the expression with the corresponding value, then evaluates the expression. If the expression evaluates correctly,
-     * the result is saved into a new JObject, which is then returned by the method. The original, calling instance will
-     * not be altered by this method.
+     * If all variables have been assigned, then this method will evaluate the expression using the variables' values.
+     * If the expression evaluates correctly, the result is saved into a new JObject, which is then returned by the
+     * method. The original, calling instance will not be altered by this method.
+     * <br>
+     * Expressions made of numbers, booleans, variables, brackets and operators are evaluated by walking the
+     * expression's compiled operator tree, see {@link JObject#getCompiledExpression()}. Any other expression, any
+     * variable holding something other than a number or boolean, or any value the tree can't evaluate the same way
+     * (see {@link CompiledExpression#canEvaluate(JPrimitive[])}), is evaluated by replacing each instance of the
+     * variable name within the expression with the corresponding value, then parsing the resulting string. The string
+     * is also used if the tree fails, so errors are reported the same way either way.
      */
     public JObject evaluateExpression()
             throws WrongExecutionTypeException, UnassignedVariableException, UnrecognizedSymbolsException, IllegalArgumentException{
 
         checkAndThrowWrongTypeError();
 
+        CompiledExpression compiledExpression = source.getCompiledExpression();
+        if(compiledExpression.isCompiled()){
+            JPrimitive[] slotValues = getSubstitutedSlotValues(getVariableSlotValues(compiledExpression));
+            if(compiledExpression.canEvaluate(slotValues)){
+                try {
+                    return new JObject(compiledExpression.evaluate(slotValues));
+                }
+                catch (RuntimeException ignored){
+                    // booleans used as numbers, etc., the string evaluator decides what they become
+                }
+            }
+        }
+
         String[] unassignedVariables = getVariableContainer().getNamesOfUnassignedVariables();
         if(unassignedVariables.length > 0){
             throw new UnassignedVariableException(
@@ -173,6 +195,115 @@ public class ExpressionObject {
         return new JObject(newExpressionString);
     }
 
+    /**
+     * Returns a function evaluating this expression in double precision, generated as a class so the JIT can inline
+     * the arithmetic. The function takes the variable values in the order returned by
+     * {@link #getNumericFunctionVariableNames()}, with booleans passed as 1 and 0.
+     * <br>
+     * Division is floating point division and booleans are returned as 1 and 0, so results can differ from
+     * {@link #evaluateExpression()} when whole numbers are divided.
+     * @return Returns the function, or null if the expression could not be compiled. Such expressions can only be
+     * evaluated through {@link #evaluateExpression()}.
+     */
+    public NumericExpressionFunction getNumericFunction() throws WrongExecutionTypeException {
+        checkAndThrowWrongTypeError();
+
+        return source.getCompiledExpression().toNumericFunction();
+    }
+
+    /**
+     * Returns the variable names in the order their values must be passed to the function returned by
+     * {@link #getNumericFunction()}.
+     */
+    public String[] getNumericFunctionVariableNames() throws WrongExecutionTypeException {
+        checkAndThrowWrongTypeError();
+
+        return source.getCompiledExpression().getVariableNames();
+    }
+
+    /**
+     * Evaluates the expression in double precision using the variables' assigned values, through the function
+     * returned by {@link #getNumericFunction()}. Expressions that could not be compiled, or variables holding anything
+     * other than numbers or booleans, fall back to {@link #evaluateExpression()}.
+     * @return Returns the result, with booleans returned as 1 and 0.
+     */
+    public double evaluateNumericExpression()
+            throws WrongExecutionTypeException, UnassignedVariableException, UnrecognizedSymbolsException {
+
+        checkAndThrowWrongTypeError();
+
+        CompiledExpression compiledExpression = source.getCompiledExpression();
+        NumericExpressionFunction function = compiledExpression.toNumericFunction();
+        if(function != null){
+            JObject[] slotValues = getVariableSlotValues(compiledExpression);
+            if(slotValues != null){
+                // the values are bound as they are, the function works in double precision throughout
+                double[] variables = new double[slotValues.length];
+                for(int slot = 0; slot < slotValues.length; slot += 1){
+                    JObject value = slotValues[slot];
+                    variables[slot] = value.isBoolean() ? (value.booleanValue() ? 1.0 : 0.0) : value.doubleValue();
+                }
+                return function.evaluate(variables);
+            }
+        }
+
+        JObject output = evaluateExpression();
+        if(output.isBoolean()){
+            return output.booleanValue() ? 1.0 : 0.0;
+        }
+        return output.doubleValue();
+    }
+
+    /**
+     * Collects the value of each of the compiled expression's variables, in slot order. Returns null if a variable is
+     * unassigned or holds anything other than a number or a boolean.
+     */
+    private JObject[] getVariableSlotValues(CompiledExpression compiledExpression){
+        JObject variableRoot = source.getValue(ExpressionObject._Variables);
+        if(variableRoot == null){
+            return null;
+        }
+
+        String[] variableNames = compiledExpression.getVariableNames();
+        JObject[] output = new JObject[variableNames.length];
+        for(int slot = 0; slot < variableNames.length; slot += 1){
+            JObject variable = variableRoot.getValue(variableNames[slot]);
+            if(variable == null){
+                return null;
+            }
+
+            JObject isAssigned = variable.getValue(ExpressionVariableObject._IsAssigned);
+            JObject value = variable.getValue(ExpressionVariableObject._Value);
+            if(isAssigned == null || !isAssigned.booleanValue() || value == null){
+                return null;
+            }
+
+            if(value.isNumber() || value.isBoolean()){
+                output[slot] = value;
+            }
+            else{
+                return null;
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Converts the variable values to the types the string evaluator would give them after substituting them into
+     * the expression string. Returns null if the values are null.
+     */
+    private static JPrimitive[] getSubstitutedSlotValues(JObject[] slotValues){
+        if(slotValues == null){
+            return null;
+        }
+
+        JPrimitive[] output = new JPrimitive[slotValues.length];
+        for(int slot = 0; slot < slotValues.length; slot += 1){
+            output[slot] = CompiledExpression.toSubstitutedValue(slotValues[slot].jPrimitiveValue());
+        }
+        return output;
+    }
+
     // endregion
 
     // region to string
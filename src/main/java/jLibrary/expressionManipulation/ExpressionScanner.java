@@ -0,0 +1,339 @@
+package jLibrary.expressionManipulation;
+
+import jLibrary.JNumber;
+import jLibrary.JPrimitive;
+import jLibrary.JString;
+import jLibrary.miscFunctions.MiscFunctions;
+import jLibrary.miscFunctions.MultiPatternSearch;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Splits expression strings into tokens in a single left to right scan. The recognized symbols are matched by an
+ * automaton built once from {@link MiscFunctions#getAllRecognizedSymbols()}, and the text between them is split into
+ * numbers and unrecognized runs as it's read, so the input is never re-split into intermediate string arrays.
+ * <br>
+ * The tokens are the same as the ones produced by splitting on every recognized symbol, extracting numbers, joining
+ * quoted strings and joining dotted names in turn. Tokens that aren't changed along the way are slices of the input
+ * string.
+ * <br>
+ * The scanner keeps no state between calls, so it can be used from any number of threads at once.
+ */
+public final class ExpressionScanner {
+
+    private static final MultiPatternSearch symbols = MultiPatternSearch.recognizedSymbols();
+    private static final HashSet<String> recognizedSymbols = new HashSet<>(
+            Arrays.asList(MiscFunctions.getAllRecognizedSymbols()));
+
+    private ExpressionScanner(){
+
+    }
+
+    // region scanning
+
+    /**
+     * Splits the input into tokens for expression processing, leaving out blank tokens.
+     * @param input The expression string to split.
+     * @return Returns the tokens in the order they appear in the input.
+     */
+    public static JString[] scan(JString input){
+        return scan_prv(input).toArray(new JString[0]);
+    }
+
+    /**
+     * Splits the input into tokens for expression processing, and collects every unrecognized symbol among them.
+     * @param input The expression string to split.
+     * @return Returns 2 JString arrays inside an array of arrays. The first array will contain all the tokens
+     * (including unrecognized symbols). The second array will contain all the unrecognized symbols, including any
+     * that are nested inside of others.
+     */
+    public static JString[][] scanIncludingUnrecognizedSymbols(JString input){
+        List<JString> tokens = scan_prv(input);
+
+        return new JString[][]{
+                tokens.toArray(new JString[0]),
+                getUnrecognizedSymbols(tokens)
+        };
+    }
+
+    private static List<JString> scan_prv(JString input){
+        MiscFunctions.nullCheck(input, "input");
+
+        char[] chars = input.toCharArray();
+        Scan scan = new Scan(input, chars);
+
+        // recognized symbols become spans of their own, the text between them is split into numbers and other runs
+        int position = 0;
+        int[] match = symbols.findFirst(chars, 0, chars.length);
+        while(match != null){
+            scan.addRun(position, match[0]);
+            position = match[0] + symbols.getPattern(match[1]).length();
+            scan.addSpan(match[0], position);
+            match = symbols.findFirst(chars, position, chars.length);
+        }
+        scan.addRun(position, chars.length);
+
+        List<JString> tokens = JString.concatenateByDots(scan.joinNumbersAndQuotes());
+
+        ArrayList<JString> output = new ArrayList<>(tokens.size());
+        for(JString token : tokens){
+            if(!token.isEmpty() && !token.isBlank()){
+                output.add(token);
+            }
+        }
+        return output;
+    }
+
+    // endregion
+
+    // region scan state
+
+    private static final class Scan {
+
+        private final JString input;
+        private final char[] chars;
+        private final CharBuffer charView;
+
+        private int[] spanStarts = new int[16];
+        private int[] spanEnds = new int[16];
+        private int spanCount = 0;
+
+        private final ArrayList<JString> tokens = new ArrayList<>();
+        private JString quotedString = null;
+        private JString openingQuote = null;
+
+        private Scan(JString input, char[] chars){
+            this.input = input;
+            this.chars = chars;
+            this.charView = CharBuffer.wrap(chars);
+        }
+
+        private void addSpan(int start, int end){
+            if(spanCount == spanStarts.length){
+                spanStarts = Arrays.copyOf(spanStarts, spanCount * 2);
+                spanEnds = Arrays.copyOf(spanEnds, spanCount * 2);
+            }
+            spanStarts[spanCount] = start;
+            spanEnds[spanCount] = end;
+            spanCount += 1;
+        }
+
+        // splits the text between symbols around its digits, keeping digits and numeric words (NaN, Infinity)
+        // that touch each other together as one span
+        private void addRun(int start, int end){
+            int numberStart = -1;
+            int x = start;
+            while(x < end){
+                int pieceEnd = x + 1;
+                boolean numeric = isDigit(chars[x]);
+                if(!numeric){
+                    while(pieceEnd < end && !isDigit(chars[pieceEnd])){
+                        pieceEnd += 1;
+                    }
+                    numeric = JNumber.parse(charView, x, pieceEnd) != null;
+                }
+
+                if(numeric){
+                    if(numberStart == -1){
+                        numberStart = x;
+                    }
+                }
+                else{
+                    if(numberStart != -1){
+                        addSpan(numberStart, x);
+                        numberStart = -1;
+                    }
+                    addSpan(x, pieceEnd);
+                }
+                x = pieceEnd;
+            }
+
+            if(numberStart != -1){
+                addSpan(numberStart, end);
+            }
+        }
+
+        // joins decimal points and minus signs onto the numbers around them, then joins quoted strings
+        private List<JString> joinNumbersAndQuotes(){
+            int x = 0;
+            while(x < spanCount){
+                if(isNumber(x) && isChar(x + 1, '.') && isNumber(x + 2)){
+                    addToken(normalize(x).append(".").append(normalize(x + 2)));
+                    x += 3;
+                    continue;
+                }
+
+                if(isChar(x, '.') && isNumber(x + 1)){
+                    addToken(normalize(x).append(normalize(x + 1)));
+                    x += 2;
+                    continue;
+                }
+
+                if(isChar(x, '-')){
+                    if(isNumber(x + 1) && isChar(x + 2, '.') && isNumber(x + 3)){
+                        addToken(normalize(x).append(normalize(x + 1)).append(".").append(normalize(x + 3)));
+                        x += 4;
+                        continue;
+                    }
+                    else if(isChar(x + 1, '.') && isNumber(x + 2)){
+                        addToken(normalize(x).append(".").append(normalize(x + 2)));
+                        x += 3;
+                        continue;
+                    }
+                }
+
+                addToken(normalize(x));
+                x += 1;
+            }
+
+            if(openingQuote != null){
+                throw new RuntimeException(
+                        "string set contains an unclosed opening bracket \"" + openingQuote + "\"");
+            }
+
+            return tokens;
+        }
+
+        private void addToken(JString token){
+            boolean isQuote = token.length() == 1 && (token.charAt(0) == '"' || token.charAt(0) == '\'');
+
+            if(openingQuote != null){
+                quotedString.append(token);
+                if(isQuote && token.equals(openingQuote)){
+                    tokens.add(quotedString);
+                    quotedString = null;
+                    openingQuote = null;
+                }
+            }
+            else if(isQuote){
+                openingQuote = token;
+                quotedString = new JString(token);
+            }
+            else{
+                tokens.add(token);
+            }
+        }
+
+        private boolean isChar(int span, char c){
+            return span < spanCount && spanEnds[span] - spanStarts[span] == 1 && chars[spanStarts[span]] == c;
+        }
+
+        private boolean isNumber(int span){
+            return span < spanCount && JNumber.parse(charView, spanStarts[span], spanEnds[span]) != null;
+        }
+
+        // numbers and booleans are written the way a JPrimitive writes them, everything else is left as it is
+        private JString normalize(int span){
+            int start = spanStarts[span];
+            int end = spanEnds[span];
+            if(JNumber.parse(charView, start, end) != null || isBooleanWord(chars, start, end)){
+                return new JPrimitive(input.slice(start, end)).toJString();
+            }
+            return input.slice(start, end);
+        }
+    }
+
+    // endregion
+
+    // region token classification
+
+    private static boolean isDigit(char c){
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBooleanWord(char[] chars, int start, int end){
+        return equalsIgnoreCase(chars, start, end, "true") || equalsIgnoreCase(chars, start, end, "yes") ||
+                equalsIgnoreCase(chars, start, end, "false") || equalsIgnoreCase(chars, start, end, "no");
+    }
+
+    // only ascii letters are folded, the same as JString.equalsIgnoreCase
+    private static boolean equalsIgnoreCase(char[] chars, int start, int end, String word){
+        if(end - start != word.length()){
+            return false;
+        }
+        for(int x = start; x < end; x += 1){
+            char c = chars[x];
+            if(c >= 'A' && c <= 'Z'){
+                c = (char)(c + ('a' - 'A'));
+            }
+            if(c != word.charAt(x - start)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // a token is recognized if it would parse into anything other than a plain string
+    private static boolean isRecognized(JString token){
+        if(token.isBlankOrEmpty()){
+            return true;
+        }
+
+        if(token.startsWith("\"") && token.endsWith("\"")){
+            return true;
+        }
+
+        if(token.startsWith("'") && token.endsWith("'")){
+            return true;
+        }
+
+        if(JNumber.parse(token, 0, token.length()) != null){
+            return true;
+        }
+
+        char[] chars = token.toCharArray();
+        return isBooleanWord(chars, 0, chars.length) || recognizedSymbols.contains(token.toString());
+    }
+
+    private static JString[] getUnrecognizedSymbols(List<JString> tokens){
+        ArrayList<JString> unrecognizedSymbols = new ArrayList<>();
+        HashSet<JString> found = new HashSet<>();
+        ArrayList<JString> nestedElementsQue = new ArrayList<>();
+        for(JString token : tokens){
+            if(isRecognized(token)){
+                continue;
+            }
+
+            if(found.add(token)){
+                unrecognizedSymbols.add(token);
+                if(token.contains("[")){
+                    nestedElementsQue.add(token);
+                }
+            }
+        }
+
+        while(nestedElementsQue.size() > 0){
+            JString loopObject = nestedElementsQue.remove(0);
+            int[][] indexOfBracketSets = JString.getIndexesOfBracketSets(loopObject, "[", "]");
+            if(indexOfBracketSets[0][0] == -1){
+                continue;
+            }
+            JString substring = loopObject.subString(indexOfBracketSets[0][0]+1,indexOfBracketSets[1][0]);
+            unrecognizedSymbols.add(substring.clone());
+
+            if(substring.contains("[")){
+                nestedElementsQue.add(substring);
+            }
+        }
+
+        unrecognizedSymbols.sort((o1, o2) -> {
+            if(o1.contains(o2)){
+                return 1;
+            }
+            else if(o2.contains(o1)){
+                return -1;
+            }
+            else{
+                return o1.compareTo(o2);
+            }
+        });
+
+        return unrecognizedSymbols.toArray(new JString[0]);
+    }
+
+    // endregion
+}
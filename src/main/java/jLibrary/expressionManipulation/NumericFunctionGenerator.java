@@ -0,0 +1,395 @@
+package jLibrary.expressionManipulation;
+
+import jLibrary.interfaces.functional.NumericExpressionFunction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+
+/**
+ * Generates a hidden class implementing {@link NumericExpressionFunction} from a compiled expression's operator tree.
+ * <br>
+ * The generated method is straight line code : variables are loaded from the slot array, arithmetic uses the double
+ * instructions directly and every other operator calls one of the static helpers in this class. Having no branches,
+ * the method needs no stack map frames.
+ */
+final class NumericFunctionGenerator {
+
+    private static final String generatedClassName =
+            NumericFunctionGenerator.class.getPackageName().replace('.', '/') + "/GeneratedNumericExpression";
+    private static final String helperClassName = NumericFunctionGenerator.class.getName().replace('.', '/');
+    private static final String interfaceName = NumericExpressionFunction.class.getName().replace('.', '/');
+
+    private static final int maxCodeLength = 65535;
+
+    // region opcodes
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int LDC2_W = 0x14;
+    private static final int DCONST_0 = 0x0e;
+    private static final int DCONST_1 = 0x0f;
+    private static final int DALOAD = 0x31;
+    private static final int DADD = 0x63;
+    private static final int DSUB = 0x67;
+    private static final int DMUL = 0x6b;
+    private static final int DDIV = 0x6f;
+    private static final int DREM = 0x73;
+    private static final int DNEG = 0x77;
+    private static final int DRETURN = 0xaf;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+
+    // endregion
+
+    private NumericFunctionGenerator(){
+    }
+
+    // region generation
+
+    /**
+     * Generates, defines and instantiates the hidden class for the given operator tree.
+     */
+    static NumericExpressionFunction generate(CompiledExpression.Node root){
+        ConstantPool pool = new ConstantPool();
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        emit(root, code, pool);
+        code.write(DRETURN);
+
+        if(code.size() > maxCodeLength){
+            throw new RuntimeException("The expression is too large to be generated as a single method.");
+        }
+
+        byte[] classBytes = buildClass(pool, code.toByteArray(), Math.max(2, getStackDepth(root)));
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(classBytes, true);
+            return (NumericExpressionFunction) lookup.findConstructor(
+                    lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        }
+        catch (RuntimeException | Error e){
+            throw e;
+        }
+        catch (Throwable e){
+            throw new RuntimeException("Could not define the generated expression class.", e);
+        }
+    }
+
+    private static void emit(CompiledExpression.Node node, ByteArrayOutputStream code, ConstantPool pool){
+        if(node instanceof CompiledExpression.ConstantNode constant){
+            double value = constant.doubleValue;
+            if(Double.doubleToRawLongBits(value) == 0L){
+                code.write(DCONST_0);
+            }
+            else if(value == 1.0){
+                code.write(DCONST_1);
+            }
+            else{
+                code.write(LDC2_W);
+                writeShort(code, pool.doubleConstant(value));
+            }
+        }
+        else if(node instanceof CompiledExpression.SlotNode slot){
+            code.write(ALOAD_1);
+            writeInt(code, pool, slot.slot);
+            code.write(DALOAD);
+        }
+        else if(node instanceof CompiledExpression.NegateNode negate){
+            emit(negate.operand, code, pool);
+            code.write(DNEG);
+        }
+        else if(node instanceof CompiledExpression.NotNode not){
+            emit(not.operand, code, pool);
+            invokeHelper(code, pool, "not", "(D)D");
+        }
+        else if(node instanceof CompiledExpression.OperatorNode operator){
+            emit(operator.operand1, code, pool);
+            emit(operator.operand2, code, pool);
+
+            switch (operator.operator) {
+                case '+' -> code.write(DADD);
+                case '-' -> code.write(DSUB);
+                case '*' -> code.write(DMUL);
+                case '/' -> code.write(DDIV);
+                case '%' -> code.write(DREM);
+                case '^' -> {
+                    code.write(INVOKESTATIC);
+                    writeShort(code, pool.methodReference("java/lang/Math", "pow", "(DD)D"));
+                }
+                case '>' -> invokeHelper(code, pool, "greaterThan", "(DD)D");
+                case 'g' -> invokeHelper(code, pool, "greaterThanOrEqualTo", "(DD)D");
+                case '<' -> invokeHelper(code, pool, "lessThan", "(DD)D");
+                case 'l' -> invokeHelper(code, pool, "lessThanOrEqualTo", "(DD)D");
+                case 'n' -> invokeHelper(code, pool, "notEqualTo", "(DD)D");
+                case 'e' -> invokeHelper(code, pool, "equalTo", "(DD)D");
+                case 'o' -> invokeHelper(code, pool, "or", "(DD)D");
+                case 'a' -> invokeHelper(code, pool, "and", "(DD)D");
+                default -> throw new RuntimeException("Unknown operator " + operator.operator);
+            }
+        }
+        else{
+            throw new RuntimeException("Unknown expression node " + node);
+        }
+    }
+
+    /**
+     * Returns the operand stack depth, in words, needed to evaluate the node.
+     */
+    private static int getStackDepth(CompiledExpression.Node node){
+        if(node instanceof CompiledExpression.NegateNode negate){
+            return getStackDepth(negate.operand);
+        }
+        else if(node instanceof CompiledExpression.NotNode not){
+            return getStackDepth(not.operand);
+        }
+        else if(node instanceof CompiledExpression.OperatorNode operator){
+            return Math.max(getStackDepth(operator.operand1), 2 + getStackDepth(operator.operand2));
+        }
+        return 2;
+    }
+
+    private static void invokeHelper(ByteArrayOutputStream code, ConstantPool pool, String name, String descriptor){
+        code.write(INVOKESTATIC);
+        writeShort(code, pool.methodReference(helperClassName, name, descriptor));
+    }
+
+    private static void writeInt(ByteArrayOutputStream code, ConstantPool pool, int value){
+        if(value <= 5){
+            code.write(ICONST_0 + value);
+        }
+        else if(value <= Byte.MAX_VALUE){
+            code.write(BIPUSH);
+            code.write(value);
+        }
+        else if(value <= Short.MAX_VALUE){
+            code.write(SIPUSH);
+            writeShort(code, value);
+        }
+        else{
+            code.write(LDC_W);
+            writeShort(code, pool.integerConstant(value));
+        }
+    }
+
+    private static void writeShort(ByteArrayOutputStream code, int value){
+        code.write((value >>> 8) & 0xff);
+        code.write(value & 0xff);
+    }
+
+    private static byte[] buildClass(ConstantPool pool, byte[] evaluateCode, int maxStack){
+        int thisClass = pool.classReference(generatedClassName);
+        int superClass = pool.classReference("java/lang/Object");
+        int interfaceClass = pool.classReference(interfaceName);
+        int objectConstructor = pool.methodReference("java/lang/Object", "<init>", "()V");
+        int constructorName = pool.utf8("<init>");
+        int constructorDescriptor = pool.utf8("()V");
+        int evaluateName = pool.utf8("evaluate");
+        int evaluateDescriptor = pool.utf8("([D)D");
+        int codeAttributeName = pool.utf8("Code");
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(61);
+            pool.writeTo(output);
+
+            // public final super
+            output.writeShort(0x0031);
+            output.writeShort(thisClass);
+            output.writeShort(superClass);
+            output.writeShort(1);
+            output.writeShort(interfaceClass);
+
+            // fields
+            output.writeShort(0);
+
+            // methods
+            output.writeShort(2);
+
+            byte[] constructorCode = new byte[]{
+                    (byte) ALOAD_0,
+                    (byte) INVOKESPECIAL, (byte) (objectConstructor >>> 8), (byte) objectConstructor,
+                    (byte) RETURN
+            };
+            writeMethod(output, 0x0001, constructorName, constructorDescriptor, codeAttributeName,
+                    1, 1, constructorCode);
+            writeMethod(output, 0x0001 | 0x0010, evaluateName, evaluateDescriptor, codeAttributeName,
+                    maxStack, 2, evaluateCode);
+
+            // class attributes
+            output.writeShort(0);
+
+            output.flush();
+            return bytes.toByteArray();
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void writeMethod(DataOutputStream output, int accessFlags, int name, int descriptor,
+                                    int codeAttributeName, int maxStack, int maxLocals, byte[] code)
+            throws IOException {
+
+        output.writeShort(accessFlags);
+        output.writeShort(name);
+        output.writeShort(descriptor);
+        output.writeShort(1);
+
+        output.writeShort(codeAttributeName);
+        output.writeInt(12 + code.length);
+        output.writeShort(maxStack);
+        output.writeShort(maxLocals);
+        output.writeInt(code.length);
+        output.write(code);
+        // exception table and attributes
+        output.writeShort(0);
+        output.writeShort(0);
+    }
+
+    // endregion
+
+    // region constant pool
+
+    private static class ConstantPool {
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream output = new DataOutputStream(entries);
+        private final HashMap<String, Integer> indexes = new HashMap<>();
+        private int nextIndex = 1;
+
+        int utf8(String value){
+            return getOrAdd("utf8:" + value, 1, () -> {
+                output.writeByte(1);
+                output.writeUTF(value);
+            });
+        }
+
+        int classReference(String internalName){
+            int name = utf8(internalName);
+            return getOrAdd("class:" + internalName, 1, () -> {
+                output.writeByte(7);
+                output.writeShort(name);
+            });
+        }
+
+        int methodReference(String owner, String name, String descriptor){
+            int ownerClass = classReference(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = getOrAdd("nameAndType:" + name + descriptor, 1, () -> {
+                output.writeByte(12);
+                output.writeShort(nameIndex);
+                output.writeShort(descriptorIndex);
+            });
+            return getOrAdd("method:" + owner + "." + name + descriptor, 1, () -> {
+                output.writeByte(10);
+                output.writeShort(ownerClass);
+                output.writeShort(nameAndType);
+            });
+        }
+
+        int integerConstant(int value){
+            return getOrAdd("int:" + value, 1, () -> {
+                output.writeByte(3);
+                output.writeInt(value);
+            });
+        }
+
+        /**
+         * Double constants take up two constant pool entries.
+         */
+        int doubleConstant(double value){
+            return getOrAdd("double:" + Double.doubleToRawLongBits(value), 2, () -> {
+                output.writeByte(6);
+                output.writeLong(Double.doubleToRawLongBits(value));
+            });
+        }
+
+        void writeTo(DataOutputStream classOutput) throws IOException {
+            if(nextIndex > 0xffff){
+                throw new RuntimeException("The expression has too many constants to be generated as a class.");
+            }
+            output.flush();
+            classOutput.writeShort(nextIndex);
+            entries.writeTo(classOutput);
+        }
+
+        private int getOrAdd(String key, int size, EntryWriter writer){
+            Integer index = indexes.get(key);
+            if(index != null){
+                return index;
+            }
+            try {
+                writer.write();
+            }
+            catch (IOException e){
+                throw new RuntimeException(e);
+            }
+            int newIndex = nextIndex;
+            nextIndex += size;
+            indexes.put(key, newIndex);
+            return newIndex;
+        }
+
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+
+    // endregion
+
+    // region helpers called by generated classes
+
+    static double toDouble(boolean value){
+        return value ? 1.0 : 0.0;
+    }
+
+    static double not(double value){
+        return toDouble(value == 0.0);
+    }
+
+    static double lessThan(double value1, double value2){
+        return toDouble(value1 < value2);
+    }
+
+    static double lessThanOrEqualTo(double value1, double value2){
+        return toDouble(value1 <= value2);
+    }
+
+    static double greaterThan(double value1, double value2){
+        return toDouble(value1 > value2);
+    }
+
+    static double greaterThanOrEqualTo(double value1, double value2){
+        return toDouble(value1 >= value2);
+    }
+
+    static double equalTo(double value1, double value2){
+        return toDouble(value1 == value2);
+    }
+
+    static double notEqualTo(double value1, double value2){
+        return toDouble(value1 != value2);
+    }
+
+    static double and(double value1, double value2){
+        return toDouble(value1 != 0.0 && value2 != 0.0);
+    }
+
+    static double or(double value1, double value2){
+        return toDouble(value1 != 0.0 || value2 != 0.0);
+    }
+
+    // endregion
+}
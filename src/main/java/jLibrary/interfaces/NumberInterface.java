@@ -429,6 +429,133 @@ public interface NumberInterface extends JObjectBaseInterface {
 
     // endregion
 
+    // region in place operations
+    // the result replaces the value of this object, the operands are read through their primitive values
+    // so neither is converted into a JNumber
+
+    default Object addInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.add(this, this, num2);
+    }
+
+    default Object subtractInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.subtract(this, this, num2);
+    }
+
+    default Object multiplyInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.multiply(this, this, num2);
+    }
+
+    default Object divideInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.divide(this, this, num2);
+    }
+
+    default Object powerInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.power(this, this, num2);
+    }
+
+    default Object moduloInPlace(NumberInterface num2) {
+        if(!isNumber()){
+            throw new WrongExecutionTypeException(this.getType().name(), ObjectTypes.Number.name());
+        }
+
+        if(!num2.isNumber()){
+            throw new WrongInputTypeException(num2.getType().name(), ObjectTypes.Number.name());
+        }
+
+        return JNumber.modulo(this, this, num2);
+    }
+
+    // endregion
+
+    // region static primitive operations
+    // these write their result into output without allocating, with the same rules as JNumber's operations
+
+    static <T extends NumberInterface> T add(T output, long num1, long num2){
+        return JNumber.add(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T add(T output, double num1, double num2){
+        return JNumber.add(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T subtract(T output, long num1, long num2){
+        return JNumber.subtract(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T subtract(T output, double num1, double num2){
+        return JNumber.subtract(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T multiply(T output, long num1, long num2){
+        return JNumber.multiply(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T multiply(T output, double num1, double num2){
+        return JNumber.multiply(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T divide(T output, long num1, long num2){
+        return JNumber.divide(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T divide(T output, double num1, double num2){
+        return JNumber.divide(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T modulo(T output, long num1, long num2){
+        return JNumber.modulo(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T modulo(T output, double num1, double num2){
+        return JNumber.modulo(output, num1, num2);
+    }
+
+    static <T extends NumberInterface> T power(T output, double num1, double num2){
+        return JNumber.power(output, num1, num2);
+    }
+
+    // endregion
+
     // region numeric operations using NumberInterfaces
 
     default Number subtract(NumberInterface num2) {
@@ -0,0 +1,9 @@
+package jLibrary.interfaces.functional;
+
+/**
+ * A functional interface for expressions evaluated in double precision. The variable values are passed in the slot
+ * order of the compiled expression.
+ */
+public interface NumericExpressionFunction {
+    double evaluate(double[] variables);
+}
@@ -163,7 +163,7 @@ public final class MiscFunctions {
             }
         }
 
-        if(inputString.contains(specialSymbols)){
+        if(inputString.contains(MultiPatternSearch.recognizedSymbols())){
             return false;
         }
 
@@ -895,66 +895,7 @@ public final class MiscFunctions {
             return -1;
         }
 
-        if(searchValue.length == charSet.length){
-            boolean matchEliminated = false;
-            boolean done = false;
-            int counter = startPoint;
-            while(!matchEliminated && !done){
-                if(counter >= searchValue.length){
-                    done = true;
-                    continue;
-                }
-                if(counter >= charSet.length ||
-                        charSet[counter] != searchValue[counter]){
-                    matchEliminated = true;
-                }
-                else{
-                    counter += 1;
-                }
-            }
-
-            if(!matchEliminated){
-                return 0;
-            }
-            return -1;
-        }
-
-        boolean found = false;
-
-        while (!found){
-            int pot_output = indexOf(charSet, searchValue[0], startPoint);
-
-            if(pot_output == -1){
-                return -1;
-            }
-
-            boolean matchEliminated = false;
-            boolean done = false;
-            int counter = 1;
-            while(!matchEliminated && !done){
-                if(counter >= searchValue.length){
-                    done = true;
-                    continue;
-                }
-                if(pot_output + counter >= charSet.length ||
-                        charSet[pot_output + counter] != searchValue[counter]){
-
-                    matchEliminated = true;
-                }
-                else{
-                    counter += 1;
-                }
-            }
-
-            if(!matchEliminated){
-                return pot_output;
-            }
-            else{
-                startPoint += 1;
-            }
-        }
-
-        return -1;
+        return SearchPattern.compile(searchValue).indexOf(charSet, startPoint, charSet.length);
     }
 
     public static int indexOf(char[] charSet, char[] searchValue){
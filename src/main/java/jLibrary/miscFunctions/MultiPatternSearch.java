@@ -0,0 +1,281 @@
+package jLibrary.miscFunctions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An Aho-Corasick automaton that searches for a set of substrings at once. The automaton reads each character of the
+ * searched string exactly once, no matter how many patterns it holds, so checking a string against every recognized
+ * symbol costs a single pass instead of one pass per symbol.
+ * <br>
+ * Matches are reported leftmost first, and when several patterns start at the same index the longest one is
+ * reported, so "&lt;=" is preferred over "&lt;". Null and empty patterns are ignored, and duplicate patterns are
+ * only kept once.
+ */
+public final class MultiPatternSearch {
+
+    private static final int maxCachedSearches = 128;
+    private static final ConcurrentHashMap<List<String>, MultiPatternSearch> cache = new ConcurrentHashMap<>();
+
+    private static final MultiPatternSearch recognizedSymbols =
+            new MultiPatternSearch(MiscFunctions.getAllRecognizedSymbols());
+
+    private final String[] patterns;
+    private final int maxPatternLength;
+
+    // characters that don't appear in any pattern share class 0
+    private final int[] asciiClasses = new int[128];
+    private final HashMap<Character, Integer> otherClasses = new HashMap<>();
+    private final int classCount;
+
+    // transitions[state * classCount + class], failure links are already folded in
+    private final int[] transitions;
+    // the longest pattern that ends at each state, -1 if none does
+    private final int[] longestMatch;
+
+    // region constructor
+
+    private MultiPatternSearch(CharSequence[] searchValues){
+        LinkedHashSet<String> uniquePatterns = new LinkedHashSet<>();
+        for(CharSequence searchValue : searchValues){
+            if(searchValue != null && searchValue.length() > 0){
+                uniquePatterns.add(searchValue.toString());
+            }
+        }
+        patterns = uniquePatterns.toArray(new String[0]);
+
+        int nextClass = 1;
+        int stateLimit = 1;
+        int longest = 0;
+        for(String pattern : patterns){
+            stateLimit += pattern.length();
+            longest = Math.max(longest, pattern.length());
+            for(int x = 0; x < pattern.length(); x += 1){
+                char c = pattern.charAt(x);
+                if(classOf(c) == 0){
+                    if(c < asciiClasses.length){
+                        asciiClasses[c] = nextClass;
+                    }
+                    else{
+                        otherClasses.put(c, nextClass);
+                    }
+                    nextClass += 1;
+                }
+            }
+        }
+        maxPatternLength = longest;
+        classCount = nextClass;
+
+        // builds the trie, -1 marks a missing edge
+        int[] trie = new int[stateLimit * classCount];
+        Arrays.fill(trie, -1);
+        int[] terminal = new int[stateLimit];
+        Arrays.fill(terminal, -1);
+        int stateCount = 1;
+        for(int patternIndex = 0; patternIndex < patterns.length; patternIndex += 1){
+            String pattern = patterns[patternIndex];
+            int state = 0;
+            for(int x = 0; x < pattern.length(); x += 1){
+                int edge = state * classCount + classOf(pattern.charAt(x));
+                if(trie[edge] == -1){
+                    trie[edge] = stateCount;
+                    stateCount += 1;
+                }
+                state = trie[edge];
+            }
+            terminal[state] = patternIndex;
+        }
+
+        // turns the trie into a complete automaton, breadth first so each failure state is finished before it's used
+        transitions = new int[stateCount * classCount];
+        longestMatch = new int[stateCount];
+        int[] failure = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        longestMatch[0] = -1;
+        for(int c = 0; c < classCount; c += 1){
+            int child = trie[c];
+            if(child == -1){
+                transitions[c] = 0;
+            }
+            else{
+                transitions[c] = child;
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+
+        while(!queue.isEmpty()){
+            int state = queue.poll();
+            int fail = failure[state];
+            longestMatch[state] = terminal[state] != -1 ? terminal[state] : longestMatch[fail];
+
+            for(int c = 0; c < classCount; c += 1){
+                int child = trie[state * classCount + c];
+                if(child == -1){
+                    transitions[state * classCount + c] = transitions[fail * classCount + c];
+                }
+                else{
+                    transitions[state * classCount + c] = child;
+                    failure[child] = transitions[fail * classCount + c];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    // endregion
+
+    // region compilation
+
+    /**
+     * Returns an automaton for the given patterns, building and caching it if the same patterns haven't been
+     * compiled before.
+     */
+    public static MultiPatternSearch compile(CharSequence[] patterns){
+        MiscFunctions.nullCheck(patterns, "patterns");
+
+        List<String> key = new ArrayList<>(patterns.length);
+        for(CharSequence pattern : patterns){
+            key.add(pattern == null ? null : pattern.toString());
+        }
+
+        MultiPatternSearch output = cache.get(key);
+        if(output == null){
+            if(cache.size() >= maxCachedSearches){
+                cache.clear();
+            }
+            output = cache.computeIfAbsent(key, k -> new MultiPatternSearch(patterns));
+        }
+        return output;
+    }
+
+    /**
+     * Returns the automaton for {@link MiscFunctions#getAllRecognizedSymbols()}.
+     */
+    public static MultiPatternSearch recognizedSymbols(){
+        return recognizedSymbols;
+    }
+
+    // endregion
+
+    // region patterns
+
+    public int getPatternCount(){
+        return patterns.length;
+    }
+
+    public String getPattern(int patternIndex){
+        return patterns[patternIndex];
+    }
+
+    private int classOf(char c){
+        if(c < asciiClasses.length){
+            return asciiClasses[c];
+        }
+        Integer output = otherClasses.get(c);
+        return output == null ? 0 : output;
+    }
+
+    // endregion
+
+    // region searching
+
+    /**
+     * Returns whether any of the patterns occur between start and end.
+     */
+    public boolean containsAny(char[] source, int start, int end){
+        end = Math.min(end, source.length);
+        int state = 0;
+        for(int x = Math.max(start, 0); x < end; x += 1){
+            state = transitions[state * classCount + classOf(source[x])];
+            if(longestMatch[state] != -1){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean containsAny(CharSequence source){
+        char[] chars = MiscFunctions.toCharArray(source);
+        return containsAny(chars, 0, chars.length);
+    }
+
+    /**
+     * Finds the leftmost occurrence of any of the patterns between start and end, preferring the longest pattern when
+     * several start at the same index.
+     * @return Returns a pair of integers, the index where the match starts and the index of the matched pattern
+     * (see {@link #getPattern(int)}), or null if nothing matched.
+     */
+    public int[] findFirst(char[] source, int start, int end){
+        end = Math.min(end, source.length);
+        int matchStart = -1;
+        int matchPattern = -1;
+        int state = 0;
+        for(int x = Math.max(start, 0); x < end; x += 1){
+            // no match ending any later can start at or before the current match
+            if(matchStart != -1 && x >= matchStart + maxPatternLength){
+                break;
+            }
+
+            state = transitions[state * classCount + classOf(source[x])];
+            int patternIndex = longestMatch[state];
+            if(patternIndex != -1){
+                int patternStart = x - patterns[patternIndex].length() + 1;
+                if(matchStart == -1 || patternStart < matchStart ||
+                        (patternStart == matchStart &&
+                                patterns[patternIndex].length() > patterns[matchPattern].length())){
+                    matchStart = patternStart;
+                    matchPattern = patternIndex;
+                }
+            }
+        }
+
+        if(matchStart == -1){
+            return null;
+        }
+        return new int[]{matchStart, matchPattern};
+    }
+
+    /**
+     * Finds every non overlapping match between start and end in a single pass, each one chosen the same way as
+     * {@link #findFirst(char[], int, int)}, with the search resuming after the end of the previous match.
+     * @return Returns 2 integer arrays nested inside an outer array of arrays. The first array contains the index where
+     * each match starts, the second contains the index of each matched pattern.
+     */
+    public int[][] findAll(char[] source, int start, int end){
+        int[] starts = new int[8];
+        int[] matchedPatterns = new int[8];
+        int count = 0;
+
+        int[] match = findFirst(source, start, end);
+        while(match != null){
+            if(count == starts.length){
+                starts = Arrays.copyOf(starts, count * 2);
+                matchedPatterns = Arrays.copyOf(matchedPatterns, count * 2);
+            }
+            starts[count] = match[0];
+            matchedPatterns[count] = match[1];
+            count += 1;
+
+            match = findFirst(source, match[0] + patterns[match[1]].length(), end);
+        }
+
+        return new int[][]{
+                Arrays.copyOf(starts, count),
+                Arrays.copyOf(matchedPatterns, count)
+        };
+    }
+
+    public int[][] findAll(CharSequence source){
+        char[] chars = MiscFunctions.toCharArray(source);
+        return findAll(chars, 0, chars.length);
+    }
+
+    // endregion
+}
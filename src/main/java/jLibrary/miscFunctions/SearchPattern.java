@@ -0,0 +1,186 @@
+package jLibrary.miscFunctions;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A substring that has been compiled once into a Boyer-Moore-Horspool skip table. Searching for the pattern compares
+ * the last character of the pattern first, and on a mismatch skips ahead by as many characters as the table allows,
+ * instead of re-checking the pattern at every index.
+ * <br>
+ * Compiled patterns are immutable, and {@link #compile(char[])} caches them, so searching for the same substring
+ * again re-uses its skip table. An empty pattern never matches.
+ */
+public final class SearchPattern {
+
+    private static final int maxCachedPatterns = 512;
+    private static final ConcurrentHashMap<String, SearchPattern> cache = new ConcurrentHashMap<>();
+
+    // characters are bucketed by their low byte, a bucket's skip is the smallest skip of any character in it
+    private static final int skipTableMask = 0xFF;
+
+    private final char[] pattern;
+    private final int[] skipTable;
+
+    // region constructor
+
+    private SearchPattern(char[] pattern){
+        this.pattern = pattern;
+
+        if(pattern.length < 2){
+            skipTable = null;
+            return;
+        }
+
+        int last = pattern.length - 1;
+        skipTable = new int[skipTableMask + 1];
+        Arrays.fill(skipTable, pattern.length);
+        for(int x = 0; x < last; x += 1){
+            skipTable[pattern[x] & skipTableMask] = last - x;
+        }
+    }
+
+    // endregion
+
+    // region compilation
+
+    /**
+     * Returns the compiled form of the given pattern, compiling and caching it if it hasn't been compiled yet.
+     * The pattern's characters are copied, later changes to the given array don't affect the compiled pattern.
+     */
+    public static SearchPattern compile(char[] pattern){
+        MiscFunctions.nullCheck(pattern, "pattern");
+
+        return compile(new String(pattern));
+    }
+
+    /**
+     * Returns the compiled form of the given pattern, compiling and caching it if it hasn't been compiled yet.
+     */
+    public static SearchPattern compile(CharSequence pattern){
+        MiscFunctions.nullCheck(pattern, "pattern");
+
+        String key = pattern.toString();
+        SearchPattern output = cache.get(key);
+        if(output == null){
+            if(cache.size() >= maxCachedPatterns){
+                cache.clear();
+            }
+            output = cache.computeIfAbsent(key, k -> new SearchPattern(k.toCharArray()));
+        }
+        return output;
+    }
+
+    // endregion
+
+    // region pattern
+
+    public int length(){
+        return pattern.length;
+    }
+
+    public String toString(){
+        return new String(pattern);
+    }
+
+    // endregion
+
+    // region searching
+
+    /**
+     * Searches for the first occurrence of the pattern that lies entirely between start and end.
+     * @param source The characters to search through.
+     * @param start The index to start searching from.
+     * @param end The index to stop searching at, exclusive.
+     * @return Returns the index in source where the pattern starts, or -1 if it wasn't found.
+     */
+    public int indexOf(char[] source, int start, int end){
+        if(start < 0){
+            start = 0;
+        }
+        if(end > source.length){
+            end = source.length;
+        }
+
+        if(pattern.length == 0){
+            return -1;
+        }
+
+        if(pattern.length == 1){
+            char searchValue = pattern[0];
+            for(int x = start; x < end; x += 1){
+                if(source[x] == searchValue){
+                    return x;
+                }
+            }
+            return -1;
+        }
+
+        int last = pattern.length - 1;
+        char lastChar = pattern[last];
+        int x = start + last;
+        while(x < end){
+            char c = source[x];
+            if(c == lastChar){
+                int patternIndex = last - 1;
+                int sourceIndex = x - 1;
+                while(patternIndex >= 0 && source[sourceIndex] == pattern[patternIndex]){
+                    patternIndex -= 1;
+                    sourceIndex -= 1;
+                }
+                if(patternIndex < 0){
+                    return x - last;
+                }
+            }
+            x += skipTable[c & skipTableMask];
+        }
+
+        return -1;
+    }
+
+    public int indexOf(char[] source, int start){
+        return indexOf(source, start, source.length);
+    }
+
+    public int indexOf(char[] source){
+        return indexOf(source, 0, source.length);
+    }
+
+    /**
+     * Finds every non overlapping occurrence of the pattern between start and end.
+     * @return Returns the index of each occurrence, in ascending order.
+     */
+    public int[] indexOfEach(char[] source, int start, int end){
+        int[] output = new int[4];
+        int count = 0;
+
+        int index = indexOf(source, start, end);
+        while(index != -1){
+            if(count == output.length){
+                output = Arrays.copyOf(output, count * 2);
+            }
+            output[count] = index;
+            count += 1;
+            index = indexOf(source, index + pattern.length, end);
+        }
+
+        return Arrays.copyOf(output, count);
+    }
+
+    /**
+     * Counts the non overlapping occurrences of the pattern between start and end.
+     */
+    public int count(char[] source, int start, int end){
+        int count = 0;
+
+        int index = indexOf(source, start, end);
+        while(index != -1){
+            count += 1;
+            index = indexOf(source, index + pattern.length, end);
+        }
+
+        return count;
+    }
+
+    // endregion
+}
@@ -0,0 +1,479 @@
+package jLibrary.persistentCollections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map that shares structure between versions, stored as a hash array mapped trie.
+ * <br>
+ * Each node covers 5 bits of the key's hash and keeps a 32 bit bitmap of the slots in use, with an array only as long
+ * as the number of slots used. Lookups walk at most 7 nodes. {@link #put(Object, Object)} and {@link #remove(Object)}
+ * return a new map and leave this one unchanged, copying just the nodes on the path to the key; the rest of the trie
+ * is shared with the original.
+ * <br>
+ * Instances never change after they are created, so they can be read by any number of threads without
+ * synchronization. Iteration order depends on the hashes of the keys.
+ * @param <K> The type of the keys. Null keys are not allowed.
+ * @param <V> The type of the values. Null values are allowed.
+ */
+public final class PersistentHashMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    private static final int bits = 5;
+    private static final int mask = (1 << bits) - 1;
+
+    private static final Object notFound = new Object();
+    private static final BitmapNode emptyNode = new BitmapNode(0, new Object[0]);
+    private static final PersistentHashMap<?, ?> empty = new PersistentHashMap<>(0, emptyNode);
+
+    private final int size;
+    private final Node root;
+
+    private PersistentHashMap(int size, Node root){
+        this.size = size;
+        this.root = root;
+    }
+
+    // region create
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty(){
+        return (PersistentHashMap<K, V>) empty;
+    }
+
+    /**
+     * Creates a map holding the entries of the given map.
+     */
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> source){
+        PersistentHashMap<K, V> output = empty();
+        for(Map.Entry<? extends K, ? extends V> entry : source.entrySet()){
+            output = output.put(entry.getKey(), entry.getValue());
+        }
+        return output;
+    }
+
+    // endregion
+
+    // region read
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Returns the value stored under the given key, or null if there isn't one.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key){
+        if(key == null){
+            return null;
+        }
+        Object output = root.get(0, hash(key), key);
+        return output == notFound ? null : (V) output;
+    }
+
+    public boolean containsKey(Object key){
+        return key != null && root.get(0, hash(key), key) != notFound;
+    }
+
+    /**
+     * Returns a read only view of the keys. The view doesn't copy the map.
+     */
+    public Set<K> keySet(){
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<K> iterator() {
+                Iterator<Map.Entry<K, V>> entries = PersistentHashMap.this.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public K next() {
+                        return entries.next().getKey();
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates over the entries of the map. The entries can't be modified.
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator(){
+        return new EntryIterator<>(root);
+    }
+
+    private static int hash(Object key){
+        int output = key.hashCode();
+        return output ^ (output >>> 16);
+    }
+
+    // endregion
+
+    // region modify
+
+    /**
+     * Returns a map with the given value stored under the given key.
+     * @throws NullPointerException if the key is null.
+     */
+    public PersistentHashMap<K, V> put(K key, V value){
+        Objects.requireNonNull(key, "key");
+
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(0, hash(key), key, value, added);
+        if(newRoot == root){
+            return this;
+        }
+        return new PersistentHashMap<>(added[0] ? size + 1 : size, newRoot);
+    }
+
+    /**
+     * Returns a map without the given key.
+     */
+    public PersistentHashMap<K, V> remove(Object key){
+        if(key == null){
+            return this;
+        }
+
+        Node newRoot = root.remove(0, hash(key), key);
+        if(newRoot == root){
+            return this;
+        }
+        return new PersistentHashMap<>(size - 1, newRoot == null ? emptyNode : newRoot);
+    }
+
+    // endregion
+
+    // region nodes
+
+    private interface Node {
+
+        Object get(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        // returns null once the node is empty
+        Node remove(int shift, int hash, Object key);
+    }
+
+    /**
+     * Stores its entries in pairs: a key and its value, or null and the node for the next 5 bits of the hash.
+     */
+    private static final class BitmapNode implements Node {
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(int bitmap, Object[] array){
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private static int bitFor(int hash, int shift){
+            return 1 << ((hash >>> shift) & mask);
+        }
+
+        private int indexOf(int bit){
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object get(int shift, int hash, Object key){
+            int bit = bitFor(hash, shift);
+            if((bitmap & bit) == 0){
+                return notFound;
+            }
+
+            int index = indexOf(bit) * 2;
+            Object entryKey = array[index];
+            if(entryKey == null){
+                return ((Node) array[index + 1]).get(shift + bits, hash, key);
+            }
+            return key.equals(entryKey) ? array[index + 1] : notFound;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added){
+            int bit = bitFor(hash, shift);
+            int index = indexOf(bit) * 2;
+
+            if((bitmap & bit) == 0){
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, index);
+                newArray[index] = key;
+                newArray[index + 1] = value;
+                System.arraycopy(array, index, newArray, index + 2, array.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object entryKey = array[index];
+            Object entryValue = array[index + 1];
+            if(entryKey == null){
+                Node child = (Node) entryValue;
+                Node newChild = child.put(shift + bits, hash, key, value, added);
+                return newChild == child ? this : copyWith(index, null, newChild);
+            }
+            if(key.equals(entryKey)){
+                return entryValue == value ? this : copyWith(index, entryKey, value);
+            }
+
+            added[0] = true;
+            return copyWith(index, null, createNode(shift + bits, entryKey, entryValue, hash, key, value));
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key){
+            int bit = bitFor(hash, shift);
+            if((bitmap & bit) == 0){
+                return this;
+            }
+
+            int index = indexOf(bit) * 2;
+            Object entryKey = array[index];
+            if(entryKey == null){
+                Node child = (Node) array[index + 1];
+                Node newChild = child.remove(shift + bits, hash, key);
+                if(newChild == child){
+                    return this;
+                }
+                if(newChild != null){
+                    return copyWith(index, null, newChild);
+                }
+            }
+            else if(!key.equals(entryKey)){
+                return this;
+            }
+
+            if(bitmap == bit){
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private BitmapNode copyWith(int index, Object key, Object value){
+            Object[] newArray = array.clone();
+            newArray[index] = key;
+            newArray[index + 1] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2){
+            int hash1 = hash(key1);
+            if(hash1 == hash2){
+                return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+            }
+
+            // hashes that differ always differ within the 32 bits the levels cover, so this ends by shift 30
+            boolean[] added = new boolean[1];
+            return emptyNode.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+        }
+    }
+
+    /**
+     * Holds the keys whose hashes are identical, in key and value pairs.
+     */
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(int hash, Object[] array){
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key){
+            for(int x = 0; x < array.length; x += 2){
+                if(key.equals(array[x])){
+                    return x;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object get(int shift, int hash, Object key){
+            if(hash != this.hash){
+                return notFound;
+            }
+            int index = indexOf(key);
+            return index == -1 ? notFound : array[index + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added){
+            if(hash != this.hash){
+                // a different hash gets a bitmap node above this one, at the level where the two first differ
+                BitmapNode parent = new BitmapNode(BitmapNode.bitFor(this.hash, shift), new Object[]{null, this});
+                return parent.put(shift, hash, key, value, added);
+            }
+
+            int index = indexOf(key);
+            if(index != -1){
+                if(array[index + 1] == value){
+                    return this;
+                }
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key){
+            if(hash != this.hash){
+                return this;
+            }
+            int index = indexOf(key);
+            if(index == -1){
+                return this;
+            }
+            if(array.length == 2){
+                return null;
+            }
+
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        // the arrays of the nodes being walked, and the position reached in each
+        private final ArrayDeque<Object[]> arrays = new ArrayDeque<>();
+        private final ArrayDeque<Integer> positions = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        private EntryIterator(Node root){
+            push(root);
+            advance();
+        }
+
+        private void push(Node node){
+            arrays.push(node instanceof BitmapNode bn ? bn.array : ((CollisionNode) node).array);
+            positions.push(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance(){
+            next = null;
+            while(!arrays.isEmpty()){
+                Object[] array = arrays.peek();
+                int position = positions.pop();
+                if(position >= array.length){
+                    arrays.pop();
+                    continue;
+                }
+                positions.push(position + 2);
+
+                Object key = array[position];
+                if(key == null){
+                    push((Node) array[position + 1]);
+                }
+                else{
+                    next = new AbstractMap.SimpleImmutableEntry<>((K) key, (V) array[position + 1]);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if(next == null){
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> output = next;
+            advance();
+            return output;
+        }
+    }
+
+    // endregion
+
+    // region object methods
+
+    @Override
+    public boolean equals(Object other){
+        if(other == this){
+            return true;
+        }
+        if(!(other instanceof PersistentHashMap<?, ?> om) || om.size != size){
+            return false;
+        }
+
+        for(Map.Entry<K, V> entry : this){
+            Object thatValue = om.root.get(0, hash(entry.getKey()), entry.getKey());
+            if(thatValue == notFound || !Objects.equals(entry.getValue(), thatValue)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode(){
+        int output = 0;
+        for(Map.Entry<K, V> entry : this){
+            output += entry.getKey().hashCode() ^ Objects.hashCode(entry.getValue());
+        }
+        return output;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder output = new StringBuilder("{");
+        for(Map.Entry<K, V> entry : this){
+            if(output.length() > 1){
+                output.append(", ");
+            }
+            output.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return output.append('}').toString();
+    }
+
+    // endregion
+}
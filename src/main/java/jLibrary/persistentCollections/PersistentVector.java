@@ -0,0 +1,387 @@
+package jLibrary.persistentCollections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between versions.
+ * <br>
+ * The elements are kept in a tree of 32 element nodes, with the last elements in a separate tail array. Getting or
+ * replacing an element walks at most ceil(log32(size)) nodes, and {@link #append(Object)} usually copies only the
+ * tail. Every modifying method returns a new vector and leaves this one unchanged, copying just the nodes on the
+ * path to the change; the rest of the tree is shared with the original.
+ * <br>
+ * Inserting or removing anywhere other than the end rebuilds the vector in linear time.
+ * <br>
+ * Instances never change after they are created, so they can be read by any number of threads without
+ * synchronization.
+ * @param <E> The type of the elements. Null elements are allowed.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int bits = 5;
+    private static final int width = 1 << bits;
+    private static final int mask = width - 1;
+
+    private static final Object[] emptyArray = new Object[0];
+    private static final Object[] emptyNode = new Object[width];
+    private static final PersistentVector<?> empty = new PersistentVector<>(0, bits, emptyNode, emptyArray);
+
+    private final int size;
+    // the distance, in bits, between the root and the leaves
+    private final int shift;
+    // a branch is an Object[] of child nodes, a leaf is an Object[] of elements
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail){
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    // region create
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty(){
+        return (PersistentVector<E>) empty;
+    }
+
+    /**
+     * Creates a vector holding the first count elements of the given array. The array isn't kept.
+     */
+    public static <E> PersistentVector<E> of(Object[] elements, int count){
+        if(count < 0 || count > elements.length){
+            throw new IndexOutOfBoundsException("count " + count + " is outside of an array of length " +
+                    elements.length + ".");
+        }
+        if(count == 0){
+            return empty();
+        }
+
+        int tailOffset = tailOffset(count);
+        Object[] tail = Arrays.copyOfRange(elements, tailOffset, count);
+        if(tailOffset == 0){
+            return new PersistentVector<>(count, bits, emptyNode, tail);
+        }
+
+        // the full leaves, then each level of branches above them, until one node is left
+        Object[][] level = new Object[tailOffset >>> bits][];
+        for(int x = 0; x < level.length; x += 1){
+            level[x] = Arrays.copyOfRange(elements, x << bits, (x + 1) << bits);
+        }
+
+        int shift = bits;
+        while(level.length > width){
+            Object[][] parents = new Object[(level.length + mask) >>> bits][];
+            for(int x = 0; x < parents.length; x += 1){
+                Object[] parent = new Object[width];
+                System.arraycopy(level, x << bits, parent, 0, Math.min(width, level.length - (x << bits)));
+                parents[x] = parent;
+            }
+            level = parents;
+            shift += bits;
+        }
+
+        Object[] root = new Object[width];
+        System.arraycopy(level, 0, root, 0, level.length);
+        return new PersistentVector<>(count, shift, root, tail);
+    }
+
+    // endregion
+
+    // region read
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index){
+        return (E) leafFor(index)[index & mask];
+    }
+
+    /**
+     * Copies the elements into a new array.
+     */
+    public Object[] toArray(){
+        Object[] output = new Object[size];
+        int tailOffset = tailOffset(size);
+        for(int x = 0; x < tailOffset; x += width){
+            System.arraycopy(leafFor(x), 0, output, x, width);
+        }
+        System.arraycopy(tail, 0, output, tailOffset, size - tailOffset);
+        return output;
+    }
+
+    @Override
+    public Iterator<E> iterator(){
+        return new Iterator<>() {
+            private int index = 0;
+            private Object[] leaf = size == 0 ? null : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if(index >= size){
+                    throw new NoSuchElementException();
+                }
+                if(index != 0 && (index & mask) == 0){
+                    leaf = leafFor(index);
+                }
+                E output = (E) leaf[index & mask];
+                index += 1;
+                return output;
+            }
+        };
+    }
+
+    private Object[] leafFor(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index " + index + " is outside of a vector of size " + size + ".");
+        }
+        if(index >= tailOffset(size)){
+            return tail;
+        }
+
+        Object[] node = root;
+        for(int level = shift; level > 0; level -= bits){
+            node = (Object[]) node[(index >>> level) & mask];
+        }
+        return node;
+    }
+
+    private static int tailOffset(int size){
+        return size < width ? 0 : ((size - 1) >>> bits) << bits;
+    }
+
+    // endregion
+
+    // region modify
+
+    /**
+     * Returns a vector with the given element added to the end.
+     */
+    public PersistentVector<E> append(E element){
+        int tailLength = size - tailOffset(size);
+        if(tailLength < width){
+            Object[] newTail = Arrays.copyOf(tail, tailLength + 1);
+            newTail[tailLength] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // the tail is full, so it moves into the tree
+        Object[] newRoot;
+        int newShift = shift;
+        if((size >>> bits) > (1 << shift)){
+            newRoot = new Object[width];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += bits;
+        }
+        else{
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode){
+        int childIndex = ((size - 1) >>> level) & mask;
+        Object[] output = parent.clone();
+        if(level == bits){
+            output[childIndex] = tailNode;
+        }
+        else{
+            Object[] child = (Object[]) parent[childIndex];
+            output[childIndex] = child == null ?
+                    newPath(level - bits, tailNode) : pushTail(level - bits, child, tailNode);
+        }
+        return output;
+    }
+
+    private static Object[] newPath(int level, Object[] node){
+        if(level == 0){
+            return node;
+        }
+        Object[] output = new Object[width];
+        output[0] = newPath(level - bits, node);
+        return output;
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced.
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size.
+     */
+    public PersistentVector<E> set(int index, E element){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index " + index + " is outside of a vector of size " + size + ".");
+        }
+
+        if(index >= tailOffset(size)){
+            Object[] newTail = tail.clone();
+            newTail[index & mask] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setInNode(shift, root, index, element), tail);
+    }
+
+    private static Object[] setInNode(int level, Object[] node, int index, Object element){
+        Object[] output = node.clone();
+        if(level == 0){
+            output[index & mask] = element;
+        }
+        else{
+            int childIndex = (index >>> level) & mask;
+            output[childIndex] = setInNode(level - bits, (Object[]) node[childIndex], index, element);
+        }
+        return output;
+    }
+
+    /**
+     * Returns a vector without its last element.
+     * @throws IllegalStateException if the vector is empty.
+     */
+    public PersistentVector<E> removeLast(){
+        if(size == 0){
+            throw new IllegalStateException("An empty vector has no last element.");
+        }
+        if(size == 1){
+            return empty();
+        }
+
+        int tailLength = size - tailOffset(size);
+        if(tailLength > 1){
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tailLength - 1));
+        }
+
+        // the tail is empty afterwards, so the last leaf of the tree becomes the tail
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if(newRoot == null){
+            newRoot = emptyNode;
+        }
+        if(shift > bits && newRoot[1] == null){
+            newRoot = (Object[]) newRoot[0];
+            newShift -= bits;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node){
+        int childIndex = ((size - 2) >>> level) & mask;
+        if(level > bits){
+            Object[] newChild = popTail(level - bits, (Object[]) node[childIndex]);
+            if(newChild == null && childIndex == 0){
+                return null;
+            }
+            Object[] output = node.clone();
+            output[childIndex] = newChild;
+            return output;
+        }
+        if(childIndex == 0){
+            return null;
+        }
+        Object[] output = node.clone();
+        output[childIndex] = null;
+        return output;
+    }
+
+    /**
+     * Returns a vector with the given element inserted at the given index. Inserting at the size appends.
+     * <br>
+     * Anything other than appending rebuilds the vector.
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the size.
+     */
+    public PersistentVector<E> insert(int index, E element){
+        if(index == size){
+            return append(element);
+        }
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("index " + index + " is outside of a vector of size " + size + ".");
+        }
+
+        Object[] elements = new Object[size + 1];
+        Object[] current = toArray();
+        System.arraycopy(current, 0, elements, 0, index);
+        elements[index] = element;
+        System.arraycopy(current, index, elements, index + 1, size - index);
+        return of(elements, elements.length);
+    }
+
+    /**
+     * Returns a vector without the element at the given index.
+     * <br>
+     * Anything other than removing the last element rebuilds the vector.
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size.
+     */
+    public PersistentVector<E> remove(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index " + index + " is outside of a vector of size " + size + ".");
+        }
+        if(index == size - 1){
+            return removeLast();
+        }
+
+        Object[] elements = toArray();
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        return of(elements, size - 1);
+    }
+
+    // endregion
+
+    // region object methods
+
+    @Override
+    public boolean equals(Object other){
+        if(other == this){
+            return true;
+        }
+        if(!(other instanceof PersistentVector<?> ov) || ov.size != size){
+            return false;
+        }
+
+        Iterator<?> those = ov.iterator();
+        for(E element : this){
+            Object thatElement = those.next();
+            if(element == null ? thatElement != null : !element.equals(thatElement)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode(){
+        int output = 1;
+        for(E element : this){
+            output = 31 * output + (element == null ? 0 : element.hashCode());
+        }
+        return output;
+    }
+
+    @Override
+    public String toString(){
+        return Arrays.toString(toArray());
+    }
+
+    // endregion
+}
@@ -8,9 +8,12 @@ public enum ObjectTypes {
         return name();
     }
 
+    private static final ObjectTypes[] allTypes = values();
+
     public static ObjectTypes fromString(CharSequence input){
-        for(ObjectTypes type : ObjectTypes.values()){
-            if(type.name().equalsIgnoreCase(input.toString())){
+        String inputString = input.toString();
+        for(ObjectTypes type : allTypes){
+            if(type.name().equalsIgnoreCase(inputString)){
                 return type;
             }
         }
@@ -2,6 +2,8 @@ package test;
 
 import jLibrary.exceptions.FailedNumericParseException;
 import jLibrary.JNumber;
+import jLibrary.JObject;
+import jLibrary.typeEnumerable.ObjectTypes;
 
 import java.util.Scanner;
 import java.util.function.Predicate;
@@ -234,6 +236,86 @@ public class JNumberTests {
         }
     }
 
+    private static void inPlaceTests(){
+        Number[] nums1 = generateTestNumbers();
+
+        for(Number num_1 : nums1){
+            for(Number num_2 : nums1){
+                JNumber num1 = new JNumber(num_1);
+                JNumber num2 = new JNumber(num_2);
+                print();
+                print("_____New In Place test_____");
+                print();
+                print("Numbers for operation : ");
+                print(num1.toDebugString());
+                print(num2.toDebugString());
+                print();
+                JNumber output1 = JNumber.add(num1, num2);
+                JNumber accumulator = num1.clone();
+                accumulator.addInPlace(num2);
+                print("Static Result : ");
+                print(output1.toDebugString());
+                print("In place result : ");
+                print(accumulator.toDebugString());
+                assert (accumulator.getType() == output1.getType());
+                assert (accumulator.equals(output1));
+                assert (num2.equals(num_2));
+
+                accumulator = num1.clone();
+                accumulator.multiplyInPlace(num2);
+                assert (accumulator.equals(JNumber.multiply(num1, num2)));
+
+                JNumber output2 = JNumber.subtract(new JNumber(), num1.intValue(), num2.intValue());
+                print("Primitive subtract result : ");
+                print(output2.toDebugString());
+
+                // JObject operands and accumulators follow the same rules
+                JObject objectAccumulator = new JObject(num_1);
+                objectAccumulator.addInPlace(new JObject(num_2));
+                assert (objectAccumulator.getType() == output1.getType());
+                assert (output1.equals(objectAccumulator.numberValue()));
+            }
+        }
+
+        // summing a JObject list into a JNumber, each element is read through its primitive value
+        JObject list = JObject.createEmptyList();
+        long expectedSum = 0;
+        for(int x = 0; x < 1000; x += 1){
+            list.append(x * 1000);
+            expectedSum += x * 1000L;
+        }
+        list.append(0.5);
+        JNumber sum = new JNumber(0);
+        for(JObject element : list){
+            sum.addInPlace(element);
+        }
+        print("List sum : " + sum.toDebugString());
+        assert (sum.getType() == ObjectTypes.Double);
+        assert (sum.doubleValue() == expectedSum + 0.5);
+    }
+
+    private static void parseTests(){
+        String[] inputs = new String[]{
+                "5", "-128", "300", "70000", "5000000000", "99999999999999999999",
+                "1.5", " 5", "5f", "1e3", "NaN", "-Infinity", "0x1p3", "", "-", "1..5", "abc"
+        };
+
+        for(String input : inputs){
+            JNumber parsed = JNumber.parse("[" + input + "]", 1, input.length() + 1);
+            JNumber created = JNumber.createFromString(input);
+            print(input + " : " + (parsed == null ? "null" : parsed.toDebugString()));
+            assert ((parsed == null) == (created == null));
+            if(parsed != null){
+                assert (parsed.getType() == created.getType());
+            }
+        }
+
+        assert (JNumber.parse("5", 0, 1).getType() == ObjectTypes.Byte);
+        assert (JNumber.parse("300", 0, 3).getType() == ObjectTypes.Short);
+        assert (JNumber.parse("1.5", 0, 3).getType() == ObjectTypes.Float);
+        assert (JNumber.parse("1.5.", 0, 4) == null);
+    }
+
     public void test_1(){
         Scanner scanner = new Scanner(System.in);
         String input = "";
@@ -278,5 +360,7 @@ public class JNumberTests {
         //subtractTests();
         //multiplyTests();
         divideTests();
+        //inPlaceTests();
+        //parseTests();
     }
 }
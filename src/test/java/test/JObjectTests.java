@@ -1,14 +1,41 @@
 package test;
 
 import jLibrary.JPrimitive;
+import jLibrary.exceptions.FailedParseException;
 import jLibrary.exceptions.UnassignedVariableException;
+import jLibrary.ImmutableJObject;
 import jLibrary.JObject;
+import jLibrary.JObjectReader;
 import jLibrary.JString;
+import jLibrary.MappedJObject;
+import jLibrary.expressionManipulation.ExpressionObject;
+import jLibrary.interfaces.functional.JObjectExecutionPredicate;
+import jLibrary.interfaces.functional.NumericExpressionFunction;
 import jLibrary.miscFunctions.MiscFunctions;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
 
 import static jLibrary.miscFunctions.MiscFunctions.*;
 import static org.assertj.core.api.Assertions.*;
@@ -333,6 +360,65 @@ public class JObjectTests {
         print(obj2);
     }
 
+    public static void typeAwareSortTests(){
+        JObject list = JObject.createEmptyList();
+        list.append(10).append(9).append(2.5).append(-3L).append("b").append("a").append(true).append(false);
+        JObject nested = JObject.createEmptyList().append(1).append(2);
+        list.append(nested);
+        JObject storedNested = list.getValue(8);
+        JObject storedTen = list.getValue(0);
+
+        list.sort();
+        print(list);
+        assertThat(list.getValue(0).equals(false)).isTrue();
+        assertThat(list.getValue(1).equals(true)).isTrue();
+        assertThat(list.getValue(2).equals(-3)).isTrue();
+        assertThat(list.getValue(3).equals(2.5)).isTrue();
+        assertThat(list.getValue(4).equals(9)).isTrue();
+        assertThat(list.getValue(5).equals(10)).isTrue();
+        assertThat(list.getValue(6).equals("a")).isTrue();
+        // elements are moved rather than rebuilt from their strings
+        assertThat(list.getValue(8) == storedNested).isTrue();
+        assertThat(list.getValue(5) == storedTen).isTrue();
+
+        list.sort(false);
+        assertThat(list.getValue(0) == storedNested).isTrue();
+        assertThat(list.getValue(3).equals(10)).isTrue();
+
+        JObject large = JObject.createEmptyList();
+        for(int x = 0; x < 10000; x += 1){
+            large.append((x * 7919) % 10000);
+        }
+        large.parallelSort();
+        boolean ordered = true;
+        for(int x = 0; x < 10000; x += 1){
+            ordered = ordered && large.getValue(x).equals(x);
+        }
+        assertThat(ordered).isTrue();
+
+        // sorting with precomputed keys gives the same order as comparing each pair with compareByType
+        JObject mixed = JObject.createEmptyList();
+        for(int x = 0; x < 2000; x += 1){
+            switch (x % 4){
+                case 0 -> mixed.append("s" + ((x * 31) % 97));
+                case 1 -> mixed.append(JObject.createEmptyList().append((x * 17) % 53));
+                case 2 -> mixed.append((x * 13) % 89);
+                default -> mixed.append(x % 3 == 0);
+            }
+        }
+        List<JObject> expected = new ArrayList<>(Arrays.asList(mixed.getValues()));
+        Comparator<JObject> byType = JObject::compareByType;
+        expected.sort(byType.reversed());
+        mixed.parallelSort(false);
+        boolean matches = true;
+        for(int x = 0; x < expected.size(); x += 1){
+            matches = matches && mixed.getValue(x) == expected.get(x);
+        }
+        assertThat(matches).isTrue();
+
+        print("Tests complete");
+    }
+
     public static void containsTests(){
 
         String testItem;
@@ -972,6 +1058,389 @@ public class JObjectTests {
         }
     }
 
+    public static void compiledExpressionTests(){
+        String[] testValues = {
+                "price * qty * (1 + rate) - discount",
+                "2(x + 1) ^ 2",
+                "x % 3 == 1 && !flag",
+                "x / 4 - 2",
+                "(x + 1) * -x",
+                "-1 - rate",
+                "flag && -flag",
+                "flag - 2"
+        };
+
+        for(String testValue : testValues){
+            JObject expression = new JObject().constructExpressionObject(testValue);
+            assertThat(expression.getCompiledExpression().isCompiled()).isTrue();
+
+            for(int x = -2; x <= 5; x += 1){
+                // substituting values rewrites the expression string, so the string result comes from a fresh copy
+                JObject stringExpression = new JObject().constructExpressionObject(testValue);
+                for(String variableName : expression.getExpressionVariableContainer().getExpressionVariableNames()){
+                    JObject value = variableName.equals("flag") ? new JObject(x % 2 == 0) :
+                            variableName.equals("rate") ? new JObject(x * 1.25) : new JObject(x * 3);
+                    expression.getExpressionObject().setExpressionVariableValue(variableName, value);
+                    stringExpression.getExpressionObject().setExpressionVariableValue(variableName, value.clone());
+                }
+
+                // the compiled tree must agree with evaluating the variable substituted string, failures included
+                JObject stringOutput;
+                try {
+                    stringOutput = new JObject(stringExpression.getExpressionObject().getExpressionString(true));
+                }
+                catch (RuntimeException e){
+                    assertThatThrownBy(() -> expression.getExpressionObject().evaluateExpression())
+                            .isInstanceOf(e.getClass());
+                    continue;
+                }
+                JObject compiledOutput = expression.getExpressionObject().evaluateExpression();
+                assertThat(compiledOutput.getTypeName().equals(stringOutput.getTypeName())).isTrue();
+                assertThat(compiledOutput.equals(stringOutput)).isTrue();
+            }
+        }
+
+        // values the string evaluator reads together with the "-" next to them
+        Object[][] cases = {
+                {"(x + 1) * -x", -2, new JObject((byte) 2)},
+                {"(x + 1) * -x", 3, new JObject((byte) -12)},
+                {"-1-x", 2.5, new JObject(2.5f)},
+                {"-1-x", 2, new JObject((byte) -3)},
+                {"x - 2", -3, new JObject((byte) -5)},
+                {"-x", -3, new JObject((byte) -3)},
+                {"x - 2", false, JObject.createStringJObject("false -2")},
+                {"x && -x", false, new JObject(false)}
+        };
+        for(Object[] testCase : cases){
+            JObject expression = new JObject().constructExpressionObject((String) testCase[0]);
+            expression.getExpressionObject().setExpressionVariableValue("x", new JObject(testCase[1]));
+            JObject output = expression.getExpressionObject().evaluateExpression();
+            assertThat(output.equals(testCase[2])).isTrue();
+        }
+
+        // strings are not compiled and are still evaluated through the expression string
+        JObject expression = new JObject().constructExpressionObject("name + \"_suffix\"");
+        assertThat(expression.getCompiledExpression().isCompiled()).isFalse();
+
+        print("Tests complete");
+    }
+
+    public static void numericFunctionTests(){
+        JObject expression = new JObject().constructExpressionObject("price * qty * (1 + rate) - discount");
+        ExpressionObject expressionObject = expression.getExpressionObject();
+        NumericExpressionFunction function = expressionObject.getNumericFunction();
+        assertThat(function != null).isTrue();
+
+        String[] variableNames = expressionObject.getNumericFunctionVariableNames();
+        double[] variables = new double[variableNames.length];
+        for(int x = 0; x < variableNames.length; x += 1){
+            switch (variableNames[x]) {
+                case "price" -> variables[x] = 12.5;
+                case "qty" -> variables[x] = 4;
+                case "rate" -> variables[x] = 0.25;
+                case "discount" -> variables[x] = 2;
+            }
+            expressionObject.setExpressionVariableValue(variableNames[x], new JObject(variables[x]));
+        }
+
+        assertThat(function.evaluate(variables) == 60.5).isTrue();
+        assertThat(expressionObject.evaluateNumericExpression() == 60.5).isTrue();
+
+        // booleans are passed and returned as 1 and 0
+        JObject booleanExpression = new JObject().constructExpressionObject("x >= 3 && !flag");
+        NumericExpressionFunction booleanFunction = booleanExpression.getExpressionObject().getNumericFunction();
+        String[] booleanVariableNames = booleanExpression.getExpressionObject().getNumericFunctionVariableNames();
+        double[] booleanVariables = new double[2];
+        booleanVariables[booleanVariableNames[0].equals("x") ? 0 : 1] = 4;
+        assertThat(booleanFunction.evaluate(booleanVariables) == 1.0).isTrue();
+        booleanVariables[booleanVariableNames[0].equals("flag") ? 0 : 1] = 1;
+        assertThat(booleanFunction.evaluate(booleanVariables) == 0.0).isTrue();
+
+        // values float can't hold exactly are passed to the function as doubles
+        JObject productExpression = new JObject().constructExpressionObject("a * b");
+        ExpressionObject productObject = productExpression.getExpressionObject();
+        productObject.setExpressionVariableValue("a", new JObject(0.1));
+        productObject.setExpressionVariableValue("b", new JObject(3));
+        double[] productVariables = new double[2];
+        productVariables[productObject.getNumericFunctionVariableNames()[0].equals("a") ? 0 : 1] = 0.1;
+        productVariables[productObject.getNumericFunctionVariableNames()[0].equals("b") ? 0 : 1] = 3;
+        double product = productObject.evaluateNumericExpression();
+        assertThat(product == 0.1 * 3).isTrue();
+        assertThat(product == productObject.getNumericFunction().evaluate(productVariables)).isTrue();
+        // the string evaluator works in float precision, so the two agree to that precision
+        assertThat(Math.abs(product - productObject.evaluateExpression().doubleValue()) < 1e-6).isTrue();
+
+        // expressions that can not be compiled have no numeric function
+        JObject stringExpression = new JObject().constructExpressionObject("name + \"_suffix\"");
+        assertThat(stringExpression.getExpressionObject().getNumericFunction() == null).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void iteratorTests(){
+        JObject list = JObject.createEmptyList();
+        for(int x = 0; x < 1000; x += 1){
+            list.append(x);
+        }
+
+        // the iterator walks the list itself, so the elements are the stored objects
+        int index = 0;
+        for(JObject element : list){
+            assertThat(element == list.getValue(index)).isTrue();
+            index += 1;
+        }
+        assertThat(index == 1000).isTrue();
+
+        Spliterator<JObject> spliterator = list.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.estimateSize() == 1000).isTrue();
+        Spliterator<JObject> prefix = spliterator.trySplit();
+        assertThat(prefix != null && prefix.estimateSize() + spliterator.estimateSize() == 1000).isTrue();
+
+        long sum = StreamSupport.stream(list.spliterator(), true).mapToLong(JObject::longValue).sum();
+        assertThat(sum == 499500).isTrue();
+
+        // sets hand out copies, so the stored elements can't be changed through the iterator
+        JObject set = list.clone().convertListToSet();
+        for(JObject element : set){
+            element.setTo(-1);
+        }
+        assertThat(StreamSupport.stream(set.spliterator(), false).noneMatch(element -> element.equals(-1))).isTrue();
+
+        JObject dictionary = JObject.createEmptyDictionary("a", "b");
+        assertThat(StreamSupport.stream(dictionary.spliterator(), false).count() == 2).isTrue();
+        assertThat(dictionary.spliterator().hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(!new JObject(5).iterator().hasNext()).isTrue();
+
+        // dictionaries are iterated over as they were when the iterator was created, so they can be written to
+        int visited = 0;
+        for(JObject ignored : dictionary){
+            dictionary.setValue("added" + visited, visited);
+            visited += 1;
+        }
+        assertThat(visited == 2 && dictionary.size() == 4).isTrue();
+
+        // list spliterators read the list when they're first used, not when they're created
+        Spliterator<JObject> lateBound = list.spliterator();
+        list.append(1000);
+        assertThat(lateBound.estimateSize() == 1001).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void parallelExecutionTests(){
+        JObject tree = JObject.createEmptyList();
+        for(int x = 0; x < 200; x += 1){
+            JObject branch = JObject.createEmptyDictionary("a", "b");
+            branch.setValue("a", new JObject(x));
+            JObject leaves = JObject.createEmptyList();
+            for(int y = 0; y < 20; y += 1){
+                leaves.append(y);
+            }
+            branch.setValue("b", leaves);
+            tree.append(branch);
+        }
+
+        JObjectExecutionPredicate<JObject> doubleNumbers = input -> {
+            if(input.isNumber()){
+                return new JObject(input.longValue() * 2);
+            }
+            return input;
+        };
+
+        JObject sequential = tree.clone().executeRecursively(doubleNumbers);
+        JObject parallel = tree.clone().executeRecursivelyInParallel(doubleNumbers, 8, true);
+        JObject parallelWithoutClones = tree.clone().executeRecursivelyInParallel(doubleNumbers, 8, false);
+        assertThat(sequential.equals(parallel)).isTrue();
+        assertThat(sequential.equals(parallelWithoutClones)).isTrue();
+        assertThat(sequential.getValue(5).getValue("a").equals(10)).isTrue();
+
+        JObject leaves = tree.getValue(3).getValue("b");
+        JObject sequentialLeaves = leaves.clone().executeOnSubObjects(doubleNumbers);
+        JObject parallelLeaves = leaves.clone().executeOnSubObjectsInParallel(doubleNumbers, 4, false);
+        assertThat(sequentialLeaves.equals(parallelLeaves)).isTrue();
+        assertThat(parallelLeaves.getValue(19).equals(38)).isTrue();
+
+        // each level of a deep tree is worked through in a loop rather than a nested call
+        JObject deep = new JObject(1);
+        for(int x = 0; x < 100000; x += 1){
+            JObject level = JObject.createEmptyList();
+            level.append(deep);
+            deep = level;
+        }
+        AtomicInteger visited = new AtomicInteger();
+        deep.executeRecursivelyInParallel(input -> {
+            visited.incrementAndGet();
+            return input;
+        }, 8, false);
+        assertThat(visited.get() == 100001).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void streamingOutputTests(){
+        JObject tree = JObject.createEmptyList();
+        for(int x = 0; x < 20; x += 1){
+            JObject branch = JObject.createEmptyDictionary("name", "values");
+            branch.setValue("name", JObject.createStringJObject("caf\u00e9 " + x));
+            JObject values = JObject.createEmptyList();
+            values.append(x);
+            values.append(x * 0.5d);
+            values.append(x % 2 == 0);
+            branch.setValue("values", values.convertListToSet());
+            tree.append(branch);
+        }
+        tree.append(new JObject());
+
+        try {
+            StringBuilder text = new StringBuilder();
+            tree.writeTo(text);
+            assertThat(text.toString().equals(tree.toString())).isTrue();
+
+            StringWriter writer = new StringWriter();
+            tree.writeTo(writer);
+            assertThat(writer.toString().equals(tree.toString())).isTrue();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            tree.writeTo(bytes);
+            assertThat(bytes.toString(StandardCharsets.UTF_8).equals(tree.toString())).isTrue();
+
+            StringBuilder indented = new StringBuilder();
+            tree.writeIndentedTo(indented, 0, false);
+            assertThat(indented.toString().equals(tree.toIndentedString())).isTrue();
+
+            StringBuilder debug = new StringBuilder();
+            tree.writeDebugTo(debug, 0);
+            assertThat(debug.toString().equals(tree.toDebugString())).isTrue();
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        print("Tests complete");
+    }
+
+    public static void objectReaderTests(){
+        String document = "{\"name\" : \"bob\", \"scores\" : [5, 6.5, Null], \"tags\" : (red, blue), " +
+                "\"nested\" : {\"inner\" : [[1, 2], {\"deep\" : true}]}, \"empty\" : [], \"last\" : no}";
+
+        try (JObjectReader reader = new JObjectReader(new StringReader(document))) {
+            assertThat(reader.next() == JObjectReader.Event.StartDictionary).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.getKey().equals("name")).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.Value).isTrue();
+            assertThat(reader.getValue().isString()).isTrue();
+            assertThat(reader.getValue().toString(false).equals("bob")).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.StartList).isTrue();
+            assertThat(reader.getDepth() == 2).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.Value).isTrue();
+            assertThat(reader.getValue().isNumber()).isTrue();
+            assertThat(reader.getValue().intValue() == 5).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.Value).isTrue();
+            assertThat(reader.getValue().doubleValue() == 6.5).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.Value).isTrue();
+            assertThat(reader.getValue().isNull()).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.End).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.StartSet).isTrue();
+            reader.skipChildren();
+            assertThat(reader.getEvent() == JObjectReader.Event.End).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.getKey().equals("nested")).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.StartDictionary).isTrue();
+            reader.skipChildren();
+            assertThat(reader.getDepth() == 1).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.StartList).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.End).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.Key).isTrue();
+            assertThat(reader.getKey().equals("last")).isTrue();
+            assertThat(reader.next() == JObjectReader.Event.Value).isTrue();
+            assertThat(reader.getValue().isBoolean()).isTrue();
+            assertThat(!reader.getValue().booleanValue()).isTrue();
+
+            assertThat(reader.next() == JObjectReader.Event.End).isTrue();
+            assertThat(reader.getDepth() == 0).isTrue();
+            assertThat(reader.hasNext()).isFalse();
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        try (JObjectReader reader = new JObjectReader(new StringReader("[1, 2"))) {
+            reader.next();
+            reader.next();
+            reader.next();
+            reader.next();
+            assertThat(false).isTrue();
+        }
+        catch (FailedParseException e){
+            print(e.getMessage());
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        print("Tests complete");
+    }
+
+    public static void jsonStreamingTests(){
+        JObject source = new JObject("{\"ClassName\" : \"Order\", \"id\" : 12, \"total\" : 2.5, " +
+                "\"paid\" : true, \"items\" : [1, 2, 3], \"tags\" : (\"a\", \"b\"), \"note\" : Null}");
+        source.setValue("text", JObject.createStringJObject("line\n\"quoted\" \\ tab\t\u00e9"));
+
+        JObject verbose = JObject.parseJSON(source.toJSONString(true));
+        assertThat(verbose.getTypeName().equals("Order")).isTrue();
+        assertThat(verbose.getValue("tags").getType().isSet()).isTrue();
+        assertThat(verbose.getValue("text").toString(false).equals("line\n\"quoted\" \\ tab\t\u00e9")).isTrue();
+        assertThat(verbose.toString().equals(source.toString())).isTrue();
+
+        JObject concise = JObject.parseJSON(source.toJSONString());
+        assertThat(concise.getTypeName().equals("Order")).isTrue();
+        assertThat(concise.getValue("tags").getType().isList()).isTrue();
+        assertThat(concise.getValue("id").intValue() == 12).isTrue();
+        assertThat(concise.getValue("total").doubleValue() == 2.5).isTrue();
+        assertThat(concise.getValue("note") == null).isTrue();
+
+        JObject parsed = JObject.parseJSON(" { \"a\" : [ ] , \"b\" : { } , \"c\" : -1.5e2, \"d\" : \"\\u0041\\/\" } ");
+        assertThat(parsed.getValue("a").getType().isList()).isTrue();
+        assertThat(parsed.getValue("a").size() == 0).isTrue();
+        assertThat(parsed.getValue("b").getType().isDictionary()).isTrue();
+        assertThat(parsed.getValue("c").doubleValue() == -150).isTrue();
+        assertThat(parsed.getValue("d").toString(false).equals("A/")).isTrue();
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            source.writeJSON(bytes, true);
+            JObject fromBytes = JObject.readJSON(new ByteArrayInputStream(bytes.toByteArray()));
+            assertThat(fromBytes.toString().equals(source.toString())).isTrue();
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        String[] invalidInputs = {"{\"a\" : 1", "[1, 2,]", "{a : 1}", "[1] 2", "\"unterminated"};
+        for(String invalidInput : invalidInputs){
+            try {
+                JObject.parseJSON(invalidInput);
+                assertThat(false).isTrue();
+            }
+            catch (FailedParseException e){
+                print(e.getMessage());
+            }
+        }
+
+        print("Tests complete");
+    }
+
     static void jsonTest(){
         String[] testValues = {
                 "[{\"customerList\":[{\"firstName\":\"Chloe\",\"lastName\":\"Alex\",\"id\":11,\"name\":\"Chloe Alex\",\"_links\":{\"self\":{\"href\":\"http://localhost:54853/customers/11\"},\"customers\":{\"href\":\"http://localhost:54853/customers\"}}}]},{\"first\":{\"href\":\"http://localhost:54853/customers?page=0&size=1&sort=lastName,asc\"},\"self\":{\"href\":\"http://localhost:54853/customers?page=0&size=1&sort=lastName,asc\"},\"next\":{\"href\":\"http://localhost:54853/customers?page=1&size=1&sort=lastName,asc\"},\"last\":{\"href\":\"http://localhost:54853/customers?page=155&size=1&sort=lastName,asc\"}},{\"size\":1,\"totalElements\":156,\"totalPages\":156,\"number\":0}]"
@@ -999,6 +1468,457 @@ public class JObjectTests {
         }
     }
 
+    public static void binarySerializationTests(){
+        JObject source = JObject.createEmptyDictionary();
+        source.setValue("byte", new JObject((byte) -7));
+        source.setValue("short", new JObject((short) 300));
+        source.setValue("int", new JObject(-70000));
+        source.setValue("long", new JObject(Long.MIN_VALUE));
+        source.setValue("float", new JObject(0.1f));
+        source.setValue("double", new JObject(Double.NaN));
+        source.setValue("text", JObject.createStringJObject("caf\u00e9 \ud83d"));
+        source.setValue("flag", new JObject(true));
+        source.setValue("nothing", new JObject());
+        source.setValue("list", new JObject("[1, 2, 3]"));
+        source.setValue("set", new JObject("(\"a\", \"b\")"));
+        source.setValue("order", new JObject("{\"ClassName\" : \"Order\", \"id\" : 5}"));
+        source.setValue("expression", new JObject().constructExpressionObject("x * 2 + 1"));
+
+        JObject copy = JObject.fromBinary(source.toBinary());
+        assertThat(copy.getValue("byte").getType().isByte()).isTrue();
+        assertThat(copy.getValue("short").getType().isShort()).isTrue();
+        assertThat(copy.getValue("long").longValue() == Long.MIN_VALUE).isTrue();
+        assertThat(copy.getValue("float").getType().isFloat()).isTrue();
+        assertThat(copy.getValue("float").floatValue() == 0.1f).isTrue();
+        assertThat(Double.isNaN(copy.getValue("double").doubleValue())).isTrue();
+        assertThat(copy.getValue("text").toString(false).equals("caf\u00e9 \ud83d")).isTrue();
+        assertThat(copy.getValue("set").getType().isSet()).isTrue();
+        assertThat(copy.getValue("order").getTypeName().equals("Order")).isTrue();
+        assertThat(copy.getValue("expression").getType().isExpression()).isTrue();
+        assertThat(copy.getValue("expression").getCompiledExpression().isCompiledFrom(new JString("x * 2 + 1"))).isTrue();
+        assertThat(copy.toDebugString().equals(source.toDebugString())).isTrue();
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            source.writeBinary(bytes);
+            new JObject("[4, 5]").writeBinary(bytes);
+
+            ByteArrayInputStream input = new ByteArrayInputStream(bytes.toByteArray());
+            assertThat(JObject.readBinary(input).toDebugString().equals(source.toDebugString())).isTrue();
+            assertThat(JObject.readBinary(input).toString().equals("[4, 5]")).isTrue();
+            assertThat(input.available() == 0).isTrue();
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        try {
+            JObject.fromBinary(new byte[]{1, 2, 3, 4});
+            assertThat(false).isTrue();
+        }
+        catch (FailedParseException e){
+            print(e.getMessage());
+        }
+
+        print("Tests complete");
+    }
+
+    public static void mappedViewTests(){
+        JObject source = JObject.createEmptyDictionary();
+        source.setValue("name", JObject.createStringJObject("catalog"));
+        source.setValue("count", new JObject(3));
+        source.setValue("items", new JObject("[10, 20.5, \"thirty\"]"));
+        source.setValue("missing", new JObject());
+        source.setValue("order", new JObject("{\"ClassName\" : \"Order\", \"id\" : 5}"));
+
+        try {
+            Path file = Files.createTempFile("mappedViewTests", ".jobj");
+            try(OutputStream output = Files.newOutputStream(file)){
+                source.writeBinary(output);
+            }
+
+            MappedJObject view = MappedJObject.open(file);
+            assertThat(view.getType().isDictionary()).isTrue();
+            assertThat(view.size() == 5).isTrue();
+            assertThat(view.containsKey("items")).isTrue();
+            assertThat(view.containsKey("other")).isFalse();
+            assertThat(view.getValue("other") == null).isTrue();
+            assertThat(view.getValue("missing") == null).isTrue();
+
+            MappedJObject items = view.getValue("items");
+            assertThat(items.getType().isList()).isTrue();
+            assertThat(items.size() == 3).isTrue();
+            assertThat(items.getValue(0).toJObject().intValue() == 10).isTrue();
+            assertThat(items.getValue("1").toJObject().doubleValue() == 20.5).isTrue();
+            assertThat(items.getValue(2).toString().equals(source.getValue("items").getValue(2).toString())).isTrue();
+            assertThat(items.getValue(3) == null).isTrue();
+            assertThat(items == view.getValue("items")).isTrue();
+
+            assertThat(view.getValue("order").getTypeName().equals("Order")).isTrue();
+            assertThat(view.getValue("order").getValue("id").toJObject().intValue() == 5).isTrue();
+            assertThat(view.toJObject().equals(source)).isTrue();
+
+            MappedJObject wrapped = MappedJObject.wrap(ByteBuffer.wrap(source.toBinary()));
+            assertThat(wrapped.getValue("name").toString().equals(source.getValue("name").toString())).isTrue();
+
+            Files.delete(file);
+        }
+        catch (IOException e){
+            throw new RuntimeException(e);
+        }
+
+        try {
+            MappedJObject.wrap(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+            assertThat(false).isTrue();
+        }
+        catch (FailedParseException e){
+            print(e.getMessage());
+        }
+
+        // a corrupt tag makes the object claim more bytes than the body holds
+        byte[] corrupt = new JObject("3").toBinary();
+        corrupt[corrupt.length - 2] = 8;
+        try {
+            MappedJObject.wrap(ByteBuffer.wrap(corrupt)).toJObject();
+            assertThat(false).isTrue();
+        }
+        catch (FailedParseException e){
+            print(e.getMessage());
+        }
+
+        // an empty list whose header claims Integer.MAX_VALUE entries
+        byte[] list = {'J', 'O', 'B', 1, 7, 13, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 7, 0};
+        try {
+            MappedJObject.wrap(ByteBuffer.wrap(list)).getValue(0);
+            assertThat(false).isTrue();
+        }
+        catch (FailedParseException e){
+            print(e.getMessage());
+        }
+
+        print("Tests complete");
+    }
+
+    public static void copyOnWriteCloneTests(){
+        JObject source = JObject.parseJSON("{\"name\" : \"catalog\", \"items\" : [1, 2, {\"id\" : 3}], \"tags\" : {\"a\" : true}}");
+
+        // the clone and the original change independently in either order
+        JObject copy = source.clone();
+        copy.getValue("items").getValue(2).setValue("id", 30);
+        copy.getValue("items").append(4);
+        assertThat(source.getValue("items").size() == 3).isTrue();
+        assertThat(source.getValue("items").getValue(2).getValue("id").intValue() == 3).isTrue();
+        assertThat(copy.getValue("items").getValue(2).getValue("id").intValue() == 30).isTrue();
+
+        source.getValue("tags").setValue("a", false);
+        assertThat(copy.getValue("tags").getValue("a").booleanValue()).isTrue();
+        assertThat(source.getValue("tags").getValue("a").booleanValue()).isFalse();
+
+        // a sub object that was handed out before the clone still belongs only to the original
+        JObject items = source.getValue("items");
+        JObject secondCopy = source.clone();
+        items.append(5);
+        items.getValue(0).setTo(10);
+        assertThat(source.getValue("items").size() == 4).isTrue();
+        assertThat(secondCopy.getValue("items").size() == 3).isTrue();
+        assertThat(secondCopy.getValue("items").getValue(0).intValue() == 1).isTrue();
+
+        // clones of clones
+        JObject thirdCopy = secondCopy.clone();
+        thirdCopy.remove("name");
+        assertThat(secondCopy.containsKey("name")).isTrue();
+        assertThat(thirdCopy.containsKey("name")).isFalse();
+        assertThat(thirdCopy.getValue("items").equals(secondCopy.getValue("items"))).isTrue();
+
+        // set elements are read as copies
+        JObject set = JObject.parseJSON("[{\"x\" : 1}, {\"x\" : 2}]").convertListToSet();
+        JObject element = set.getValue(0);
+        element.setValue("x", 100);
+        assertThat(set.getValue(0).getValue("x").intValue() == 1).isTrue();
+        assertThat(element.getValue("x").intValue() == 100).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void immutableJObjectTests(){
+        JObject source = JObject.parseJSON("{\"name\" : \"catalog\", \"items\" : [1, 2, {\"id\" : 3}], \"tags\" : {\"a\" : true}}");
+        ImmutableJObject frozen = source.toImmutableJObject();
+
+        assertThat(frozen.toJObject().equals(source)).isTrue();
+        assertThat(frozen.getValue("items").size() == 3).isTrue();
+        assertThat(frozen.getValue("items").getValue(2).getValue("id").numberValue().intValue() == 3).isTrue();
+        assertThat(frozen.getValue("tags").getValue("a").booleanValue()).isTrue();
+
+        // changing the source doesn't reach the immutable copy
+        source.getValue("items").append(4);
+        assertThat(frozen.getValue("items").size() == 3).isTrue();
+
+        // new versions leave the old one unchanged, and share what they didn't change
+        ImmutableJObject items = frozen.getValue("items").append(4).setValue(0, 10).remove(1);
+        ImmutableJObject changed = frozen.setValue("items", items).remove("name");
+        assertThat(frozen.getValue("items").size() == 3).isTrue();
+        assertThat(frozen.containsKey("name")).isTrue();
+        assertThat(changed.containsKey("name")).isFalse();
+        assertThat(changed.getValue("items").size() == 3).isTrue();
+        assertThat(changed.getValue("items").getValue(0).numberValue().intValue() == 10).isTrue();
+        assertThat(changed.getValue("items").getValue(2).numberValue().intValue() == 4).isTrue();
+        assertThat(changed.getValue("tags") == frozen.getValue("tags")).isTrue();
+
+        // large lists and dictionaries
+        ImmutableJObject list = ImmutableJObject.createEmptyList();
+        ImmutableJObject dictionary = ImmutableJObject.createEmptyDictionary();
+        for(int x = 0; x < 5000; x += 1){
+            list = list.append(x);
+            dictionary = dictionary.setValue("key" + x, x);
+        }
+        assertThat(list.size() == 5000 && dictionary.size() == 5000).isTrue();
+        assertThat(list.getValue(4321).numberValue().intValue() == 4321).isTrue();
+        assertThat(dictionary.getValue("key4321").numberValue().intValue() == 4321).isTrue();
+        assertThat(dictionary.remove("key1").size() == 4999 && dictionary.containsKey("key1")).isTrue();
+        assertThat(list.toJObject().toImmutableJObject().equals(list)).isTrue();
+
+        // sets can't be changed
+        ImmutableJObject set = JObject.parseJSON("[1, 2]").convertListToSet().toImmutableJObject();
+        try{
+            set.append(3);
+            assertThat(true).isFalse();
+        }
+        catch (RuntimeException e){
+            assertThat(set.size() == 2).isTrue();
+        }
+
+        print("Tests complete");
+    }
+
+    public static void concurrentDictionaryTests(){
+        JObject session = JObject.createConcurrentDictionary();
+        int threadCount = 4;
+        int iterations = 10000;
+
+        Thread[] threads = new Thread[threadCount];
+        for(int x = 0; x < threadCount; x += 1){
+            int threadNumber = x;
+            threads[x] = new Thread(() -> {
+                for(int y = 0; y < iterations; y += 1){
+                    session.merge("hits", new JObject(1), (a, b) -> new JObject(a.intValue() + b.intValue()));
+                    session.computeIfAbsent("user" + (y % 10), key -> new JObject(threadNumber));
+                    session.setValue("last" + threadNumber, y);
+                    // iterating while the other threads write never fails
+                    if(y % 1000 == 0){
+                        for(JObject value : session){
+                            assertThat(value != null).isTrue();
+                        }
+                    }
+                }
+            });
+            threads[x].start();
+        }
+        for(Thread thread : threads){
+            try{
+                thread.join();
+            }
+            catch (InterruptedException e){
+                throw new RuntimeException(e);
+            }
+        }
+
+        assertThat(session.getValue("hits").intValue() == threadCount * iterations).isTrue();
+        assertThat(session.size() == 1 + 10 + threadCount).isTrue();
+
+        // null sub objects count as absent, the same as in a regular dictionary
+        session.setValue("empty", null);
+        assertThat(session.containsKey("empty")).isTrue();
+        assertThat(session.putIfAbsent("empty", new JObject(5)) == null).isTrue();
+        assertThat(session.getValue("empty").intValue() == 5).isTrue();
+        assertThat(session.putIfAbsent("empty", new JObject(6)).intValue() == 5).isTrue();
+
+        // clones are concurrent dictionaries of their own
+        JObject copy = session.clone();
+        copy.remove("hits");
+        assertThat(session.containsKey("hits")).isTrue();
+        assertThat(JObject.fromBinary(session.toBinary()).equals(session)).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void concurrentListTests(){
+        JObject buffer = JObject.createConcurrentList();
+        int threadCount = 4;
+        int iterations = 10000;
+
+        Thread[] threads = new Thread[threadCount];
+        for(int x = 0; x < threadCount; x += 1){
+            int threadNumber = x;
+            threads[x] = new Thread(() -> {
+                for(int y = 0; y < iterations; y += 1){
+                    buffer.append(threadNumber * iterations + y);
+                    // reads while the other threads append and drain never fail, but may find nothing
+                    JObject first = buffer.getValue(0);
+                    assertThat(first == null || first.isNumber()).isTrue();
+                }
+            });
+            threads[x].start();
+        }
+
+        // drains while the threads are still appending, so every element has to be moved exactly once
+        List<JObject> drained = new ArrayList<>();
+        boolean running = true;
+        while(running){
+            running = false;
+            for(Thread thread : threads){
+                running |= thread.isAlive();
+            }
+            buffer.drainTo(drained);
+        }
+
+        assertThat(drained.size() == threadCount * iterations).isTrue();
+        assertThat(buffer.size() == 0).isTrue();
+        Set<Integer> values = new HashSet<>();
+        for(JObject value : drained){
+            values.add(value.intValue());
+        }
+        assertThat(values.size() == threadCount * iterations).isTrue();
+
+        // clones are concurrent lists of their own
+        buffer.append(1).append(2);
+        JObject copy = buffer.clone();
+        copy.append(3);
+        assertThat(buffer.size() == 2 && copy.size() == 3).isTrue();
+        assertThat(buffer.popFromEnd().intValue() == 2).isTrue();
+        assertThat(JObject.fromBinary(copy.toBinary()).equals(copy)).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void sharedKeyShapeTests(){
+        JObject first = JObject.parseJSON("[{\"num\" : 1, \"string\" : \"a\"}, {\"num\" : 2, \"string\" : \"b\"}]");
+        JObject record = first.getValue(0);
+        JObject other = first.getValue(1);
+
+        // dictionaries with the same keys iterate the same way as a HashMap given the same keys would
+        HashMap<String, Integer> reference = new HashMap<>();
+        reference.put("num", 1);
+        reference.put("string", 2);
+        assertThat(Arrays.asList(record.getKeys()).equals(new ArrayList<>(reference.keySet()))).isTrue();
+        assertThat(Arrays.equals(record.getKeys(), other.getKeys())).isTrue();
+
+        // values stay separate even though the keys are shared
+        record.setValue("num", 10);
+        assertThat(record.getValue("num").intValue() == 10).isTrue();
+        assertThat(other.getValue("num").intValue() == 2).isTrue();
+
+        // adding and removing keys only changes the dictionary they're changed in
+        record.setValue("extra", true);
+        other.remove("string");
+        assertThat(record.containsKey("extra") && !other.containsKey("extra")).isTrue();
+        assertThat(record.containsKey("string") && !other.containsKey("string")).isTrue();
+        assertThat(record.size() == 3 && other.size() == 1).isTrue();
+
+        JObject copy = record.clone();
+        copy.setValue("string", "changed");
+        assertThat(copy.getValue("string").equals(record.getValue("string"))).isFalse();
+        assertThat(copy.getValue("num").equals(record.getValue("num"))).isTrue();
+
+        // a dictionary with more keys than a shape holds still works
+        JObject wide = JObject.createEmptyDictionary();
+        for(int x = 0; x < 200; x += 1){
+            wide.setValue("key" + x, x);
+        }
+        assertThat(wide.size() == 200 && wide.getValue("key150").intValue() == 150).isTrue();
+        assertThat(first.getValue(0).sharesKeysWith(first.getValue(1))).isFalse();
+
+        // many unrelated schemas in use at once don't stop new ones from sharing their keys
+        List<JObject> unrelated = new ArrayList<>();
+        for(int x = 0; x < 1000; x += 1){
+            JObject dictionary = JObject.createEmptyDictionary();
+            dictionary.setValue("field" + x, x);
+            dictionary.setValue("value", x);
+            unrelated.add(dictionary);
+        }
+        JObject records = JObject.parseJSON("[{\"id\" : 1, \"label\" : \"a\"}, {\"id\" : 2, \"label\" : \"b\"}]");
+        assertThat(records.getValue(0).sharesKeysWith(records.getValue(1))).isTrue();
+        assertThat(unrelated.get(999).getValue("field999").intValue() == 999).isTrue();
+
+        print("Tests complete");
+    }
+
+    public static void packedListTests(){
+        double[] samples = {1.5, 2.5, 3.5, 4.5};
+        JObject series = new JObject(samples);
+        assertThat(series.isPacked()).isTrue();
+        assertThat(series.toString().equals("[1.5, 2.5, 3.5, 4.5]")).isTrue();
+        assertThat(Arrays.equals(series.toDoubleArray(), samples)).isTrue();
+        assertThat(Arrays.equals(series.toIntegerArray(), new int[]{1, 2, 3, 4})).isTrue();
+
+        // the array is copied, so changing it afterwards doesn't change the list
+        samples[0] = 100;
+        assertThat(series.getValue(0).doubleValue() == 1.5).isTrue();
+
+        // elements that are handed out stay attached to the list
+        series.getValue(1).setTo(20.5);
+        assertThat(series.getValue(1).doubleValue() == 20.5).isTrue();
+        assertThat(series.toDoubleArray()[1] == 20.5).isTrue();
+
+        // values of the same type keep the list packed
+        series.append(5.5);
+        series.setValue(0, new JObject(0.5));
+        assertThat(series.isPacked() && series.size() == 5).isTrue();
+        assertThat(series.popFromEnd().doubleValue() == 5.5).isTrue();
+
+        // clones are packed lists of their own
+        JObject copy = series.clone();
+        copy.setValue(2, new JObject(30.5));
+        assertThat(copy.isPacked()).isTrue();
+        assertThat(series.getValue(2).doubleValue() == 3.5).isTrue();
+        assertThat(copy.equals(series)).isFalse();
+
+        // packed lists read and write the same as lists of JObjects
+        JObject counts = new JObject(new int[]{3, 1, 2});
+        JObject unpackedCounts = JObject.createEmptyList();
+        unpackedCounts.setValue(0, new JObject(3)).setValue(1, new JObject(1)).setValue(2, new JObject(2));
+        assertThat(counts.isPacked() && !unpackedCounts.isPacked()).isTrue();
+        assertThat(counts.equals(unpackedCounts) && unpackedCounts.equals(counts)).isTrue();
+        assertThat(counts.hashCode() == unpackedCounts.hashCode()).isTrue();
+        assertThat(counts.toJSONString(true).equals(unpackedCounts.toJSONString(true))).isTrue();
+        assertThat(JObject.fromBinary(counts.toBinary()).equals(counts)).isTrue();
+        assertThat(Arrays.equals(counts.toLongArray(), new long[]{3, 1, 2})).isTrue();
+
+        // any other value unpacks the list
+        counts.append("four");
+        assertThat(counts.isPacked()).isFalse();
+        assertThat(counts.toString().equals("[3, 1, 2, \"four\"]")).isTrue();
+
+        JObject flags = new JObject(new boolean[]{true, false});
+        assertThat(flags.isPacked() && Arrays.equals(flags.toBooleanArray(), new boolean[]{true, false})).isTrue();
+        assertThat(new JObject(new long[]{1L << 40}).getValue(0).longValue() == 1L << 40).isTrue();
+
+        // sorting reorders the packed values, and handed out elements move with their values
+        JObject readings = new JObject(new int[]{5, 3, 9, 1, 3});
+        JObject nine = readings.getValue(2);
+        readings.sort();
+        assertThat(readings.isPacked()).isTrue();
+        assertThat(Arrays.equals(readings.toIntegerArray(), new int[]{1, 3, 3, 5, 9})).isTrue();
+        assertThat(readings.getValue(4) == nine).isTrue();
+        readings.parallelSort(false);
+        assertThat(readings.isPacked() && readings.getValue(0) == nine).isTrue();
+        assertThat(Arrays.equals(readings.toIntegerArray(), new int[]{9, 5, 3, 3, 1})).isTrue();
+        nine.setTo(0);
+        readings.sort();
+        assertThat(readings.isPacked() && readings.getValue(0) == nine).isTrue();
+
+        JObject switches = new JObject(new boolean[]{true, false, true, false});
+        switches.sort();
+        assertThat(switches.isPacked()).isTrue();
+        assertThat(Arrays.equals(switches.toBooleanArray(), new boolean[]{false, false, true, true})).isTrue();
+
+        JObject measurements = new JObject(new double[]{2.5, Double.NaN, -1.0, 0.5});
+        measurements.parallelSort();
+        assertThat(measurements.isPacked()).isTrue();
+        assertThat(Arrays.equals(measurements.toDoubleArray(), new double[]{-1.0, 0.5, 2.5, Double.NaN})).isTrue();
+
+        print("Tests complete");
+    }
+
     public static void main(String[] args) {
 
         MiscFunctions.setDebugMode(false);
@@ -1023,6 +1943,22 @@ public class JObjectTests {
         //predicateTest();
         //hashTests();
         //expressionTests();
+        //compiledExpressionTests();
+        //numericFunctionTests();
+        //iteratorTests();
+        //parallelExecutionTests();
+        //streamingOutputTests();
+        //objectReaderTests();
+        //jsonStreamingTests();
+        //binarySerializationTests();
+        //mappedViewTests();
+        //copyOnWriteCloneTests();
+        //immutableJObjectTests();
+        //concurrentDictionaryTests();
+        //concurrentListTests();
+        //sharedKeyShapeTests();
+        //packedListTests();
+        //typeAwareSortTests();
         //jsonTest();
         containsKeyTest();
 
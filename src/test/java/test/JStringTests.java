@@ -1,6 +1,8 @@
 package test;
 
 import jLibrary.JString;
+import jLibrary.expressionManipulation.ExpressionScanner;
+import jLibrary.miscFunctions.MultiPatternSearch;
 
 import static jLibrary.miscFunctions.MiscFunctions.print;
 
@@ -69,6 +71,42 @@ public class JStringTests {
         }
     }
 
+    private static void searchEngineTests(){
+        JString string = new JString("aaab aab ab");
+        print(string);
+        print("index of aab : " + string.indexOf("aab"));
+        print("each aab : " + java.util.Arrays.toString(string.indexOfEach("aab")));
+        assert (string.indexOf("aab") == 1);
+        assert (string.indexOf("aab", 2) == 5);
+        assert (string.getSubstringCount("ab") == 3);
+        assert (string.slice(5, 11).indexOf("ab") == 1);
+
+        MultiPatternSearch symbols = MultiPatternSearch.recognizedSymbols();
+        JString expression = new JString("x <= (y || z)");
+        int[][] matches = symbols.findAll(expression);
+        for(int x = 0; x < matches[0].length; x += 1){
+            print(matches[0][x] + " : " + symbols.getPattern(matches[1][x]));
+        }
+        assert (symbols.getPattern(matches[1][1]).equals("<="));
+        assert (expression.contains(symbols));
+        assert (!new JString("xyz").contains(symbols));
+    }
+
+    private static void expressionScannerTests(){
+        JString expression = new JString("total.price * 1.50 >= -2.5 && name != \"bob smith\" || items[x] == yes");
+        JString[][] scan = ExpressionScanner.scanIncludingUnrecognizedSymbols(expression);
+        print(expression);
+        for(JString token : scan[0]){
+            print(token);
+        }
+        print("unrecognized : " + java.util.Arrays.toString(scan[1]));
+        assert (JString.areJStringArraysEqual(scan[0], JString.toJStringArray(new String[]{
+                "total.price", "*", "1.50", ">=", "-2.5", "&&", "name", "!=", "\"bob smith\"", "||",
+                "items", "[", "x", "]", "==", "true"}), false));
+        assert (JString.areJStringArraysEqual(scan[1], JString.toJStringArray(new String[]{
+                "x", "name", "items", "total.price"}), false));
+    }
+
     private static void replacementTest(){
         JString string = new JString("The name of bob is bob.");
         JString output = string.clone().replaceEach(" bob", " Alex");
@@ -237,6 +275,37 @@ public class JStringTests {
         print(output);
     }
 
+    private static void sliceTest(){
+        JString string = new JString("Alexander the Great");
+        JString slice = string.slice(4, 9);
+        print(string);
+        print(slice);
+        print(slice.toDebugString());
+        assert (slice.equals("ander"));
+        assert (slice.hashCode() == new JString("ander").hashCode());
+        assert (slice.compareTo("ander") == 0);
+        assert (slice.isShared() && !string.isShared());
+        assert (!string.toDebugString().contains("Shared"));
+
+        slice.toUpperCase();
+        print(string);
+        print(slice);
+        assert (slice.equals("ANDER"));
+        assert (string.equals("Alexander the Great"));
+
+        JString[] splits = string.splitString(" ", false);
+        string.append('!');
+        for(JString split : splits){
+            print(split + " : " + split.isShared());
+        }
+        assert (splits[2].equals("Great"));
+
+        JString word = string.slice(0, 9);
+        string.toLowerCase();
+        assert (word.equals("Alexander"));
+        assert (string.equals("alexander the great!"));
+    }
+
     private static void substringCountTest(){
         JString[] strings = new JString[]{
                 new JString("bobbobbob")
@@ -362,6 +431,8 @@ public class JStringTests {
         //toUpperToLowerTest();
         //forEachLambdaTest();
         //searchTests();
+        //searchEngineTests();
+        //expressionScannerTests();
         //replacementTest();
         //trimTest();
         //startsWithEndsWithTest();
@@ -372,6 +443,7 @@ public class JStringTests {
         //insertTest();
         //removeTest();
         //subStringTest();
+        //sliceTest();
         //substringCountTest();
         //bracketTest();
         //prependTest();